@@ -0,0 +1,44 @@
+package exercisegenerator.bench;
+
+import java.io.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import exercisegenerator.algorithms.*;
+
+/**
+ * Benchmarks the phases of all algorithms with their default degree (flag d).
+ */
+public class AlgorithmBenchmark extends PhaseBenchmark {
+
+    @State(Scope.Thread)
+    public static class FreshProblem {
+
+        private Object problem;
+
+        @Setup(Level.Invocation)
+        public void generate(final AlgorithmBenchmark benchmark) throws IOException {
+            this.problem = benchmark.freshProblem();
+        }
+
+    }
+
+    @Param
+    public Algorithm algorithm;
+
+    @Benchmark
+    public Object apply(final FreshProblem fresh) {
+        return this.solve(fresh.problem);
+    }
+
+    @Override
+    protected Algorithm algorithm() {
+        return this.algorithm;
+    }
+
+    @Override
+    protected String degree() {
+        return "";
+    }
+
+}
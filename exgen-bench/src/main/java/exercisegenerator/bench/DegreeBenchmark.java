@@ -0,0 +1,49 @@
+package exercisegenerator.bench;
+
+import java.io.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import exercisegenerator.algorithms.*;
+
+/**
+ * Benchmarks the phases of the algorithms taking flag d as an optional size parameter (see
+ * Algorithm.getOptionalParameters) for a larger degree. Other algorithms interpret flag d differently (e.g., as the
+ * length of an exponent or the density of a graph), so they are only covered by AlgorithmBenchmark.
+ */
+public class DegreeBenchmark extends PhaseBenchmark {
+
+    @State(Scope.Thread)
+    public static class FreshProblem {
+
+        private Object problem;
+
+        @Setup(Level.Invocation)
+        public void generate(final DegreeBenchmark benchmark) throws IOException {
+            this.problem = benchmark.freshProblem();
+        }
+
+    }
+
+    @Param({"BTREE", "MATRIX_ARITHMETIC", "MATRIX_INVERSION", "TO_HUFFMAN"})
+    public Algorithm algorithm;
+
+    @Param({"4"})
+    public String degree;
+
+    @Benchmark
+    public Object apply(final FreshProblem fresh) {
+        return this.solve(fresh.problem);
+    }
+
+    @Override
+    protected Algorithm algorithm() {
+        return this.algorithm;
+    }
+
+    @Override
+    protected String degree() {
+        return this.degree;
+    }
+
+}
@@ -0,0 +1,110 @@
+package exercisegenerator.bench;
+
+import java.io.*;
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import clit.*;
+import exercisegenerator.algorithms.*;
+import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
+
+/**
+ * Benchmarks the phases of an algorithm separately: generating a problem, solving it (see freshProblem), and printing
+ * exercise and solution into a writer discarding all output. Each phase is measured for several lengths (flag l),
+ * where an empty value keeps the default of the algorithm. Problems are obtained like in a normal run (i.e., by
+ * parseOrGenerateProblems), since some algorithms do not generate single problems.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public abstract class PhaseBenchmark {
+
+    private static final long SEED;
+
+    static {
+        SEED = 42;
+    }
+
+    @Param({"", "8", "32"})
+    public String length;
+
+    private GenerationContext context;
+
+    private AlgorithmImplementation<Object, Object> implementation;
+
+    private Parameters<Flag> options;
+
+    private Object problem;
+
+    private Object solution;
+
+    private BufferedWriter writer;
+
+    @Benchmark
+    public Object generateProblem() throws IOException {
+        return this.generate(this.context);
+    }
+
+    @Benchmark
+    public void printExercise() throws IOException {
+        this.implementation.printProblemInstance(this.problem, this.solution, this.options, this.writer);
+    }
+
+    @Benchmark
+    public void printSolution() throws IOException {
+        this.implementation.printSolutionInstance(this.problem, this.solution, this.options, this.writer);
+    }
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setup() throws Exception {
+        final Algorithm algorithm = this.algorithm();
+        if (!algorithm.enabled) {
+            throw new IllegalStateException(String.format("Algorithm %s is disabled!", algorithm.name));
+        }
+        this.implementation = (AlgorithmImplementation<Object, Object>)algorithm.implementation();
+        this.options = new CLITamer<Flag>(Flag.class).parse(this.implementation.generateTestParameters());
+        this.options.put(Flag.ALGORITHM, algorithm.name);
+        if (!this.length.isEmpty()) {
+            this.options.put(Flag.LENGTH, this.length);
+        }
+        if (!this.degree().isEmpty()) {
+            this.options.put(Flag.DEGREE, this.degree());
+        }
+        this.context = new GenerationContext(PhaseBenchmark.SEED);
+        this.problem = this.generate(new GenerationContext(PhaseBenchmark.SEED));
+        this.solution = this.implementation.apply(this.problem);
+        this.writer = new BufferedWriter(Writer.nullWriter());
+    }
+
+    protected abstract Algorithm algorithm();
+
+    /**
+     * @return The value for flag d or the empty String to keep the default of the algorithm.
+     */
+    protected abstract String degree();
+
+    /**
+     * Generates a fresh problem for solving it. Concrete benchmarks provide it by a state set up for each invocation,
+     * since algorithms may modify the problems they solve (abstract benchmarks cannot be injected into states).
+     * @return A freshly generated problem.
+     * @throws IOException If some error occurs during generation.
+     */
+    protected Object freshProblem() throws IOException {
+        return this.generate(new GenerationContext(PhaseBenchmark.SEED));
+    }
+
+    protected Object solve(final Object problem) {
+        return this.implementation.apply(problem);
+    }
+
+    private Object generate(final GenerationContext context) throws IOException {
+        return this.implementation.parseOrGenerateProblems(this.options, context).findFirst().get();
+    }
+
+}
@@ -0,0 +1,44 @@
+package exercisegenerator;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+import exercisegenerator.algorithms.*;
+
+/**
+ * Writes the batch manifest of the training workload for the AppCDS archive with one line per enabled algorithm.
+ */
+public class AppCDSTraining {
+
+    /**
+     * @param args The manifest file and the directory for the generated exercises and solutions.
+     * @throws IOException If the manifest cannot be written.
+     */
+    public static void main(final String[] args) throws IOException {
+        final Path manifest = Path.of(args[0]);
+        final File directory = new File(args[1]);
+        directory.mkdirs();
+        final List<Algorithm> algorithms = Algorithm.getEnabledAlgorithms();
+        final List<String> lines = new ArrayList<String>();
+        for (int i = 0; i < algorithms.size(); i++) {
+            final String name = algorithms.get(i).name;
+            lines.add(
+                String.format(
+                    "-a %s -n 2 -r %d -e %s -t %s",
+                    name,
+                    i,
+                    AppCDSTraining.quote(new File(directory, name + "-ex.tex")),
+                    AppCDSTraining.quote(new File(directory, name + "-sol.tex"))
+                )
+            );
+        }
+        Files.createDirectories(manifest.getParent());
+        Files.write(manifest, lines);
+    }
+
+    private static String quote(final File file) {
+        return "\"" + file.getAbsolutePath().replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+}
@@ -1,14 +1,20 @@
 package exercisegenerator;
 
 import java.io.*;
+import java.net.*;
+import java.nio.charset.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 import com.google.gson.*;
+import com.sun.net.httpserver.*;
 
 import clit.*;
 import exercisegenerator.algorithms.*;
 import exercisegenerator.io.*;
 import exercisegenerator.structures.*;
+import exercisegenerator.structures.graphs.*;
+import exercisegenerator.util.*;
 import exercisegenerator.view.*;
 
 public class Main {
@@ -19,22 +25,17 @@ public class Main {
 
     public static final Gson GSON;
 
-    public static String lineSeparator;
-
     public static final int NUMBER_LIMIT;
 
-    public static final Random RANDOM;
-
     public static final String STANDALONE;
 
     public static final TextVersion TEXT_VERSION;
 
-    private static final String[] HELP;
+    public static final String VERSION;
 
-    private static final String VERSION;
+    private static final ThreadLocal<String> LINE_SEPARATOR;
 
     static {
-        RANDOM = new Random();
         GSON = new Gson();
         VERSION = "5.8.1";
         NUMBER_LIMIT = 100;
@@ -42,8 +43,7 @@ public class Main {
         EMBEDDED_EXAM = "embeddedExam";
         STANDALONE = "standalone";
         TEXT_VERSION = TextVersion.GENERAL;
-        HELP = Main.initHelpText();
-        Main.lineSeparator = System.lineSeparator();
+        LINE_SEPARATOR = ThreadLocal.withInitial(System::lineSeparator);
     }
 
     public static String algorithmNames() {
@@ -56,77 +56,86 @@ public class Main {
         );
     }
 
-    public static Process buildAndStartPDFLaTeXProcess(final String fileName, final File directory) throws IOException {
-        return new ProcessBuilder(
-            "pdflatex",
-            fileName,
-            "-interaction=nonstopmode",
-            "-halt-on-error"
-        ).inheritIO().directory(directory).start();
-    }
-
     public static boolean embeddedExam(final Parameters<Flag> options) {
         return Main.EMBEDDED_EXAM.equals(options.get(Flag.EXECUTION_MODE));
     }
 
-    public static void main(final Parameters<Flag> options) throws Exception {
+    public static void generate(
+        final Parameters<Flag> options,
+        final BufferedWriter exerciseWriter,
+        final BufferedWriter solutionWriter
+    ) throws Exception {
         if (options.containsKey(Flag.WINDOWS)) {
             final boolean useWindowsLineSeparators = Boolean.parseBoolean(options.get(Flag.WINDOWS));
-            Main.lineSeparator = useWindowsLineSeparators ? "\r\n" : "\n";
+            Main.LINE_SEPARATOR.set(useWindowsLineSeparators ? "\r\n" : "\n");
         }
-        try (
-            BufferedWriter solutionWriter = Main.getSolutionWriter(options);
-            BufferedWriter exerciseWriter = Main.getExerciseWriter(options);
-        ) {
-            final boolean standalone = Main.standalone(options);
-            final boolean multipleExercises = options.containsKey(Flag.NUMBER);
-            if (standalone) {
-                Main.printLaTeXBeginning(!multipleExercises, exerciseWriter, solutionWriter);
+        final boolean standalone = Main.standalone(options);
+        final boolean multipleExercises = options.containsKey(Flag.NUMBER);
+        if (standalone) {
+            Main.printLaTeXBeginning(!multipleExercises, exerciseWriter, solutionWriter);
+        }
+        if (multipleExercises) {
+            final List<Algorithm> algorithms = Main.parseAlgorithms(options.get(Flag.ALGORITHM));
+            if (algorithms.isEmpty()) {
+                throw new Exception("No known algorithm has been specified!");
             }
-            if (multipleExercises) {
-                final List<Algorithm> algorithms = Main.parseAlgorithms(options.get(Flag.ALGORITHM));
-                if (algorithms.isEmpty()) {
-                    throw new Exception("No known algorithm has been specified!");
-                }
-                final int numberOfExercises = Integer.parseInt(options.get(Flag.NUMBER));
-                for (int i = 0; i < numberOfExercises; i++) {
-                    final Algorithm algorithm = algorithms.get(Main.RANDOM.nextInt(algorithms.size()));
-                    final Parameters<Flag> singleAlgorithmOptions =
-                        Main.parseFlags(
-                            Main.toCLIArguments(algorithm, algorithm.implementation.generateTestParameters(), options)
-                        );
-                    exerciseWriter.write(String.format("{\\large Aufgabe %d}\\\\[3ex]", i + 1));
-                    Main.newLine(exerciseWriter);
-                    Main.newLine(exerciseWriter);
-                    solutionWriter.write(String.format("{\\large L\\\"osung %d}\\\\[3ex]", i + 1));
-                    Main.newLine(solutionWriter);
-                    Main.newLine(solutionWriter);
-                    algorithm.implementation.executeAlgorithm(
-                        new AlgorithmInput(exerciseWriter, solutionWriter, singleAlgorithmOptions)
-                    );
-                    Main.newLine(exerciseWriter);
-                    exerciseWriter.write("\\pagebreak");
-                    Main.newLine(exerciseWriter);
-                    Main.newLine(exerciseWriter);
-                    Main.newLine(solutionWriter);
-                    solutionWriter.write("\\pagebreak");
-                    Main.newLine(solutionWriter);
-                    Main.newLine(solutionWriter);
-                }
+            final int numberOfExercises = Integer.parseInt(options.get(Flag.NUMBER));
+            final GenerationContext context = GenerationContext.fromOptions(options);
+            final List<Pair<Algorithm, Parameters<Flag>>> exercises =
+                new ArrayList<Pair<Algorithm, Parameters<Flag>>>(numberOfExercises);
+            for (int i = 0; i < numberOfExercises; i++) {
+                final Algorithm algorithm = algorithms.get(context.random.nextInt(algorithms.size()));
+                exercises.add(
+                    new Pair<Algorithm, Parameters<Flag>>(
+                        algorithm,
+                        Main.parseGenerationFlags(
+                            Main.toCLIArguments(
+                                algorithm,
+                                algorithm.implementation().generateTestParameters(),
+                                context.split().seed
+                            )
+                        )
+                    )
+                );
+            }
+            if (options.containsKey(Flag.PARALLELISM)) {
+                Main.printMultipleExercisesInParallel(
+                    exercises,
+                    Main.parseParallelism(options),
+                    exerciseWriter,
+                    solutionWriter
+                );
             } else {
-                final Optional<Algorithm> algorithm = Algorithm.forName(options.get(Flag.ALGORITHM));
-                if (algorithm.isEmpty()) {
-                    System.out.println(String.format("Unknown algorithm (%s)!", options.get(Flag.ALGORITHM)));
-                    return;
+                for (int i = 0; i < numberOfExercises; i++) {
+                    final Pair<Algorithm, Parameters<Flag>> exercise = exercises.get(i);
+                    Main.printOneOfMultipleExercises(i + 1, exercise.x, exercise.y, exerciseWriter, solutionWriter);
                 }
-                algorithm.get().implementation.executeAlgorithm(
-                    new AlgorithmInput(exerciseWriter, solutionWriter, options)
-                );
             }
-            if (standalone) {
-                LaTeXUtils.printLaTeXEnd(exerciseWriter);
-                LaTeXUtils.printLaTeXEnd(solutionWriter);
+        } else {
+            final Optional<Algorithm> algorithm = Algorithm.forName(options.get(Flag.ALGORITHM));
+            if (algorithm.isEmpty()) {
+                System.out.println(String.format("Unknown algorithm (%s)!", options.get(Flag.ALGORITHM)));
+                return;
             }
+            Main.executeAlgorithm(algorithm.get(), new AlgorithmInput(exerciseWriter, solutionWriter, options));
+        }
+        if (standalone) {
+            LaTeXUtils.printLaTeXEnd(exerciseWriter);
+            LaTeXUtils.printLaTeXEnd(solutionWriter);
+        }
+    }
+
+    public static String lineSeparator() {
+        return Main.LINE_SEPARATOR.get();
+    }
+
+    public static void main(final Parameters<Flag> options) throws Exception {
+        if (options.containsKey(Flag.METRICS)) {
+            final PhaseMetrics metrics = new PhaseMetrics();
+            metrics.record(() -> Main.writeExercises(options));
+            metrics.writeReport(options.get(Flag.METRICS));
+        } else {
+            Main.writeExercises(options);
         }
     }
 
@@ -144,25 +153,136 @@ public class Main {
             System.out.println("The number of arguments must be even (flag/value pairs)!");
             return;
         }
-        final boolean isBatchMode = Main.isBatchMode(args);
-        final List<String[]> batchedArgs = isBatchMode ? Main.parseBatchArgs(args) : Collections.singletonList(args);
-        for (final String[] batch : batchedArgs) {
-            try {
-                Main.main(Main.parseFlags(batch));
-            } catch (final Exception e) {
-                e.printStackTrace();
+        try {
+            if (Main.isBatchMode(args)) {
+                Main.executeBatch(args);
+            } else if (Main.isServerMode(args)) {
+                Main.executeServer(args);
+            } else {
+                Main.main(Main.parseFlags(args));
             }
+        } catch (final Exception e) {
+            e.printStackTrace();
         }
     }
 
     public static void newLine(final BufferedWriter writer) throws IOException {
-        writer.write(Main.lineSeparator);
+        writer.write(Main.lineSeparator());
     }
 
     public static boolean standalone(final Parameters<Flag> options) {
         return options.getOrDefault(Flag.EXECUTION_MODE, Main.STANDALONE).equals(Main.STANDALONE);
     }
 
+    /**
+     * Starts a generator server on the loopback interface. The server answers POST requests whose body contains one
+     * parameter list (like a line in batch mode, but without flags e and t) with a JSON object containing the
+     * generated exercise and solution. Requests are handled by a pool of the specified number of worker threads,
+     * which stays alive until the server is closed.
+     * @param port The port to listen on (0 for any free port).
+     * @param parallelism The number of worker threads.
+     * @return The started server.
+     * @throws IOException If the server cannot be bound to the specified port.
+     */
+    public static GeneratorServer startServer(final int port, final int parallelism) throws IOException {
+        final HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        final ExecutorService workers =
+            Executors.newFixedThreadPool(parallelism, Thread.ofPlatform().name("exgen-server-", 0).daemon().factory());
+        server.createContext("/", Main::handleServerRequest);
+        server.setExecutor(workers);
+        server.start();
+        return new GeneratorServer(server, workers);
+    }
+
+    private static void executeAlgorithm(final Algorithm algorithm, final AlgorithmInput input) throws IOException {
+        final PhaseMetrics.Meter meter = PhaseMetrics.meter();
+        meter.run(
+            PhaseMetrics.Phase.TOTAL,
+            () -> {
+                if (SolutionCache.isCacheable(input.options)) {
+                    SolutionCache.forDirectory(input.options.get(Flag.CACHE)).executeAlgorithm(algorithm, input);
+                } else {
+                    algorithm.implementation().executeAlgorithm(input);
+                }
+            }
+        );
+        meter.finish(algorithm.name);
+    }
+
+    private static void executeBatch(final String[] args) throws Exception {
+        final Parameters<Flag> options = new CLITamer<Flag>(Flag.class).parse(args);
+        if (!List.of(Flag.BATCH, Flag.METRICS, Flag.PARALLELISM).containsAll(options.keySet())) {
+            throw new Exception("Batch is only compatible with flags j and q!");
+        }
+        final Optional<PhaseMetrics> metrics =
+            options.containsKey(Flag.METRICS) ? Optional.of(new PhaseMetrics()) : Optional.empty();
+        final int parallelism =
+            options.containsKey(Flag.PARALLELISM) ?
+                Main.parseParallelism(options) :
+                    Runtime.getRuntime().availableProcessors();
+        final Semaphore permits = new Semaphore(parallelism);
+        final Map<Integer, Throwable> failures = new ConcurrentSkipListMap<Integer, Throwable>();
+        final Queue<Long> latencies = new ConcurrentLinkedQueue<Long>();
+        final long start = System.nanoTime();
+        try (
+            BufferedReader manifest = Main.openBatchManifest(options.get(Flag.BATCH));
+            // CPU time and allocated bytes are only measured for platform threads
+            ExecutorService executor =
+                metrics.isPresent() ?
+                    Executors.newThreadPerTaskExecutor(Thread.ofPlatform().factory()) :
+                        Executors.newVirtualThreadPerTaskExecutor();
+        ) {
+            int lineNumber = 0;
+            String line = manifest.readLine();
+            while (line != null) {
+                lineNumber++;
+                if (!line.isBlank()) {
+                    final int currentLineNumber = lineNumber;
+                    final String currentLine = line;
+                    permits.acquire();
+                    executor.execute(
+                        () -> {
+                            final long lineStart = System.nanoTime();
+                            PhaseMetrics.setCurrent(metrics);
+                            try {
+                                Main.main(Main.parseFlags(Main.parseBatchLine(currentLine)));
+                            } catch (final Throwable e) {
+                                failures.put(currentLineNumber, e);
+                            } finally {
+                                latencies.add(System.nanoTime() - lineStart);
+                                permits.release();
+                            }
+                        }
+                    );
+                }
+                line = manifest.readLine();
+            }
+        }
+        Main.printBatchSummary(failures, new ArrayList<Long>(latencies), System.nanoTime() - start);
+        if (metrics.isPresent()) {
+            metrics.get().writeReport(options.get(Flag.METRICS));
+        }
+    }
+
+    private static void executeServer(final String[] args) throws Exception {
+        final Parameters<Flag> options = new CLITamer<Flag>(Flag.class).parse(args);
+        if (!List.of(Flag.SERVER, Flag.PARALLELISM).containsAll(options.keySet())) {
+            throw new Exception("Server is only compatible with flag j!");
+        }
+        final int parallelism =
+            options.containsKey(Flag.PARALLELISM) ?
+                Main.parseParallelism(options) :
+                    Runtime.getRuntime().availableProcessors();
+        final GeneratorServer server = Main.startServer(Integer.parseInt(options.get(Flag.SERVER)), parallelism);
+        System.out.println(
+            String.format(
+                "Generator server listening on http://%s:%d/",
+                server.getAddress().getHostString(),
+                server.getAddress().getPort()
+            )
+        );
+    }
+
     private static BufferedWriter getExerciseWriter(final Parameters<Flag> options) throws IOException {
         return Main.getWriterByFlag(options, Flag.EXERCISE);
     }
@@ -180,7 +300,46 @@ public class Main {
             );
     }
 
-    private static String[] initHelpText() {
+    private static void handleServerRequest(final HttpExchange exchange) throws IOException {
+        final JsonObject response = new JsonObject();
+        int status = 200;
+        try (exchange) {
+            if ("POST".equals(exchange.getRequestMethod())) {
+                try {
+                    final Parameters<Flag> options =
+                        Main.parseServerRequest(
+                            new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8)
+                        );
+                    final StringWriter exerciseBuffer = new StringWriter();
+                    final StringWriter solutionBuffer = new StringWriter();
+                    try (
+                        BufferedWriter exerciseWriter = new BufferedWriter(exerciseBuffer);
+                        BufferedWriter solutionWriter = new BufferedWriter(solutionBuffer);
+                    ) {
+                        LaTeXUtils.reset();
+                        Vertex.resetIDs();
+                        Main.generate(options, exerciseWriter, solutionWriter);
+                    } finally {
+                        Main.LINE_SEPARATOR.remove();
+                    }
+                    response.addProperty("exercise", exerciseBuffer.toString());
+                    response.addProperty("solution", solutionBuffer.toString());
+                } catch (final Exception e) {
+                    status = 400;
+                    response.addProperty("error", e.getMessage() == null ? e.toString() : e.getMessage());
+                }
+            } else {
+                status = 405;
+                response.addProperty("error", "Only POST requests are supported!");
+            }
+            final byte[] body = Main.GSON.toJson(response).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(status, body.length);
+            exchange.getResponseBody().write(body);
+        }
+    }
+
+    private static String[] helpText() {
         final List<String> text = new ArrayList<String>();
         text.add(String.format("This is ExerciseCreator version %s.", Main.VERSION));
         text.add(
@@ -208,6 +367,17 @@ public class Main {
         return "-h".equals(args[0]);
     }
 
+    private static boolean isServerMode(final String[] args) {
+        return "-u".equals(args[0]);
+    }
+
+    private static BufferedReader openBatchManifest(final String manifest) throws IOException {
+        if ("-".equals(manifest)) {
+            return new BufferedReader(new InputStreamReader(System.in));
+        }
+        return new BufferedReader(new FileReader(manifest));
+    }
+
     private static List<Algorithm> parseAlgorithms(final String text) {
         if (text == null) {
             return Collections.emptyList();
@@ -223,26 +393,66 @@ public class Main {
         return result;
     }
 
-    private static List<String[]> parseBatchArgs(final String[] args) throws IOException {
-        final List<String[]> result = new LinkedList<String[]>();
-        try (BufferedReader reader = new BufferedReader(new StringReader(args[1]))) {
-            String batch = reader.readLine();
-            while (batch != null) {
-                if (!batch.isBlank()) {
-                    final String[] batchedArgs =
-                        Arrays.stream(batch.split(" ")).filter(s -> !s.isBlank()).toArray(String[]::new);
-                    if (batchedArgs.length % 2 != 0) {
-                        throw new IllegalArgumentException("The number of arguments must be even (flag/value pairs)!");
-                    }
-                    result.add(batchedArgs);
+    private static String[] parseBatchLine(final String line) {
+        // arguments are separated by whitespace unless enclosed in double quotes, within which \" and \\ are escapes
+        final List<String> arguments = new ArrayList<String>();
+        final StringBuilder argument = new StringBuilder();
+        boolean quoted = false;
+        boolean started = false;
+        for (int i = 0; i < line.length(); i++) {
+            final char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    quoted = false;
+                } else if (c == '\\' && i + 1 < line.length() && "\"\\".indexOf(line.charAt(i + 1)) >= 0) {
+                    argument.append(line.charAt(++i));
+                } else {
+                    argument.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+                started = true;
+            } else if (Character.isWhitespace(c)) {
+                if (started) {
+                    arguments.add(argument.toString());
+                    argument.setLength(0);
+                    started = false;
                 }
-                batch = reader.readLine();
+            } else {
+                argument.append(c);
+                started = true;
             }
         }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quote in batch line!");
+        }
+        if (started) {
+            arguments.add(argument.toString());
+        }
+        final String[] result = arguments.toArray(String[]::new);
+        if (result.length % 2 != 0) {
+            throw new IllegalArgumentException("The number of arguments must be even (flag/value pairs)!");
+        }
         return result;
     }
 
     private static Parameters<Flag> parseFlags(final String[] args) throws Exception {
+        final Parameters<Flag> res = Main.parseGenerationFlags(args);
+        if (res.containsKey(Flag.NUMBER) && (!res.containsKey(Flag.TARGET) || !res.containsKey(Flag.EXERCISE))) {
+            throw new Exception("Both exercise and solution files must be specified for multiple exercises!");
+        }
+        if (!res.containsKey(Flag.TARGET) && !res.containsKey(Flag.EXERCISE)) {
+            throw new Exception(
+                "Cannot output both exercise and solution on stdout! Please specify a file for at least one of them."
+            );
+        }
+        return res;
+    }
+
+    /**
+     * Parses and checks the flags specifying what to generate, but not where to write the results to.
+     */
+    private static Parameters<Flag> parseGenerationFlags(final String[] args) throws Exception {
         final Parameters<Flag> res = new CLITamer<Flag>(Flag.class).parse(args);
         if (!res.containsKey(Flag.ALGORITHM)) {
             throw new Exception("No algorithm specified!");
@@ -252,21 +462,85 @@ public class Main {
         }
         if (res.containsKey(Flag.NUMBER)) {
             if (
-                !List.of(Flag.NUMBER, Flag.ALGORITHM, Flag.EXERCISE, Flag.TARGET, Flag.WINDOWS)
-                .containsAll(res.keySet())
+                !List.of(
+                    Flag.NUMBER,
+                    Flag.ALGORITHM,
+                    Flag.EXERCISE,
+                    Flag.TARGET,
+                    Flag.WINDOWS,
+                    Flag.PARALLELISM,
+                    Flag.SEED,
+                    Flag.METRICS
+                ).containsAll(res.keySet())
             ) {
-                throw new Exception("Number is only compatible with flags a, e, t, and w!");
-            }
-            if (!res.containsKey(Flag.TARGET) || !res.containsKey(Flag.EXERCISE)) {
-                throw new Exception("Both exercise and solution files must be specified for multiple exercises!");
+                throw new Exception("Number is only compatible with flags a, e, j, q, r, t, and w!");
             }
         }
-        if (!res.containsKey(Flag.TARGET) && !res.containsKey(Flag.EXERCISE)) {
-            throw new Exception(
-                "Cannot output both exercise and solution on stdout! Please specify a file for at least one of them."
+        return res;
+    }
+
+    private static int parseParallelism(final Parameters<Flag> options) {
+        final int parallelism = Integer.parseInt(options.get(Flag.PARALLELISM));
+        if (parallelism < 0) {
+            throw new IllegalArgumentException("The parallelism must not be negative!");
+        }
+        return parallelism == 0 ? Runtime.getRuntime().availableProcessors() : parallelism;
+    }
+
+    private static Parameters<Flag> parseServerRequest(final String request) throws Exception {
+        final Parameters<Flag> options = Main.parseGenerationFlags(Main.parseBatchLine(request.strip()));
+        if (options.containsKey(Flag.EXERCISE) || options.containsKey(Flag.TARGET)) {
+            throw new Exception("Exercise and solution are part of the response, so flags e and t are not supported!");
+        }
+        if (
+            options.containsKey(Flag.BATCH)
+            || options.containsKey(Flag.METRICS)
+            || options.containsKey(Flag.SERVER)
+        ) {
+            throw new Exception("Batch mode, server mode, and metrics reports cannot be requested from a server!");
+        }
+        if (!options.containsKey(Flag.NUMBER) && Algorithm.forName(options.get(Flag.ALGORITHM)).isEmpty()) {
+            throw new Exception(String.format("Unknown algorithm (%s)!", options.get(Flag.ALGORITHM)));
+        }
+        return options;
+    }
+
+    private static void printBatchSummary(
+        final Map<Integer, Throwable> failures,
+        final List<Long> latencies,
+        final long duration
+    ) {
+        Collections.sort(latencies);
+        final int lines = latencies.size();
+        final double seconds = duration / 1e9;
+        System.out.println(
+            String.format(
+                Locale.US,
+                "Processed %d batch lines (%d failed) in %.3f s (%.1f lines/s).",
+                lines,
+                failures.size(),
+                seconds,
+                seconds > 0 ? lines / seconds : 0.0
+            )
+        );
+        if (lines > 0) {
+            System.out.println(
+                String.format(
+                    Locale.US,
+                    "Latency per line: median %.1f ms, 95th percentile %.1f ms, maximum %.1f ms.",
+                    latencies.get((lines - 1) / 2) / 1e6,
+                    latencies.get((int)Math.ceil(lines * 0.95) - 1) / 1e6,
+                    latencies.get(lines - 1) / 1e6
+                )
             );
         }
-        return res;
+        for (final SolutionCache cache : SolutionCache.caches()) {
+            System.out.println(cache + ".");
+        }
+        for (final Map.Entry<Integer, Throwable> failure : failures.entrySet()) {
+            System.err.println(String.format("Batch line %d failed: %s", failure.getKey(), failure.getValue()));
+            failure.getValue().printStackTrace();
+        }
     }
 
     private static void printLaTeXBeginning(
@@ -286,9 +560,86 @@ public class Main {
         }
     }
 
+    private static void printMultipleExercisesInParallel(
+        final List<Pair<Algorithm, Parameters<Flag>>> exercises,
+        final int parallelism,
+        final BufferedWriter exerciseWriter,
+        final BufferedWriter solutionWriter
+    ) throws Exception {
+        final ForkJoinPool pool = new ForkJoinPool(parallelism);
+        final String lineSeparator = Main.lineSeparator();
+        final Optional<PhaseMetrics> metrics = PhaseMetrics.current();
+        final int lookAhead = 2 * parallelism;
+        try {
+            final Deque<ForkJoinTask<Pair<String, String>>> pending =
+                new ArrayDeque<ForkJoinTask<Pair<String, String>>>(lookAhead);
+            for (int i = 0; i < exercises.size(); i++) {
+                if (pending.size() == lookAhead) {
+                    Main.writeResultOfParallelExercise(pending.poll(), exerciseWriter, solutionWriter);
+                }
+                final int number = i + 1;
+                final Pair<Algorithm, Parameters<Flag>> exercise = exercises.get(i);
+                pending.offer(
+                    pool.submit(
+                        () -> {
+                            Main.LINE_SEPARATOR.set(lineSeparator);
+                            PhaseMetrics.setCurrent(metrics);
+                            final StringWriter exerciseBuffer = new StringWriter();
+                            final StringWriter solutionBuffer = new StringWriter();
+                            try (
+                                BufferedWriter bufferedExerciseWriter = new BufferedWriter(exerciseBuffer);
+                                BufferedWriter bufferedSolutionWriter = new BufferedWriter(solutionBuffer);
+                            ) {
+                                Main.printOneOfMultipleExercises(
+                                    number,
+                                    exercise.x,
+                                    exercise.y,
+                                    bufferedExerciseWriter,
+                                    bufferedSolutionWriter
+                                );
+                            }
+                            return new Pair<String, String>(exerciseBuffer.toString(), solutionBuffer.toString());
+                        }
+                    )
+                );
+            }
+            while (!pending.isEmpty()) {
+                Main.writeResultOfParallelExercise(pending.poll(), exerciseWriter, solutionWriter);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static void printOneOfMultipleExercises(
+        final int number,
+        final Algorithm algorithm,
+        final Parameters<Flag> options,
+        final BufferedWriter exerciseWriter,
+        final BufferedWriter solutionWriter
+    ) throws IOException {
+        LaTeXUtils.reset();
+        Vertex.resetIDs();
+        exerciseWriter.write(String.format("{\\large Aufgabe %d}\\\\[3ex]", number));
+        Main.newLine(exerciseWriter);
+        Main.newLine(exerciseWriter);
+        solutionWriter.write(String.format("{\\large L\\\"osung %d}\\\\[3ex]", number));
+        Main.newLine(solutionWriter);
+        Main.newLine(solutionWriter);
+        Main.executeAlgorithm(algorithm, new AlgorithmInput(exerciseWriter, solutionWriter, options));
+        Main.newLine(exerciseWriter);
+        exerciseWriter.write("\\pagebreak");
+        Main.newLine(exerciseWriter);
+        Main.newLine(exerciseWriter);
+        Main.newLine(solutionWriter);
+        solutionWriter.write("\\pagebreak");
+        Main.newLine(solutionWriter);
+        Main.newLine(solutionWriter);
+    }
+
     private static void showHelp(final String[] args) {
         if (args.length == 1) {
-            for (final String text : Main.HELP) {
+            for (final String text : Main.helpText()) {
                 System.out.println(text);
             }
         } else if (args.length > 2) {
@@ -305,21 +656,42 @@ public class Main {
         }
     }
 
-    private static String[] toCLIArguments(
-        final Algorithm alg,
-        final String[] generatedOptions,
-        final Parameters<Flag> options
-    ) {
-        final int numOfAddedParameters = 6;
+    private static String[] toCLIArguments(final Algorithm alg, final String[] generatedOptions, final long seed) {
+        final int numOfAddedParameters = 4;
         final String[] result = new String[generatedOptions.length + numOfAddedParameters];
         result[0] = "-a";
         result[1] = alg.name;
-        result[2] = "-e";
-        result[3] = options.get(Flag.EXERCISE);
-        result[4] = "-t";
-        result[5] = options.get(Flag.TARGET);
+        result[2] = "-r";
+        result[3] = String.valueOf(seed);
         System.arraycopy(generatedOptions, 0, result, numOfAddedParameters, generatedOptions.length);
         return result;
     }
 
+    private static void writeExercises(final Parameters<Flag> options) throws Exception {
+        try (
+            BufferedWriter solutionWriter = Main.getSolutionWriter(options);
+            BufferedWriter exerciseWriter = Main.getExerciseWriter(options);
+        ) {
+            Main.generate(options, exerciseWriter, solutionWriter);
+        }
+    }
+
+    private static void writeResultOfParallelExercise(
+        final ForkJoinTask<Pair<String, String>> task,
+        final BufferedWriter exerciseWriter,
+        final BufferedWriter solutionWriter
+    ) throws Exception {
+        final Pair<String, String> result;
+        try {
+            result = task.get();
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception)e.getCause();
+            }
+            throw e;
+        }
+        exerciseWriter.write(result.x);
+        solutionWriter.write(result.y);
+    }
+
 }
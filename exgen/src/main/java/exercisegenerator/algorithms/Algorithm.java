@@ -2,6 +2,7 @@ package exercisegenerator.algorithms;
 
 import java.io.*;
 import java.util.*;
+import java.util.function.*;
 
 import exercisegenerator.*;
 import exercisegenerator.algorithms.algebra.*;
@@ -27,7 +28,7 @@ public enum Algorithm {
         new String[] {
             "Calculation of an arithmetic sum."
         },
-        ArithmeticSumAlgorithm.INSTANCE
+        () -> ArithmeticSumAlgorithm.INSTANCE
     ),
 
     AVLTREE(
@@ -37,7 +38,7 @@ public enum Algorithm {
             "Insertion and deletion of keys in an AVL-Tree.",
             "The flag -l specifies how many operations should be performed on the AVL-Tree for generated instances."
         },
-        AVLTreeAlgorithm.INSTANCE
+        () -> AVLTreeAlgorithm.INSTANCE
     ),
 
     BELLMAN_FORD(
@@ -47,7 +48,7 @@ public enum Algorithm {
             "The algorithm of Bellman and Ford to find the shortest paths from a single source to all other vertices.",
             "The flag -l specifies how many vertices will be added to the graph for generated instances."
         },
-        BellmanFordAlgorithm.INSTANCE
+        () -> BellmanFordAlgorithm.INSTANCE
     ),
 
     BFS(
@@ -57,7 +58,7 @@ public enum Algorithm {
             "Breadth first search from a start vertex.",
             "The flag -l specifies how many vertices will be added to the graph for generated instances."
         },
-        BreadthFirstSearch.INSTANCE
+        () -> BreadthFirstSearch.INSTANCE
     ),
 
     BIN_SEARCH_TREE(
@@ -67,7 +68,7 @@ public enum Algorithm {
             "Insertion and deletion in a binary search tree.",
             "The flag -l specifies how many operations should be performed on the tree for generated instances."
         },
-        BinarySearchTreeAlgorithm.INSTANCE
+        () -> BinarySearchTreeAlgorithm.INSTANCE
     ),
 
     BTREE(
@@ -78,7 +79,7 @@ public enum Algorithm {
             + "(an integer greater than 1, if not specified, the degree defaults to 2).",
             "The flag -l specifies how many operations should be performed on the B-Tree for generated instances."
         },
-        BTreeAlgorithm.INSTANCE
+        () -> BTreeAlgorithm.INSTANCE
     ),
 
     BUBBLESORT(
@@ -88,7 +89,7 @@ public enum Algorithm {
             "Perform Bubblesort on an array of integers.",
             "The flag -l specifies the length of the array to sort for generated instances."
         },
-        BubbleSort.INSTANCE
+        () -> BubbleSort.INSTANCE
     ),
 
     BUCKETSORT(
@@ -100,7 +101,7 @@ public enum Algorithm {
             "Specify the range of integers and the number of buckets in the form start;end;buckets (both start and end "
             + "inclusive) with the -c flag."
         },
-        BucketSort.INSTANCE
+        () -> BucketSort.INSTANCE
     ),
 
     COUNTINGSORT(
@@ -111,7 +112,7 @@ public enum Algorithm {
             "The flag -l specifies the length of the array to sort for generated instances.",
             "Specify the range of integers in the form start;end (both inclusive) with the -c flag."
         },
-        CountingSort.INSTANCE
+        () -> CountingSort.INSTANCE
     ),
 
     COVERABILITY(
@@ -120,7 +121,7 @@ public enum Algorithm {
         new String[] {
             "Computes the coverability graph for a given petri net."
         },
-        PetriNetCoverabilityAlgorithm.INSTANCE
+        () -> PetriNetCoverabilityAlgorithm.INSTANCE
     ),
 
     DFS(
@@ -130,7 +131,7 @@ public enum Algorithm {
             "Depth first search from a start vertex.",
             "The flag -l specifies how many operations should be performed on the tree for generated instances."
         },
-        DepthFirstSearch.INSTANCE
+        () -> DepthFirstSearch.INSTANCE
     ),
 
     DIJKSTRA(
@@ -140,7 +141,7 @@ public enum Algorithm {
             "Dijkstra's algorithm to find the shortest paths from a single source to all other vertices.",
             "The flag -l specifies how many vertices will be added to the graph for generated instances."
         },
-        DijkstraAlgorithm.INSTANCE
+        () -> DijkstraAlgorithm.INSTANCE
     ),
 
     DPLL(
@@ -150,7 +151,7 @@ public enum Algorithm {
             "DPLL algorithm to check satisfiability of a set of clauses.",
             "The flag -l specifies how many variables will be used in the generated set."
         },
-        exercisegenerator.algorithms.logic.DPLL.INSTANCE
+        () -> exercisegenerator.algorithms.logic.DPLL.INSTANCE
     ),
 
     FARKAS_PLACE(
@@ -159,7 +160,7 @@ public enum Algorithm {
         new String[] {
             "Uses the algorithm of Farkas to compute a minimal p-invariant base for a given petri net."
         },
-        PetriNetFarkasPlaceInvariantsAlgorithm.INSTANCE
+        () -> PetriNetFarkasPlaceInvariantsAlgorithm.INSTANCE
     ),
 
     FARKAS_TRANSITION(
@@ -168,7 +169,7 @@ public enum Algorithm {
         new String[] {
             "Uses the algorithm of Farkas to compute a minimal t-invariant base for a given petri net."
         },
-        PetriNetFarkasTransitionInvariantsAlgorithm.INSTANCE
+        () -> PetriNetFarkasTransitionInvariantsAlgorithm.INSTANCE
     ),
 
     FLOYD(
@@ -178,7 +179,7 @@ public enum Algorithm {
             "Floyd's algorithm to find all shortest paths to all other vertices.",
             "The flag -l specifies how many vertices will be added to the graph for generated instances."
         },
-        FloydAlgorithm.INSTANCE
+        () -> FloydAlgorithm.INSTANCE
     ),
 
     FORD_FULKERSON(
@@ -189,7 +190,7 @@ public enum Algorithm {
             "The flag -l specifies how many vertices will be added to the flow network in addition to source "
             + "and sink (for generated instances). Thus, the number of vertices in the network is l + 2."
         },
-        FordFulkersonAlgorithm.INSTANCE
+        () -> FordFulkersonAlgorithm.INSTANCE
     ),
 
     FROM_ASCII(
@@ -199,7 +200,7 @@ public enum Algorithm {
             "Transform ASCII character to their binary representation.",
             "You can specify the number of tasks with the -l flag."
         },
-        ConversionFromASCII.INSTANCE
+        () -> ConversionFromASCII.INSTANCE
     ),
 
     FROM_FLOAT(
@@ -211,7 +212,7 @@ public enum Algorithm {
             + "and the -d flag to specify the length of the exponent.",
             "You can specify the number of tasks with the -l flag."
         },
-        ConversionFromFloat.INSTANCE
+        () -> ConversionFromFloat.INSTANCE
     ),
 
     FROM_HAMMING(
@@ -221,7 +222,7 @@ public enum Algorithm {
             "Decode a Hamming code possibly fixing 1-bit errors.",
             "You can specify the length of the generated code with the -l flag."
         },
-        HammingDecoding.INSTANCE
+        () -> HammingDecoding.INSTANCE
     ),
 
     FROM_HUFFMAN(
@@ -231,7 +232,7 @@ public enum Algorithm {
             "Decodes a text using the Huffman code.",
             "Needs the -o flag to specify the code book."
         },
-        HuffmanDecoding.INSTANCE
+        () -> HuffmanDecoding.INSTANCE
     ),
 
     FROM_HUFFMAN_REVERSE(
@@ -241,7 +242,7 @@ public enum Algorithm {
             "Decodes a text using the Huffman code.",
             "Specifies the solution as instance."
         },
-        HuffmanDecodingReverse.INSTANCE
+        () -> HuffmanDecodingReverse.INSTANCE
     ),
 
     FROM_ONES_COMPLEMENT(
@@ -252,7 +253,7 @@ public enum Algorithm {
             "Needs the -c flag to specify the binary length.",
             "You can specify the number of tasks with the -l flag."
         },
-        ConversionFromOnesComplement.INSTANCE
+        () -> ConversionFromOnesComplement.INSTANCE
     ),
 
     FROM_TRUTH_TABLE(
@@ -262,7 +263,7 @@ public enum Algorithm {
             "Compute a formula matching the specified truth table.",
             "You can specify the number of variables with the -l flag."
         },
-        ConversionFromTruthTable.INSTANCE
+        () -> ConversionFromTruthTable.INSTANCE
     ),
 
     FROM_TWOS_COMPLEMENT(
@@ -273,7 +274,7 @@ public enum Algorithm {
             "Needs the -c flag to specify the binary length.",
             "You can specify the number of tasks with the -l flag."
         },
-        ConversionFromTwosComplement.INSTANCE
+        () -> ConversionFromTwosComplement.INSTANCE
     ),
 
     FROM_VIGENERE(
@@ -282,7 +283,7 @@ public enum Algorithm {
         new String[] {
             "Decode a text with the specified keyword using the Vigenere cipher."
         },
-        VigenereDecryption.INSTANCE
+        () -> VigenereDecryption.INSTANCE
     ),
 
     FROM_VIGENERE_REVERSE(
@@ -292,7 +293,7 @@ public enum Algorithm {
             "Decode a text with the specified keyword using the Vigenere cipher such that the specified text is the "
             + "result."
         },
-        VigenereDecryptionReverse.INSTANCE
+        () -> VigenereDecryptionReverse.INSTANCE
     ),
 
     GEOMETRIC_SERIES(
@@ -301,7 +302,7 @@ public enum Algorithm {
         new String[] {
             "Calculation of a geometric series."
         },
-        GeometricSeriesAlgorithm.INSTANCE
+        () -> GeometricSeriesAlgorithm.INSTANCE
     ),
 
     GRAHAMS_SCAN(
@@ -311,7 +312,7 @@ public enum Algorithm {
             "Calculate the convex hull of a given pointset according to Graham's Scan.",
             "The flag -l specifies the number of points in the pointset for generated instances."
         },
-        GrahamsScan.INSTANCE
+        () -> GrahamsScan.INSTANCE
     ),
 
     HASH_DIV(
@@ -322,7 +323,7 @@ public enum Algorithm {
             "The flag -l specifies how many elements will be added to the hash table for generated instances.",
             "Parameters for fixed instances are: m (size of the hashmap)"
         },
-        HashingDivisionOpen.INSTANCE
+        () -> HashingDivisionOpen.INSTANCE
     ),
 
     HASH_DIV_LIN(
@@ -333,7 +334,7 @@ public enum Algorithm {
             "The flag -l specifies how many elements will be added to the hash table for generated instances.",
             "Parameters for fixed instances are: m (size of the hashmap)"
         },
-        HashingDivisionLinear.INSTANCE
+        () -> HashingDivisionLinear.INSTANCE
     ),
 
     HASH_DIV_QUAD(
@@ -344,7 +345,7 @@ public enum Algorithm {
             "The flag -l specifies how many elements will be added to the hash table for generated instances.",
             "Parameters for fixed instances are: m (size of the hashmap), c1 and c2 (constants for quadratic probing)"
         },
-        HashingDivisionQuadratic.INSTANCE
+        () -> HashingDivisionQuadratic.INSTANCE
     ),
 
     HASH_MULT(
@@ -356,7 +357,7 @@ public enum Algorithm {
             "Parameters for fixed instances are: m (size of the hashmap), c (constant between 0 and 1 for the "
             + "multiplication method)"
         },
-        HashingMultiplicationOpen.INSTANCE
+        () -> HashingMultiplicationOpen.INSTANCE
     ),
 
     HASH_MULT_LIN(
@@ -368,7 +369,7 @@ public enum Algorithm {
             "Parameters for fixed instances are: m (size of the hashmap), c (constant between 0 and 1 for the "
             + "multiplication method)"
         },
-        HashingMultiplicationLinear.INSTANCE
+        () -> HashingMultiplicationLinear.INSTANCE
     ),
 
     HASH_MULT_QUAD(
@@ -380,7 +381,7 @@ public enum Algorithm {
             "Parameters for fixed instances are: m (size of the hashmap), c (constant between 0 and 1 for the "
             + "multiplication method), c1 and c2 (constants for quadratic probing)"
         },
-        HashingMultiplicationQuadratic.INSTANCE
+        () -> HashingMultiplicationQuadratic.INSTANCE
     ),
 
     HEAPSORT(
@@ -390,7 +391,7 @@ public enum Algorithm {
             "Perform Heapsort on an array of integers.",
             "The flag -l specifies the length of the array to sort for generated instances."
         },
-        HeapSort.INSTANCE
+        () -> HeapSort.INSTANCE
     ),
 
     HEAPSORT_TREE(
@@ -401,7 +402,7 @@ public enum Algorithm {
             + "in the solution as trees.",
             "The flag -l specifies the length of the array to sort for generated instances."
         },
-        HeapSort.INSTANCE
+        () -> HeapSort.INSTANCE
     ),
 
     ID3(
@@ -411,7 +412,7 @@ public enum Algorithm {
             "Learning of a decision tree with the ID3 algorithm.",
             "The flag -l specifies how many data elements should be provided for training."
         },
-        ID3Algorithm.INSTANCE
+        () -> ID3Algorithm.INSTANCE
     ),
 
     INSERTIONSORT(
@@ -421,7 +422,7 @@ public enum Algorithm {
             "Perform Insertionsort on an array of integers.",
             "The flag -l specifies the length of the array to sort for generated instances."
         },
-        InsertionSort.INSTANCE
+        () -> InsertionSort.INSTANCE
     ),
 
     KNAPSACK(
@@ -431,7 +432,7 @@ public enum Algorithm {
             "Knapsack problem solved with dynamic programming.",
             "The flag -l specifies how many items can be chosen to put into the bag for generated instances."
         },
-        KnapsackAlgorithm.INSTANCE
+        () -> KnapsackAlgorithm.INSTANCE
     ),
 
     KOSARAJU_SHARIR(
@@ -440,7 +441,7 @@ public enum Algorithm {
         new String[] {
             "Detection of strongly connected components using the Kosaraju-Sharir algorithm."
         },
-        KosarajuSharirAlgorithm.INSTANCE
+        () -> KosarajuSharirAlgorithm.INSTANCE
     ),
 
     KRUSKAL(
@@ -450,7 +451,7 @@ public enum Algorithm {
             "Kruskal's algorithm to find the minimum spanning tree.",
             "The flag -l specifies how many vertices will be added to the graph for generated instances."
         },
-        KruskalAlgorithm.INSTANCE
+        () -> KruskalAlgorithm.INSTANCE
     ),
 
     LCS(
@@ -460,7 +461,7 @@ public enum Algorithm {
             "LCS problem solved with dynamic programming.",
             "You can specify the (same) length of the two words with the -l flag."
         },
-        LCSAlgorithm.INSTANCE
+        () -> LCSAlgorithm.INSTANCE
     ),
 
     LSE(
@@ -470,7 +471,7 @@ public enum Algorithm {
             "Solves a linear system of equations over rational numbers using the Gauß-Jordan-Algorithm.",
             "You can specify the number of variables with the -l flag."
         },
-        LSEAlgorithm.INSTANCE
+        () -> LSEAlgorithm.INSTANCE
     ),
 
     MATRIX_ARITHMETIC(
@@ -479,7 +480,7 @@ public enum Algorithm {
         new String[] {
             "Addition and multiplication of matrices."
         },
-        MatrixArithmeticAlgorithm.INSTANCE
+        () -> MatrixArithmeticAlgorithm.INSTANCE
     ),
 
     MATRIX_INVERSION(
@@ -488,7 +489,7 @@ public enum Algorithm {
         new String[] {
             "Inverts a matrix using the Gauß-Jordan-Algorithm."
         },
-        MatrixInversionAlgorithm.INSTANCE
+        () -> MatrixInversionAlgorithm.INSTANCE
     ),
 
     MERGESORT(
@@ -498,7 +499,7 @@ public enum Algorithm {
             "Perform Mergesort on an array of integers.",
             "The flag -l specifies the length of the array to sort for generated instances."
         },
-        MergeSort.INSTANCE
+        () -> MergeSort.INSTANCE
     ),
 
     MERGESORT_SPLIT(
@@ -509,7 +510,7 @@ public enum Algorithm {
             + "although they do not change the array content.",
             "The flag -l specifies the length of the array to sort for generated instances."
         },
-        MergeSortWithSplitting.INSTANCE
+        () -> MergeSortWithSplitting.INSTANCE
     ),
 
     MIN_CUT(
@@ -520,7 +521,7 @@ public enum Algorithm {
             "The flag -l specifies how many vertices will be added to the flow network in addition to source "
             + "and sink (for generated instances). Thus, the number of vertices in the network is l + 2."
         },
-        MinCutAlgorithm.INSTANCE
+        () -> MinCutAlgorithm.INSTANCE
     ),
 
     PRIM(
@@ -530,7 +531,7 @@ public enum Algorithm {
             "Prim's algorithm to find the minimum spanning tree.",
             "The flag -l specifies how many vertices will be added to the graph for generated instances."
         },
-        PrimAlgorithm.INSTANCE
+        () -> PrimAlgorithm.INSTANCE
     ),
 
     QUICKSORT(
@@ -540,7 +541,7 @@ public enum Algorithm {
             "Perform Quicksort on an array of integers.",
             "The flag -l specifies the length of the array to sort for generated instances."
         },
-        QuickSort.INSTANCE
+        () -> QuickSort.INSTANCE
     ),
 
     RED_BLACK_TREE(
@@ -551,7 +552,7 @@ public enum Algorithm {
             "The flag -l specifies how many operations should be performed on the Red-Black-Tree for generated "
             + "instances."
         },
-        RedBlackTreeAlgorithm.INSTANCE
+        () -> RedBlackTreeAlgorithm.INSTANCE
     ),
 
     SELECTIONSORT(
@@ -561,7 +562,7 @@ public enum Algorithm {
             "Perform Selectionsort on an array of integers.",
             "The flag -l specifies the length of the array to sort for generated instances."
         },
-        SelectionSort.INSTANCE
+        () -> SelectionSort.INSTANCE
     ),
 
     SIMPLEX(
@@ -571,7 +572,7 @@ public enum Algorithm {
             "Simplex algorithm to solve linear programs in standard maximum form.",
             "The flag -l specifies how many decision variables are used (minimum is 2)."
         },
-        SimplexAlgorithm.INSTANCE
+        () -> SimplexAlgorithm.INSTANCE
     ),
 
     TO_ASCII(
@@ -581,7 +582,7 @@ public enum Algorithm {
             "Transform the binary ASCII representation to the corresponding character.",
             "You can specify the number of tasks with the -l flag."
         },
-        ConversionToASCII.INSTANCE
+        () -> ConversionToASCII.INSTANCE
     ),
 
     TO_CNF(
@@ -591,7 +592,7 @@ public enum Algorithm {
             "Compute an equivalent propositional formula in CNF for a given propositional formula.",
             "You can specify the number of variables with the -l flag."
         },
-        ConversionToCNF.INSTANCE
+        () -> ConversionToCNF.INSTANCE
     ),
 
     TO_DNF(
@@ -601,7 +602,7 @@ public enum Algorithm {
             "Compute an equivalent propositional formula in DNF for a given propositional formula.",
             "You can specify the number of variables with the -l flag."
         },
-        ConversionToDNF.INSTANCE
+        () -> ConversionToDNF.INSTANCE
     ),
 
     TO_FLOAT(
@@ -613,7 +614,7 @@ public enum Algorithm {
             + "and the -d flag to specify the length of the exponent.",
             "You can specify the number of tasks with the -l flag."
         },
-        ConversionToFloat.INSTANCE
+        () -> ConversionToFloat.INSTANCE
     ),
 
     TO_HAMMING(
@@ -623,7 +624,7 @@ public enum Algorithm {
             "Encode a binary message to the corresponding Hamming code.",
             "You can specify the length of the generated message with the -l flag."
         },
-        HammingEncoding.INSTANCE
+        () -> HammingEncoding.INSTANCE
     ),
 
     TO_HUFFMAN(
@@ -635,7 +636,7 @@ public enum Algorithm {
             "You can furthermore specify the number of different letters used for the source text with the -d flag and "
             + "its length with the -l flag."
         },
-        HuffmanEncoding.INSTANCE
+        () -> HuffmanEncoding.INSTANCE
     ),
 
     TO_ONES_COMPLEMENT(
@@ -646,7 +647,7 @@ public enum Algorithm {
             "Needs the -c flag to specify the binary length.",
             "You can specify the number of tasks with the -l flag."
         },
-        ConversionToOnesComplement.INSTANCE
+        () -> ConversionToOnesComplement.INSTANCE
     ),
 
     TO_TRUTH_TABLE(
@@ -656,7 +657,7 @@ public enum Algorithm {
             "Compute the truth table for a given propositional formula.",
             "You can specify the number of variables with the -l flag."
         },
-        ConversionToTruthTable.INSTANCE
+        () -> ConversionToTruthTable.INSTANCE
     ),
 
     TO_TWOS_COMPLEMENT(
@@ -667,7 +668,7 @@ public enum Algorithm {
             "Needs the -c flag to specify the binary length.",
             "You can specify the number of tasks with the -l flag."
         },
-        ConversionToTwosComplement.INSTANCE
+        () -> ConversionToTwosComplement.INSTANCE
     ),
 
     TO_VIGENERE(
@@ -676,7 +677,7 @@ public enum Algorithm {
         new String[] {
             "Encode a text with the specified keyword using the Vigenere cipher."
         },
-        VigenereEncryption.INSTANCE
+        () -> VigenereEncryption.INSTANCE
     ),
 
     TOPOLOGICSORT(
@@ -685,7 +686,7 @@ public enum Algorithm {
         new String[] {
             "Perform topological sort."
         },
-        TopologicSort.INSTANCE
+        () -> TopologicSort.INSTANCE
     ),
 
     UNION_FIND(
@@ -695,7 +696,7 @@ public enum Algorithm {
             "Operations on a union find data structure.",
             "The flag -l specifies how elements will be used for generated instances."
         },
-        UnionFindAlgorithm.INSTANCE
+        () -> UnionFindAlgorithm.INSTANCE
     ),
 
     WARSHALL(
@@ -705,7 +706,7 @@ public enum Algorithm {
             "Warshall's algorithm to find the transitive hull.",
             "The flag -l specifies how many vertices will be added to the graph for generated instances."
         },
-        WarshallAlgorithm.INSTANCE
+        () -> WarshallAlgorithm.INSTANCE
     );
 
     public static final int DEFAULT_CONTENT_LENGTH = 2;
@@ -868,17 +869,17 @@ public enum Algorithm {
 
     public final boolean enabled;
 
-    public final AlgorithmImplementation<?, ?> implementation;
-
     public final String longName;
 
     public final String name;
 
+    private final Supplier<AlgorithmImplementation<?, ?>> implementation;
+
     private Algorithm(
         final String name,
         final String longName,
         final String[] documentation,
-        final AlgorithmImplementation<?, ?> implementation
+        final Supplier<AlgorithmImplementation<?, ?>> implementation
     ) {
         this(name, longName, documentation, implementation, true);
     }
@@ -887,7 +888,7 @@ public enum Algorithm {
         final String name,
         final String longName,
         final String[] documentation,
-        final AlgorithmImplementation<?, ?> implementation,
+        final Supplier<AlgorithmImplementation<?, ?>> implementation,
         final boolean enabled
     ) {
         this.name = name;
@@ -897,4 +898,13 @@ public enum Algorithm {
         this.enabled = enabled;
     }
 
+    /**
+     * The implementation is only resolved when the algorithm is used, such that the classes of all other algorithms
+     * are neither loaded nor initialized.
+     * @return The implementation of this algorithm.
+     */
+    public AlgorithmImplementation<?, ?> implementation() {
+        return this.implementation.get();
+    }
+
 }
\ No newline at end of file
@@ -3,47 +3,75 @@ package exercisegenerator.algorithms;
 import java.io.*;
 import java.util.*;
 import java.util.function.*;
+import java.util.stream.*;
 
 import clit.*;
 import exercisegenerator.*;
 import exercisegenerator.io.*;
 import exercisegenerator.structures.*;
+import exercisegenerator.util.*;
 
 public interface AlgorithmImplementation<P, S> extends Function<P, S> {
 
-    static int parseOrGenerateLength(final int lowest, final int highest, final Parameters<Flag> options) {
+    static int parseOrGenerateLength(
+        final int lowest,
+        final int highest,
+        final Parameters<Flag> options,
+        final SplittableRandom random
+    ) {
         if (options.containsKey(Flag.LENGTH)) {
             return Integer.parseInt(options.get(Flag.LENGTH));
         }
-        return Main.RANDOM.nextInt(highest - lowest + 1) + lowest;
+        return random.nextInt(highest - lowest + 1) + lowest;
     }
 
     String commandPrefix();
 
+    /**
+     * Generates (or parses), solves, and prints the problem instances one at a time such that only the current
+     * instance and its solution need to be held in memory.
+     * @param input The input containing the options and the writers for exercise and solution.
+     * @throws IOException If some error occurs during input or output.
+     */
     default void executeAlgorithm(final AlgorithmInput input) throws IOException {
-        final List<P> problems = this.parseOrGenerateProblems(input.options);
-        final List<S> solutions = problems.stream().map(this::apply).toList();
-        this.printExercise(problems, solutions, input.options, input.exerciseWriter);
-        this.printSolution(problems, solutions, input.options, input.solutionWriter);
+        final PhaseMetrics.Meter meter = PhaseMetrics.meter();
+        final PhaseMetrics.Phase inputPhase =
+            input.options.containsKey(Flag.INPUT) || input.options.containsKey(Flag.SOURCE) ?
+                PhaseMetrics.Phase.PARSE :
+                    PhaseMetrics.Phase.GENERATE;
+        final Spliterator<P> problems =
+            meter.measure(
+                inputPhase,
+                () -> this.parseOrGenerateProblems(input.options, GenerationContext.fromOptions(input.options))
+                .spliterator()
+            );
+        final long numberOfInstances = problems.getExactSizeIfKnown();
+        if (numberOfInstances < 0) {
+            final List<P> materialized =
+                meter.measure(inputPhase, () -> StreamSupport.stream(problems, false).toList());
+            this.printInstances(materialized.iterator(), materialized.size(), input, meter, inputPhase);
+        } else {
+            this.printInstances(Spliterators.iterator(problems), (int)numberOfInstances, input, meter, inputPhase);
+        }
+        meter.finish(input.options.get(Flag.ALGORITHM));
     }
 
-    P generateProblem(final Parameters<Flag> options);
+    P generateProblem(final Parameters<Flag> options, final GenerationContext context);
 
-    default List<P> generateProblems(final Parameters<Flag> options) {
-        final int numberOfProblems = options.getAsIntOrDefault(Flag.NUMBER, 1);
-        final List<P> result = new LinkedList<P>();
-        for (int i = 0; i < numberOfProblems; i++) {
-            result.add(this.generateProblem(options));
-        }
-        return result;
+    default Stream<P> generateProblems(final Parameters<Flag> options, final GenerationContext context) {
+        return IntStream.range(0, options.getAsIntOrDefault(Flag.NUMBER, 1))
+            .mapToObj(i -> this.generateProblem(options, context));
     }
 
     String[] generateTestParameters();
 
-    default List<P> parseOrGenerateProblems(final Parameters<Flag> options) throws IOException {
-        return new ParserAndGenerator<List<P>>(
-            this::parseProblems,
-            this::generateProblems
+    default Stream<P> parseOrGenerateProblems(
+        final Parameters<Flag> options,
+        final GenerationContext context
+    ) throws IOException {
+        return new ParserAndGenerator<Stream<P>>(
+            (reader, parserOptions) -> this.parseProblems(reader, parserOptions).stream(),
+            generatorOptions -> this.generateProblems(generatorOptions, context)
         ).getResult(options);
     }
 
@@ -74,8 +102,7 @@ public interface AlgorithmImplementation<P, S> extends Function<P, S> {
     }
 
     default void printAfterMultipleProblemInstances(
-        final List<P> problems,
-        final List<S> solutions,
+        final InstancesSummary summary,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException {
@@ -85,8 +112,7 @@ public interface AlgorithmImplementation<P, S> extends Function<P, S> {
     }
 
     default void printAfterMultipleSolutionInstances(
-        final List<P> problems,
-        final List<S> solutions,
+        final InstancesSummary summary,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException {
@@ -146,15 +172,13 @@ public interface AlgorithmImplementation<P, S> extends Function<P, S> {
     }
 
     void printBeforeMultipleProblemInstances(
-        final List<P> problems,
-        final List<S> solutions,
+        final InstancesSummary summary,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException;
 
     default void printBeforeMultipleSolutionInstances(
-        final List<P> problems,
-        final List<S> solutions,
+        final InstancesSummary summary,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException {}
@@ -173,33 +197,99 @@ public interface AlgorithmImplementation<P, S> extends Function<P, S> {
         final BufferedWriter writer
     ) throws IOException {}
 
-    default void printExercise(
-        final List<P> problems,
-        final List<S> solutions,
-        final Parameters<Flag> options,
-        final BufferedWriter writer
+    private void printInstances(
+        final Iterator<P> problems,
+        final int numberOfInstances,
+        final AlgorithmInput input,
+        final PhaseMetrics.Meter meter,
+        final PhaseMetrics.Phase inputPhase
     ) throws IOException {
-        if (problems.size() == 1) {
-            final P problem = problems.getFirst();
-            final S solution = solutions.getFirst();
-            this.printBeforeSingleProblemInstance(problem, solution, options, writer);
-            this.printProblemInstance(problem, solution, options, writer);
-            this.printAfterSingleProblemInstance(problem, solution, options, writer);
-            this.printSolutionSpace(problem, solution, options, writer);
+        final Parameters<Flag> options = input.options;
+        final BufferedWriter exerciseWriter = input.exerciseWriter;
+        final BufferedWriter solutionWriter = input.solutionWriter;
+        if (numberOfInstances == 1) {
+            final P problem = meter.measure(inputPhase, problems::next);
+            final S solution = meter.measure(PhaseMetrics.Phase.SOLVE, () -> this.apply(problem));
+            meter.run(
+                PhaseMetrics.Phase.PRINT_EXERCISE,
+                () -> {
+                    this.printBeforeSingleProblemInstance(problem, solution, options, exerciseWriter);
+                    this.printProblemInstance(problem, solution, options, exerciseWriter);
+                    this.printAfterSingleProblemInstance(problem, solution, options, exerciseWriter);
+                    this.printSolutionSpace(problem, solution, options, exerciseWriter);
+                }
+            );
+            meter.run(
+                PhaseMetrics.Phase.PRINT_SOLUTION,
+                () -> {
+                    this.printBeforeSingleSolutionInstance(problem, solution, options, solutionWriter);
+                    this.printSolutionInstance(problem, solution, options, solutionWriter);
+                    this.printAfterSingleSolutionInstance(problem, solution, options, solutionWriter);
+                }
+            );
         } else {
-            this.printBeforeMultipleProblemInstances(problems, solutions, options, writer);
-            this.printStartOfMultipleProblemInstances(problems, solutions, options, writer);
-            for (int i = 0; i < problems.size(); i++) {
-                final P problem = problems.get(i);
-                final S solution = solutions.get(i);
-                this.printBeforeEachOfMultipleProblemInstances(i + 1, problem, solution, options, writer);
-                this.printProblemInstance(problem, solution, options, writer);
-                this.printAfterEachOfMultipleProblemInstances(problem, solution, options, writer);
-                this.printSolutionSpace(problem, solution, options, writer);
+            final InstancesSummary summary = new InstancesSummary(numberOfInstances);
+            meter.run(
+                PhaseMetrics.Phase.PRINT_EXERCISE,
+                () -> {
+                    this.printBeforeMultipleProblemInstances(summary, options, exerciseWriter);
+                    this.printStartOfMultipleProblemInstances(summary, options, exerciseWriter);
+                }
+            );
+            meter.run(
+                PhaseMetrics.Phase.PRINT_SOLUTION,
+                () -> {
+                    this.printBeforeMultipleSolutionInstances(summary, options, solutionWriter);
+                    this.printStartOfMultipleSolutionInstances(summary, options, solutionWriter);
+                }
+            );
+            int number = 1;
+            while (problems.hasNext()) {
+                final int currentNumber = number;
+                final P problem = meter.measure(inputPhase, problems::next);
+                final S solution = meter.measure(PhaseMetrics.Phase.SOLVE, () -> this.apply(problem));
+                meter.run(
+                    PhaseMetrics.Phase.PRINT_EXERCISE,
+                    () -> {
+                        this.printBeforeEachOfMultipleProblemInstances(
+                            currentNumber,
+                            problem,
+                            solution,
+                            options,
+                            exerciseWriter
+                        );
+                        this.printProblemInstance(problem, solution, options, exerciseWriter);
+                        this.printAfterEachOfMultipleProblemInstances(problem, solution, options, exerciseWriter);
+                        this.printSolutionSpace(problem, solution, options, exerciseWriter);
+                    }
+                );
+                meter.run(
+                    PhaseMetrics.Phase.PRINT_SOLUTION,
+                    () -> {
+                        this.printBeforeEachOfMultipleSolutionInstances(
+                            currentNumber,
+                            problem,
+                            solution,
+                            options,
+                            solutionWriter
+                        );
+                        this.printSolutionInstance(problem, solution, options, solutionWriter);
+                        this.printAfterEachOfMultipleSolutionInstances(problem, solution, options, solutionWriter);
+                    }
+                );
+                number++;
             }
-            this.printAfterMultipleProblemInstances(problems, solutions, options, writer);
+            meter.run(
+                PhaseMetrics.Phase.PRINT_EXERCISE,
+                () -> this.printAfterMultipleProblemInstances(summary, options, exerciseWriter)
+            );
+            meter.run(
+                PhaseMetrics.Phase.PRINT_SOLUTION,
+                () -> this.printAfterMultipleSolutionInstances(summary, options, solutionWriter)
+            );
         }
-        Main.newLine(writer);
+        Main.newLine(exerciseWriter);
+        Main.newLine(solutionWriter);
     }
 
     void printProblemInstance(
@@ -209,33 +299,6 @@ public interface AlgorithmImplementation<P, S> extends Function<P, S> {
         final BufferedWriter writer
     ) throws IOException;
 
-    default void printSolution(
-        final List<P> problems,
-        final List<S> solutions,
-        final Parameters<Flag> options,
-        final BufferedWriter writer
-    ) throws IOException {
-        if (problems.size() == 1) {
-            final P problem = problems.getFirst();
-            final S solution = solutions.getFirst();
-            this.printBeforeSingleSolutionInstance(problem, solution, options, writer);
-            this.printSolutionInstance(problem, solution, options, writer);
-            this.printAfterSingleSolutionInstance(problem, solution, options, writer);
-        } else {
-            this.printBeforeMultipleSolutionInstances(problems, solutions, options, writer);
-            this.printStartOfMultipleSolutionInstances(problems, solutions, options, writer);
-            for (int i = 0; i < problems.size(); i++) {
-                final P problem = problems.get(i);
-                final S solution = solutions.get(i);
-                this.printBeforeEachOfMultipleSolutionInstances(i + 1, problem, solution, options, writer);
-                this.printSolutionInstance(problem, solution, options, writer);
-                this.printAfterEachOfMultipleSolutionInstances(problem, solution, options, writer);
-            }
-            this.printAfterMultipleSolutionInstances(problems, solutions, options, writer);
-        }
-        Main.newLine(writer);
-    }
-
     void printSolutionInstance(
         final P problem,
         final S solution,
@@ -251,8 +314,7 @@ public interface AlgorithmImplementation<P, S> extends Function<P, S> {
     ) throws IOException;
 
     default void printStartOfMultipleProblemInstances(
-        final List<P> problems,
-        final List<S> solutions,
+        final InstancesSummary summary,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException {
@@ -262,8 +324,7 @@ public interface AlgorithmImplementation<P, S> extends Function<P, S> {
     }
 
     default void printStartOfMultipleSolutionInstances(
-        final List<P> problems,
-        final List<S> solutions,
+        final InstancesSummary summary,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException {
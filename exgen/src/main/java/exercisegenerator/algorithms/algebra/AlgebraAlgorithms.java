@@ -17,25 +17,29 @@ public abstract class AlgebraAlgorithms {
 
     public static BigFraction[][] generateInequalitiesOrEquations(
         final int numberOfInequalitiesOrEquations,
-        final int numberOfVariables
+        final int numberOfVariables,
+        final SplittableRandom random
     ) {
         final BigFraction[][] coefficients = new BigFraction[numberOfInequalitiesOrEquations][numberOfVariables + 1];
         for (int row = 0; row < numberOfInequalitiesOrEquations; row++) {
             for (int col = 0; col < numberOfVariables; col++) {
-                coefficients[row][col] = AlgebraAlgorithms.generateCoefficient(AlgebraAlgorithms.DEFAULT_BOUND, 4);
+                coefficients[row][col] = AlgebraAlgorithms.generateCoefficient(AlgebraAlgorithms.DEFAULT_BOUND, 4, random);
             }
             coefficients[row][numberOfVariables] =
-                AlgebraAlgorithms.generateCoefficient(AlgebraAlgorithms.DEFAULT_BOUND, 8);
+                AlgebraAlgorithms.generateCoefficient(AlgebraAlgorithms.DEFAULT_BOUND, 8, random);
         }
         return coefficients;
     }
 
-    public static int generateNumberOfInequalitiesOrEquations() {
-        return Main.RANDOM.nextInt(5) + 2;
+    public static int generateNumberOfInequalitiesOrEquations(final SplittableRandom random) {
+        return random.nextInt(5) + 2;
     }
 
-    public static int parseOrGenerateNumberOfVariables(final Parameters<Flag> options) {
-        final int result = AlgorithmImplementation.parseOrGenerateLength(2, 4, options);
+    public static int parseOrGenerateNumberOfVariables(
+        final Parameters<Flag> options,
+        final SplittableRandom random
+    ) {
+        final int result = AlgorithmImplementation.parseOrGenerateLength(2, 4, options, random);
         return result > 1 ? result : 2;
     }
 
@@ -105,18 +109,22 @@ public abstract class AlgebraAlgorithms {
         Main.newLine(writer);
     }
 
-    static BigFraction generateCoefficient(final int absoluteBound, final int oneToChanceForNegative) {
+    static BigFraction generateCoefficient(
+        final int absoluteBound,
+        final int oneToChanceForNegative,
+        final SplittableRandom random
+    ) {
         return new BigFraction(
-            Main.RANDOM.nextInt(absoluteBound)
-            * (Main.RANDOM.nextInt(oneToChanceForNegative) == 0 ? -1 : 1)
+            random.nextInt(absoluteBound)
+            * (random.nextInt(oneToChanceForNegative) == 0 ? -1 : 1)
         );
     }
 
-    static Matrix generateQuadraticMatrix(final int dimension) {
+    static Matrix generateQuadraticMatrix(final int dimension, final SplittableRandom random) {
         final Matrix result = new Matrix(dimension, dimension, dimension);
         for (int row = 0; row < dimension; row++) {
             for (int column = 0; column < dimension; column++) {
-                result.setCoefficient(column, row, AlgebraAlgorithms.generateCoefficient(21, 2));
+                result.setCoefficient(column, row, AlgebraAlgorithms.generateCoefficient(21, 2, random));
             }
         }
         return result;
@@ -135,7 +143,7 @@ public abstract class AlgebraAlgorithms {
         return result;
     }
 
-    static int parseOrGenerateDimensionOfMatrices(final Parameters<Flag> options) {
+    static int parseOrGenerateDimensionOfMatrices(final Parameters<Flag> options, final SplittableRandom random) {
         if (options.containsKey(Flag.DEGREE)) {
             final int result = options.getAsInt(Flag.DEGREE);
             if (result > 1) {
@@ -144,7 +152,7 @@ public abstract class AlgebraAlgorithms {
                 return 2;
             }
         }
-        return Main.RANDOM.nextInt(3) + 2;
+        return random.nextInt(3) + 2;
     }
 
 }
@@ -9,6 +9,7 @@ import clit.*;
 import exercisegenerator.*;
 import exercisegenerator.algorithms.*;
 import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
 import exercisegenerator.structures.algebra.*;
 
 public class LSEAlgorithm implements AlgorithmImplementation<Matrix, List<Matrix>> {
@@ -104,11 +105,11 @@ public class LSEAlgorithm implements AlgorithmImplementation<Matrix, List<Matrix
     }
 
     @Override
-    public Matrix generateProblem(final Parameters<Flag> options) {
-        final int numberOfVariables = AlgebraAlgorithms.parseOrGenerateNumberOfVariables(options);
-        final int numberOfEquations = AlgebraAlgorithms.generateNumberOfInequalitiesOrEquations();
+    public Matrix generateProblem(final Parameters<Flag> options, final GenerationContext context) {
+        final int numberOfVariables = AlgebraAlgorithms.parseOrGenerateNumberOfVariables(options, context.random);
+        final int numberOfEquations = AlgebraAlgorithms.generateNumberOfInequalitiesOrEquations(context.random);
         final BigFraction[][] coefficients =
-            AlgebraAlgorithms.generateInequalitiesOrEquations(numberOfEquations, numberOfVariables);
+            AlgebraAlgorithms.generateInequalitiesOrEquations(numberOfEquations, numberOfVariables, context.random);
         return new Matrix(coefficients, numberOfVariables);
     }
 
@@ -156,8 +157,7 @@ public class LSEAlgorithm implements AlgorithmImplementation<Matrix, List<Matrix
 
     @Override
     public void printBeforeMultipleProblemInstances(
-        final List<Matrix> problems,
-        final List<List<Matrix>> solutions,
+        final InstancesSummary summary,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException {
@@ -7,6 +7,7 @@ import clit.*;
 import exercisegenerator.*;
 import exercisegenerator.algorithms.*;
 import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
 import exercisegenerator.structures.algebra.*;
 
 public class MatrixArithmeticAlgorithm implements AlgorithmImplementation<MatrixTerm, List<MatrixTerm>> {
@@ -199,8 +200,8 @@ public class MatrixArithmeticAlgorithm implements AlgorithmImplementation<Matrix
         return MatrixArithmeticAlgorithm.parseMatrixTerm(MatrixArithmeticAlgorithm.parseMatrix(toParse));
     }
 
-    private static int parseOrGenerateNumberOfMatrices(final Parameters<Flag> options) {
-        final int result = AlgorithmImplementation.parseOrGenerateLength(2, 4, options);
+    private static int parseOrGenerateNumberOfMatrices(final Parameters<Flag> options, final SplittableRandom random) {
+        final int result = AlgorithmImplementation.parseOrGenerateLength(2, 4, options, random);
         return result > 1 ? result : 2;
     }
 
@@ -256,18 +257,18 @@ public class MatrixArithmeticAlgorithm implements AlgorithmImplementation<Matrix
     }
 
     @Override
-    public MatrixTerm generateProblem(final Parameters<Flag> options) {
-        final int numberOfMatrices = MatrixArithmeticAlgorithm.parseOrGenerateNumberOfMatrices(options);
-        final int dimensionOfMatrices = AlgebraAlgorithms.parseOrGenerateDimensionOfMatrices(options);
+    public MatrixTerm generateProblem(final Parameters<Flag> options, final GenerationContext context) {
+        final int numberOfMatrices = MatrixArithmeticAlgorithm.parseOrGenerateNumberOfMatrices(options, context.random);
+        final int dimensionOfMatrices = AlgebraAlgorithms.parseOrGenerateDimensionOfMatrices(options, context.random);
         final List<MatrixTerm> terms = new ArrayList<MatrixTerm>();
         for (int i = 0; i < numberOfMatrices; i++) {
-            terms.add(AlgebraAlgorithms.generateQuadraticMatrix(dimensionOfMatrices));
+            terms.add(AlgebraAlgorithms.generateQuadraticMatrix(dimensionOfMatrices, context.random));
         }
         while (terms.size() > 1) {
-            final MatrixTerm left = terms.remove(Main.RANDOM.nextInt(terms.size()));
-            final MatrixTerm right = terms.remove(Main.RANDOM.nextInt(terms.size()));
+            final MatrixTerm left = terms.remove(context.random.nextInt(terms.size()));
+            final MatrixTerm right = terms.remove(context.random.nextInt(terms.size()));
             terms.add(
-                Main.RANDOM.nextInt(4) == 0 ? new MatrixAddition(left, right) : new MatrixMultiplication(left, right)
+                context.random.nextInt(4) == 0 ? new MatrixAddition(left, right) : new MatrixMultiplication(left, right)
             );
         }
         return terms.get(0);
@@ -299,8 +300,7 @@ public class MatrixArithmeticAlgorithm implements AlgorithmImplementation<Matrix
 
     @Override
     public void printBeforeMultipleProblemInstances(
-        final List<MatrixTerm> problems,
-        final List<List<MatrixTerm>> solutions,
+        final InstancesSummary summary,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException {
@@ -9,6 +9,7 @@ import clit.*;
 import exercisegenerator.*;
 import exercisegenerator.algorithms.*;
 import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
 import exercisegenerator.structures.algebra.*;
 
 public class MatrixInversionAlgorithm implements AlgorithmImplementation<Matrix, List<Matrix>> {
@@ -58,8 +59,11 @@ public class MatrixInversionAlgorithm implements AlgorithmImplementation<Matrix,
     }
 
     @Override
-    public Matrix generateProblem(final Parameters<Flag> options) {
-        return AlgebraAlgorithms.generateQuadraticMatrix(AlgebraAlgorithms.parseOrGenerateDimensionOfMatrices(options));
+    public Matrix generateProblem(final Parameters<Flag> options, final GenerationContext context) {
+        return AlgebraAlgorithms.generateQuadraticMatrix(
+            AlgebraAlgorithms.parseOrGenerateDimensionOfMatrices(options, context.random),
+            context.random
+        );
     }
 
     @Override
@@ -83,8 +87,7 @@ public class MatrixInversionAlgorithm implements AlgorithmImplementation<Matrix,
 
     @Override
     public void printBeforeMultipleProblemInstances(
-        final List<Matrix> problems,
-        final List<List<Matrix>> solutions,
+        final InstancesSummary summary,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException {
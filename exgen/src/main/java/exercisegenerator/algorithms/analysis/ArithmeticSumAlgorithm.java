@@ -10,6 +10,7 @@ import exercisegenerator.*;
 import exercisegenerator.algorithms.*;
 import exercisegenerator.algorithms.algebra.*;
 import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
 import exercisegenerator.structures.analysis.*;
 
 public class ArithmeticSumAlgorithm implements AlgorithmImplementation<ArithmeticSum, ArithmeticSum> {
@@ -27,11 +28,11 @@ public class ArithmeticSumAlgorithm implements AlgorithmImplementation<Arithmeti
     }
 
     @Override
-    public ArithmeticSum generateProblem(final Parameters<Flag> options) {
+    public ArithmeticSum generateProblem(final Parameters<Flag> options, final GenerationContext context) {
         return new ArithmeticSum(
-            new BigFraction(Main.RANDOM.nextInt(2002) - 1001),
-            new BigFraction(Main.RANDOM.nextInt(2002) - 1001, Main.RANDOM.nextInt(100) + 1),
-            100 * (Main.RANDOM.nextInt(10) + 1)
+            new BigFraction(context.random.nextInt(2002) - 1001),
+            new BigFraction(context.random.nextInt(2002) - 1001, context.random.nextInt(100) + 1),
+            100 * (context.random.nextInt(10) + 1)
         );
     }
 
@@ -60,8 +61,7 @@ public class ArithmeticSumAlgorithm implements AlgorithmImplementation<Arithmeti
 
     @Override
     public void printBeforeMultipleProblemInstances(
-        final List<ArithmeticSum> problems,
-        final List<ArithmeticSum> solutions,
+        final InstancesSummary summary,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException {
@@ -10,6 +10,7 @@ import exercisegenerator.*;
 import exercisegenerator.algorithms.*;
 import exercisegenerator.algorithms.algebra.*;
 import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
 import exercisegenerator.structures.analysis.*;
 
 public class GeometricSeriesAlgorithm implements AlgorithmImplementation<GeometricSeries, GeometricSeries> {
@@ -27,10 +28,10 @@ public class GeometricSeriesAlgorithm implements AlgorithmImplementation<Geometr
     }
 
     @Override
-    public GeometricSeries generateProblem(final Parameters<Flag> options) {
+    public GeometricSeries generateProblem(final Parameters<Flag> options, final GenerationContext context) {
         return new GeometricSeries(
-            new BigFraction(Main.RANDOM.nextInt(10001) + 1),
-            new BigFraction(Main.RANDOM.nextInt(202) - 101, Main.RANDOM.nextInt(100) + 1)
+            new BigFraction(context.random.nextInt(10001) + 1),
+            new BigFraction(context.random.nextInt(202) - 101, context.random.nextInt(100) + 1)
         );
     }
 
@@ -58,8 +59,7 @@ public class GeometricSeriesAlgorithm implements AlgorithmImplementation<Geometr
 
     @Override
     public void printBeforeMultipleProblemInstances(
-        final List<GeometricSeries> problems,
-        final List<GeometricSeries> solutions,
+        final InstancesSummary summary,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException {
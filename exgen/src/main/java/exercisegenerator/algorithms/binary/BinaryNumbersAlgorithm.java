@@ -8,18 +8,30 @@ import clit.*;
 import exercisegenerator.*;
 import exercisegenerator.algorithms.*;
 import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
 import exercisegenerator.structures.binary.*;
+import exercisegenerator.util.*;
 
 public interface BinaryNumbersAlgorithm<T> extends AlgorithmImplementation<T, SolvedBinaryTask> {
 
-    static BitString generateBitString(final int bitLength) {
-        return BinaryNumbersAlgorithm.generateBitString(bitLength, BigInteger.ZERO, BigInteger.TWO.pow(bitLength));
+    static BitString generateBitString(final int bitLength, final SplittableRandom random) {
+        return BinaryNumbersAlgorithm.generateBitString(
+            bitLength,
+            BigInteger.ZERO,
+            BigInteger.TWO.pow(bitLength),
+            random
+        );
     }
 
-    static BitString generateBitString(final int bitLength, final BigInteger from, final BigInteger to) {
+    static BitString generateBitString(
+        final int bitLength,
+        final BigInteger from,
+        final BigInteger to,
+        final SplittableRandom random
+    ) {
         final BitString result = new BitString();
         for (int i = 0; i < bitLength; i++) {
-            result.add(Bit.fromBoolean(Main.RANDOM.nextBoolean()));
+            result.add(Bit.fromBoolean(random.nextBoolean()));
         }
         final BigInteger value = result.toNonNegativeBigInteger();
         if (value.compareTo(from) < 0 || value.compareTo(to) > 0) {
@@ -30,17 +42,20 @@ public interface BinaryNumbersAlgorithm<T> extends AlgorithmImplementation<T, So
         return result;
     }
 
-    static NumberComplementTask generateNumberComplementTasks(final Parameters<Flag> options) {
+    static NumberComplementTask generateNumberComplementTasks(
+        final Parameters<Flag> options,
+        final SplittableRandom random
+    ) {
         final int bitLength = BinaryNumbersAlgorithm.getBitLength(options);
         final boolean onesComplement = BinaryNumbersAlgorithm.algorithmUsesOnesComplement(options);
         return new NumberComplementTask(
-            BinaryNumbersAlgorithm.generateNumberWithinBitlength(bitLength, onesComplement),
+            BinaryNumbersAlgorithm.generateNumberWithinBitlength(bitLength, onesComplement, random),
             bitLength
         );
     }
 
-    static int generateNumOfTasks(final Parameters<Flag> options) {
-        return AlgorithmImplementation.parseOrGenerateLength(3, 3, options);
+    static int generateNumOfTasks(final Parameters<Flag> options, final SplittableRandom random) {
+        return AlgorithmImplementation.parseOrGenerateLength(3, 3, options, random);
     }
 
     static int getBitLength(final Parameters<Flag> options) {
@@ -124,20 +139,49 @@ public interface BinaryNumbersAlgorithm<T> extends AlgorithmImplementation<T, So
         }
     }
 
-    private static int generateNumberWithinBitlength(final int bitLength, final boolean onesComplement) {
+    private static int generateNumberWithinBitlength(
+        final int bitLength,
+        final boolean onesComplement,
+        final SplittableRandom random
+    ) {
         int limit = (int)Math.pow(2, bitLength);
         final int toSubtract = limit / 2;
         if (onesComplement) {
             limit--;
         }
-        int number = Main.RANDOM.nextInt(limit) - toSubtract;
+        int number = random.nextInt(limit) - toSubtract;
         if (onesComplement) {
             number++;
         }
         return number;
     }
 
+    /**
+     * The assignments of all tasks are aligned with each other, so all (small) tasks are solved before printing.
+     */
     @Override
+    default void executeAlgorithm(final AlgorithmInput input) throws IOException {
+        final PhaseMetrics.Meter meter = PhaseMetrics.meter();
+        final List<T> problems =
+            meter.measure(
+                input.options.containsKey(Flag.INPUT) || input.options.containsKey(Flag.SOURCE) ?
+                    PhaseMetrics.Phase.PARSE :
+                        PhaseMetrics.Phase.GENERATE,
+                () -> this.parseOrGenerateProblems(input.options, GenerationContext.fromOptions(input.options)).toList()
+            );
+        final List<SolvedBinaryTask> solutions =
+            meter.measure(PhaseMetrics.Phase.SOLVE, () -> problems.stream().map(this::apply).toList());
+        meter.run(
+            PhaseMetrics.Phase.PRINT_EXERCISE,
+            () -> this.printExercise(problems, solutions, input.options, input.exerciseWriter)
+        );
+        meter.run(
+            PhaseMetrics.Phase.PRINT_SOLUTION,
+            () -> this.printSolution(problems, solutions, input.options, input.solutionWriter)
+        );
+        meter.finish(input.options.get(Flag.ALGORITHM));
+    }
+
     default public void printExercise(
         final List<T> problem,
         final List<SolvedBinaryTask> solution,
@@ -152,7 +196,6 @@ public interface BinaryNumbersAlgorithm<T> extends AlgorithmImplementation<T, So
         LaTeXUtils.printSolutionSpaceEnd(Optional.of("1ex"), options, writer);
     }
 
-    @Override
     default public void printSolution(
         final List<T> problem,
         final List<SolvedBinaryTask> solution,
@@ -174,8 +217,7 @@ public interface BinaryNumbersAlgorithm<T> extends AlgorithmImplementation<T, So
 
     @Override
     default void printBeforeMultipleProblemInstances(
-        final List<T> problems,
-        final List<SolvedBinaryTask> solutions,
+        final InstancesSummary summary,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException {}
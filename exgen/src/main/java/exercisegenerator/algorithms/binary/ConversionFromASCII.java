@@ -4,8 +4,8 @@ import java.io.*;
 import java.util.*;
 
 import clit.*;
-import exercisegenerator.*;
 import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
 import exercisegenerator.structures.binary.*;
 
 public class ConversionFromASCII implements BinaryNumbersAlgorithm<String> {
@@ -34,8 +34,8 @@ public class ConversionFromASCII implements BinaryNumbersAlgorithm<String> {
     }
 
     @Override
-    public String generateProblem(final Parameters<Flag> options) {
-        return String.valueOf((char)(Main.RANDOM.nextInt(95) + 32));
+    public String generateProblem(final Parameters<Flag> options, final GenerationContext context) {
+        return String.valueOf((char)(context.random.nextInt(95) + 32));
     }
 
     @Override
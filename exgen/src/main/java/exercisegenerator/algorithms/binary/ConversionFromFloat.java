@@ -6,6 +6,7 @@ import java.util.*;
 
 import clit.*;
 import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
 import exercisegenerator.structures.binary.*;
 
 public class ConversionFromFloat implements BinaryNumbersAlgorithm<BitStringFloatTask> {
@@ -97,11 +98,11 @@ public class ConversionFromFloat implements BinaryNumbersAlgorithm<BitStringFloa
     }
 
     @Override
-    public BitStringFloatTask generateProblem(final Parameters<Flag> options) {
+    public BitStringFloatTask generateProblem(final Parameters<Flag> options, final GenerationContext context) {
         final int exponentLength = BinaryNumbersAlgorithm.getExponentLength(options);
         final int mantissaLength = BinaryNumbersAlgorithm.getMantissaLength(options);
         return new BitStringFloatTask(
-            BinaryNumbersAlgorithm.generateBitString(exponentLength + mantissaLength + 1),
+            BinaryNumbersAlgorithm.generateBitString(exponentLength + mantissaLength + 1, context.random),
             exponentLength,
             mantissaLength
         );
@@ -5,6 +5,7 @@ import java.util.*;
 
 import clit.*;
 import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
 import exercisegenerator.structures.binary.*;
 
 public class ConversionFromTwosComplement implements BinaryNumbersAlgorithm<BitString> {
@@ -32,8 +33,8 @@ public class ConversionFromTwosComplement implements BinaryNumbersAlgorithm<BitS
     }
 
     @Override
-    public BitString generateProblem(final Parameters<Flag> options) {
-        return BinaryNumbersAlgorithm.generateBitString(BinaryNumbersAlgorithm.getBitLength(options));
+    public BitString generateProblem(final Parameters<Flag> options, final GenerationContext context) {
+        return BinaryNumbersAlgorithm.generateBitString(BinaryNumbersAlgorithm.getBitLength(options), context.random);
     }
 
     @Override
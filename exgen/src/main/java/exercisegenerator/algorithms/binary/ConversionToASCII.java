@@ -6,6 +6,7 @@ import java.util.*;
 
 import clit.*;
 import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
 import exercisegenerator.structures.binary.*;
 
 public class ConversionToASCII implements BinaryNumbersAlgorithm<BitString> {
@@ -37,8 +38,13 @@ public class ConversionToASCII implements BinaryNumbersAlgorithm<BitString> {
     }
 
     @Override
-    public BitString generateProblem(final Parameters<Flag> options) {
-        return BinaryNumbersAlgorithm.generateBitString(8, BigInteger.valueOf(32), BigInteger.valueOf(126));
+    public BitString generateProblem(final Parameters<Flag> options, final GenerationContext context) {
+        return BinaryNumbersAlgorithm.generateBitString(
+            8,
+            BigInteger.valueOf(32),
+            BigInteger.valueOf(126),
+            context.random
+        );
     }
 
     @Override
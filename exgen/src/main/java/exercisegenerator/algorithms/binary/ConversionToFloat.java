@@ -5,7 +5,6 @@ import java.math.*;
 import java.util.*;
 
 import clit.*;
-import exercisegenerator.*;
 import exercisegenerator.io.*;
 import exercisegenerator.structures.*;
 import exercisegenerator.structures.binary.*;
@@ -111,9 +110,9 @@ public class ConversionToFloat implements BinaryNumbersAlgorithm<NumberFloatTask
         return result;
     }
 
-    private static String generateRationalNumberWithinRange(final int exponentLength) {
+    private static String generateRationalNumberWithinRange(final int exponentLength, final SplittableRandom random) {
         final int limit = (int)Math.pow(2, exponentLength - 1);
-        return String.format("%d,%d", Main.RANDOM.nextInt(2 * limit - 1) - limit + 1, Main.RANDOM.nextInt(100000));
+        return String.format("%d,%d", random.nextInt(2 * limit - 1) - limit + 1, random.nextInt(100000));
     }
 
     private static Pair<Bit, NumberTimesDecimalPower> getNextBitAndNumberTimesDecimalPower(
@@ -220,11 +219,11 @@ public class ConversionToFloat implements BinaryNumbersAlgorithm<NumberFloatTask
     }
 
     @Override
-    public NumberFloatTask generateProblem(final Parameters<Flag> options) {
+    public NumberFloatTask generateProblem(final Parameters<Flag> options, final GenerationContext context) {
         final int exponentLength = BinaryNumbersAlgorithm.getExponentLength(options);
         final int mantissaLength = BinaryNumbersAlgorithm.getMantissaLength(options);
         return new NumberFloatTask(
-            ConversionToFloat.generateRationalNumberWithinRange(exponentLength),
+            ConversionToFloat.generateRationalNumberWithinRange(exponentLength, context.random),
             exponentLength,
             mantissaLength
         );
@@ -5,6 +5,7 @@ import java.util.*;
 
 import clit.*;
 import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
 import exercisegenerator.structures.binary.*;
 
 public class ConversionToOnesComplement implements BinaryNumbersAlgorithm<NumberComplementTask> {
@@ -42,8 +43,8 @@ public class ConversionToOnesComplement implements BinaryNumbersAlgorithm<Number
     }
 
     @Override
-    public NumberComplementTask generateProblem(final Parameters<Flag> options) {
-        return BinaryNumbersAlgorithm.generateNumberComplementTasks(options);
+    public NumberComplementTask generateProblem(final Parameters<Flag> options, final GenerationContext context) {
+        return BinaryNumbersAlgorithm.generateNumberComplementTasks(options, context.random);
     }
 
     @Override
@@ -5,6 +5,7 @@ import java.util.*;
 
 import clit.*;
 import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
 import exercisegenerator.structures.binary.*;
 
 public class ConversionToTwosComplement implements BinaryNumbersAlgorithm<NumberComplementTask> {
@@ -47,8 +48,8 @@ public class ConversionToTwosComplement implements BinaryNumbersAlgorithm<Number
     }
 
     @Override
-    public NumberComplementTask generateProblem(final Parameters<Flag> options) {
-        return BinaryNumbersAlgorithm.generateNumberComplementTasks(options);
+    public NumberComplementTask generateProblem(final Parameters<Flag> options, final GenerationContext context) {
+        return BinaryNumbersAlgorithm.generateNumberComplementTasks(options, context.random);
     }
 
     @Override
@@ -5,7 +5,6 @@ import java.math.*;
 import java.util.*;
 
 import clit.*;
-import exercisegenerator.*;
 import exercisegenerator.algorithms.*;
 import exercisegenerator.io.*;
 import exercisegenerator.structures.*;
@@ -15,10 +14,10 @@ abstract class CodingAlgorithms {
 
     public static final List<Character> BINARY_ALPHABET = Arrays.asList('0', '1');
 
-    static BitString generateHammingMessage(final int length) {
+    static BitString generateHammingMessage(final int length, final SplittableRandom random) {
         final BitString result = new BitString();
         for (int i = 0; i < length; i++) {
-            result.add(Bit.fromBoolean(Main.RANDOM.nextBoolean()));
+            result.add(Bit.fromBoolean(random.nextBoolean()));
         }
         return result;
     }
@@ -42,8 +41,8 @@ abstract class CodingAlgorithms {
         return reader.readLine();
     }
 
-    static int parseOrGenerateTextLength(final Parameters<Flag> options) {
-        return AlgorithmImplementation.parseOrGenerateLength(5, 20, options);
+    static int parseOrGenerateTextLength(final Parameters<Flag> options, final SplittableRandom random) {
+        return AlgorithmImplementation.parseOrGenerateLength(5, 20, options, random);
     }
 
     static BitString toIndexBits(final int index, final int numOfParityBits) {
@@ -8,6 +8,7 @@ import clit.*;
 import exercisegenerator.*;
 import exercisegenerator.algorithms.*;
 import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
 import exercisegenerator.structures.binary.*;
 import exercisegenerator.structures.coding.*;
 
@@ -77,13 +78,13 @@ public class HammingDecoding implements AlgorithmImplementation<BitString, Hammi
     }
 
     @Override
-    public BitString generateProblem(final Parameters<Flag> options) {
-        final int length = AlgorithmImplementation.parseOrGenerateLength(7, 7, options);
+    public BitString generateProblem(final Parameters<Flag> options, final GenerationContext context) {
+        final int length = AlgorithmImplementation.parseOrGenerateLength(7, 7, options, context.random);
         final int messageLength = HammingDecoding.hammingCodeLengthToMessageLength(length);
-        final BitString message = CodingAlgorithms.generateHammingMessage(messageLength);
+        final BitString message = CodingAlgorithms.generateHammingMessage(messageLength, context.random);
         final BitString result = HammingEncoding.INSTANCE.apply(message);
-        if (Main.RANDOM.nextBoolean()) {
-            result.invertBit(Main.RANDOM.nextInt(result.size()));
+        if (context.random.nextBoolean()) {
+            result.invertBit(context.random.nextInt(result.size()));
         }
         return result;
     }
@@ -101,8 +102,7 @@ public class HammingDecoding implements AlgorithmImplementation<BitString, Hammi
 
     @Override
     public void printBeforeMultipleProblemInstances(
-        final List<BitString> problems,
-        final List<HammingDecodingResult> solutions,
+        final InstancesSummary summary,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException {
@@ -8,6 +8,7 @@ import clit.*;
 import exercisegenerator.*;
 import exercisegenerator.algorithms.*;
 import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
 import exercisegenerator.structures.binary.*;
 
 public class HammingEncoding implements AlgorithmImplementation<BitString, BitString> {
@@ -68,9 +69,9 @@ public class HammingEncoding implements AlgorithmImplementation<BitString, BitSt
     }
 
     @Override
-    public BitString generateProblem(final Parameters<Flag> options) {
-        final int length = AlgorithmImplementation.parseOrGenerateLength(4, 4, options);
-        return CodingAlgorithms.generateHammingMessage(length);
+    public BitString generateProblem(final Parameters<Flag> options, final GenerationContext context) {
+        final int length = AlgorithmImplementation.parseOrGenerateLength(4, 4, options, context.random);
+        return CodingAlgorithms.generateHammingMessage(length, context.random);
     }
 
     @Override
@@ -86,8 +87,7 @@ public class HammingEncoding implements AlgorithmImplementation<BitString, BitSt
 
     @Override
     public void printBeforeMultipleProblemInstances(
-        final List<BitString> problems,
-        final List<BitString> solutions,
+        final InstancesSummary summary,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException {
@@ -20,8 +20,7 @@ public class HuffmanDecoding implements AlgorithmImplementation<HuffmanCode, Str
         "The specified code book does not match the expected format (entries of the form 'S':\"C\" for a symbol S and a code C, separated by commas)!";
 
     static void printBeforeMultipleProblemInstancesStatically(
-        final List<HuffmanCode> problems,
-        final List<String> solutions,
+        final InstancesSummary summary,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException {
@@ -74,12 +73,16 @@ public class HuffmanDecoding implements AlgorithmImplementation<HuffmanCode, Str
         Main.newLine(writer);
     }
 
-    private static String generateTargetText(final Map<Character, String> codeBook, final Parameters<Flag> options) {
-        final int length = CodingAlgorithms.parseOrGenerateTextLength(options);
+    private static String generateTargetText(
+        final Map<Character, String> codeBook,
+        final Parameters<Flag> options,
+        final SplittableRandom random
+    ) {
+        final int length = CodingAlgorithms.parseOrGenerateTextLength(options, random);
         final StringBuilder result = new StringBuilder();
         final List<String> samples = new ArrayList<String>(codeBook.values());
         for (int i = 0; i < length; i++) {
-            result.append(samples.get(Main.RANDOM.nextInt(samples.size())));
+            result.append(samples.get(random.nextInt(samples.size())));
         }
         return result.toString();
     }
@@ -140,9 +143,9 @@ public class HuffmanDecoding implements AlgorithmImplementation<HuffmanCode, Str
     }
 
     @Override
-    public HuffmanCode generateProblem(final Parameters<Flag> options) {
+    public HuffmanCode generateProblem(final Parameters<Flag> options, final GenerationContext context) {
         final HuffmanCodeBook codeBook = HuffmanDecoding.parseCodeBook(options);
-        return new HuffmanCode(HuffmanDecoding.generateTargetText(codeBook, options), new HuffmanTree(codeBook));
+        return new HuffmanCode(HuffmanDecoding.generateTargetText(codeBook, options, context.random), new HuffmanTree(codeBook));
     }
 
     @Override
@@ -170,12 +173,11 @@ public class HuffmanDecoding implements AlgorithmImplementation<HuffmanCode, Str
 
     @Override
     public void printBeforeMultipleProblemInstances(
-        final List<HuffmanCode> problems,
-        final List<String> solutions,
+        final InstancesSummary summary,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException {
-        HuffmanDecoding.printBeforeMultipleProblemInstancesStatically(problems, solutions, options, writer);
+        HuffmanDecoding.printBeforeMultipleProblemInstancesStatically(summary, options, writer);
     }
 
     @Override
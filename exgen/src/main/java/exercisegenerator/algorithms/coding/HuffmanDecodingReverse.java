@@ -6,6 +6,7 @@ import java.util.*;
 import clit.*;
 import exercisegenerator.algorithms.*;
 import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
 import exercisegenerator.structures.coding.*;
 
 public class HuffmanDecodingReverse implements AlgorithmImplementation<HuffmanProblem, HuffmanSolution> {
@@ -29,8 +30,8 @@ public class HuffmanDecodingReverse implements AlgorithmImplementation<HuffmanPr
     }
 
     @Override
-    public HuffmanProblem generateProblem(final Parameters<Flag> options) {
-        return HuffmanEncoding.generateProblemStatically(options);
+    public HuffmanProblem generateProblem(final Parameters<Flag> options, final GenerationContext context) {
+        return HuffmanEncoding.generateProblemStatically(options, context.random);
     }
 
     @Override
@@ -49,17 +50,11 @@ public class HuffmanDecodingReverse implements AlgorithmImplementation<HuffmanPr
 
     @Override
     public void printBeforeMultipleProblemInstances(
-        final List<HuffmanProblem> problems,
-        final List<HuffmanSolution> solutions,
+        final InstancesSummary summary,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException {
-        HuffmanDecoding.printBeforeMultipleProblemInstancesStatically(
-            solutions.stream().map(HuffmanDecodingReverse::toCode).toList(),
-            problems.stream().map(HuffmanProblem::message).toList(),
-            options,
-            writer
-        );
+        HuffmanDecoding.printBeforeMultipleProblemInstancesStatically(summary, options, writer);
     }
 
     @Override
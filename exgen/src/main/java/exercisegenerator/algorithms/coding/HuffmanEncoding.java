@@ -15,8 +15,11 @@ public class HuffmanEncoding implements AlgorithmImplementation<HuffmanProblem,
 
     public static final HuffmanEncoding INSTANCE = new HuffmanEncoding();
 
-    static HuffmanProblem generateProblemStatically(final Parameters<Flag> options) {
-        return new HuffmanProblem(HuffmanEncoding.generateSourceText(options), CodingAlgorithms.BINARY_ALPHABET);
+    static HuffmanProblem generateProblemStatically(final Parameters<Flag> options, final SplittableRandom random) {
+        return new HuffmanProblem(
+            HuffmanEncoding.generateSourceText(options, random),
+            CodingAlgorithms.BINARY_ALPHABET
+        );
     }
     
     static List<HuffmanProblem> parseProblemsStatically(
@@ -31,7 +34,7 @@ public class HuffmanEncoding implements AlgorithmImplementation<HuffmanProblem,
         );
     }
 
-    private static List<Character> generateAlphabet(final int alphabetSize) {
+    private static List<Character> generateAlphabet(final int alphabetSize, final SplittableRandom random) {
         final List<Character> biggestAlphabet = new ArrayList<Character>();
         for (int i = 32; i < 127; i++) {
             biggestAlphabet.add(Character.valueOf((char)i));
@@ -41,27 +44,27 @@ public class HuffmanEncoding implements AlgorithmImplementation<HuffmanProblem,
         }
         final List<Character> result = new ArrayList<Character>();
         for (int i = 0; i < alphabetSize; i++) {
-            result.add(biggestAlphabet.remove(Main.RANDOM.nextInt(biggestAlphabet.size())));
+            result.add(biggestAlphabet.remove(random.nextInt(biggestAlphabet.size())));
         }
         return result;
     }
 
-    private static String generateSourceText(final Parameters<Flag> options) {
-        final int alphabetSize = HuffmanEncoding.parseOrGenerateAlphabetSize(options);
-        final int textLength = CodingAlgorithms.parseOrGenerateTextLength(options);
-        final List<Character> alphabet = HuffmanEncoding.generateAlphabet(alphabetSize);
+    private static String generateSourceText(final Parameters<Flag> options, final SplittableRandom random) {
+        final int alphabetSize = HuffmanEncoding.parseOrGenerateAlphabetSize(options, random);
+        final int textLength = CodingAlgorithms.parseOrGenerateTextLength(options, random);
+        final List<Character> alphabet = HuffmanEncoding.generateAlphabet(alphabetSize, random);
         final StringBuilder result = new StringBuilder();
         for (int i = 0; i < textLength; i++) {
-            result.append(alphabet.get(Main.RANDOM.nextInt(alphabetSize)));
+            result.append(alphabet.get(random.nextInt(alphabetSize)));
         }
         return result.toString();
     }
 
-    private static int parseOrGenerateAlphabetSize(final Parameters<Flag> options) {
+    private static int parseOrGenerateAlphabetSize(final Parameters<Flag> options, final SplittableRandom random) {
         if (options.containsKey(Flag.DEGREE)) {
             return Integer.parseInt(options.get(Flag.DEGREE));
         }
-        return Main.RANDOM.nextInt(6) + 5;
+        return random.nextInt(6) + 5;
     }
 
     private static List<Character> parseOrGenerateTargetAlphabet(final Parameters<Flag> options) throws IOException {
@@ -119,8 +122,8 @@ public class HuffmanEncoding implements AlgorithmImplementation<HuffmanProblem,
     }
 
     @Override
-    public HuffmanProblem generateProblem(final Parameters<Flag> options) {
-        return HuffmanEncoding.generateProblemStatically(options);
+    public HuffmanProblem generateProblem(final Parameters<Flag> options, final GenerationContext context) {
+        return HuffmanEncoding.generateProblemStatically(options, context.random);
     }
 
     @Override
@@ -153,8 +156,7 @@ public class HuffmanEncoding implements AlgorithmImplementation<HuffmanProblem,
 
     @Override
     public void printBeforeMultipleProblemInstances(
-        final List<HuffmanProblem> problems,
-        final List<HuffmanSolution> solutions,
+        final InstancesSummary summary,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException {
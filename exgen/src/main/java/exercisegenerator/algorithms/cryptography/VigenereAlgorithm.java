@@ -9,6 +9,7 @@ import clit.*;
 import exercisegenerator.*;
 import exercisegenerator.algorithms.*;
 import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
 import exercisegenerator.structures.cryptography.*;
 
 interface VigenereAlgorithm extends AlgorithmImplementation<VigenereProblem, String> {
@@ -36,20 +37,28 @@ interface VigenereAlgorithm extends AlgorithmImplementation<VigenereProblem, Str
         return VigenereAlgorithm.ALPHABET26;
     }
 
-    private static String generateInputText(final List<Character> alphabet, final Parameters<Flag> flags) {
-        final int size = Main.RANDOM.nextInt(26) + 5;
-        return VigenereAlgorithm.generateText(alphabet, size);
+    private static String generateInputText(
+        final List<Character> alphabet,
+        final Parameters<Flag> flags,
+        final SplittableRandom random
+    ) {
+        final int size = random.nextInt(26) + 5;
+        return VigenereAlgorithm.generateText(alphabet, size, random);
     }
 
-    private static String generateKeyword(final List<Character> alphabet, final Parameters<Flag> flags) {
-        final int size = Main.RANDOM.nextInt(17) + 4;
-        return VigenereAlgorithm.generateText(alphabet, size);
+    private static String generateKeyword(
+        final List<Character> alphabet,
+        final Parameters<Flag> flags,
+        final SplittableRandom random
+    ) {
+        final int size = random.nextInt(17) + 4;
+        return VigenereAlgorithm.generateText(alphabet, size, random);
     }
 
-    private static String generateText(final List<Character> alphabet, final int size) {
+    private static String generateText(final List<Character> alphabet, final int size, final SplittableRandom random) {
         final StringBuilder result = new StringBuilder();
         for (int i = 0; i < size; i++) {
-            result.append(alphabet.get(Main.RANDOM.nextInt(alphabet.size())));
+            result.append(alphabet.get(random.nextInt(alphabet.size())));
         }
         return result.toString();
     }
@@ -88,10 +97,10 @@ interface VigenereAlgorithm extends AlgorithmImplementation<VigenereProblem, Str
     }
 
     @Override
-    default VigenereProblem generateProblem(final Parameters<Flag> options) {
+    default VigenereProblem generateProblem(final Parameters<Flag> options, final GenerationContext context) {
         return new VigenereProblem(
-            VigenereAlgorithm.generateInputText(VigenereAlgorithm.ALPHABET26, options),
-            VigenereAlgorithm.generateKeyword(VigenereAlgorithm.ALPHABET26, options),
+            VigenereAlgorithm.generateInputText(VigenereAlgorithm.ALPHABET26, options, context.random),
+            VigenereAlgorithm.generateKeyword(VigenereAlgorithm.ALPHABET26, options, context.random),
             VigenereAlgorithm.ALPHABET26
         );
     }
@@ -120,8 +129,7 @@ interface VigenereAlgorithm extends AlgorithmImplementation<VigenereProblem, Str
 
     @Override
     default void printBeforeMultipleProblemInstances(
-        final List<VigenereProblem> problems,
-        final List<String> solutions,
+        final InstancesSummary summary,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException {
@@ -275,11 +275,14 @@ public class GrahamsScan implements AlgorithmImplementation<List<Point>, List<Li
         return (GrahamsScan.polarAngle(firstSegment, secondSegment));
     }
 
-    private static ArrayList<Pair<Double, Double>> generateConvexHullProblem(final Parameters<Flag> options) {
+    private static ArrayList<Pair<Double, Double>> generateConvexHullProblem(
+        final Parameters<Flag> options,
+        final SplittableRandom random
+    ) {
         final ArrayList<Pair<Double,Double>> input = new ArrayList<Pair<Double,Double>>();
-        final int numOfPoints = GrahamsScan.parseOrGenerateNumberOfPoints(options);
+        final int numOfPoints = GrahamsScan.parseOrGenerateNumberOfPoints(options, random);
         for (int i = 0; i < numOfPoints; ++i) {
-            input.add(new Pair<Double,Double>((double)Main.RANDOM.nextInt(11), (double)Main.RANDOM.nextInt(11)));
+            input.add(new Pair<Double,Double>((double)random.nextInt(11), (double)random.nextInt(11)));
         }
         return input;
     }
@@ -303,16 +306,18 @@ public class GrahamsScan implements AlgorithmImplementation<List<Point>, List<Li
         return input;
     }
 
-    private static ArrayList<Pair<Double, Double>> parseOrGenerateConvexHullProblem(final Parameters<Flag> options)
-    throws IOException {
+    private static ArrayList<Pair<Double, Double>> parseOrGenerateConvexHullProblem(
+        final Parameters<Flag> options,
+        final GenerationContext context
+    ) throws IOException {
         return new ParserAndGenerator<ArrayList<Pair<Double, Double>>>(
             GrahamsScan::parseConvexHullProblem,
-            GrahamsScan::generateConvexHullProblem
+            generatorOptions -> GrahamsScan.generateConvexHullProblem(generatorOptions, context.random)
         ).getResult(options);
     }
 
-    private static int parseOrGenerateNumberOfPoints(final Parameters<Flag> options) {
-        return AlgorithmImplementation.parseOrGenerateLength(5, 20, options);
+    private static int parseOrGenerateNumberOfPoints(final Parameters<Flag> options, final SplittableRandom random) {
+        return AlgorithmImplementation.parseOrGenerateLength(5, 20, options, random);
     }
 
     /**
@@ -504,7 +509,10 @@ public class GrahamsScan implements AlgorithmImplementation<List<Point>, List<Li
     @Override
     public void executeAlgorithm(final AlgorithmInput input) throws IOException {
         final ArrayList<Pair<Double,Double>> pointSet =
-            GrahamsScan.parseOrGenerateConvexHullProblem(input.options);
+            GrahamsScan.parseOrGenerateConvexHullProblem(
+                input.options,
+                GenerationContext.fromOptions(input.options)
+            );
         GrahamsScan.printConvexHull(
             pointSet,
             SolutionSpaceMode.parsePreprintMode(input.options),
@@ -515,11 +523,11 @@ public class GrahamsScan implements AlgorithmImplementation<List<Point>, List<Li
     }
 
     @Override
-    public List<Point> generateProblem(final Parameters<Flag> options) {
-        final int numberOfPoints = GrahamsScan.parseOrGenerateNumberOfPoints(options);
+    public List<Point> generateProblem(final Parameters<Flag> options, final GenerationContext context) {
+        final int numberOfPoints = GrahamsScan.parseOrGenerateNumberOfPoints(options, context.random);
         final List<Point> result = new LinkedList<Point>();
         for (int i = 0; i < numberOfPoints; i++) {
-            result.add(new Point(new BigFraction(Main.RANDOM.nextInt(11)), new BigFraction(Main.RANDOM.nextInt(11))));
+            result.add(new Point(new BigFraction(context.random.nextInt(11)), new BigFraction(context.random.nextInt(11))));
         }
         return result;
     }
@@ -562,8 +570,7 @@ public class GrahamsScan implements AlgorithmImplementation<List<Point>, List<Li
 
     @Override
     public void printBeforeMultipleProblemInstances(
-        final List<List<Point>> problems,
-        final List<List<List<Point>>> solutions,
+        final InstancesSummary summary,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException {
@@ -6,6 +6,7 @@ import java.util.*;
 import clit.*;
 import exercisegenerator.*;
 import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
 import exercisegenerator.structures.graphs.*;
 
 public class BellmanFordAlgorithm implements GraphAlgorithm<List<BellmanFordStep<String>>> {
@@ -54,6 +55,26 @@ public class BellmanFordAlgorithm implements GraphAlgorithm<List<BellmanFordStep
         LaTeXUtils.printArrayStretch(1.0, writer);
     }
 
+    private static BellmanFordStep<String> toStep(
+        final IndexedGraph<String> graph,
+        final int[] distances,
+        final boolean[] reached,
+        final int[] predecessors
+    ) {
+        final Map<String, Integer> distanceLabels = new LinkedHashMap<String, Integer>();
+        final Map<String, String> predecessorLabels = new LinkedHashMap<String, String>();
+        for (int vertex = 0; vertex < graph.size(); vertex++) {
+            if (reached[vertex]) {
+                final String label = graph.vertex(vertex).label().get();
+                distanceLabels.put(label, distances[vertex]);
+                if (predecessors[vertex] >= 0) {
+                    predecessorLabels.put(label, graph.vertex(predecessors[vertex]).label().get());
+                }
+            }
+        }
+        return new BellmanFordStep<String>(distanceLabels, predecessorLabels);
+    }
+
     private static String[][] toTable(
         final BellmanFordStep<String> step,
         final List<Vertex<String>> vertices,
@@ -88,33 +109,34 @@ public class BellmanFordAlgorithm implements GraphAlgorithm<List<BellmanFordStep
 
     @Override
     public List<BellmanFordStep<String>> apply(final GraphProblem problem) {
-        final List<Vertex<String>> vertices =
-            GraphAlgorithm.getSortedListOfVertices(problem.graphWithLayout().graph(), problem.comparator());
-        final int numberOfVertices = vertices.size();
+        final IndexedGraph<String> graph = Graph.index(problem.graphWithLayout().graph(), problem.comparator());
+        final int numberOfVertices = graph.size();
         final List<BellmanFordStep<String>> result = new LinkedList<BellmanFordStep<String>>();
-        final Map<String, Integer> distances = new LinkedHashMap<String, Integer>();
-        final Map<String, String> predecessors = new LinkedHashMap<String, String>();
-        distances.put(problem.startNode().get().label().get(), 0);
-        result.add(new BellmanFordStep<String>(distances, predecessors));
+        final int[] distances = new int[numberOfVertices];
+        final boolean[] reached = new boolean[numberOfVertices];
+        final int[] predecessors = new int[numberOfVertices];
+        Arrays.fill(predecessors, -1);
+        reached[graph.index(problem.startNode().get())] = true;
+        result.add(BellmanFordAlgorithm.toStep(graph, distances, reached, predecessors));
         boolean changed = true;
         for (int i = 0; i < numberOfVertices - 1 && changed; i++) {
             changed = false;
-            for (final Vertex<String> from : vertices) {
-                final String fromLabel = from.label().get();
-                if (!distances.containsKey(fromLabel)) {
+            for (int from = 0; from < numberOfVertices; from++) {
+                if (!reached[from]) {
                     continue;
                 }
-                for (final Edge<Integer, String> edge : problem.graphWithLayout().graph().getAdjacencySet(from)) {
-                    final int newDistance = distances.get(from.label().get()) + edge.label().get();
-                    final String toLabel = edge.to().label().get();
-                    if (!distances.containsKey(toLabel) || newDistance < distances.get(toLabel)) {
-                        distances.put(toLabel, newDistance);
-                        predecessors.put(toLabel, fromLabel);
+                for (int edge = graph.edgesBegin(from); edge < graph.edgesEnd(from); edge++) {
+                    final int newDistance = distances[from] + graph.weight(edge);
+                    final int to = graph.target(edge);
+                    if (!reached[to] || newDistance < distances[to]) {
+                        distances[to] = newDistance;
+                        reached[to] = true;
+                        predecessors[to] = from;
                         changed = true;
                     }
                 }
             }
-            result.add(new BellmanFordStep<String>(distances, predecessors));
+            result.add(BellmanFordAlgorithm.toStep(graph, distances, reached, predecessors));
         }
         return result;
     }
@@ -152,8 +174,7 @@ public class BellmanFordAlgorithm implements GraphAlgorithm<List<BellmanFordStep
 
     @Override
     public void printBeforeMultipleProblemInstances(
-        final List<GraphProblem> problems,
-        final List<List<BellmanFordStep<String>>> solutions,
+        final InstancesSummary summary,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException {
@@ -7,6 +7,7 @@ import java.util.stream.*;
 import clit.*;
 import exercisegenerator.*;
 import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
 import exercisegenerator.structures.graphs.*;
 import exercisegenerator.structures.graphs.layout.*;
 
@@ -18,21 +19,24 @@ public class BreadthFirstSearch implements GraphAlgorithm<List<String>> {
 
     @Override
     public List<String> apply(final GraphProblem problem) {
-        final Set<Vertex<String>> used = new LinkedHashSet<Vertex<String>>();
-        final Queue<Vertex<String>> queue = new LinkedList<Vertex<String>>();
-        queue.offer(problem.startNode().get());
-        final List<String> result = new LinkedList<String>();
-        while (!queue.isEmpty()) {
-            final Vertex<String> vertex = queue.poll();
-            if (used.contains(vertex)) {
+        final IndexedGraph<String> graph = Graph.index(problem.graphWithLayout().graph(), problem.comparator());
+        final boolean[] used = new boolean[graph.size()];
+        // every vertex is enqueued at most once per incoming edge
+        final int[] queue = new int[graph.numberOfEdges() + 1];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = graph.index(problem.startNode().get());
+        final List<String> result = new ArrayList<String>();
+        while (head < tail) {
+            final int vertex = queue[head++];
+            if (used[vertex]) {
                 continue;
             }
-            used.add(vertex);
-            result.add(vertex.label().get());
-            final List<Vertex<String>> nextVertices =
-                new ArrayList<Vertex<String>>(problem.graphWithLayout().graph().getAdjacentVertices(vertex));
-            Collections.sort(nextVertices, problem.comparator());
-            queue.addAll(nextVertices);
+            used[vertex] = true;
+            result.add(graph.vertex(vertex).label().get());
+            for (int edge = graph.edgesBegin(vertex); edge < graph.edgesEnd(vertex); edge++) {
+                queue[tail++] = graph.target(edge);
+            }
         }
         return result;
     }
@@ -78,8 +82,7 @@ public class BreadthFirstSearch implements GraphAlgorithm<List<String>> {
 
     @Override
     public void printBeforeMultipleProblemInstances(
-        final List<GraphProblem> problems,
-        final List<List<String>> solutions,
+        final InstancesSummary summary,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException {
@@ -7,6 +7,7 @@ import java.util.stream.*;
 import clit.*;
 import exercisegenerator.*;
 import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
 import exercisegenerator.structures.graphs.*;
 import exercisegenerator.structures.graphs.layout.*;
 
@@ -14,36 +15,38 @@ public class DepthFirstSearch implements GraphAlgorithm<List<String>> {
 
     public static final DepthFirstSearch INSTANCE = new DepthFirstSearch();
 
-    private static List<String> depthFirstSearch(
-        final Graph<String, Integer> graph,
-        final Vertex<String> vertex,
-        final Comparator<Vertex<String>> comparator,
-        final Set<Vertex<String>> used
-    ) {
-        if (used.contains(vertex)) {
-            return Collections.emptyList();
-        }
-        used.add(vertex);
-        final List<String> result = new LinkedList<String>();
-        result.add(vertex.label().get());
-        final List<Vertex<String>> nextVertices = new ArrayList<Vertex<String>>(graph.getAdjacentVertices(vertex));
-        Collections.sort(nextVertices, comparator);
-        for (final Vertex<String> nextVertex : nextVertices) {
-            result.addAll(DepthFirstSearch.depthFirstSearch(graph, nextVertex, comparator, used));
-        }
-        return result;
-    }
-
     private DepthFirstSearch() {}
 
     @Override
     public List<String> apply(final GraphProblem problem) {
-        return DepthFirstSearch.depthFirstSearch(
-            problem.graphWithLayout().graph(),
-            problem.startNode().get(),
-            problem.comparator(),
-            new LinkedHashSet<Vertex<String>>()
-        );
+        final IndexedGraph<String> graph = Graph.index(problem.graphWithLayout().graph(), problem.comparator());
+        final boolean[] used = new boolean[graph.size()];
+        // explicit stack of the vertices on the current path and the next edge to follow from each of them
+        final int[] path = new int[graph.size()];
+        final int[] nextEdges = new int[graph.size()];
+        final List<String> result = new ArrayList<String>();
+        final int start = graph.index(problem.startNode().get());
+        int depth = 0;
+        path[0] = start;
+        nextEdges[0] = graph.edgesBegin(start);
+        used[start] = true;
+        result.add(graph.vertex(start).label().get());
+        while (depth >= 0) {
+            final int vertex = path[depth];
+            if (nextEdges[depth] == graph.edgesEnd(vertex)) {
+                depth--;
+                continue;
+            }
+            final int next = graph.target(nextEdges[depth]++);
+            if (!used[next]) {
+                used[next] = true;
+                result.add(graph.vertex(next).label().get());
+                depth++;
+                path[depth] = next;
+                nextEdges[depth] = graph.edgesBegin(next);
+            }
+        }
+        return result;
     }
 
     @Override
@@ -87,8 +90,7 @@ public class DepthFirstSearch implements GraphAlgorithm<List<String>> {
 
     @Override
     public void printBeforeMultipleProblemInstances(
-        final List<GraphProblem> problems,
-        final List<List<String>> solutions,
+        final InstancesSummary summary,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException {
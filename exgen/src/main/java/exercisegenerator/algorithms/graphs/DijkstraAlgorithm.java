@@ -6,6 +6,7 @@ import java.util.*;
 import clit.*;
 import exercisegenerator.*;
 import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
 import exercisegenerator.structures.graphs.*;
 
 public class DijkstraAlgorithm implements GraphAlgorithm<DijkstraTables> {
@@ -14,37 +15,6 @@ public class DijkstraAlgorithm implements GraphAlgorithm<DijkstraTables> {
 
     private static final String COLUMN_WIDTH = "16mm";
 
-    private static Optional<Integer> computeVertexIndexWithMinimumDistance(
-        final int columnIndex,
-        final int size,
-        final Integer[] distances,
-        final Set<Integer> used,
-        final String[][] exTable,
-        final String[][] solTable
-    ) {
-        Integer currentMinimumDistance = null;
-        int indexOfVertexWithMinimumDistance = -1;
-        for (int toVertexIndex = 1; toVertexIndex < size; toVertexIndex++) {
-            final Integer distanceToVertex = distances[toVertexIndex];
-            if (distanceToVertex == null) {
-                solTable[columnIndex][toVertexIndex] = "$\\infty$";
-            } else if (used.contains(toVertexIndex)) {
-                solTable[columnIndex][toVertexIndex] = "\\textbf{--}";
-            } else {
-                if (currentMinimumDistance == null || currentMinimumDistance > distanceToVertex) {
-                    currentMinimumDistance = distanceToVertex;
-                    indexOfVertexWithMinimumDistance = toVertexIndex;
-                }
-                solTable[columnIndex][toVertexIndex] = String.valueOf(distanceToVertex);
-            }
-            exTable[columnIndex][toVertexIndex] = "";
-        }
-        if (currentMinimumDistance == null) {
-            return Optional.empty();
-        }
-        return Optional.of(indexOfVertexWithMinimumDistance);
-    }
-
     private static void copyToExtended(final String[][] table, final String[][] tableExtended) {
         for (int i = 0; i < table.length; i++) {
             tableExtended[i][0] = table[i][0];
@@ -52,57 +22,6 @@ public class DijkstraAlgorithm implements GraphAlgorithm<DijkstraTables> {
         }
     }
 
-    private static <V extends Comparable<V>> void fillRowHeadingsAndIdsForDijkstra(
-        final String[][] exTable,
-        final String[][] solTable,
-        final List<Vertex<V>> vertices,
-        final Map<Vertex<V>, Integer> vertexIds,
-        final Vertex<V> start
-    ) {
-        int rowIndex = 1;
-        solTable[0][0] = Main.TEXT_VERSION == TextVersion.ABRAHAM ? "\\texttt{v}" : "\\textbf{Knoten}";
-        exTable[0][0] = solTable[0][0];
-        for (final Vertex<V> vertex : vertices) {
-            if (!vertex.equals(start)) {
-                solTable[0][rowIndex] = DijkstraAlgorithm.toRowHeading(vertex.label());
-                exTable[0][rowIndex] = solTable[0][rowIndex];
-                vertexIds.put(vertex, rowIndex);
-                rowIndex++;
-            }
-        }
-    }
-
-    private static <V extends Comparable<V>> void improveDistancesForVertex(
-        final Vertex<V> currentVertex,
-        final int currentVertexId,
-        final Graph<V, Integer> graph,
-        final Map<Vertex<V>, Integer> vertexIds,
-        final Integer[] distances
-    ) {
-        for (final Edge<Integer, V> edge : graph.getAdjacencySet(currentVertex)) {
-            final Integer toVertexId = vertexIds.get(edge.to());
-            if (
-                toVertexId != null
-                && (
-                    distances[toVertexId] == null
-                    || distances[toVertexId] > distances[currentVertexId] + edge.label().get()
-                )
-            ) {
-                distances[toVertexId] = distances[currentVertexId] + edge.label().get();
-            }
-        }
-    }
-
-    private static <V extends Comparable<V>> void setColumnHeadForDijkstra(
-        final String[][] exTable,
-        final String[][] solTable,
-        final int columnIndex,
-        final Vertex<V> currentVertex
-    ) {
-        exTable[columnIndex][0] = "";
-        solTable[columnIndex][0] = DijkstraAlgorithm.toColumnHeading(currentVertex.label());
-    }
-
     private static <V> String toColumnHeading(final Optional<V> label) {
         return DijkstraAlgorithm.toHeading(label);
     }
@@ -117,52 +36,46 @@ public class DijkstraAlgorithm implements GraphAlgorithm<DijkstraTables> {
                 DijkstraAlgorithm.toHeading(label);
     }
 
-    private DijkstraAlgorithm() {}
-
-    @Override
-    public DijkstraTables apply(final GraphProblem problem) {
-        final Vertex<String> start = problem.startNode().get();
-        final Graph<String, Integer> graph = problem.graphWithLayout().graph();
-        final List<Vertex<String>> vertices = GraphAlgorithm.getSortedListOfVertices(graph, problem.comparator());
-        vertices.remove(start);
-        vertices.add(0, start);
+    private static DijkstraTables toTables(final DijkstraSteps steps) {
+        final List<Vertex<String>> vertices = steps.vertices();
         final int size = vertices.size();
-        final String[][] exTable;
-        final String[][] solTable;
-        final String[][] exColor;
-        final String[][] solColor;
-        final Integer[] distances = new Integer[size];
-        final Map<Vertex<String>, Integer> vertexIds = new LinkedHashMap<Vertex<String>, Integer>();
-        final Set<Integer> used = new LinkedHashSet<Integer>();
-        exTable = new String[size][size];
-        solTable = new String[size][size];
-        exColor = new String[size][size];
-        solColor = new String[size][size];
-        DijkstraAlgorithm.fillRowHeadingsAndIdsForDijkstra(exTable, solTable, vertices, vertexIds, start);
-        distances[0] = 0;
-        int currentVertexId = 0;
-        for (int columnIndex = 1; columnIndex < size; columnIndex++) {
-            used.add(currentVertexId);
-            final Vertex<String> currentVertex = vertices.get(currentVertexId);
-            DijkstraAlgorithm.setColumnHeadForDijkstra(exTable, solTable, columnIndex, currentVertex);
-            DijkstraAlgorithm.improveDistancesForVertex(currentVertex, currentVertexId, graph, vertexIds, distances);
-            final Optional<Integer> vertexIndexWithMinimumDistance =
-                DijkstraAlgorithm.computeVertexIndexWithMinimumDistance(
-                    columnIndex,
-                    size,
-                    distances,
-                    used,
-                    exTable,
-                    solTable
-                );
-            if (vertexIndexWithMinimumDistance.isEmpty()) {
-                // no shortening possible
-                break;
+        final String[][] exTable = new String[size][size];
+        final String[][] solTable = new String[size][size];
+        final String[][] exColor = new String[size][size];
+        final String[][] solColor = new String[size][size];
+        solTable[0][0] = Main.TEXT_VERSION == TextVersion.ABRAHAM ? "\\texttt{v}" : "\\textbf{Knoten}";
+        exTable[0][0] = solTable[0][0];
+        for (int row = 1; row < size; row++) {
+            solTable[0][row] = DijkstraAlgorithm.toRowHeading(vertices.get(row).label());
+            exTable[0][row] = solTable[0][row];
+        }
+        final int[] distances = new int[size];
+        final boolean[] reached = new boolean[size];
+        final boolean[] used = new boolean[size];
+        for (int column = 1; column <= steps.columns(); column++) {
+            final int current = steps.currents()[column];
+            used[current] = true;
+            exTable[column][0] = "";
+            solTable[column][0] = DijkstraAlgorithm.toColumnHeading(vertices.get(current).label());
+            for (int delta = steps.deltaOffsets()[column]; delta < steps.deltaOffsets()[column + 1]; delta++) {
+                reached[steps.deltaVertices()[delta]] = true;
+                distances[steps.deltaVertices()[delta]] = steps.deltaDistances()[delta];
+            }
+            for (int row = 1; row < size; row++) {
+                if (!reached[row]) {
+                    solTable[column][row] = "$\\infty$";
+                } else if (used[row]) {
+                    solTable[column][row] = "\\textbf{--}";
+                } else {
+                    solTable[column][row] = String.valueOf(distances[row]);
+                }
+                exTable[column][row] = "";
+            }
+            if (steps.selected()[column] >= 0) {
+                solColor[column][steps.selected()[column]] = "black!20";
             }
-            currentVertexId = vertexIndexWithMinimumDistance.get();
-            solColor[columnIndex][currentVertexId] = "black!20";
         }
-        exTable[1][0] = DijkstraAlgorithm.toColumnHeading(start.label());
+        exTable[1][0] = DijkstraAlgorithm.toColumnHeading(vertices.get(0).label());
         if (Main.TEXT_VERSION == TextVersion.ABRAHAM) {
             final String[][] exTableExtended = new String[size][size + 1];
             final String[][] exColorExtended = new String[size][size + 1];
@@ -172,7 +85,7 @@ public class DijkstraAlgorithm implements GraphAlgorithm<DijkstraTables> {
             DijkstraAlgorithm.copyToExtended(exColor, exColorExtended);
             DijkstraAlgorithm.copyToExtended(solTable, solTableExtended);
             DijkstraAlgorithm.copyToExtended(solColor, solColorExtended);
-            solTableExtended[0][1] = DijkstraAlgorithm.toRowHeading(start.label());
+            solTableExtended[0][1] = DijkstraAlgorithm.toRowHeading(vertices.get(0).label());
             exTableExtended[0][1] = solTableExtended[0][1];
             for (int i = 1; i < size; i++) {
                 solTableExtended[i][1] = String.valueOf(0);
@@ -182,6 +95,69 @@ public class DijkstraAlgorithm implements GraphAlgorithm<DijkstraTables> {
         return new DijkstraTables(exTable, exColor, solTable, solColor);
     }
 
+    private DijkstraAlgorithm() {}
+
+    /**
+     * Computes the steps of Dijkstra's algorithm with an indexed heap on the table indices of the vertices (the start
+     * vertex has index 0), such that ties are broken in favor of the upper rows. Only the distances changed in each
+     * step are recorded. The tables are rendered from these changes when they are accessed.
+     */
+    @Override
+    public DijkstraTables apply(final GraphProblem problem) {
+        final Vertex<String> start = problem.startNode().get();
+        final IndexedGraph<String> graph = Graph.index(problem.graphWithLayout().graph(), problem.comparator());
+        final int startIndex = graph.index(start);
+        final List<Vertex<String>> vertices = new ArrayList<Vertex<String>>(graph.vertices());
+        vertices.remove(startIndex);
+        vertices.add(0, start);
+        final int size = vertices.size();
+        final int[] distances = new int[size];
+        final boolean[] reached = new boolean[size];
+        final boolean[] used = new boolean[size];
+        final int[] currents = new int[size];
+        final int[] selected = new int[size];
+        final int[] deltaOffsets = new int[size + 1];
+        final int[] deltaVertices = new int[graph.numberOfEdges()];
+        final int[] deltaDistances = new int[graph.numberOfEdges()];
+        final IndexedHeap heap = new IndexedHeap(size);
+        reached[0] = true;
+        int current = 0;
+        int columns = size - 1;
+        int deltas = 0;
+        for (int column = 1; column < size; column++) {
+            used[current] = true;
+            currents[column] = current;
+            deltaOffsets[column] = deltas;
+            // table index 0 is the start vertex and the others keep their order in the indexed graph
+            final int from = current == 0 ? startIndex : (current <= startIndex ? current - 1 : current);
+            for (int edge = graph.edgesBegin(from); edge < graph.edgesEnd(from); edge++) {
+                final int target = graph.target(edge);
+                final int to = target == startIndex ? 0 : (target < startIndex ? target + 1 : target);
+                final int distance = distances[current] + graph.weight(edge);
+                if (!used[to] && (!reached[to] || distances[to] > distance)) {
+                    reached[to] = true;
+                    distances[to] = distance;
+                    deltaVertices[deltas] = to;
+                    deltaDistances[deltas] = distance;
+                    deltas++;
+                    heap.insertOrDecrease(to, distance);
+                }
+            }
+            deltaOffsets[column + 1] = deltas;
+            if (heap.isEmpty()) {
+                // no shortening possible
+                selected[column] = -1;
+                columns = column;
+                break;
+            }
+            current = heap.poll();
+            selected[column] = current;
+        }
+        final DijkstraSteps steps =
+            new DijkstraSteps(vertices, columns, currents, deltaOffsets, deltaVertices, deltaDistances, selected);
+        return new DijkstraTables(() -> DijkstraAlgorithm.toTables(steps));
+    }
+
     @Override
     public String commandPrefix() {
         return "Dijkstra";
@@ -212,8 +188,7 @@ public class DijkstraAlgorithm implements GraphAlgorithm<DijkstraTables> {
 
     @Override
     public void printBeforeMultipleProblemInstances(
-        final List<GraphProblem> problems,
-        final List<DijkstraTables> solutions,
+        final InstancesSummary summary,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException {
@@ -233,8 +208,8 @@ public class DijkstraAlgorithm implements GraphAlgorithm<DijkstraTables> {
     ) throws IOException {
         LaTeXUtils.printArrayStretch(1.5, writer);
         LaTeXUtils.printTable(
-            solution.solTable,
-            Optional.of(solution.solColor),
+            solution.solTable(),
+            Optional.of(solution.solColor()),
             LaTeXUtils.defaultColumnDefinition(DijkstraAlgorithm.COLUMN_WIDTH),
             false,
             10,
@@ -281,8 +256,8 @@ public class DijkstraAlgorithm implements GraphAlgorithm<DijkstraTables> {
             case ALWAYS:
                 LaTeXUtils.printArrayStretch(1.5, writer);
                 LaTeXUtils.printTable(
-                    solution.exTable,
-                    Optional.of(solution.exColor),
+                    solution.exTable(),
+                    Optional.of(solution.exColor()),
                     LaTeXUtils.defaultColumnDefinition(DijkstraAlgorithm.COLUMN_WIDTH),
                     false,
                     10,
@@ -301,4 +276,14 @@ public class DijkstraAlgorithm implements GraphAlgorithm<DijkstraTables> {
         }
     }
 
+    private record DijkstraSteps(
+        List<Vertex<String>> vertices,
+        int columns,
+        int[] currents,
+        int[] deltaOffsets,
+        int[] deltaVertices,
+        int[] deltaDistances,
+        int[] selected
+    ) {}
+
 }
@@ -21,7 +21,8 @@ public interface FlowNetworkAlgorithm extends AlgorithmImplementation<FlowNetwor
     public static final String RESIDUAL_GRAPH_NAME = "Restnetzwerk";
 
     public static GraphWithLayout<String, FlowAndCapacity, Integer> createRandomFlowNetwork(
-        final int numOfInnerVertices
+        final int numOfInnerVertices,
+        final SplittableRandom random
     ) {
         if (numOfInnerVertices < 0) {
             throw new IllegalArgumentException("Number of vertices must not be negative!");
@@ -40,7 +41,7 @@ public interface FlowNetworkAlgorithm extends AlgorithmImplementation<FlowNetwor
                 GridGraphLayout.<String, FlowAndCapacity>builder().setDirected(true);
             layoutBuilder.addVertex(source, startPos);
             layoutBuilder.addVertex(sink, new Coordinates2D<Integer>(1, 0));
-            final int value = GraphAlgorithm.randomEdgeValue(GraphAlgorithm.DEFAULT_EDGE_ROOT);
+            final int value = GraphAlgorithm.randomEdgeValue(GraphAlgorithm.DEFAULT_EDGE_ROOT, random);
             graph.addEdge(source, Optional.of(new FlowAndCapacity(0, value)), sink);
             return new GraphWithLayout<>(graph, layoutBuilder.build());
         }
@@ -62,7 +63,7 @@ public interface FlowNetworkAlgorithm extends AlgorithmImplementation<FlowNetwor
             if (prevMaxYPos == prevMinYPos) {
                 if (minDiagonal) {
                     if (remainingVertices > 2) {
-                        switch (Main.RANDOM.nextInt(3)) {
+                        switch (random.nextInt(3)) {
                             case 0:
                                 // expand min
                                 curMinYPos--;
@@ -77,7 +78,7 @@ public interface FlowNetworkAlgorithm extends AlgorithmImplementation<FlowNetwor
                                 curMaxYPos++;
                         }
                     } else if (remainingVertices == 2) {
-                        if (Main.RANDOM.nextBoolean()) {
+                        if (random.nextBoolean()) {
                             // expand min
                             curMinYPos--;
                         } else {
@@ -251,7 +252,7 @@ public interface FlowNetworkAlgorithm extends AlgorithmImplementation<FlowNetwor
                 } else {
                     options.add(keepMin + keepMax);
                 }
-                switch (options.get(Main.RANDOM.nextInt(options.size()))) {
+                switch (options.get(random.nextInt(options.size()))) {
                     case reduceMin | reduceMax:
                         curMinYPos++;
                         curMaxYPos--;
@@ -304,7 +305,7 @@ public interface FlowNetworkAlgorithm extends AlgorithmImplementation<FlowNetwor
                     if (previousVertex != null) {
                         existing.add(previousVertex);
                     }
-                    final int index = Main.RANDOM.nextInt(existing.size());
+                    final int index = random.nextInt(existing.size());
                     previousVertex = existing.remove(index);
                     graph.addEdge(
                         previousVertex,
@@ -314,20 +315,21 @@ public interface FlowNetworkAlgorithm extends AlgorithmImplementation<FlowNetwor
                                 GraphAlgorithm.randomEdgeValue(
                                     prevXPos == 0 ?
                                         FlowNetworkAlgorithm.DEFAULT_SOURCE_SINK_ROOT :
-                                            GraphAlgorithm.DEFAULT_EDGE_ROOT
+                                            GraphAlgorithm.DEFAULT_EDGE_ROOT,
+                                    random
                                 )
                             )
                         ),
                         vertex
                     );
                     for (final Vertex<String> otherVertex : existing) {
-                        if (Main.RANDOM.nextBoolean()) {
+                        if (random.nextBoolean()) {
                             graph.addEdge(
                                 otherVertex,
                                 Optional.of(
                                     new FlowAndCapacity(
                                         0,
-                                        GraphAlgorithm.randomEdgeValue(GraphAlgorithm.DEFAULT_EDGE_ROOT)
+                                        GraphAlgorithm.randomEdgeValue(GraphAlgorithm.DEFAULT_EDGE_ROOT, random)
                                     )
                                 ),
                                 vertex
@@ -343,7 +345,8 @@ public interface FlowNetworkAlgorithm extends AlgorithmImplementation<FlowNetwor
                                 GraphAlgorithm.randomEdgeValue(
                                     prevXPos == 0 ?
                                         FlowNetworkAlgorithm.DEFAULT_SOURCE_SINK_ROOT :
-                                            GraphAlgorithm.DEFAULT_EDGE_ROOT
+                                            GraphAlgorithm.DEFAULT_EDGE_ROOT,
+                                    random
                                 )
                             )
                         ),
@@ -353,20 +356,20 @@ public interface FlowNetworkAlgorithm extends AlgorithmImplementation<FlowNetwor
                 if (yPos > curMinYPos) {
                     // north-south edges
                     final Vertex<String> north = verticesAtPositions.get(new Coordinates2D<Integer>(xPos, yPos - 1));
-                    if (Main.RANDOM.nextBoolean()) {
+                    if (random.nextBoolean()) {
                         graph.addEdge(
                             north,
                             Optional.of(
-                                new FlowAndCapacity(0, GraphAlgorithm.randomEdgeValue(GraphAlgorithm.DEFAULT_EDGE_ROOT))
+                                new FlowAndCapacity(0, GraphAlgorithm.randomEdgeValue(GraphAlgorithm.DEFAULT_EDGE_ROOT, random))
                             ),
                             vertex
                         );
                     }
-                    if (Main.RANDOM.nextBoolean()) {
+                    if (random.nextBoolean()) {
                         graph.addEdge(
                             vertex,
                             Optional.of(
-                                new FlowAndCapacity(0, GraphAlgorithm.randomEdgeValue(GraphAlgorithm.DEFAULT_EDGE_ROOT))
+                                new FlowAndCapacity(0, GraphAlgorithm.randomEdgeValue(GraphAlgorithm.DEFAULT_EDGE_ROOT, random))
                             ),
                             north
                         );
@@ -397,12 +400,12 @@ public interface FlowNetworkAlgorithm extends AlgorithmImplementation<FlowNetwor
                             continue outer;
                         }
                     }
-                    final int index = Main.RANDOM.nextInt(existing.size());
+                    final int index = random.nextInt(existing.size());
                     nextVertex = existing.remove(index);
                     graph.addEdge(
                         previousVertex,
                         Optional.of(
-                            new FlowAndCapacity(0, GraphAlgorithm.randomEdgeValue(GraphAlgorithm.DEFAULT_EDGE_ROOT))
+                            new FlowAndCapacity(0, GraphAlgorithm.randomEdgeValue(GraphAlgorithm.DEFAULT_EDGE_ROOT, random))
                         ),
                         nextVertex
                     );
@@ -413,7 +416,7 @@ public interface FlowNetworkAlgorithm extends AlgorithmImplementation<FlowNetwor
                         graph.addEdge(
                             previousVertex,
                             Optional.of(
-                                new FlowAndCapacity(0, GraphAlgorithm.randomEdgeValue(GraphAlgorithm.DEFAULT_EDGE_ROOT))
+                                new FlowAndCapacity(0, GraphAlgorithm.randomEdgeValue(GraphAlgorithm.DEFAULT_EDGE_ROOT, random))
                             ),
                             nextVertex
                         );
@@ -449,7 +452,7 @@ public interface FlowNetworkAlgorithm extends AlgorithmImplementation<FlowNetwor
                 Optional.of(
                     new FlowAndCapacity(
                         0,
-                        GraphAlgorithm.randomEdgeValue(FlowNetworkAlgorithm.DEFAULT_SOURCE_SINK_ROOT)
+                        GraphAlgorithm.randomEdgeValue(FlowNetworkAlgorithm.DEFAULT_SOURCE_SINK_ROOT, random)
                     )
                 ),
                 sink
@@ -469,90 +472,6 @@ public interface FlowNetworkAlgorithm extends AlgorithmImplementation<FlowNetwor
         return new GraphWithLayout<String, FlowAndCapacity, Integer>(graph, layoutBuilder.build());
     }
 
-    private static FlowNetworkWithHighlights computeGraphWithFlow(
-        final Graph<String, FlowAndCapacity> inputGraph,
-        final List<Vertex<String>> flowPath
-    ) {
-        final Graph<String, FlowAndCapacity> graph =
-            inputGraph.copy(pair -> new FlowAndCapacity(pair.flow(), pair.capacity()));
-        final Integer min = FlowNetworkAlgorithm.computeMinEdge(graph, flowPath);
-        final Iterator<Vertex<String>> it = flowPath.iterator();
-        Vertex<String> from;
-        Vertex<String> to = it.next();
-        final Set<FordFulkersonPathStep<String, FlowAndCapacity>> toHighlight =
-            new LinkedHashSet<FordFulkersonPathStep<String, FlowAndCapacity>>();
-        while (it.hasNext()) {
-            from = to;
-            to = it.next();
-            int flow = min;
-            for (final Edge<FlowAndCapacity, String> edge : graph.getEdges(from, to)) {
-                final int added = Math.min(flow, edge.label().get().capacity() - edge.label().get().flow());
-                if (added > 0) {
-                    flow -= added;
-                    final FlowAndCapacity currentLabel = edge.label().get();
-                    graph.replaceEdgeLabel(
-                        from,
-                        new FlowAndCapacity(currentLabel.flow() + added, currentLabel.capacity()),
-                        to
-                    );
-                    toHighlight.add(
-                        new FordFulkersonPathStep<String, FlowAndCapacity>(
-                            from,
-                            graph.getEdges(from, to).iterator().next()
-                        )
-                    );
-                }
-            }
-            for (final Edge<FlowAndCapacity, String> edge : graph.getEdges(to, from)) {
-                final int added = Math.min(flow, edge.label().get().flow());
-                if (added > 0) {
-                    flow -= added;
-                    final FlowAndCapacity currentLabel = edge.label().get();
-                    graph.replaceEdgeLabel(
-                        to,
-                        new FlowAndCapacity(currentLabel.flow() - added, currentLabel.capacity()),
-                        from
-                    );
-                    toHighlight.add(
-                        new FordFulkersonPathStep<String, FlowAndCapacity>(
-                            to,
-                            graph.getEdges(to, from).iterator().next()
-                        )
-                    );
-                }
-            }
-            if (flow > 0) {
-                throw new IllegalStateException("Could not add flow!");
-            }
-        }
-        return new FlowNetworkWithHighlights(graph, toHighlight);
-    }
-
-    private static <V extends Comparable<V>> Integer computeMinEdge(
-        final Graph<V, FlowAndCapacity> graph,
-        final List<Vertex<V>> path
-    ) {
-        Integer min = null;
-        final Iterator<Vertex<V>> it = path.iterator();
-        Vertex<V> from;
-        Vertex<V> to = it.next();
-        while (it.hasNext()) {
-            from = to;
-            to = it.next();
-            int flow = 0;
-            for (final Edge<FlowAndCapacity, V> edge : graph.getEdges(from, to)) {
-                flow += edge.label().get().capacity() - edge.label().get().flow();
-            }
-            for (final Edge<FlowAndCapacity, V> edge : graph.getEdges(to, from)) {
-                flow += edge.label().get().flow();
-            }
-            if (min == null || min > flow) {
-                min = flow;
-            }
-        }
-        return min;
-    }
-
     private static Pair<Integer, Integer> computeNumberOfNewAndCopiedFlowValues(
         final List<FordFulkersonDoubleStep> solution
     ) {
@@ -592,43 +511,6 @@ public interface FlowNetworkAlgorithm extends AlgorithmImplementation<FlowNetwor
             ).reduce(0, Integer::sum);
     };
 
-    private static <V extends Comparable<V>> Graph<V, Integer> computeResidualGraph(
-        final Graph<V, FlowAndCapacity> graph
-    ) {
-        final Graph<V, Integer> res = new Graph<V, Integer>();
-        for (final Vertex<V> vertex : graph.getVertices()) {
-            res.addVertex(vertex);
-            final Set<Edge<FlowAndCapacity, V>> set = graph.getAdjacencySet(vertex);
-            if (set == null) {
-                continue;
-            }
-            for (final Edge<FlowAndCapacity, V> edge : set) {
-                final Vertex<V> target = edge.to();
-                final Integer back = edge.label().get().flow();
-                if (back > 0) {
-                    final Set<Edge<Integer, V>> backEdges = res.getEdges(target, vertex);
-                    if (backEdges.isEmpty()) {
-                        res.addEdge(target, Optional.of(back), vertex);
-                    } else {
-                        final Edge<Integer, V> backEdge = backEdges.iterator().next();
-                        res.replaceEdgeLabel(target, backEdge.label().get() + back, vertex);
-                    }
-                }
-                final Integer forth = edge.label().get().capacity() - back;
-                if (forth > 0) {
-                    final Set<Edge<Integer, V>> forthEdges = res.getEdges(vertex, target);
-                    if (forthEdges.isEmpty()) {
-                        res.addEdge(vertex, Optional.of(forth), target);
-                    } else {
-                        final Edge<Integer, V> forthEdge = forthEdges.iterator().next();
-                        res.replaceEdgeLabel(vertex, forthEdge.label().get() + forth, target);
-                    }
-                }
-            }
-        }
-        return res;
-    }
-
     private static boolean enoughVerticesForLevel(
         final int remainingVertices,
         final int minYPosOfLevel,
@@ -812,63 +694,6 @@ public interface FlowNetworkAlgorithm extends AlgorithmImplementation<FlowNetwor
         LaTeXUtils.printCommentLine("Anzahl Kanten in Restnetzwerken", String.valueOf(numResidualEdges), writer);
     }
 
-    private static <V extends Comparable<V>> List<Vertex<V>> selectAugmentingPath(
-        final Graph<V, Integer> residualGraph,
-        final Vertex<V> source,
-        final Vertex<V> sink
-    ) {
-        List<Vertex<V>> path = new ArrayList<Vertex<V>>();
-        final Deque<List<Vertex<V>>> queue = new ArrayDeque<List<Vertex<V>>>();
-        path.add(source);
-        queue.add(path);
-        final Set<Vertex<V>> visited = new LinkedHashSet<Vertex<V>>();
-        visited.add(source);
-        while (!queue.isEmpty()) {
-            path = queue.poll();
-            final Set<Edge<Integer, V>> set = residualGraph.getAdjacencySet(path.get(path.size() - 1));
-            if (set == null) {
-                continue;
-            }
-            for (final Edge<Integer, V> edge : set) {
-                if (visited.contains(edge.to())) {
-                    continue;
-                }
-                final List<Vertex<V>> newPath = new ArrayList<Vertex<V>>(path);
-                newPath.add(edge.to());
-                if (sink.equals(edge.to())) {
-                    return newPath;
-                }
-                visited.add(edge.to());
-                queue.add(newPath);
-            }
-        }
-        return null;
-    }
-
-    private static <V extends Comparable<V>> Set<FordFulkersonPathStep<V, Integer>> toEdges(
-        final Graph<V, Integer> residualGraph,
-        final List<Vertex<V>> path
-    ) {
-        if (path == null) {
-            return Collections.emptySet();
-        }
-        final Set<FordFulkersonPathStep<V, Integer>> res =
-            new LinkedHashSet<FordFulkersonPathStep<V, Integer>>();
-        final Iterator<Vertex<V>> it = path.iterator();
-        Vertex<V> cur = it.next();
-        while (it.hasNext()) {
-            final Vertex<V> next = it.next();
-            for (final Edge<Integer, V> edge : residualGraph.getAdjacencySet(cur)) {
-                if (edge.to().equals(next)) {
-                    res.add(new FordFulkersonPathStep<V, Integer>(cur, edge));
-                    break;
-                }
-            }
-            cur = next;
-        }
-        return res;
-    }
-
     private static Set<Vertex<String>> toSourcePartition(
         final Graph<String, FlowAndCapacity> flowNetwork,
         final Vertex<String> source
@@ -896,34 +721,31 @@ public interface FlowNetworkAlgorithm extends AlgorithmImplementation<FlowNetwor
 
     @Override
     public default FlowNetworkResult apply(final FlowNetworkProblem problem) {
-        Graph<String, FlowAndCapacity> graph = problem.graphWithLayout().graph();
         final GridGraphLayout<String, FlowAndCapacity> layout =
             (GridGraphLayout<String, FlowAndCapacity>)problem.graphWithLayout().layout();
         final GridGraphLayout<String, Integer> residualLayout = layout.convertEdgeLabelType();
         final Vertex<String> source = problem.source();
         final Vertex<String> sink = problem.sink();
-        Graph<String, Integer> residualGraph = FlowNetworkAlgorithm.computeResidualGraph(graph);
-        List<Vertex<String>> path = FlowNetworkAlgorithm.selectAugmentingPath(residualGraph, source, sink);
+        final ResidualNetwork<String> network = new ResidualNetwork<String>(problem.graphWithLayout().graph());
+        Optional<int[]> path = network.augmentingPath(source, sink);
         final List<FordFulkersonDoubleStep> result = new LinkedList<FordFulkersonDoubleStep>();
         result.add(
             new FordFulkersonDoubleStep(
                 problem.graphWithLayout(),
                 Collections.emptySet(),
-                new GraphWithLayout<String, Integer, Integer>(residualGraph, residualLayout),
-                FlowNetworkAlgorithm.toEdges(residualGraph, path)
+                new GraphWithLayout<String, Integer, Integer>(network.residualGraph(), residualLayout),
+                path.isEmpty() ? Collections.emptySet() : network.residualPath(path.get())
             )
         );
-        while (path != null) {
-            final FlowNetworkWithHighlights graphWithAddedFlow = FlowNetworkAlgorithm.computeGraphWithFlow(graph, path);
-            graph = graphWithAddedFlow.graph();
-            residualGraph = FlowNetworkAlgorithm.computeResidualGraph(graph);
-            path = FlowNetworkAlgorithm.selectAugmentingPath(residualGraph, source, sink);
+        while (path.isPresent()) {
+            final Set<FordFulkersonPathStep<String, FlowAndCapacity>> highlights = network.augment(path.get());
+            path = network.augmentingPath(source, sink);
             result.add(
                 new FordFulkersonDoubleStep(
-                    new GraphWithLayout<String, FlowAndCapacity, Integer>(graph, layout),
-                    graphWithAddedFlow.highlights(),
-                    new GraphWithLayout<String, Integer, Integer>(residualGraph, residualLayout),
-                    FlowNetworkAlgorithm.toEdges(residualGraph, path)
+                    new GraphWithLayout<String, FlowAndCapacity, Integer>(network.flowNetwork(), layout),
+                    highlights,
+                    new GraphWithLayout<String, Integer, Integer>(network.residualGraph(), residualLayout),
+                    path.isEmpty() ? Collections.emptySet() : network.residualPath(path.get())
                 )
             );
         }
@@ -934,10 +756,10 @@ public interface FlowNetworkAlgorithm extends AlgorithmImplementation<FlowNetwor
     }
 
     @Override
-    public default FlowNetworkProblem generateProblem(final Parameters<Flag> options) {
-        final int numOfInnerVertices = AlgorithmImplementation.parseOrGenerateLength(3, 18, options);
+    public default FlowNetworkProblem generateProblem(final Parameters<Flag> options, final GenerationContext context) {
+        final int numOfInnerVertices = AlgorithmImplementation.parseOrGenerateLength(3, 18, options, context.random);
         final GraphWithLayout<String, FlowAndCapacity, Integer> graphWithLayout =
-            FlowNetworkAlgorithm.createRandomFlowNetwork(numOfInnerVertices);
+            FlowNetworkAlgorithm.createRandomFlowNetwork(numOfInnerVertices, context.random);
         return new FlowNetworkProblem(
             graphWithLayout,
             graphWithLayout.graph().getVerticesWithLabel("s").iterator().next(),
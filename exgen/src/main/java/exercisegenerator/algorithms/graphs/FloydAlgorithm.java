@@ -1,6 +1,7 @@
 package exercisegenerator.algorithms.graphs;
 
 import java.util.*;
+import java.util.stream.*;
 
 import exercisegenerator.structures.graphs.*;
 
@@ -8,6 +9,54 @@ public class FloydAlgorithm implements FloydWarshallAlgorithm<Integer> {
 
     public static final FloydAlgorithm INSTANCE = new FloydAlgorithm();
 
+    private static final int BLOCK_COLUMNS;
+
+    private static final int BLOCK_ROWS;
+
+    private static final long INFINITY;
+
+    private static final int MIN_SIZE_FOR_PARALLELISM;
+
+    static {
+        BLOCK_COLUMNS = 1024;
+        BLOCK_ROWS = 64;
+        INFINITY = Long.MAX_VALUE;
+        MIN_SIZE_FOR_PARALLELISM = 256;
+    }
+
+    private static void relax(
+        final long[] matrix,
+        final int size,
+        final long[] fromVia,
+        final long[] viaTo,
+        final int block,
+        final FloydWarshallSteps.Builder changes
+    ) {
+        final int firstRow = block * FloydAlgorithm.BLOCK_ROWS;
+        final int lastRow = Math.min(size, firstRow + FloydAlgorithm.BLOCK_ROWS);
+        // the column tiles keep the row of the intermediate vertex in the cache for all rows of the block
+        for (int firstColumn = 0; firstColumn < size; firstColumn += FloydAlgorithm.BLOCK_COLUMNS) {
+            final int lastColumn = Math.min(size, firstColumn + FloydAlgorithm.BLOCK_COLUMNS);
+            for (int from = firstRow; from < lastRow; from++) {
+                if (fromVia[from] == FloydAlgorithm.INFINITY) {
+                    continue;
+                }
+                final int offset = from * size;
+                for (int to = firstColumn; to < lastColumn; to++) {
+                    if (viaTo[to] == FloydAlgorithm.INFINITY) {
+                        continue;
+                    }
+                    // integer overflow as for the sum of two Integer objects
+                    final long update = (int)(fromVia[from] + viaTo[to]);
+                    if (matrix[offset + to] == FloydAlgorithm.INFINITY || update < matrix[offset + to]) {
+                        matrix[offset + to] = update;
+                        changes.add(offset + to, update);
+                    }
+                }
+            }
+        }
+    }
+
     private FloydAlgorithm() {}
 
     @Override
@@ -26,43 +75,57 @@ public class FloydAlgorithm implements FloydWarshallAlgorithm<Integer> {
     }
 
     @Override
-    public Integer initialValue(
-        final Graph<String, Integer> graph,
-        final List<Vertex<String>> vertices,
-        final int from,
-        final int to
-    ) {
-        if (from == to) {
+    public long initialValue(final boolean diagonal, final Optional<List<Integer>> labels) {
+        if (diagonal) {
             return 0;
         }
-        final Set<Edge<Integer, String>> edges = graph.getEdges(vertices.get(from), vertices.get(to));
-        if (!edges.isEmpty()) {
-            return edges.iterator().next().label().get();
+        if (labels.isPresent()) {
+            return labels.get().getFirst();
         }
-        return null;
+        return FloydAlgorithm.INFINITY;
     }
 
+    /**
+     * The rows of each iteration are relaxed in blocks, in parallel for larger graphs. The row and column of the
+     * intermediate vertex are copied before each iteration, so every iteration only depends on the previous one like
+     * with a full matrix per iteration (which matters for negative cycles).
+     */
     @Override
-    public String toString(final Integer entry) {
-        return entry == null ? "$\\infty$" : entry.toString();
+    public FloydWarshallSteps iterate(final int size, final long[] initial) {
+        final long[] matrix = Arrays.copyOf(initial, initial.length);
+        final long[] fromVia = new long[size];
+        final long[] viaTo = new long[size];
+        final int blocks = (size + FloydAlgorithm.BLOCK_ROWS - 1) / FloydAlgorithm.BLOCK_ROWS;
+        final FloydWarshallSteps.Builder[] blockChanges = new FloydWarshallSteps.Builder[blocks];
+        for (int block = 0; block < blocks; block++) {
+            blockChanges[block] = new FloydWarshallSteps.Builder();
+        }
+        final FloydWarshallSteps.Builder changes = new FloydWarshallSteps.Builder();
+        for (int via = 0; via < size; via++) {
+            System.arraycopy(matrix, via * size, viaTo, 0, size);
+            for (int from = 0; from < size; from++) {
+                fromVia[from] = matrix[from * size + via];
+            }
+            final IntStream stream = IntStream.range(0, blocks);
+            (size < FloydAlgorithm.MIN_SIZE_FOR_PARALLELISM ? stream : stream.parallel()).forEach(
+                block -> FloydAlgorithm.relax(matrix, size, fromVia, viaTo, block, blockChanges[block])
+            );
+            for (final FloydWarshallSteps.Builder block : blockChanges) {
+                changes.addAll(block);
+            }
+            changes.nextIteration();
+        }
+        return changes.build(size, initial);
     }
 
     @Override
-    public Integer update(
-        final Integer[][][] tables,
-        final int from,
-        final int via,
-        final int to
-    ) {
-        final Integer oldValue = tables[via][from][to];
-        final Integer fromVia = tables[via][from][via];
-        final Integer viaTo = tables[via][via][to];
-        final Integer update = fromVia == null ? null : (viaTo == null ? null : fromVia + viaTo);
-        if (oldValue == null || update != null && update < oldValue) {
-            return update;
-        } else {
-            return oldValue;
-        }
+    public String toString(final long value) {
+        return value == FloydAlgorithm.INFINITY ? "$\\infty$" : String.valueOf(value);
+    }
+
+    @Override
+    public Integer toValue(final long value) {
+        return value == FloydAlgorithm.INFINITY ? null : (int)value;
     }
 
 }
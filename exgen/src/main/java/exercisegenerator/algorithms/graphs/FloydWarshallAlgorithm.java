@@ -6,9 +6,10 @@ import java.util.*;
 import clit.*;
 import exercisegenerator.*;
 import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
 import exercisegenerator.structures.graphs.*;
 
-interface FloydWarshallAlgorithm<T> extends GraphAlgorithm<T[][][]> {
+interface FloydWarshallAlgorithm<T> extends GraphAlgorithm<FloydWarshallSteps> {
 
     static class LayoutConfiguration {
 
@@ -105,36 +106,54 @@ interface FloydWarshallAlgorithm<T> extends GraphAlgorithm<T[][][]> {
     }
 
     @Override
-    default T[][][] apply(final GraphProblem problem) {
+    default FloydWarshallSteps apply(final GraphProblem problem) {
         final Graph<String, Integer> graph = problem.graphWithLayout().graph();
         final List<Vertex<String>> vertices = GraphAlgorithm.getSortedListOfVertices(graph, problem.comparator());
         final int size = vertices.size();
-        final T[][][] tables = this.createTable(size + 1, size, size);
-        for (int from = 0; from < size; from++) {
-            for (int to = 0; to < size; to++) {
-                tables[0][from][to] = this.initialValue(graph, vertices, from, to);
-            }
+        final Map<Vertex<String>, Integer> indices = new HashMap<Vertex<String>, Integer>(2 * size);
+        for (int i = 0; i < size; i++) {
+            indices.put(vertices.get(i), i);
         }
-        for (int via = 0; via < size; via++) {
-            for (int from = 0; from < size; from++) {
-                for (int to = 0; to < size; to++) {
-                    tables[via + 1][from][to] = this.update(tables, from, via, to);
-                }
+        final long[] initial = new long[size * size];
+        final long unconnected = this.initialValue(false, Optional.empty());
+        final long diagonal = this.initialValue(true, Optional.empty());
+        Arrays.fill(initial, unconnected);
+        for (int from = 0; from < size; from++) {
+            initial[from * size + from] = diagonal;
+            for (
+                final Map.Entry<Vertex<String>, List<Integer>> entry :
+                    graph.getEdgeLabelsByTarget(vertices.get(from)).entrySet()
+            ) {
+                final int to = indices.get(entry.getKey());
+                initial[from * size + to] = this.initialValue(from == to, Optional.of(entry.getValue()));
             }
         }
-        return tables;
+        return this.iterate(size, initial);
     }
 
     T[][][] createTable(int size1, int size2, int size3);
 
     String getName();
 
-    T initialValue(Graph<String, Integer> graph, List<Vertex<String>> vertices, int from, int to);
+    /**
+     * @param diagonal Whether the value is computed for a vertex and itself.
+     * @param labels The labels of the edges between the vertices in ascending order if there are any edges.
+     * @return The encoded initial value.
+     */
+    long initialValue(boolean diagonal, Optional<List<Integer>> labels);
+
+    /**
+     * Runs the outer loop of the algorithm on the specified initial matrix.
+     * @param size The number of vertices.
+     * @param initial The encoded initial matrix in row-major order.
+     * @return The initial matrix and the cells changed in each iteration.
+     */
+    FloydWarshallSteps iterate(int size, long[] initial);
 
     @Override
     default void printAfterSingleProblemInstance(
         final GraphProblem problem,
-        final T[][][] solution,
+        final FloydWarshallSteps solution,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException {
@@ -149,8 +168,7 @@ interface FloydWarshallAlgorithm<T> extends GraphAlgorithm<T[][][]> {
 
     @Override
     default void printBeforeMultipleProblemInstances(
-        final List<GraphProblem> problems,
-        final List<T[][][]> solutions,
+        final InstancesSummary summary,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException {
@@ -165,7 +183,7 @@ interface FloydWarshallAlgorithm<T> extends GraphAlgorithm<T[][][]> {
     @Override
     default void printSolutionInstance(
         final GraphProblem problem,
-        final T[][][] solution,
+        final FloydWarshallSteps solution,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException {
@@ -188,7 +206,7 @@ interface FloydWarshallAlgorithm<T> extends GraphAlgorithm<T[][][]> {
     @Override
     default void printSolutionSpace(
         final GraphProblem problem,
-        final T[][][] solution,
+        final FloydWarshallSteps solution,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException {
@@ -209,48 +227,71 @@ interface FloydWarshallAlgorithm<T> extends GraphAlgorithm<T[][][]> {
         LaTeXUtils.printSolutionSpaceEnd(Optional.empty(), options, writer);
     }
 
-    String toString(T value);
+    String toString(long value);
 
-    T update(T[][][] tables, int from, int via, int to);
+    /**
+     * @param steps The steps of the algorithm.
+     * @return The full matrices before and after each iteration of the outer loop.
+     */
+    default T[][][] toTables(final FloydWarshallSteps steps) {
+        final int size = steps.size();
+        final T[][][] result = this.createTable(size + 1, size, size);
+        for (int from = 0; from < size; from++) {
+            for (int to = 0; to < size; to++) {
+                result[0][from][to] = this.toValue(steps.initial(from, to));
+            }
+        }
+        for (int i = 1; i <= size; i++) {
+            for (int from = 0; from < size; from++) {
+                System.arraycopy(result[i - 1][from], 0, result[i][from], 0, size);
+            }
+            for (int change = steps.changesBegin(i); change < steps.changesEnd(i); change++) {
+                result[i][steps.cell(change) / size][steps.cell(change) % size] = this.toValue(steps.value(change));
+            }
+        }
+        return result;
+    }
 
-    private String[][][] toColorTables(final T[][][] tables) {
-        final String[][][] result = new String[tables.length][tables.length][tables.length];
-        for (int i = 1; i < tables.length; i++) {
-            for (int from = 0; from < tables.length - 1; from++) {
-                for (int to = 0; to < tables.length - 1; to++) {
-                    if (tables[i][from][to] != null && !tables[i][from][to].equals(tables[i - 1][from][to])) {
-                        result[i][from + 1][to + 1] = "black!20";
-                    }
-                }
+    T toValue(long value);
+
+    private String[][][] toColorTables(final FloydWarshallSteps steps) {
+        final int size = steps.size();
+        final String[][][] result = new String[size + 1][size + 1][size + 1];
+        for (int i = 1; i <= size; i++) {
+            for (int change = steps.changesBegin(i); change < steps.changesEnd(i); change++) {
+                result[i][steps.cell(change) / size + 1][steps.cell(change) % size + 1] = "black!20";
             }
         }
         return result;
     }
 
     private String[][][] toPrintableTables(
-        final T[][][] tables,
+        final FloydWarshallSteps steps,
         final boolean fillSolution,
         final String[] labels
     ) {
-        final String[][][] result = new String[tables.length][tables.length][tables.length];
-        for (int i = 0; i < tables.length; i++) {
+        final int size = steps.size();
+        final String[][][] result = new String[size + 1][size + 1][size + 1];
+        for (int i = 0; i <= size; i++) {
             result[i][0][0] = FloydWarshallAlgorithm.toIteration(i);
             for (int j = 0; j < labels.length; j++) {
                 result[i][j + 1][0] = labels[j];
                 result[i][0][j + 1] = labels[j];
             }
         }
-        for (int from = 0; from < labels.length; from++) {
-            for (int to = 0; to < labels.length; to++) {
-                result[0][from + 1][to + 1] = this.toString(tables[0][from][to]);
+        for (int from = 0; from < size; from++) {
+            for (int to = 0; to < size; to++) {
+                result[0][from + 1][to + 1] = this.toString(steps.initial(from, to));
             }
         }
         if (fillSolution) {
-            for (int i = 1; i < tables.length; i++) {
-                for (int from = 0; from < labels.length; from++) {
-                    for (int to = 0; to < labels.length; to++) {
-                        result[i][from + 1][to + 1] = this.toString(tables[i][from][to]);
-                    }
+            for (int i = 1; i <= size; i++) {
+                for (int from = 1; from <= size; from++) {
+                    System.arraycopy(result[i - 1][from], 1, result[i][from], 1, size);
+                }
+                for (int change = steps.changesBegin(i); change < steps.changesEnd(i); change++) {
+                    result[i][steps.cell(change) / size + 1][steps.cell(change) % size + 1] =
+                        this.toString(steps.value(change));
                 }
             }
         }
@@ -6,6 +6,7 @@ import java.util.*;
 import clit.*;
 import exercisegenerator.*;
 import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
 import exercisegenerator.structures.graphs.*;
 import exercisegenerator.structures.graphs.flownetwork.*;
 
@@ -38,8 +39,7 @@ public class FordFulkersonAlgorithm implements FlowNetworkAlgorithm {
 
     @Override
     public void printBeforeMultipleProblemInstances(
-        final List<FlowNetworkProblem> problems,
-        final List<FlowNetworkResult> solutions,
+        final InstancesSummary summary,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException {
@@ -46,14 +46,14 @@ public interface GraphAlgorithm<S> extends AlgorithmImplementation<GraphProblem,
         Main.newLine(writer);
     }
 
-    static int randomEdgeValue(final int root) {
+    static int randomEdgeValue(final int root, final SplittableRandom random) {
         int value = root;
-        if (Main.RANDOM.nextInt(3) > 0) {
-            while (Main.RANDOM.nextInt(3) > 0) {
+        if (random.nextInt(3) > 0) {
+            while (random.nextInt(3) > 0) {
                 value++;
             }
         } else {
-            while (value > 1 && Main.RANDOM.nextInt(4) == 0) {
+            while (value > 1 && random.nextInt(4) == 0) {
                 value--;
             }
         }
@@ -110,7 +110,8 @@ public interface GraphAlgorithm<S> extends AlgorithmImplementation<GraphProblem,
 
     private static GraphWithLayout<String, Integer, Integer> createRandomGraphWithGridLayout(
         final int numOfVertices,
-        final boolean directed
+        final boolean directed,
+        final SplittableRandom random
     ) {
         if (numOfVertices < 0) {
             throw new IllegalArgumentException("Number of vertices must not be negative!");
@@ -121,30 +122,47 @@ public interface GraphAlgorithm<S> extends AlgorithmImplementation<GraphProblem,
         if (numOfVertices == 0) {
             return new GraphWithLayout<String, Integer, Integer>(graph, layoutBuilder.build());
         }
+        // vertices are addressed by their insertion index, which also orders the vertices with free neighbors like
+        // appending them to a list would
+        final List<Vertex<String>> vertices = new ArrayList<Vertex<String>>(numOfVertices);
+        final int[] xs = new int[numOfVertices];
+        final int[] ys = new int[numOfVertices];
+        final int[] numbersOfFreeNeighbors = new int[numOfVertices];
+        final GridOccupancy occupancy = new GridOccupancy(numOfVertices);
+        final RankedIndexSet verticesWithFreeNeighbors = new RankedIndexSet(numOfVertices);
         final Vertex<String> start = new Vertex<String>(Optional.of("A"));
         graph.addVertex(start);
         layoutBuilder.addVertex(start, new Coordinates2D<Integer>(0, 0));
-        final List<Vertex<String>> verticesWithFreeNeighbors = new ArrayList<Vertex<String>>();
-        verticesWithFreeNeighbors.add(start);
+        vertices.add(start);
+        occupancy.put(0, 0, 0);
+        numbersOfFreeNeighbors[0] = GridGraphLayout.numberOfSurroundingCoordinates(0, 0);
+        verticesWithFreeNeighbors.add(0);
         for (int letter = 1; letter < numOfVertices; letter++) {
-            final Vertex<String> nextVertex =
-                verticesWithFreeNeighbors.get(Main.RANDOM.nextInt(verticesWithFreeNeighbors.size()));
+            final int next = verticesWithFreeNeighbors.select(random.nextInt(verticesWithFreeNeighbors.size()));
+            final Vertex<String> nextVertex = vertices.get(next);
             final Vertex<String> toAddVertex =
                 new Vertex<String>(Optional.of(GraphAlgorithm.toLetterLabel(letter)));
             graph.addVertex(toAddVertex);
-            final List<Coordinates2D<Integer>> free = layoutBuilder.getFreePositions(nextVertex);
-            final Coordinates2D<Integer> toAddPos = free.get(Main.RANDOM.nextInt(free.size()));
-            layoutBuilder.addVertex(toAddVertex, toAddPos);
-            final int value = GraphAlgorithm.randomEdgeValue(GraphAlgorithm.DEFAULT_EDGE_ROOT);
+            vertices.add(toAddVertex);
+            final long toAddPos =
+                occupancy.freeSurroundingPosition(xs[next], ys[next], random.nextInt(numbersOfFreeNeighbors[next]));
+            xs[letter] = GridOccupancy.unpackX(toAddPos);
+            ys[letter] = GridOccupancy.unpackY(toAddPos);
+            occupancy.put(xs[letter], ys[letter], letter);
+            layoutBuilder.addVertex(toAddVertex, new Coordinates2D<Integer>(xs[letter], ys[letter]));
+            final int value = GraphAlgorithm.randomEdgeValue(GraphAlgorithm.DEFAULT_EDGE_ROOT, random);
             graph.addEdge(nextVertex, Optional.of(value), toAddVertex);
             if (!directed) {
                 graph.addEdge(toAddVertex, Optional.of(value), nextVertex);
             }
             final List<Pair<Vertex<String>, Vertex<String>>> freeVertexPairs =
                 new ArrayList<Pair<Vertex<String>, Vertex<String>>>();
-            final List<Vertex<String>> neighbours = layoutBuilder.getSurroundingVertices(toAddPos);
-            for (final Vertex<String> neighbour : neighbours) {
-                if (neighbour.equals(nextVertex)) {
+            final int[] neighbours = occupancy.surroundingIds(xs[letter], ys[letter]);
+            numbersOfFreeNeighbors[letter] =
+                GridGraphLayout.numberOfSurroundingCoordinates(xs[letter], ys[letter]) - neighbours.length;
+            for (final int neighbourIndex : neighbours) {
+                final Vertex<String> neighbour = vertices.get(neighbourIndex);
+                if (neighbourIndex == next) {
                     if (directed) {
                         freeVertexPairs.add(new Pair<Vertex<String>, Vertex<String>>(toAddVertex, neighbour));
                     }
@@ -154,25 +172,26 @@ public interface GraphAlgorithm<S> extends AlgorithmImplementation<GraphProblem,
                         freeVertexPairs.add(new Pair<Vertex<String>, Vertex<String>>(neighbour, toAddVertex));
                     }
                 }
-                if (layoutBuilder.getFreePositions(neighbour).isEmpty()) {
-                    verticesWithFreeNeighbors.remove(neighbour);
+                numbersOfFreeNeighbors[neighbourIndex]--;
+                if (numbersOfFreeNeighbors[neighbourIndex] == 0) {
+                    verticesWithFreeNeighbors.remove(neighbourIndex);
                 }
             }
             for (
-                int numEdges = GraphAlgorithm.randomNumOfEdges(freeVertexPairs.size());
+                int numEdges = GraphAlgorithm.randomNumOfEdges(freeVertexPairs.size(), random);
                 numEdges > 0;
                 numEdges--
             ) {
-                final int pairIndex = Main.RANDOM.nextInt(freeVertexPairs.size());
+                final int pairIndex = random.nextInt(freeVertexPairs.size());
                 final Pair<Vertex<String>, Vertex<String>> pair = freeVertexPairs.remove(pairIndex);
-                final int nextValue = GraphAlgorithm.randomEdgeValue(GraphAlgorithm.DEFAULT_EDGE_ROOT);
+                final int nextValue = GraphAlgorithm.randomEdgeValue(GraphAlgorithm.DEFAULT_EDGE_ROOT, random);
                 graph.addEdge(pair.x, Optional.of(nextValue), pair.y);
                 if (!directed) {
                     graph.addEdge(pair.y, Optional.of(nextValue), pair.x);
                 }
             }
-            if (!layoutBuilder.getFreePositions(toAddVertex).isEmpty()) {
-                verticesWithFreeNeighbors.add(toAddVertex);
+            if (numbersOfFreeNeighbors[letter] > 0) {
+                verticesWithFreeNeighbors.add(letter);
             }
         }
         return new GraphWithLayout<String, Integer, Integer>(graph, layoutBuilder.build());
@@ -247,14 +266,14 @@ public interface GraphAlgorithm<S> extends AlgorithmImplementation<GraphProblem,
         return vertex;
     }
 
-    private static int randomNumOfEdges(final int max) {
+    private static int randomNumOfEdges(final int max, final SplittableRandom random) {
         int res = max / 2;
-        if (Main.RANDOM.nextBoolean()) {
-            while (res < max && Main.RANDOM.nextInt(3) == 0) {
+        if (random.nextBoolean()) {
+            while (res < max && random.nextInt(3) == 0) {
                 res++;
             }
         } else {
-            while (res > 0 && Main.RANDOM.nextInt(3) == 0) {
+            while (res > 0 && random.nextInt(3) == 0) {
                 res--;
             }
         }
@@ -262,13 +281,14 @@ public interface GraphAlgorithm<S> extends AlgorithmImplementation<GraphProblem,
     }
 
     @Override
-    default GraphProblem generateProblem(final Parameters<Flag> options) {
+    default GraphProblem generateProblem(final Parameters<Flag> options, final GenerationContext context) {
         final String algorithmName = options.get(Flag.ALGORITHM);
-        final int numOfVertices = AlgorithmImplementation.parseOrGenerateLength(5, 20, options);
+        final int numOfVertices = AlgorithmImplementation.parseOrGenerateLength(5, 20, options, context.random);
         final GraphWithLayout<String, Integer, Integer> graphWithLayout =
             GraphAlgorithm.createRandomGraphWithGridLayout(
                 numOfVertices,
-                !GraphAlgorithm.isUndirectedGraphAlgorithm(algorithmName)
+                !GraphAlgorithm.isUndirectedGraphAlgorithm(algorithmName),
+                context.random
             );
         return new GraphProblem(
             graphWithLayout,
@@ -6,6 +6,7 @@ import java.util.*;
 import clit.*;
 import exercisegenerator.*;
 import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
 import exercisegenerator.structures.graphs.*;
 
 public class KosarajuSharirAlgorithm implements GraphAlgorithm<KosarajuSharirResult> {
@@ -84,8 +85,7 @@ public class KosarajuSharirAlgorithm implements GraphAlgorithm<KosarajuSharirRes
 
     @Override
     public void printBeforeMultipleProblemInstances(
-        final List<GraphProblem> problems,
-        final List<KosarajuSharirResult> solutions,
+        final InstancesSummary summary,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException {
@@ -7,6 +7,7 @@ import java.util.stream.*;
 import clit.*;
 import exercisegenerator.*;
 import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
 import exercisegenerator.structures.graphs.*;
 import exercisegenerator.structures.graphs.layout.*;
 
@@ -21,29 +22,23 @@ public class KruskalAlgorithm implements GraphAlgorithm<KruskalResult<String>> {
         final Graph<String, Integer> graph = problem.graphWithLayout().graph();
         final List<UndirectedEdge<String, Integer>> result = new ArrayList<UndirectedEdge<String, Integer>>();
         final Graph<String, Integer> tree = graph.nodeCopy();
-        final LinkedList<UndirectedEdge<String, Integer>> edges =
-            graph
-            .getAllUndirectedEdges()
-            .stream()
-            .sorted(
-                new Comparator<UndirectedEdge<String, Integer>>() {
-                    @Override
-                    public int compare(
-                        final UndirectedEdge<String, Integer> edge1,
-                        final UndirectedEdge<String, Integer> edge2
-                    ) {
-                        return edge1.label().get().compareTo(edge2.label().get());
-                    }
-                }
-            ).collect(Collectors.toCollection(LinkedList::new));
+        final List<UndirectedEdge<String, Integer>> edges =
+            new ArrayList<UndirectedEdge<String, Integer>>(graph.getAllUndirectedEdges());
+        // the weight in the upper half and the position in the lower half keep equal weights in their original order
+        final long[] keys = new long[edges.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = ((long)edges.get(i).label().get() << 32) | i;
+        }
+        Arrays.parallelSort(keys);
+        final int treeSize = graph.getVertices().size() - 1;
         final UnionFind<Vertex<String>> components = new UnionFind<Vertex<String>>();
-        while (!edges.isEmpty()) {
-            final UndirectedEdge<String, Integer> edge = edges.removeFirst();
+        for (int i = 0; i < keys.length && result.size() < treeSize; i++) {
+            final UndirectedEdge<String, Integer> edge = edges.get((int)keys[i]);
             if (!components.connected(edge.from(), edge.to())) {
                 result.add(edge);
                 tree.addEdge(edge.from(), edge.label(), edge.to());
                 tree.addEdge(edge.to(), edge.label(), edge.from());
-                components.union(edge.from(), edge.to());
+                components.unionBySize(edge.from(), edge.to());
             }
         }
         return new KruskalResult<String>(
@@ -97,8 +92,7 @@ public class KruskalAlgorithm implements GraphAlgorithm<KruskalResult<String>> {
 
     @Override
     public void printBeforeMultipleProblemInstances(
-        final List<GraphProblem> problems,
-        final List<KruskalResult<String>> solutions,
+        final InstancesSummary summary,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException {
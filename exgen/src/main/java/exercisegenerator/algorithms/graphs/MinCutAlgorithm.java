@@ -7,6 +7,7 @@ import java.util.stream.*;
 import clit.*;
 import exercisegenerator.*;
 import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
 import exercisegenerator.structures.graphs.*;
 import exercisegenerator.structures.graphs.flownetwork.*;
 
@@ -40,8 +41,7 @@ public class MinCutAlgorithm implements FlowNetworkAlgorithm {
 
     @Override
     public void printBeforeMultipleProblemInstances(
-        final List<FlowNetworkProblem> problems,
-        final List<FlowNetworkResult> solutions,
+        final InstancesSummary summary,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException {
@@ -8,6 +8,7 @@ import clit.*;
 import exercisegenerator.*;
 import exercisegenerator.algorithms.*;
 import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
 import exercisegenerator.structures.graphs.petrinets.*;
 
 public abstract class PetriNetAlgorithm<S> implements AlgorithmImplementation<PetriNetInput, S> {
@@ -84,7 +85,10 @@ public abstract class PetriNetAlgorithm<S> implements AlgorithmImplementation<Pe
         return toX > fromX ? fromY + 1 : fromY - 1;
     }
 
-    private static TransitionSkeleton[] generateTransitions(final int numberOfTransitionsForGeneration) {
+    private static TransitionSkeleton[] generateTransitions(
+        final int numberOfTransitionsForGeneration,
+        final SplittableRandom random
+    ) {
         final int maxWeight = 5;
         final TransitionSkeleton[] result =
             new TransitionSkeleton[numberOfTransitionsForGeneration];
@@ -93,16 +97,16 @@ public abstract class PetriNetAlgorithm<S> implements AlgorithmImplementation<Pe
             .boxed()
             .collect(Collectors.toCollection(ArrayList::new));
         for (int i = 0; i < 4; i++) {
-            result[indices.remove(Main.RANDOM.nextInt(indices.size()))] =
-                new TransitionSkeleton(Main.RANDOM.nextInt(maxWeight) + 1, Main.RANDOM.nextInt(maxWeight) + 1);
+            result[indices.remove(random.nextInt(indices.size()))] =
+                new TransitionSkeleton(random.nextInt(maxWeight) + 1, random.nextInt(maxWeight) + 1);
         }
         int additionalTransitions = 0;
-        while (additionalTransitions < numberOfTransitionsForGeneration - 4 && Main.RANDOM.nextBoolean()) {
+        while (additionalTransitions < numberOfTransitionsForGeneration - 4 && random.nextBoolean()) {
             additionalTransitions++;
         }
         for (int i = 0; i < additionalTransitions; i++) {
-            result[indices.remove(Main.RANDOM.nextInt(indices.size()))] =
-                new TransitionSkeleton(Main.RANDOM.nextInt(maxWeight) + 1, Main.RANDOM.nextInt(maxWeight) + 1);
+            result[indices.remove(random.nextInt(indices.size()))] =
+                new TransitionSkeleton(random.nextInt(maxWeight) + 1, random.nextInt(maxWeight) + 1);
         }
         return result;
     }
@@ -157,14 +161,14 @@ public abstract class PetriNetAlgorithm<S> implements AlgorithmImplementation<Pe
     }
 
     @Override
-    public PetriNetInput generateProblem(final Parameters<Flag> options) {
+    public PetriNetInput generateProblem(final Parameters<Flag> options, final GenerationContext context) {
         final List<PetriPlace> places = new LinkedList<PetriPlace>();
         List<PetriTransition> transitions = new LinkedList<PetriTransition>();
         final List<Integer> tokens = new ArrayList<Integer>();
         final int numberOfTransitionsForGeneration =
             PetriNetAlgorithm.numberOfTransitionsForGeneration(PetriNetAlgorithm.SIZE_OF_PLACE_SQUARE_SIDE);
         final TransitionSkeleton[] randomSkeleton =
-            PetriNetAlgorithm.generateTransitions(numberOfTransitionsForGeneration);
+            PetriNetAlgorithm.generateTransitions(numberOfTransitionsForGeneration, context.random);
         final boolean[] placeExistence =
             new boolean[PetriNetAlgorithm.SIZE_OF_PLACE_SQUARE_SIDE * PetriNetAlgorithm.SIZE_OF_PLACE_SQUARE_SIDE];
         Arrays.fill(placeExistence, false);
@@ -217,7 +221,7 @@ public abstract class PetriNetAlgorithm<S> implements AlgorithmImplementation<Pe
             }
         }
         for (int i = 0; i < places.size(); i++) {
-            final int numberOfTokens = Main.RANDOM.nextInt(11) - 5;
+            final int numberOfTokens = context.random.nextInt(11) - 5;
             tokens.add(numberOfTokens > 0 ? numberOfTokens : 0);
         }
         return new PetriNetInput(places, transitions, tokens);
@@ -6,6 +6,7 @@ import java.util.*;
 import clit.*;
 import exercisegenerator.*;
 import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
 import exercisegenerator.structures.graphs.*;
 import exercisegenerator.structures.graphs.layout.*;
 import exercisegenerator.structures.graphs.petrinets.*;
@@ -14,30 +15,115 @@ public class PetriNetCoverabilityAlgorithm extends PetriNetAlgorithm<Coverabilit
 
     public static final PetriNetCoverabilityAlgorithm INSTANCE = new PetriNetCoverabilityAlgorithm();
 
+    // larger coverability graphs are laid out with the Barnes-Hut approximation
+    private static final int MAX_NUMBER_OF_VERTICES_FOR_EXACT_LAYOUT = 100;
+
+    /**
+     * Sets all places to omega where the specified marking exceeds an ancestor it strictly covers.
+     * @param tokens The marking.
+     * @param ancestors The indices of the ancestors in ascending order.
+     * @param markings The markings by their indices.
+     */
+    private static void accelerate(final int[] tokens, final int[] ancestors, final List<int[]> markings) {
+        for (final int ancestor : ancestors) {
+            final int[] ancestorTokens = markings.get(ancestor);
+            if (PetriNetCoverabilityAlgorithm.strictlyCovers(tokens, ancestorTokens)) {
+                for (int place = 0; place < tokens.length; place++) {
+                    if (tokens[place] > ancestorTokens[place]) {
+                        tokens[place] = PetriMarking.OMEGA;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @param vertex The index of a vertex.
+     * @param predecessors The indices of the direct predecessors of each vertex.
+     * @return The indices of all vertices from which the specified vertex is reachable (including itself) in
+     *         ascending order.
+     */
+    private static int[] ancestors(final int vertex, final List<List<Integer>> predecessors) {
+        final boolean[] visited = new boolean[predecessors.size()];
+        final int[] queue = new int[predecessors.size()];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = vertex;
+        visited[vertex] = true;
+        while (head < tail) {
+            for (final int predecessor : predecessors.get(queue[head++])) {
+                if (!visited[predecessor]) {
+                    visited[predecessor] = true;
+                    queue[tail++] = predecessor;
+                }
+            }
+        }
+        final int[] result = Arrays.copyOf(queue, tail);
+        Arrays.sort(result);
+        return result;
+    }
+
+    private static boolean strictlyCovers(final int[] tokens, final int[] other) {
+        // omega is the largest int value, so it covers everything and is only covered by itself
+        boolean strict = false;
+        for (int place = 0; place < tokens.length; place++) {
+            if (tokens[place] < other[place]) {
+                return false;
+            }
+            strict |= tokens[place] > other[place];
+        }
+        return strict;
+    }
+
     private PetriNetCoverabilityAlgorithm() {}
 
+    /**
+     * Computes the coverability graph by a breadth-first search over markings with omega encoded as int arrays. The
+     * vertices are indexed by their markings and numbered in the order of their discovery, which is also the order
+     * of the search. The ancestors of a marking (all markings from which it is reachable in the graph so far) do not
+     * change while its successors are added, so they are computed once for each marking.
+     */
     @Override
     public CoverabilityGraph apply(final PetriNetInput input) {
         final PetriNet net = new PetriNet(input);
-        final PetriMarking firstTokens = PetriMarking.create(input.tokens());
-        final CoverabilityGraph result = new CoverabilityGraph(new Vertex<PetriMarking>(firstTokens));
-        final List<PetriMarking> used = new LinkedList<PetriMarking>();
-        used.add(firstTokens);
-        final Queue<PetriMarking> queue = new LinkedList<PetriMarking>();
-        queue.offer(firstTokens);
-        while (!queue.isEmpty()) {
-            final PetriMarking tokens = queue.poll();
-            for (final PetriTransition transition : net.activeTransitions(tokens)) {
-                final PetriMarking nextTokens = net.fireTransition(tokens, transition);
-                final PetriMarking omegaTokens = this.addOmegas(tokens, transition, nextTokens, used, result);
-                if (!used.contains(omegaTokens)) {
-                    result.addVertex(new Vertex<PetriMarking>(omegaTokens));
-                    used.add(omegaTokens);
-                    queue.offer(omegaTokens);
+        final int[] firstTokens = PetriMarking.create(input.tokens()).toTokens();
+        final Vertex<PetriMarking> firstVertex = new Vertex<PetriMarking>(PetriMarking.create(firstTokens));
+        final CoverabilityGraph result = new CoverabilityGraph(firstVertex);
+        final List<int[]> markings = new ArrayList<int[]>();
+        final List<Vertex<PetriMarking>> vertices = new ArrayList<Vertex<PetriMarking>>();
+        final List<List<Integer>> predecessors = new ArrayList<List<Integer>>();
+        final Map<MarkingKey, Integer> indices = new HashMap<MarkingKey, Integer>();
+        markings.add(firstTokens);
+        vertices.add(firstVertex);
+        predecessors.add(new ArrayList<Integer>());
+        indices.put(new MarkingKey(firstTokens), 0);
+        for (int current = 0; current < markings.size(); current++) {
+            final int[] tokens = markings.get(current);
+            final int[] ancestors = PetriNetCoverabilityAlgorithm.ancestors(current, predecessors);
+            for (int transition = 0; transition < net.numberOfTransitions(); transition++) {
+                if (!net.isEnabled(tokens, transition)) {
+                    continue;
                 }
-                final Vertex<PetriMarking> from = result.getVerticesWithLabel(tokens).iterator().next();
-                final Vertex<PetriMarking> to = result.getVerticesWithLabel(omegaTokens).iterator().next();
-                result.addEdge(from, Optional.of(transition.label()), to);
+                final int[] nextTokens = Arrays.copyOf(tokens, tokens.length);
+                net.fire(nextTokens, transition);
+                PetriNetCoverabilityAlgorithm.accelerate(nextTokens, ancestors, markings);
+                final MarkingKey key = new MarkingKey(nextTokens);
+                Integer next = indices.get(key);
+                if (next == null) {
+                    next = markings.size();
+                    final Vertex<PetriMarking> vertex = new Vertex<PetriMarking>(PetriMarking.create(nextTokens));
+                    result.addVertex(vertex);
+                    markings.add(nextTokens);
+                    vertices.add(vertex);
+                    predecessors.add(new ArrayList<Integer>());
+                    indices.put(key, next);
+                }
+                result.addEdge(
+                    vertices.get(current),
+                    Optional.of(input.transitions().get(transition).label()),
+                    vertices.get(next)
+                );
+                predecessors.get(next).add(current);
             }
         }
         return result;
@@ -67,8 +153,7 @@ public class PetriNetCoverabilityAlgorithm extends PetriNetAlgorithm<Coverabilit
 
     @Override
     public void printBeforeMultipleProblemInstances(
-        final List<PetriNetInput> problems,
-        final List<CoverabilityGraph> solutions,
+        final InstancesSummary summary,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException {
@@ -98,7 +183,9 @@ public class PetriNetCoverabilityAlgorithm extends PetriNetAlgorithm<Coverabilit
     ) throws IOException {
         LaTeXUtils.printAdjustboxBeginning(writer);
         solution.printTikZ(
-            new ForceGraphLayout<PetriMarking, String>(solution, TikZStyle.COVERABILITY_GRAPH, 4, 1, 12, 12),
+            solution.getVertices().size() > PetriNetCoverabilityAlgorithm.MAX_NUMBER_OF_VERTICES_FOR_EXACT_LAYOUT ?
+                new BarnesHutGraphLayout<PetriMarking, String>(solution, TikZStyle.COVERABILITY_GRAPH, 4, 1, 12, 12) :
+                    new ForceGraphLayout<PetriMarking, String>(solution, TikZStyle.COVERABILITY_GRAPH, 4, 1, 12, 12),
             writer
         );
         LaTeXUtils.printAdjustboxEnd(writer);
@@ -112,55 +199,18 @@ public class PetriNetCoverabilityAlgorithm extends PetriNetAlgorithm<Coverabilit
         final BufferedWriter writer
     ) throws IOException {}
 
-    private PetriMarking addOmegas(
-        final PetriMarking tokens,
-        final PetriTransition transition,
-        final PetriMarking nextTokens,
-        final List<PetriMarking> used,
-        final CoverabilityGraph graph
-    ) {
-        final PetriMarking result = PetriMarking.create(nextTokens);
-        for (final PetriMarking existingTokens : used) {
-            if (result.strictlyCovers(existingTokens) && this.isReachable(existingTokens, tokens, graph)) {
-                for (int i = 0; i < existingTokens.size(); i++) {
-                    final Optional<Integer> resultValue = result.get(i);
-                    if (resultValue.isPresent() && resultValue.get() > existingTokens.get(i).get()) {
-                        result.set(i, Optional.empty());
-                    }
-                }
-            }
-        }
-        return result;
-    }
+    private record MarkingKey(int[] tokens) {
 
-    private boolean isReachable(
-        final PetriMarking from,
-        final PetriMarking to,
-        final CoverabilityGraph graph
-    ) {
-        if (from.equals(to)) {
-            return true;
+        @Override
+        public boolean equals(final Object o) {
+            return o instanceof MarkingKey && Arrays.equals(this.tokens, ((MarkingKey)o).tokens);
         }
-        final Vertex<PetriMarking> start = graph.getVerticesWithLabel(from).iterator().next();
-        final List<PetriMarking> used = new LinkedList<PetriMarking>();
-        final Queue<Vertex<PetriMarking>> queue = new LinkedList<Vertex<PetriMarking>>();
-        queue.offer(start);
-        used.add(from);
-        while (!queue.isEmpty()) {
-            final Vertex<PetriMarking> current = queue.poll();
-            for (final Vertex<PetriMarking> next : graph.getAdjacentVertices(current)) {
-                final PetriMarking tokens = next.label().get();
-                if (used.contains(tokens)) {
-                    continue;
-                }
-                if (to.equals(tokens)) {
-                    return true;
-                }
-                used.add(tokens);
-                queue.offer(next);
-            }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(this.tokens);
         }
-        return false;
+
     }
 
 }
@@ -9,20 +9,72 @@ import org.apache.commons.math3.fraction.*;
 import clit.*;
 import exercisegenerator.*;
 import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
 import exercisegenerator.structures.algebra.*;
 import exercisegenerator.structures.graphs.petrinets.*;
+import exercisegenerator.util.*;
 
+/**
+ * The algorithm of Farkas on integer rows. Each row is only combined with coefficients in long precision until an
+ * overflow occurs, after which it is computed with BigInteger coefficients. Since the rows of the identity part are
+ * non-negative, the rows of each step with a minimal support in the identity part are exactly the rows not having a
+ * support containing the support of another row. Thus, a pair of rows is only combined if no third row has a support
+ * contained in the union of their supports, which discards all rows with a non-minimal support before computing them.
+ * The number of combinations, pruned combinations, and resulting rows of each step are reported as counters of the
+ * phase metrics.
+ */
 public abstract class PetriNetFarkasAlgorithm extends PetriNetAlgorithm<List<Matrix>> {
 
-    private static final Comparator<BigInteger> COMPARATOR =
-        new Comparator<BigInteger>() {
-
-            @Override
-            public int compare(final BigInteger o1, final BigInteger o2) {
-                return o1.compareTo(o2);
+    private static FarkasRow combine(
+        final FarkasRow negative,
+        final FarkasRow positive,
+        final int column,
+        final long[] support
+    ) {
+        if (negative.bigCoefficients() == null && positive.bigCoefficients() == null) {
+            try {
+                final long negativeFactor = positive.coefficients()[column];
+                final long positiveFactor = Math.negateExact(negative.coefficients()[column]);
+                final long[] coefficients = new long[negative.coefficients().length];
+                long gcd = 0;
+                for (int i = 0; i < coefficients.length; i++) {
+                    coefficients[i] =
+                        Math.addExact(
+                            Math.multiplyExact(negative.coefficients()[i], negativeFactor),
+                            Math.multiplyExact(positive.coefficients()[i], positiveFactor)
+                        );
+                    gcd = PetriNetFarkasAlgorithm.gcd(gcd, Math.absExact(coefficients[i]));
+                }
+                if (gcd > 1) {
+                    for (int i = 0; i < coefficients.length; i++) {
+                        coefficients[i] /= gcd;
+                    }
+                }
+                return new FarkasRow(coefficients, null, support);
+            } catch (final ArithmeticException e) {
+                // the coefficients exceed long precision, so they are computed with BigInteger coefficients
             }
-
-        };
+        }
+        final BigInteger negativeFactor = positive.get(column);
+        final BigInteger positiveFactor = negative.get(column).negate();
+        final BigInteger[] coefficients = new BigInteger[negative.size()];
+        BigInteger gcd = BigInteger.ZERO;
+        boolean fitsLong = true;
+        for (int i = 0; i < coefficients.length; i++) {
+            coefficients[i] = negative.get(i).multiply(negativeFactor).add(positive.get(i).multiply(positiveFactor));
+            gcd = gcd.gcd(coefficients[i]);
+        }
+        for (int i = 0; i < coefficients.length; i++) {
+            if (gcd.compareTo(BigInteger.ONE) > 0) {
+                coefficients[i] = coefficients[i].divide(gcd);
+            }
+            fitsLong &= coefficients[i].bitLength() < Long.SIZE;
+        }
+        if (fitsLong) {
+            return new FarkasRow(Arrays.stream(coefficients).mapToLong(BigInteger::longValue).toArray(), null, support);
+        }
+        return new FarkasRow(null, coefficients, support);
+    }
 
     private static int computeRankUpToRow(final Matrix matrix, final int rowLimit) {
         return
@@ -31,26 +83,70 @@ public abstract class PetriNetFarkasAlgorithm extends PetriNetAlgorithm<List<Mat
             .getNumberOfRows();
     }
 
-    private static BigInteger gcd(final BigFraction[] row) {
-        return PetriNetFarkasAlgorithm.gcd(
-            Arrays.stream(row).map(n -> n.abs().getNumerator()).filter(n -> n.compareTo(BigInteger.ZERO) > 0).toList()
-        );
+    private static List<FarkasRow> eliminate(final List<FarkasRow> rows, final int column) {
+        final List<FarkasRow> result = new ArrayList<FarkasRow>();
+        final List<FarkasRow> negative = new ArrayList<FarkasRow>();
+        final List<FarkasRow> positive = new ArrayList<FarkasRow>();
+        for (final FarkasRow row : rows) {
+            final int signum = row.get(column).signum();
+            if (signum < 0) {
+                negative.add(row);
+            } else if (signum > 0) {
+                positive.add(row);
+            } else {
+                result.add(row);
+            }
+        }
+        int pruned = 0;
+        for (final FarkasRow rowNeg : negative) {
+            for (final FarkasRow rowPos : positive) {
+                final long[] support = new long[rowNeg.support().length];
+                for (int word = 0; word < support.length; word++) {
+                    support[word] = rowNeg.support()[word] | rowPos.support()[word];
+                }
+                if (PetriNetFarkasAlgorithm.isNonMinimal(support, rows, rowNeg, rowPos)) {
+                    pruned++;
+                } else {
+                    result.add(PetriNetFarkasAlgorithm.combine(rowNeg, rowPos, column, support));
+                }
+            }
+        }
+        PhaseMetrics.count("combinations", (long)negative.size() * positive.size());
+        PhaseMetrics.count("prunedCombinations", pruned);
+        PhaseMetrics.count("rows", result.size());
+        return result;
     }
 
-    private static BigInteger gcd(final List<BigInteger> numbers) {
-        if (numbers.isEmpty()) {
-            return BigInteger.ONE;
+    private static long gcd(final long first, final long second) {
+        long a = first;
+        long b = second;
+        while (b != 0) {
+            final long rest = a % b;
+            a = b;
+            b = rest;
         }
-        final BigInteger max = numbers.stream().max(PetriNetFarkasAlgorithm.COMPARATOR).get();
-        final BigInteger min = numbers.stream().min(PetriNetFarkasAlgorithm.COMPARATOR).get();
-        if (max.equals(min)) {
-            return min;
+        return a;
+    }
+
+    private static boolean isNonMinimal(
+        final long[] support,
+        final List<FarkasRow> rows,
+        final FarkasRow first,
+        final FarkasRow second
+    ) {
+        for (final FarkasRow row : rows) {
+            if (row == first || row == second) {
+                continue;
+            }
+            boolean contained = true;
+            for (int word = 0; contained && word < support.length; word++) {
+                contained = (row.support()[word] & ~support[word]) == 0;
+            }
+            if (contained) {
+                return true;
+            }
         }
-        return PetriNetFarkasAlgorithm.gcd(
-            numbers.stream()
-            .<BigInteger>map(number -> number.compareTo(min) > 0 ? number.subtract(min) : number)
-            .toList()
-        );
+        return false;
     }
 
     private static Matrix removeDependentRows(final Matrix matrix) {
@@ -66,6 +162,18 @@ public abstract class PetriNetFarkasAlgorithm extends PetriNetAlgorithm<List<Mat
         return result;
     }
 
+    private static Matrix toMatrix(final List<FarkasRow> rows, final Matrix initial) {
+        final BigFraction[][] coefficients = new BigFraction[rows.size()][];
+        for (int row = 0; row < coefficients.length; row++) {
+            final FarkasRow farkasRow = rows.get(row);
+            coefficients[row] = new BigFraction[farkasRow.size()];
+            for (int column = 0; column < coefficients[row].length; column++) {
+                coefficients[row][column] = new BigFraction(farkasRow.get(column));
+            }
+        }
+        return new Matrix(coefficients, initial.columnPositions, initial.separatorIndex);
+    }
+
     protected PetriNetFarkasAlgorithm() {}
 
     @Override
@@ -84,51 +192,27 @@ public abstract class PetriNetFarkasAlgorithm extends PetriNetAlgorithm<List<Mat
             column[i] = BigFraction.ONE;
             identity.add(column);
         }
-        Matrix current = incidence.insertColumnsAtIndex(identity, incidence.separatorIndex);
-        result.add(current);
+        final Matrix initial = incidence.insertColumnsAtIndex(identity, incidence.separatorIndex);
+        result.add(initial);
         final int numberOfTransitions = incidence.getNumberOfColumns();
         final int numberOfColumns = numberOfPlaces + numberOfTransitions;
-        for (int column = 0; column < numberOfTransitions; column++) {
-            if (current.getNumberOfRows() == 0) {
-                break;
-            }
-            final List<Integer> negative = new LinkedList<Integer>();
-            final List<Integer> positive = new LinkedList<Integer>();
-            for (int row = 0; row < current.getNumberOfRows(); row++) {
-                final BigFraction coefficient = current.getCoefficient(column, row);
-                if (coefficient.compareTo(BigFraction.ZERO) < 0) {
-                    negative.add(row);
-                } else if (coefficient.compareTo(BigFraction.ZERO) > 0) {
-                    positive.add(row);
-                }
-            }
-            for (final Integer rowNeg : negative) {
-                for (final Integer rowPos : positive) {
-                    final BigFraction[] rowToAdd = new BigFraction[numberOfColumns];
-                    final BigFraction negCoefficient = current.getCoefficient(column, rowNeg).abs();
-                    final BigFraction posCoefficient = current.getCoefficient(column, rowPos).abs();
-                    for (int columnForAddition = 0; columnForAddition < numberOfColumns; columnForAddition++) {
-                        rowToAdd[columnForAddition] =
-                            current.getCoefficient(columnForAddition, rowNeg)
-                            .multiply(posCoefficient)
-                            .add(current.getCoefficient(columnForAddition, rowPos).multiply(negCoefficient));
-                    }
-                    final BigInteger gcd = PetriNetFarkasAlgorithm.gcd(rowToAdd);
-                    for (int columnForAddition = 0; columnForAddition < numberOfColumns; columnForAddition++) {
-                        rowToAdd[columnForAddition] = rowToAdd[columnForAddition].divide(gcd);
-                    }
-                    current = current.insertRowsAtIndex(Collections.singletonList(rowToAdd), current.getNumberOfRows());
-                }
-            }
-            for (int row = current.getNumberOfRows() - 1; row >= 0; row--) {
-                if (current.getCoefficient(column, row).compareTo(BigFraction.ZERO) != 0) {
-                    current = current.removeRowsFromIndex(1, row);
-                }
+        List<FarkasRow> rows = new ArrayList<FarkasRow>(numberOfPlaces);
+        for (int row = 0; row < numberOfPlaces; row++) {
+            final long[] coefficients = new long[numberOfColumns];
+            for (int column = 0; column < numberOfColumns; column++) {
+                coefficients[column] = initial.getCoefficient(column, row).getNumerator().longValueExact();
             }
-            result.add(current);
+            final long[] support = new long[(numberOfPlaces + Long.SIZE - 1) / Long.SIZE];
+            support[row / Long.SIZE] = 1L << row;
+            rows.add(new FarkasRow(coefficients, null, support));
         }
-        if (current.getNumberOfRows() > 0) {
-            current = current.removeColumnsFromIndex(numberOfTransitions, 0);
+        for (int column = 0; column < numberOfTransitions && !rows.isEmpty(); column++) {
+            rows = PetriNetFarkasAlgorithm.eliminate(rows, column);
+            result.add(PetriNetFarkasAlgorithm.toMatrix(rows, initial));
+        }
+        if (!rows.isEmpty()) {
+            final Matrix current =
+                PetriNetFarkasAlgorithm.toMatrix(rows, initial).removeColumnsFromIndex(numberOfTransitions, 0);
             result.add(
                 PetriNetFarkasAlgorithm.removeDependentRows(current.setSeparatorIndex(current.getNumberOfColumns()))
             );
@@ -158,8 +242,7 @@ public abstract class PetriNetFarkasAlgorithm extends PetriNetAlgorithm<List<Mat
 
     @Override
     public void printBeforeMultipleProblemInstances(
-        final List<PetriNetInput> problems,
-        final List<List<Matrix>> solutions,
+        final InstancesSummary summary,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException {
@@ -221,4 +304,18 @@ public abstract class PetriNetFarkasAlgorithm extends PetriNetAlgorithm<List<Mat
 
     protected abstract String kindOfInvariant();
 
+    private record FarkasRow(long[] coefficients, BigInteger[] bigCoefficients, long[] support) {
+
+        BigInteger get(final int column) {
+            return this.bigCoefficients == null ?
+                BigInteger.valueOf(this.coefficients[column]) :
+                    this.bigCoefficients[column];
+        }
+
+        int size() {
+            return this.bigCoefficients == null ? this.coefficients.length : this.bigCoefficients.length;
+        }
+
+    }
+
 }
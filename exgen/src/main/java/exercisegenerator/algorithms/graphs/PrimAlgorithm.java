@@ -6,6 +6,7 @@ import java.util.*;
 import clit.*;
 import exercisegenerator.*;
 import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
 import exercisegenerator.structures.graphs.*;
 import exercisegenerator.structures.graphs.layout.*;
 
@@ -15,6 +16,12 @@ public class PrimAlgorithm implements GraphAlgorithm<PrimResult<String>> {
 
     static final PrimEntry INFINITY = new PrimEntry(0, true, false);
 
+    private static final int HEAP_ARITY;
+
+    static {
+        HEAP_ARITY = 4;
+    }
+
     private static void printTable(
         final PrimEntry[][] table,
         final List<Vertex<String>> vertices,
@@ -45,53 +52,80 @@ public class PrimAlgorithm implements GraphAlgorithm<PrimResult<String>> {
         LaTeXUtils.printArrayStretch(1, writer);
     }
 
+    private static PrimEntry[][] toTable(final PrimSteps steps) {
+        final int size = steps.selected().length;
+        final PrimEntry[][] result = new PrimEntry[size][size];
+        final PrimEntry[] current = new PrimEntry[size];
+        Arrays.fill(current, PrimAlgorithm.INFINITY);
+        current[steps.selected()[0]] = new PrimEntry(0);
+        for (int i = 0; i < size; i++) {
+            for (int delta = steps.deltaOffsets()[i]; delta < steps.deltaOffsets()[i + 1]; delta++) {
+                current[steps.deltaVertices()[delta]] = new PrimEntry(steps.deltaValues()[delta]);
+            }
+            final int selected = steps.selected()[i];
+            current[selected] = current[selected].toDone();
+            System.arraycopy(current, 0, result[i], 0, size);
+            // vertices in the tree are not shown anymore
+            current[selected] = null;
+        }
+        return result;
+    }
+
     private PrimAlgorithm() {}
 
+    /**
+     * Computes the steps of Prim's algorithm with an indexed heap on the indices of the vertices in the order of the
+     * table columns, such that ties are broken in favor of the left columns. Only the entries changed in each
+     * iteration are recorded. The table is rendered from these changes when it is accessed.
+     */
     @Override
     public PrimResult<String> apply(final GraphProblem problem) {
         final Graph<String, Integer> originalGraph = problem.graphWithLayout().graph();
-        final List<Vertex<String>> vertices =
-            new ArrayList<Vertex<String>>(originalGraph.getVertices());
-        Collections.sort(vertices, problem.comparator());
-        final int numberOfVertices = vertices.size();
+        final IndexedGraph<String> graph = Graph.index(originalGraph, problem.comparator());
+        final int size = graph.size();
         final Graph<String, Integer> tree = originalGraph.nodeCopy();
-        int recentlyAdded = vertices.indexOf(problem.startNode().get());
-        final int[] parents = new int[numberOfVertices];
-        final PrimEntry[][] table = new PrimEntry[numberOfVertices][numberOfVertices];
-        for (int i = 0; i < numberOfVertices; i++) {
-            table[0][i] = i == recentlyAdded ? new PrimEntry(0, false, true) : PrimAlgorithm.INFINITY;
-            parents[i] = -1;
-        }
-        for (int i = 1; i < numberOfVertices; i++) {
-            for (final Edge<Integer, String> edge : originalGraph.getAdjacencySet(vertices.get(recentlyAdded))) {
-                final int toIndex = vertices.indexOf(edge.to());
-                final PrimEntry toEntry = table[i - 1][toIndex];
-                if (toEntry != null && !toEntry.done() && toEntry.compareTo(edge.label().get()) > 0) {
-                    table[i][toIndex] = new PrimEntry(edge.label().get());
-                    parents[toIndex] = recentlyAdded;
+        final int[] parents = new int[size];
+        final int[] values = new int[size];
+        final boolean[] done = new boolean[size];
+        final int[] selected = new int[size];
+        final int[] deltaOffsets = new int[size + 1];
+        final int[] deltaVertices = new int[graph.numberOfEdges()];
+        final int[] deltaValues = new int[graph.numberOfEdges()];
+        final IndexedHeap heap = new IndexedHeap(size, PrimAlgorithm.HEAP_ARITY);
+        int recentlyAdded = graph.index(problem.startNode().get());
+        int deltas = 0;
+        selected[0] = recentlyAdded;
+        done[recentlyAdded] = true;
+        for (int i = 1; i < size; i++) {
+            deltaOffsets[i] = deltas;
+            for (int edge = graph.edgesBegin(recentlyAdded); edge < graph.edgesEnd(recentlyAdded); edge++) {
+                final int to = graph.target(edge);
+                final int value = graph.weight(edge);
+                if (!done[to] && (!heap.contains(to) || values[to] > value)) {
+                    heap.insertOrDecrease(to, value);
+                    parents[to] = recentlyAdded;
+                    values[to] = value;
+                    deltaVertices[deltas] = to;
+                    deltaValues[deltas] = value;
+                    deltas++;
                 }
             }
-            Integer min = null;
-            int minIndex = -1;
-            for (int vertex = 0; vertex < numberOfVertices; vertex++) {
-                if (table[i][vertex] == null && table[i - 1][vertex] != null && !table[i - 1][vertex].done()) {
-                    table[i][vertex] = table[i - 1][vertex];
-                }
-                final PrimEntry current = table[i][vertex];
-                if (current != null && !current.done() && current.compareTo(min) < 0) {
-                    min = current.value();
-                    minIndex = vertex;
-                }
+            if (heap.isEmpty()) {
+                throw new IllegalArgumentException("The graph must be connected to compute a spanning tree!");
             }
-            table[i][minIndex] = table[i][minIndex].toDone();
-            final Vertex<String> from = vertices.get(parents[minIndex]);
-            final Vertex<String> to = vertices.get(minIndex);
-            tree.addEdge(from, Optional.of(min), to);
-            tree.addEdge(to, Optional.of(min), from);
-            recentlyAdded = minIndex;
+            final int next = heap.poll();
+            final Vertex<String> from = graph.vertex(parents[next]);
+            final Vertex<String> to = graph.vertex(next);
+            tree.addEdge(from, Optional.of(values[next]), to);
+            tree.addEdge(to, Optional.of(values[next]), from);
+            done[next] = true;
+            selected[i] = next;
+            recentlyAdded = next;
         }
+        deltaOffsets[size] = deltas;
+        final PrimSteps steps = new PrimSteps(selected, deltaOffsets, deltaVertices, deltaValues);
         return new PrimResult<String>(
-            table,
+            () -> PrimAlgorithm.toTable(steps),
             new GraphWithLayout<>(tree, problem.graphWithLayout().layout())
         );
     }
@@ -143,8 +177,7 @@ public class PrimAlgorithm implements GraphAlgorithm<PrimResult<String>> {
 
     @Override
     public void printBeforeMultipleProblemInstances(
-        final List<GraphProblem> problems,
-        final List<PrimResult<String>> solutions,
+        final InstancesSummary summary,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException {
@@ -198,4 +231,6 @@ public class PrimAlgorithm implements GraphAlgorithm<PrimResult<String>> {
         LaTeXUtils.printSolutionSpaceEnd(Optional.of("10ex"), options, writer);
     }
 
+    private record PrimSteps(int[] selected, int[] deltaOffsets, int[] deltaVertices, int[] deltaValues) {}
+
 }
@@ -7,6 +7,7 @@ import java.util.stream.*;
 import clit.*;
 import exercisegenerator.*;
 import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
 import exercisegenerator.structures.graphs.*;
 
 public class TopologicSort implements GraphAlgorithm<List<String>> {
@@ -44,8 +45,7 @@ public class TopologicSort implements GraphAlgorithm<List<String>> {
 
     @Override
     public void printBeforeMultipleProblemInstances(
-        final List<GraphProblem> problems,
-        final List<List<String>> solutions,
+        final InstancesSummary summary,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException {
@@ -8,6 +8,7 @@ import clit.*;
 import exercisegenerator.*;
 import exercisegenerator.algorithms.*;
 import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
 import exercisegenerator.structures.graphs.*;
 import exercisegenerator.structures.graphs.layout.*;
 import exercisegenerator.structures.graphs.layout.GridGraphLayout.*;
@@ -101,12 +102,12 @@ public class UnionFindAlgorithm implements AlgorithmImplementation<UnionFindProb
     }
 
     @Override
-    public UnionFindProblem generateProblem(final Parameters<Flag> options) {
+    public UnionFindProblem generateProblem(final Parameters<Flag> options, final GenerationContext context) {
         final int length = UnionFindAlgorithm.parseOrGenerateLength(options);
         final UnionFind<Integer> state = new UnionFind<Integer>(IntStream.range(0, length).boxed().toList());
         for (int i = 0; i < 3; i++) {
-            final int firstElement = Main.RANDOM.nextInt(length);
-            int secondElement = Main.RANDOM.nextInt(length - 1);
+            final int firstElement = context.random.nextInt(length);
+            int secondElement = context.random.nextInt(length - 1);
             if (secondElement >= firstElement) {
                 secondElement++;
             }
@@ -115,11 +116,11 @@ public class UnionFindAlgorithm implements AlgorithmImplementation<UnionFindProb
         final int numOfOperations = options.getAsIntOrDefault(Flag.DEGREE, 3);
         final List<UnionFindOperation<Integer>> operations = new LinkedList<UnionFindOperation<Integer>>();
         for (int i = 0; i < numOfOperations; i++) {
-            if (Main.RANDOM.nextInt(5) == 0) {
-                operations.add(new FindOperation<Integer>(Main.RANDOM.nextInt(length)));
+            if (context.random.nextInt(5) == 0) {
+                operations.add(new FindOperation<Integer>(context.random.nextInt(length)));
             } else {
-                final int firstElement = Main.RANDOM.nextInt(length);
-                int secondElement = Main.RANDOM.nextInt(length - 1);
+                final int firstElement = context.random.nextInt(length);
+                int secondElement = context.random.nextInt(length - 1);
                 if (secondElement >= firstElement) {
                     secondElement++;
                 }
@@ -177,8 +178,7 @@ public class UnionFindAlgorithm implements AlgorithmImplementation<UnionFindProb
 
     @Override
     public void printBeforeMultipleProblemInstances(
-        final List<UnionFindProblem> problems,
-        final List<UnionFind<Integer>> solutions,
+        final InstancesSummary summary,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException {
@@ -1,6 +1,7 @@
 package exercisegenerator.algorithms.graphs;
 
 import java.util.*;
+import java.util.stream.*;
 
 import exercisegenerator.structures.graphs.*;
 
@@ -8,6 +9,45 @@ public class WarshallAlgorithm implements FloydWarshallAlgorithm<Boolean> {
 
     public static final WarshallAlgorithm INSTANCE = new WarshallAlgorithm();
 
+    private static final int BLOCK_ROWS;
+
+    private static final int MIN_SIZE_FOR_PARALLELISM;
+
+    static {
+        BLOCK_ROWS = 64;
+        MIN_SIZE_FOR_PARALLELISM = 512;
+    }
+
+    private static void join(
+        final long[][] rows,
+        final int size,
+        final int via,
+        final int block,
+        final FloydWarshallSteps.Builder changes
+    ) {
+        final long[] viaRow = rows[via];
+        final int word = via >>> 6;
+        final long bit = 1L << via;
+        final int lastRow = Math.min(size, (block + 1) * WarshallAlgorithm.BLOCK_ROWS);
+        for (int from = block * WarshallAlgorithm.BLOCK_ROWS; from < lastRow; from++) {
+            final long[] row = rows[from];
+            if ((row[word] & bit) == 0) {
+                continue;
+            }
+            for (int i = 0; i < row.length; i++) {
+                long added = viaRow[i] & ~row[i];
+                if (added == 0) {
+                    continue;
+                }
+                row[i] |= added;
+                while (added != 0) {
+                    changes.add(from * size + (i << 6) + Long.numberOfTrailingZeros(added), 1);
+                    added &= added - 1;
+                }
+            }
+        }
+    }
+
     private WarshallAlgorithm() {}
 
     @Override
@@ -26,27 +66,54 @@ public class WarshallAlgorithm implements FloydWarshallAlgorithm<Boolean> {
     }
 
     @Override
-    public Boolean initialValue(
-        final Graph<String, Integer> graph,
-        final List<Vertex<String>> vertices,
-        final int from,
-        final int to
-    ) {
-        return from == to || !graph.getEdges(vertices.get(from), vertices.get(to)).isEmpty();
+    public long initialValue(final boolean diagonal, final Optional<List<Integer>> labels) {
+        return diagonal || labels.isPresent() ? 1 : 0;
+    }
+
+    /**
+     * Each row is a bitset, so every row reaching the intermediate vertex is joined with the row of the intermediate
+     * vertex one word at a time. The row of the intermediate vertex cannot change in its own iteration, so the rows
+     * can be joined in place and in parallel.
+     */
+    @Override
+    public FloydWarshallSteps iterate(final int size, final long[] initial) {
+        final int words = (size + 63) >>> 6;
+        final long[][] rows = new long[size][words];
+        for (int from = 0; from < size; from++) {
+            for (int to = 0; to < size; to++) {
+                if (initial[from * size + to] != 0) {
+                    rows[from][to >>> 6] |= 1L << to;
+                }
+            }
+        }
+        final int blocks = (size + WarshallAlgorithm.BLOCK_ROWS - 1) / WarshallAlgorithm.BLOCK_ROWS;
+        final FloydWarshallSteps.Builder[] blockChanges = new FloydWarshallSteps.Builder[blocks];
+        for (int block = 0; block < blocks; block++) {
+            blockChanges[block] = new FloydWarshallSteps.Builder();
+        }
+        final FloydWarshallSteps.Builder changes = new FloydWarshallSteps.Builder();
+        for (int via = 0; via < size; via++) {
+            final int current = via;
+            final IntStream stream = IntStream.range(0, blocks);
+            (size < WarshallAlgorithm.MIN_SIZE_FOR_PARALLELISM ? stream : stream.parallel()).forEach(
+                block -> WarshallAlgorithm.join(rows, size, current, block, blockChanges[block])
+            );
+            for (final FloydWarshallSteps.Builder block : blockChanges) {
+                changes.addAll(block);
+            }
+            changes.nextIteration();
+        }
+        return changes.build(size, initial);
     }
 
     @Override
-    public String toString(final Boolean entry) {
-        return entry ? "true" : "false";
+    public String toString(final long value) {
+        return value != 0 ? "true" : "false";
     }
 
     @Override
-    public Boolean update(final Boolean[][][] tables, final int from, final int via, final int to) {
-        if (tables[via][from][via] && tables[via][via][to]) {
-            return true;
-        } else {
-            return tables[via][from][to];
-        }
+    public Boolean toValue(final long value) {
+        return value != 0;
     }
 
 }
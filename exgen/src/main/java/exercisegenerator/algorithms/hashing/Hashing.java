@@ -105,10 +105,13 @@ interface Hashing extends AlgorithmImplementation<HashProblem, HashResult> {
         return new HashResult(hashTable, new HashStatistics(numberOfCollisions, maxNumberOfProbingsForSameValue));
     }
 
-    static IntegerList[] parseOrGenerateInitialArray(final int numberOfValues, final Parameters<Flag> options)
-    throws IOException {
+    static IntegerList[] parseOrGenerateInitialArray(
+        final int numberOfValues,
+        final Parameters<Flag> options,
+        final SplittableRandom random
+    ) throws IOException {
         if (!options.containsKey(Flag.OPERATIONS)) {
-            return Hashing.createEmptyArray(Hashing.parseOrGenerateCapacity(numberOfValues, options));
+            return Hashing.createEmptyArray(Hashing.parseOrGenerateCapacity(numberOfValues, options, random));
         }
         return Arrays.stream(options.get(Flag.OPERATIONS).split(";"))
             .map(
@@ -118,27 +121,34 @@ interface Hashing extends AlgorithmImplementation<HashProblem, HashResult> {
             ).toArray(IntegerList[]::new);
     }
 
-    static BigFraction parseOrGenerateMultiplicationFactor(final Parameters<Flag> options) throws IOException {
+    static BigFraction parseOrGenerateMultiplicationFactor(
+        final Parameters<Flag> options,
+        final SplittableRandom random
+    ) throws IOException {
         return new ParserAndGenerator<BigFraction>(
             Hashing::parseMultiplicationFactor,
-            flags -> Hashing.getRandomFactorBetweenZeroAndOne()
+            flags -> Hashing.getRandomFactorBetweenZeroAndOne(random)
         ).getResult(options);
     }
 
-    static Integer parseOrGenerateNumberOfValues(final Parameters<Flag> options) throws IOException {
+    static Integer parseOrGenerateNumberOfValues(
+        final Parameters<Flag> options,
+        final SplittableRandom random
+    ) throws IOException {
         return new ParserAndGenerator<Integer>(
             Hashing::parseNumberOfValues,
-            Hashing::generateNumberOfValues
+            flags -> Hashing.generateNumberOfValues(flags, random)
         ).getResult(options);
     }
 
     static ProbingFactors parseOrGenerateProbingFactors(
         final int capacity,
-        final Parameters<Flag> options
+        final Parameters<Flag> options,
+        final SplittableRandom random
     ) throws IOException {
         return new ParserAndGenerator<ProbingFactors>(
             (reader, flags) -> Hashing.parseProbingFactors(reader, flags),
-            flags -> Hashing.generateProbingFactors(capacity, flags)
+            flags -> Hashing.generateProbingFactors(capacity, flags, random)
         ).getResult(options);
     }
 
@@ -147,7 +157,8 @@ interface Hashing extends AlgorithmImplementation<HashProblem, HashResult> {
         final int capacity,
         final HashFunction hashFunction,
         final Optional<ProbingFunctionWithParameters> optionalProbingFunction,
-        final Parameters<Flag> options
+        final Parameters<Flag> options,
+        final SplittableRandom random
     ) throws IOException {
         return new ParserAndGenerator<List<Integer>>(
             Hashing::parseValues,
@@ -156,7 +167,8 @@ interface Hashing extends AlgorithmImplementation<HashProblem, HashResult> {
                 capacity,
                 hashFunction,
                 optionalProbingFunction,
-                flags
+                flags,
+                random
             )
         ).getResult(options);
     }
@@ -200,7 +212,8 @@ interface Hashing extends AlgorithmImplementation<HashProblem, HashResult> {
         final HashFunction hashFunction,
         final ProbingFunction probingFunction,
         final List<Integer> values,
-        final List<Integer> indices
+        final List<Integer> indices,
+        final SplittableRandom random
     ) {
         int secondIndex = index;
         int iteration = 1;
@@ -211,7 +224,7 @@ interface Hashing extends AlgorithmImplementation<HashProblem, HashResult> {
             secondIndex = (index + probingFunction.apply(iteration)) % capacity;
             iteration++;
         }
-        final Optional<Integer> optionalValue = Hashing.getRandomValueForIndex(index, hashFunction);
+        final Optional<Integer> optionalValue = Hashing.getRandomValueForIndex(index, hashFunction, random);
         if (optionalValue.isEmpty()) {
             return false;
         }
@@ -225,27 +238,36 @@ interface Hashing extends AlgorithmImplementation<HashProblem, HashResult> {
         final HashFunction hashFunction,
         final ProbingFunction probingFunction,
         final List<Integer> values,
-        final List<Integer> indices
+        final List<Integer> indices,
+        final SplittableRandom random
     ) {
         final int firstIndex;
         if (indices.isEmpty()) {
-            final int firstValue = Hashing.generateRandomValue();
+            final int firstValue = Hashing.generateRandomValue(random);
             values.add(firstValue);
             firstIndex = hashFunction.apply(firstValue);
             indices.add(firstIndex);
         } else {
-            firstIndex = indices.get(Main.RANDOM.nextInt(indices.size()));
+            firstIndex = indices.get(random.nextInt(indices.size()));
         }
         final int secondIndex = (firstIndex + probingFunction.apply(1)) % capacity;
         if (!indices.contains(secondIndex)) {
-            final Optional<Integer> optionalValue = Hashing.getRandomValueForIndex(secondIndex, hashFunction);
+            final Optional<Integer> optionalValue = Hashing.getRandomValueForIndex(secondIndex, hashFunction, random);
             if (optionalValue.isEmpty()) {
                 return false;
             }
             indices.add(secondIndex);
             values.add(optionalValue.get());
         }
-        return Hashing.addRandomValueForIndex(capacity, firstIndex, hashFunction, probingFunction, values, indices);
+        return Hashing.addRandomValueForIndex(
+            capacity,
+            firstIndex,
+            hashFunction,
+            probingFunction,
+            values,
+            indices,
+            random
+        );
     }
 
     private static boolean addRandomValuesAndIndicesForProbingForProbedValue(
@@ -253,22 +275,26 @@ interface Hashing extends AlgorithmImplementation<HashProblem, HashResult> {
         final HashFunction hashFunction,
         final ProbingFunction probingFunction,
         final List<Integer> values,
-        final List<Integer> indices
+        final List<Integer> indices,
+        final SplittableRandom random
     ) {
         if (indices.isEmpty()) {
-            final int firstValue = Hashing.generateRandomValue();
+            final int firstValue = Hashing.generateRandomValue(random);
             values.add(firstValue);
             indices.add(hashFunction.apply(firstValue));
         }
-        final int index = indices.get(Main.RANDOM.nextInt(indices.size()));
-        if (Hashing.addRandomValueForIndex(capacity, index, hashFunction, probingFunction, values, indices)) {
+        final int index = indices.get(random.nextInt(indices.size()));
+        if (
+            Hashing.addRandomValueForIndex(capacity, index, hashFunction, probingFunction, values, indices, random)
+        ) {
             return Hashing.addRandomValueForIndex(
                 capacity,
                 indices.get(indices.size() - 1),
                 hashFunction,
                 probingFunction,
                 values,
-                indices
+                indices,
+                random
             );
         }
         return false;
@@ -279,18 +305,27 @@ interface Hashing extends AlgorithmImplementation<HashProblem, HashResult> {
         final HashFunction hashFunction,
         final ProbingFunction probingFunction,
         final List<Integer> values,
-        final List<Integer> indices
+        final List<Integer> indices,
+        final SplittableRandom random
     ) {
         final int lastIndex = capacity - 1;
         if (!indices.contains(lastIndex)) {
-            final Optional<Integer> optionalValue = Hashing.getRandomValueForIndex(lastIndex, hashFunction);
+            final Optional<Integer> optionalValue = Hashing.getRandomValueForIndex(lastIndex, hashFunction, random);
             if (optionalValue.isEmpty()) {
                 return false;
             }
             indices.add(lastIndex);
             values.add(optionalValue.get());
         }
-        return Hashing.addRandomValueForIndex(capacity, lastIndex, hashFunction, probingFunction, values, indices);
+        return Hashing.addRandomValueForIndex(
+            capacity,
+            lastIndex,
+            hashFunction,
+            probingFunction,
+            values,
+            indices,
+            random
+        );
     }
 
     private static int computeContentLength(final IntegerList[] array) {
@@ -306,51 +341,60 @@ interface Hashing extends AlgorithmImplementation<HashProblem, HashResult> {
         }
     }
 
-    private static int generateCapacity(final int numberOfValues, final Parameters<Flag> options) {
+    private static int generateCapacity(
+        final int numberOfValues,
+        final Parameters<Flag> options,
+        final SplittableRandom random
+    ) {
         final int length = (int)(numberOfValues * 1.25);
         final List<Integer> candidates =
             Arrays.stream(Hashing.CAPACITIES).filter(value -> value >= length).boxed().toList();
         if (candidates.isEmpty()) {
             return Hashing.CAPACITIES[Hashing.CAPACITIES.length - 1];
         }
-        return candidates.get(Main.RANDOM.nextInt(candidates.size()));
+        return candidates.get(random.nextInt(candidates.size()));
     }
 
-    private static Integer generateNumberOfValues(final Parameters<Flag> options) {
-        return AlgorithmImplementation.parseOrGenerateLength(5, 15, options);
+    private static Integer generateNumberOfValues(final Parameters<Flag> options, final SplittableRandom random) {
+        return AlgorithmImplementation.parseOrGenerateLength(5, 15, options, random);
     }
 
-    private static ProbingFactors generateProbingFactors(final int capacity, final Parameters<Flag> options) {
+    private static ProbingFactors generateProbingFactors(
+        final int capacity,
+        final Parameters<Flag> options,
+        final SplittableRandom random
+    ) {
         if (Hashing.isPowerOf2(capacity)) {
             return new ProbingFactors(BigFraction.ONE_HALF, BigFraction.ONE_HALF);
         }
         int linearFactor;
         do {
-            linearFactor = Main.RANDOM.nextInt(11);
+            linearFactor = random.nextInt(11);
         } while (linearFactor == capacity);
         int quadraticFactor;
         do {
-            quadraticFactor = Main.RANDOM.nextInt(10) + 1;
+            quadraticFactor = random.nextInt(10) + 1;
         } while (quadraticFactor == capacity);
         return new ProbingFactors(new BigFraction(linearFactor), new BigFraction(quadraticFactor));
     }
 
-    private static int generateRandomValue() {
-        return Main.RANDOM.nextInt(Main.NUMBER_LIMIT);
+    private static int generateRandomValue(final SplittableRandom random) {
+        return random.nextInt(Main.NUMBER_LIMIT);
     }
 
     private static Stream<Integer> generateRandomValues(
         final int numberOfValues,
         final HashFunction hashFunction,
-        final Collection<Integer> forbiddenIndices
+        final Collection<Integer> forbiddenIndices,
+        final SplittableRandom random
     ) {
         if (forbiddenIndices.isEmpty()) {
-            return Stream.generate(Hashing::generateRandomValue).limit(numberOfValues);
+            return Stream.generate(() -> Hashing.generateRandomValue(random)).limit(numberOfValues);
         }
         final List<Integer> currentForbiddenIndices = new LinkedList<Integer>(forbiddenIndices);
         final Stream.Builder<Integer> builder = Stream.builder();
         for (int i = 0, iterations = 0; i < numberOfValues && iterations < numberOfValues * 10; i++, iterations++) {
-            final int value = Hashing.generateRandomValue();
+            final int value = Hashing.generateRandomValue(random);
             final int index = hashFunction.apply(value);
             if (currentForbiddenIndices.contains(index)) {
                 i--;
@@ -367,12 +411,13 @@ interface Hashing extends AlgorithmImplementation<HashProblem, HashResult> {
         final int capacity,
         final HashFunction hashFunction,
         final Optional<ProbingFunctionWithParameters> optionalProbingFunction,
-        final Parameters<Flag> options
+        final Parameters<Flag> options,
+        final SplittableRandom random
     ) {
         if (numberOfValues < 5 || optionalProbingFunction.isEmpty()) {
-            return Hashing.generateRandomValues(numberOfValues, hashFunction, Collections.emptyList()).toList();
+            return Hashing.generateRandomValues(numberOfValues, hashFunction, Collections.emptyList(), random).toList();
         }
-        final int choice = Hashing.parseOrGenerateChoice(options);
+        final int choice = Hashing.parseOrGenerateChoice(options, random);
         final boolean multipleProbingsForSameValue = (4 & choice) > 0;
         final boolean probingOverflow = (2 & choice) > 0;
         final boolean probingForProbedValue = (1 & choice) > 0;
@@ -385,7 +430,8 @@ interface Hashing extends AlgorithmImplementation<HashProblem, HashResult> {
                 hashFunction,
                 probingFunction,
                 values,
-                indices
+                indices,
+                random
             );
         }
         if (probingOverflow) {
@@ -394,7 +440,8 @@ interface Hashing extends AlgorithmImplementation<HashProblem, HashResult> {
                 hashFunction,
                 probingFunction,
                 values,
-                indices
+                indices,
+                random
             );
         }
         if (probingForProbedValue) {
@@ -403,24 +450,30 @@ interface Hashing extends AlgorithmImplementation<HashProblem, HashResult> {
                 hashFunction,
                 probingFunction,
                 values,
-                indices
+                indices,
+                random
             );
         }
         final Stream<Integer> randomValues =
-            Hashing.generateRandomValues(Math.max(numberOfValues - values.size(), 0), hashFunction, indices);
+            Hashing.generateRandomValues(Math.max(numberOfValues - values.size(), 0), hashFunction, indices, random);
         final List<Integer> result = new LinkedList<Integer>();
-        final Iterator<Integer> iterator = Hashing.randomFlatteningZip(values.iterator(), randomValues.iterator());
+        final Iterator<Integer> iterator =
+            Hashing.randomFlatteningZip(values.iterator(), randomValues.iterator(), random);
         while (iterator.hasNext()) {
             result.add(iterator.next());
         }
         return result;
     }
 
-    private static BigFraction getRandomFactorBetweenZeroAndOne() {
-        return new BigFraction(Main.RANDOM.nextInt(99) + 1, 100);
+    private static BigFraction getRandomFactorBetweenZeroAndOne(final SplittableRandom random) {
+        return new BigFraction(random.nextInt(99) + 1, 100);
     }
 
-    private static Optional<Integer> getRandomValueForIndex(final int index, final HashFunction hashFunction) {
+    private static Optional<Integer> getRandomValueForIndex(
+        final int index,
+        final HashFunction hashFunction,
+        final SplittableRandom random
+    ) {
         final List<Integer> candidates =
             Stream
             .iterate(1, x -> x + 1)
@@ -430,7 +483,7 @@ interface Hashing extends AlgorithmImplementation<HashProblem, HashResult> {
         if (candidates.isEmpty()) {
             return Optional.empty();
         }
-        return Optional.of(candidates.get(Main.RANDOM.nextInt(candidates.size())));
+        return Optional.of(candidates.get(random.nextInt(candidates.size())));
     }
 
     private static boolean isPowerOf2(final int capacity) {
@@ -455,19 +508,22 @@ interface Hashing extends AlgorithmImplementation<HashProblem, HashResult> {
         return (int)Arrays.stream(reader.readLine().split(",")).count();
     }
 
-    private static int parseOrGenerateCapacity(final int numberOfValues, final Parameters<Flag> options)
-    throws IOException {
+    private static int parseOrGenerateCapacity(
+        final int numberOfValues,
+        final Parameters<Flag> options,
+        final SplittableRandom random
+    ) throws IOException {
         return new ParserAndGenerator<Integer>(
             Hashing::parseCapacity,
-            flags -> Hashing.generateCapacity(numberOfValues, flags)
+            flags -> Hashing.generateCapacity(numberOfValues, flags, random)
         ).getResult(options);
     }
 
-    private static int parseOrGenerateChoice(final Parameters<Flag> options) {
+    private static int parseOrGenerateChoice(final Parameters<Flag> options, final SplittableRandom random) {
         if (options.containsKey(Flag.CAPACITY)) {
             return options.getAsInt(Flag.CAPACITY);
         }
-        return Main.RANDOM.nextInt(7) + 1;
+        return random.nextInt(7) + 1;
     }
 
     private static ProbingFactors parseProbingFactors(final BufferedReader reader, final Parameters<Flag> options)
@@ -536,7 +592,8 @@ interface Hashing extends AlgorithmImplementation<HashProblem, HashResult> {
 
     private static Iterator<Integer> randomFlatteningZip(
         final Iterator<Integer> iterator1,
-        final Iterator<Integer> iterator2
+        final Iterator<Integer> iterator2,
+        final SplittableRandom random
     ) {
         return new Iterator<Integer>() {
 
@@ -548,7 +605,7 @@ interface Hashing extends AlgorithmImplementation<HashProblem, HashResult> {
             @Override
             public Integer next() {
                 if (iterator1.hasNext()) {
-                    if (iterator2.hasNext() && Main.RANDOM.nextBoolean()) {
+                    if (iterator2.hasNext() && random.nextBoolean()) {
                         return iterator2.next();
                     }
                     return iterator1.next();
@@ -585,34 +642,44 @@ interface Hashing extends AlgorithmImplementation<HashProblem, HashResult> {
     }
 
     @Override
-    default public List<HashProblem> parseOrGenerateProblems(final Parameters<Flag> options) throws IOException {
-        final int numOfValues = Hashing.parseOrGenerateNumberOfValues(options);
-        final IntegerList[] initialHashTable = Hashing.parseOrGenerateInitialArray(numOfValues, options);
+    default public Stream<HashProblem> parseOrGenerateProblems(
+        final Parameters<Flag> options,
+        final GenerationContext context
+    ) throws IOException {
+        final int numOfValues = Hashing.parseOrGenerateNumberOfValues(options, context.random);
+        final IntegerList[] initialHashTable =
+            Hashing.parseOrGenerateInitialArray(numOfValues, options, context.random);
         final int capacity = initialHashTable.length;
-        final HashFunctionWithParameters hashFunction = this.hashFunction(capacity, options);
+        final HashFunctionWithParameters hashFunction = this.hashFunction(capacity, options, context.random);
         final Optional<ProbingFunctionWithParameters> optionalProbingFunction =
-            this.optionalProbingFunction(capacity, options);
+            this.optionalProbingFunction(capacity, options, context.random);
         final List<Integer> values =
             Hashing.parseOrGenerateValues(
                 numOfValues,
                 capacity,
                 hashFunction.hashFunction(),
                 optionalProbingFunction,
-                options
+                options,
+                context.random
             );
-        return List.of(new HashProblem(initialHashTable, values, hashFunction, optionalProbingFunction));
+        return Stream.of(new HashProblem(initialHashTable, values, hashFunction, optionalProbingFunction));
     }
 
     @Override
-    default HashProblem generateProblem(final Parameters<Flag> options) {
+    default HashProblem generateProblem(final Parameters<Flag> options, final GenerationContext context) {
         throw new IllegalStateException("Should never be called!");
     }
 
-    HashFunctionWithParameters hashFunction(final int capacity, final Parameters<Flag> options) throws IOException;
+    HashFunctionWithParameters hashFunction(
+        final int capacity,
+        final Parameters<Flag> options,
+        final SplittableRandom random
+    ) throws IOException;
 
     Optional<ProbingFunctionWithParameters> optionalProbingFunction(
         final int capacity,
-        final Parameters<Flag> options
+        final Parameters<Flag> options,
+        final SplittableRandom random
     ) throws IOException;
 
     @Override
@@ -625,8 +692,7 @@ interface Hashing extends AlgorithmImplementation<HashProblem, HashResult> {
 
     @Override
     default void printBeforeMultipleProblemInstances(
-        final List<HashProblem> problems,
-        final List<HashResult> solutions,
+        final InstancesSummary summary,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException {
@@ -32,7 +32,8 @@ public class HashingDivisionLinear implements Hashing {
     @Override
     public HashFunctionWithParameters hashFunction(
         final int capacity,
-        final Parameters<Flag> options
+        final Parameters<Flag> options,
+        final SplittableRandom random
     ) throws IOException {
         return new HashFunctionWithParameters(
             new DivisionMethod(capacity),
@@ -47,7 +48,8 @@ public class HashingDivisionLinear implements Hashing {
     @Override
     public Optional<ProbingFunctionWithParameters> optionalProbingFunction(
         final int capacity,
-        final Parameters<Flag> options
+        final Parameters<Flag> options,
+        final SplittableRandom random
     ) throws IOException {
         return Optional.of(
             new ProbingFunctionWithParameters(
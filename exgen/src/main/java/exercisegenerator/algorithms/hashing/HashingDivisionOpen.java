@@ -32,7 +32,8 @@ public class HashingDivisionOpen implements Hashing {
     @Override
     public HashFunctionWithParameters hashFunction(
         final int capacity,
-        final Parameters<Flag> options
+        final Parameters<Flag> options,
+        final SplittableRandom random
     ) throws IOException {
         return new HashFunctionWithParameters(
             new DivisionMethod(capacity),
@@ -45,7 +46,8 @@ public class HashingDivisionOpen implements Hashing {
     @Override
     public Optional<ProbingFunctionWithParameters> optionalProbingFunction(
         final int capacity,
-        final Parameters<Flag> options
+        final Parameters<Flag> options,
+        final SplittableRandom random
     ) throws IOException {
         return Optional.empty();
     }
@@ -32,7 +32,8 @@ public class HashingDivisionQuadratic implements Hashing {
     @Override
     public HashFunctionWithParameters hashFunction(
         final int capacity,
-        final Parameters<Flag> options
+        final Parameters<Flag> options,
+        final SplittableRandom random
     ) throws IOException {
         return new HashFunctionWithParameters(
             new DivisionMethod(capacity),
@@ -47,9 +48,10 @@ public class HashingDivisionQuadratic implements Hashing {
     @Override
     public Optional<ProbingFunctionWithParameters> optionalProbingFunction(
         final int capacity,
-        final Parameters<Flag> options
+        final Parameters<Flag> options,
+        final SplittableRandom random
     ) throws IOException {
-        final ProbingFactors probingFactors = Hashing.parseOrGenerateProbingFactors(capacity, options);
+        final ProbingFactors probingFactors = Hashing.parseOrGenerateProbingFactors(capacity, options, random);
         final Map<String, BigFraction> parameters = new LinkedHashMap<String, BigFraction>();
         parameters.put("c_1", probingFactors.linearProbingFactor);
         parameters.put("c_2", probingFactors.quadraticProbingFactor);
@@ -32,9 +32,10 @@ public class HashingMultiplicationLinear implements Hashing {
     @Override
     public HashFunctionWithParameters hashFunction(
         final int capacity,
-        final Parameters<Flag> options
+        final Parameters<Flag> options,
+        final SplittableRandom random
     ) throws IOException {
-        final BigFraction factor = Hashing.parseOrGenerateMultiplicationFactor(options);
+        final BigFraction factor = Hashing.parseOrGenerateMultiplicationFactor(options, random);
         final Map<String, BigFraction> parameters = new LinkedHashMap<String, BigFraction>();
         parameters.put("m", new BigFraction(capacity));
         parameters.put("c", factor);
@@ -56,7 +57,8 @@ public class HashingMultiplicationLinear implements Hashing {
     @Override
     public Optional<ProbingFunctionWithParameters> optionalProbingFunction(
         final int capacity,
-        final Parameters<Flag> options
+        final Parameters<Flag> options,
+        final SplittableRandom random
     ) throws IOException {
         return Optional.of(
             new ProbingFunctionWithParameters(
@@ -32,9 +32,10 @@ public class HashingMultiplicationQuadratic implements Hashing {
     @Override
     public HashFunctionWithParameters hashFunction(
         final int capacity,
-        final Parameters<Flag> options
+        final Parameters<Flag> options,
+        final SplittableRandom random
     ) throws IOException {
-        final BigFraction factor = Hashing.parseOrGenerateMultiplicationFactor(options);
+        final BigFraction factor = Hashing.parseOrGenerateMultiplicationFactor(options, random);
         final Map<String, BigFraction> parameters = new LinkedHashMap<String, BigFraction>();
         parameters.put("m", new BigFraction(capacity));
         parameters.put("c", factor);
@@ -57,9 +58,10 @@ public class HashingMultiplicationQuadratic implements Hashing {
     @Override
     public Optional<ProbingFunctionWithParameters> optionalProbingFunction(
         final int capacity,
-        final Parameters<Flag> options
+        final Parameters<Flag> options,
+        final SplittableRandom random
     ) throws IOException {
-        final ProbingFactors probingFactors = Hashing.parseOrGenerateProbingFactors(capacity, options);
+        final ProbingFactors probingFactors = Hashing.parseOrGenerateProbingFactors(capacity, options, random);
         final Map<String, BigFraction> parameters = new LinkedHashMap<String, BigFraction>();
         parameters.put("c_1", probingFactors.linearProbingFactor);
         parameters.put("c_2", probingFactors.quadraticProbingFactor);
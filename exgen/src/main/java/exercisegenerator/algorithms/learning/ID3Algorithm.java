@@ -9,6 +9,7 @@ import clit.*;
 import exercisegenerator.*;
 import exercisegenerator.algorithms.*;
 import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
 import exercisegenerator.structures.learning.*;
 
 public class ID3Algorithm implements AlgorithmImplementation<DecisionTreeData, DecisionTree>{
@@ -224,26 +225,26 @@ public class ID3Algorithm implements AlgorithmImplementation<DecisionTreeData, D
     }
 
     @Override
-    public DecisionTreeData generateProblem(final Parameters<Flag> options) {
-        final int numberOfElements = AlgorithmImplementation.parseOrGenerateLength(10, 30, options);
+    public DecisionTreeData generateProblem(final Parameters<Flag> options, final GenerationContext context) {
+        final int numberOfElements = AlgorithmImplementation.parseOrGenerateLength(10, 30, options, context.random);
         final List<String> attributes = new ArrayList<String>(ID3Algorithm.CATEGORIES.keySet());
-        final int numberOfAttributes = Main.RANDOM.nextInt(8) + 3;
+        final int numberOfAttributes = context.random.nextInt(8) + 3;
         while (attributes.size() > numberOfAttributes) {
-            attributes.remove(Main.RANDOM.nextInt(attributes.size()));
+            attributes.remove(context.random.nextInt(attributes.size()));
         }
         final List<Entry<String, List<String>>> labelsAsList = ID3Algorithm.LABELS.entrySet().stream().toList();
-        final Map.Entry<String, List<String>> labels = labelsAsList.get(Main.RANDOM.nextInt(labelsAsList.size()));
+        final Map.Entry<String, List<String>> labels = labelsAsList.get(context.random.nextInt(labelsAsList.size()));
         final List<DecisionTreeDataElement> result = new ArrayList<DecisionTreeDataElement>();
         for (int i = 0; i < numberOfElements; i++) {
             final Map<String, String> currentAttributes = new TreeMap<String, String>();
             for (final String attribute : attributes) {
                 final List<String> categories = ID3Algorithm.CATEGORIES.get(attribute);
-                currentAttributes.put(attribute, categories.get(Main.RANDOM.nextInt(categories.size())));
+                currentAttributes.put(attribute, categories.get(context.random.nextInt(categories.size())));
             }
             result.add(
                 new DecisionTreeDataElement(
                     currentAttributes,
-                    labels.getValue().get(Main.RANDOM.nextInt(labels.getValue().size()))
+                    labels.getValue().get(context.random.nextInt(labels.getValue().size()))
                 )
             );
         }
@@ -288,8 +289,7 @@ public class ID3Algorithm implements AlgorithmImplementation<DecisionTreeData, D
 
     @Override
     public void printBeforeMultipleProblemInstances(
-        final List<DecisionTreeData> problems,
-        final List<DecisionTree> solutions,
+        final InstancesSummary summary,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException {
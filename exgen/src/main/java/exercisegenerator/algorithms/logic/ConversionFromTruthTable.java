@@ -7,6 +7,7 @@ import clit.*;
 import exercisegenerator.*;
 import exercisegenerator.algorithms.*;
 import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
 import exercisegenerator.structures.logic.*;
 
 public class ConversionFromTruthTable implements AlgorithmImplementation<TruthTable, PropositionalFormula> {
@@ -36,7 +37,7 @@ public class ConversionFromTruthTable implements AlgorithmImplementation<TruthTa
 
                         @Override
                         public String onDisjunction(final List<String> children) {
-                            return String.format("%s", String.join("\\\\" + Main.lineSeparator + "\\vee & ", children));
+                            return String.format("%s", String.join("\\\\" + Main.lineSeparator() + "\\vee & ", children));
                         }
 
                         @Override
@@ -106,11 +107,12 @@ public class ConversionFromTruthTable implements AlgorithmImplementation<TruthTa
     }
 
     @Override
-    public TruthTable generateProblem(final Parameters<Flag> options) {
-        final Set<String> variables = new TreeSet<String>(PropositionalLogic.generateVariables(options));
+    public TruthTable generateProblem(final Parameters<Flag> options, final GenerationContext context) {
+        final Set<String> variables =
+            new TreeSet<String>(PropositionalLogic.generateVariables(options, context.random));
         final boolean[] truthValues = new boolean[(int)Math.pow(2, variables.size())];
         for (int i = 0; i < truthValues.length; i++) {
-            truthValues[i] = Main.RANDOM.nextBoolean();
+            truthValues[i] = context.random.nextBoolean();
         }
         final TruthTable result = new TruthTable(variables, truthValues );
         return result;
@@ -146,8 +148,7 @@ public class ConversionFromTruthTable implements AlgorithmImplementation<TruthTa
 
     @Override
     public void printBeforeMultipleProblemInstances(
-        final List<TruthTable> problems,
-        final List<PropositionalFormula> solutions,
+        final InstancesSummary summary,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException {
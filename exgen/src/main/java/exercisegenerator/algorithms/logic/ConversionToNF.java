@@ -7,6 +7,7 @@ import clit.*;
 import exercisegenerator.*;
 import exercisegenerator.algorithms.*;
 import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
 import exercisegenerator.structures.logic.*;
 
 public abstract class ConversionToNF
@@ -19,8 +20,8 @@ implements AlgorithmImplementation<PropositionalFormula, List<PropositionalFormu
     }
 
     @Override
-    public PropositionalFormula generateProblem(final Parameters<Flag> options) {
-        return PropositionalLogic.generateFormula(options);
+    public PropositionalFormula generateProblem(final Parameters<Flag> options, final GenerationContext context) {
+        return PropositionalLogic.generateFormula(options, context.random);
     }
 
     @Override
@@ -41,8 +42,7 @@ implements AlgorithmImplementation<PropositionalFormula, List<PropositionalFormu
 
     @Override
     public void printBeforeMultipleProblemInstances(
-        final List<PropositionalFormula> problems,
-        final List<List<PropositionalFormula>> solutions,
+        final InstancesSummary summary,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException {
@@ -7,6 +7,7 @@ import clit.*;
 import exercisegenerator.*;
 import exercisegenerator.algorithms.*;
 import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
 import exercisegenerator.structures.logic.*;
 
 public class ConversionToTruthTable implements AlgorithmImplementation<PropositionalFormula, TruthTable> {
@@ -34,8 +35,8 @@ public class ConversionToTruthTable implements AlgorithmImplementation<Propositi
     }
 
     @Override
-    public PropositionalFormula generateProblem(final Parameters<Flag> options) {
-        return PropositionalLogic.generateFormula(options);
+    public PropositionalFormula generateProblem(final Parameters<Flag> options, final GenerationContext context) {
+        return PropositionalLogic.generateFormula(options, context.random);
     }
 
     @Override
@@ -56,8 +57,7 @@ public class ConversionToTruthTable implements AlgorithmImplementation<Propositi
 
     @Override
     public void printBeforeMultipleProblemInstances(
-        final List<PropositionalFormula> problems,
-        final List<TruthTable> solutions,
+        final InstancesSummary summary,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException {
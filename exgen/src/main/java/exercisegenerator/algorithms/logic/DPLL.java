@@ -9,6 +9,7 @@ import clit.*;
 import exercisegenerator.*;
 import exercisegenerator.algorithms.*;
 import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
 import exercisegenerator.structures.logic.*;
 
 public class DPLL implements AlgorithmImplementation<ClauseSet, DPLLNode> {
@@ -92,15 +93,21 @@ public class DPLL implements AlgorithmImplementation<ClauseSet, DPLLNode> {
         return result;
     }
 
-    private static Clause generateClause(final List<PropositionalVariable> variables) {
-        final int numberOfLiterals = Main.RANDOM.nextInt(10) + 1;
-        return Stream.generate(() -> DPLL.generateLiteral(variables))
+    private static Clause generateClause(
+        final List<PropositionalVariable> variables,
+        final SplittableRandom random
+    ) {
+        final int numberOfLiterals = random.nextInt(10) + 1;
+        return Stream.generate(() -> DPLL.generateLiteral(variables, random))
             .limit(numberOfLiterals)
             .collect(Collectors.toCollection(Clause::new));
     }
 
-    private static Literal generateLiteral(final List<PropositionalVariable> variables) {
-        return new Literal(variables.get(Main.RANDOM.nextInt(variables.size())), Main.RANDOM.nextBoolean());
+    private static Literal generateLiteral(
+        final List<PropositionalVariable> variables,
+        final SplittableRandom random
+    ) {
+        return new Literal(variables.get(random.nextInt(variables.size())), random.nextBoolean());
     }
 
     private static Clause parseClause(final String toParse) {
@@ -190,15 +197,15 @@ public class DPLL implements AlgorithmImplementation<ClauseSet, DPLLNode> {
     }
 
     @Override
-    public ClauseSet generateProblem(final Parameters<Flag> options) {
-        final int numberOfVariables = AlgorithmImplementation.parseOrGenerateLength(2, 10, options);
+    public ClauseSet generateProblem(final Parameters<Flag> options, final GenerationContext context) {
+        final int numberOfVariables = AlgorithmImplementation.parseOrGenerateLength(2, 10, options, context.random);
         final List<PropositionalVariable> variables =
             Stream.iterate(65, x -> x + 1)
             .limit(numberOfVariables)
             .map(x -> new PropositionalVariable(Character.toString(x)))
             .toList();
-        final int numberOfClauses = Main.RANDOM.nextInt(16) + 5;
-        return Stream.generate(() -> DPLL.generateClause(variables))
+        final int numberOfClauses = context.random.nextInt(16) + 5;
+        return Stream.generate(() -> DPLL.generateClause(variables, context.random))
             .limit(numberOfClauses)
             .collect(Collectors.toCollection(ClauseSet::new));
     }
@@ -229,8 +236,7 @@ public class DPLL implements AlgorithmImplementation<ClauseSet, DPLLNode> {
 
     @Override
     public void printBeforeMultipleProblemInstances(
-        final List<ClauseSet> problems,
-        final List<DPLLNode> solutions,
+        final InstancesSummary summary,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException {
@@ -29,50 +29,50 @@ abstract class PropositionalLogic {
             PropositionalLogic::simplifyChildRecursively
         );
 
-    static PropositionalFormula generateFormula(final Parameters<Flag> options) {
-        final List<String> variables = PropositionalLogic.generateVariables(options);
+    static PropositionalFormula generateFormula(final Parameters<Flag> options, final SplittableRandom random) {
+        final List<String> variables = PropositionalLogic.generateVariables(options, random);
         final List<PropositionalFormula> formulas = new ArrayList<PropositionalFormula>();
         for (final String name : variables) {
             final PropositionalVariable var = new PropositionalVariable(name);
-            formulas.add(Main.RANDOM.nextBoolean() ? var : var.negate());
+            formulas.add(random.nextBoolean() ? var : var.negate());
         }
-        final int additional = Main.RANDOM.nextInt(3 * variables.size());
+        final int additional = random.nextInt(3 * variables.size());
         for (int i = 0; i < additional; i++) {
             final PropositionalVariable var =
-                new PropositionalVariable(variables.get(Main.RANDOM.nextInt(variables.size())));
-            formulas.add(Main.RANDOM.nextBoolean() ? var : var.negate());
+                new PropositionalVariable(variables.get(random.nextInt(variables.size())));
+            formulas.add(random.nextBoolean() ? var : var.negate());
         }
         while (formulas.size() > 2) {
-            final int number = Main.RANDOM.nextInt(formulas.size() - 1) + 1;
+            final int number = random.nextInt(formulas.size() - 1) + 1;
             switch (number) {
             case 1:
-                final PropositionalFormula formula = formulas.remove(Main.RANDOM.nextInt(formulas.size()));
+                final PropositionalFormula formula = formulas.remove(random.nextInt(formulas.size()));
                 formulas.add(formula.negate());
                 break;
             case 2:
-                PropositionalLogic.combineInfix(formulas);
+                PropositionalLogic.combineInfix(formulas, random);
                 break;
             default:
                 final List<PropositionalFormula> children = new LinkedList<PropositionalFormula>();
                 for (int i = 0; i < number; i++) {
-                    children.add(formulas.remove(Main.RANDOM.nextInt(formulas.size())));
+                    children.add(formulas.remove(random.nextInt(formulas.size())));
                 }
                 formulas.add(
-                    Main.RANDOM.nextBoolean() ?
+                    random.nextBoolean() ?
                         Conjunction.createConjunction(children) :
                             Disjunction.createDisjunction(children)
                 );
             }
         }
         if (formulas.size() > 1) {
-            PropositionalLogic.combineInfix(formulas);
+            PropositionalLogic.combineInfix(formulas, random);
         }
         return formulas.get(0);
     }
 
-    static List<String> generateVariables(final Parameters<Flag> options) {
+    static List<String> generateVariables(final Parameters<Flag> options, final SplittableRandom random) {
         final List<String> variables = new ArrayList<String>();
-        final int size = AlgorithmImplementation.parseOrGenerateLength(3, 4, options);
+        final int size = AlgorithmImplementation.parseOrGenerateLength(3, 4, options, random);
         if (size > 26) {
             throw new IllegalArgumentException("Formulas with more than 26 variables are overkill, really!");
         }
@@ -336,12 +336,12 @@ abstract class PropositionalLogic {
         return Optional.empty();
     }
 
-    private static void combineInfix(final List<PropositionalFormula> formulas) {
+    private static void combineInfix(final List<PropositionalFormula> formulas, final SplittableRandom random) {
         formulas.add(
             PropositionalLogic.toInfixFormula(
-                Main.RANDOM.nextInt(6),
-                formulas.remove(Main.RANDOM.nextInt(formulas.size())),
-                formulas.remove(Main.RANDOM.nextInt(formulas.size()))
+                random.nextInt(6),
+                formulas.remove(random.nextInt(formulas.size())),
+                formulas.remove(random.nextInt(formulas.size()))
             )
         );
     }
@@ -7,6 +7,7 @@ import clit.*;
 import exercisegenerator.*;
 import exercisegenerator.algorithms.*;
 import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
 import exercisegenerator.structures.optimization.*;
 
 public class KnapsackAlgorithm implements AlgorithmImplementation<KnapsackProblem, int[][]> {
@@ -50,9 +51,9 @@ public class KnapsackAlgorithm implements AlgorithmImplementation<KnapsackProble
         return result;
     }
 
-    private static int parseOrGenerateNumberOfItems(final Parameters<Flag> options) {
-        final int result = AlgorithmImplementation.parseOrGenerateLength(3, 6, options);
-        return result > 0 ? result : Main.RANDOM.nextInt(4) + 3;
+    private static int parseOrGenerateNumberOfItems(final Parameters<Flag> options, final SplittableRandom random) {
+        final int result = AlgorithmImplementation.parseOrGenerateLength(3, 6, options, random);
+        return result > 0 ? result : random.nextInt(4) + 3;
     }
 
     private static int[] toIntArray(final String line) {
@@ -106,17 +107,17 @@ public class KnapsackAlgorithm implements AlgorithmImplementation<KnapsackProble
     }
 
     @Override
-    public KnapsackProblem generateProblem(final Parameters<Flag> options) {
-        final int numberOfItems = KnapsackAlgorithm.parseOrGenerateNumberOfItems(options);
+    public KnapsackProblem generateProblem(final Parameters<Flag> options, final GenerationContext context) {
+        final int numberOfItems = KnapsackAlgorithm.parseOrGenerateNumberOfItems(options, context.random);
         final int[] weights = new int[numberOfItems];
         for (int i = 0; i < weights.length; i++) {
-            weights[i] = 1 + Main.RANDOM.nextInt(11);
+            weights[i] = 1 + context.random.nextInt(11);
         }
         final int[] values = new int[numberOfItems];
         for (int i = 0; i < values.length; i++) {
-            values[i] = 1 + Main.RANDOM.nextInt(11);
+            values[i] = 1 + context.random.nextInt(11);
         }
-        final int capacity = 3 + Main.RANDOM.nextInt(6);
+        final int capacity = 3 + context.random.nextInt(6);
         return new KnapsackProblem(weights, values, capacity);
     }
 
@@ -169,8 +170,7 @@ public class KnapsackAlgorithm implements AlgorithmImplementation<KnapsackProble
 
     @Override
     public void printBeforeMultipleProblemInstances(
-        final List<KnapsackProblem> problems,
-        final List<int[][]> solutions,
+        final InstancesSummary summary,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException {
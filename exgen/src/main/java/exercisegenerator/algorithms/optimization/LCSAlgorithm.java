@@ -7,6 +7,7 @@ import clit.*;
 import exercisegenerator.*;
 import exercisegenerator.algorithms.*;
 import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
 import exercisegenerator.structures.optimization.*;
 
 public class LCSAlgorithm implements AlgorithmImplementation<LCSProblem, int[][]> {
@@ -27,10 +28,9 @@ public class LCSAlgorithm implements AlgorithmImplementation<LCSProblem, int[][]
         return List.of(DPDirection.UPLEFT);
     };
 
-    private static String generateRandomString(final int length) {
+    private static String generateRandomString(final int length, final SplittableRandom random) {
         return
-            Main
-            .RANDOM
+            random
             .ints(65, 91)
             .limit(length)
             .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
@@ -63,9 +63,9 @@ public class LCSAlgorithm implements AlgorithmImplementation<LCSProblem, int[][]
         return result.toString();
     }
 
-    private static int parseOrGenerateLengthOfWords(final Parameters<Flag> options) {
-        final int result = AlgorithmImplementation.parseOrGenerateLength(3, 10, options);
-        return result > 0 ? result : Main.RANDOM.nextInt(8) + 3;
+    private static int parseOrGenerateLengthOfWords(final Parameters<Flag> options, final SplittableRandom random) {
+        final int result = AlgorithmImplementation.parseOrGenerateLength(3, 10, options, random);
+        return result > 0 ? result : random.nextInt(8) + 3;
     }
 
     private LCSAlgorithm() {}
@@ -103,11 +103,11 @@ public class LCSAlgorithm implements AlgorithmImplementation<LCSProblem, int[][]
     }
 
     @Override
-    public LCSProblem generateProblem(final Parameters<Flag> options) {
-        final int length1 = LCSAlgorithm.parseOrGenerateLengthOfWords(options);
-        final int length2 = LCSAlgorithm.parseOrGenerateLengthOfWords(options);
-        final String word1 = LCSAlgorithm.generateRandomString(length1);
-        final String word2 = LCSAlgorithm.generateRandomString(length2);
+    public LCSProblem generateProblem(final Parameters<Flag> options, final GenerationContext context) {
+        final int length1 = LCSAlgorithm.parseOrGenerateLengthOfWords(options, context.random);
+        final int length2 = LCSAlgorithm.parseOrGenerateLengthOfWords(options, context.random);
+        final String word1 = LCSAlgorithm.generateRandomString(length1, context.random);
+        final String word2 = LCSAlgorithm.generateRandomString(length2, context.random);
         return new LCSProblem(word1, word2);
     }
 
@@ -147,8 +147,7 @@ public class LCSAlgorithm implements AlgorithmImplementation<LCSProblem, int[][]
 
     @Override
     public void printBeforeMultipleProblemInstances(
-        final List<LCSProblem> problems,
-        final List<int[][]> solutions,
+        final InstancesSummary summary,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException {
@@ -157,28 +157,32 @@ public class SimplexAlgorithm implements AlgorithmImplementation<SimplexProblem,
 
     private static List<Integer> generateIntegralConditions(
         final int numberOfVariables,
-        final Parameters<Flag> options
+        final Parameters<Flag> options,
+        final SplittableRandom random
     ) {
         if (options.getOrDefault(Flag.VARIANT, "").equals("1") ) {
             return IntStream.range(0, numberOfVariables)
-                .filter(i -> Main.RANDOM.nextBoolean() ? true : false)
+                .filter(i -> random.nextBoolean() ? true : false)
                 .boxed()
                 .toList();
         }
         return List.of();
     }
 
-    private static BigFraction generateNonZeroCoefficient(final int oneToChanceForNegative) {
+    private static BigFraction generateNonZeroCoefficient(
+        final int oneToChanceForNegative,
+        final SplittableRandom random
+    ) {
         return new BigFraction(
-            (Main.RANDOM.nextInt(10) + 1)
-            * (Main.RANDOM.nextInt(oneToChanceForNegative) == 0 ? -1 : 1)
+            (random.nextInt(10) + 1)
+            * (random.nextInt(oneToChanceForNegative) == 0 ? -1 : 1)
         );
     }
 
-    private static BigFraction[] generateTargetFunction(final int numberOfVariables) {
+    private static BigFraction[] generateTargetFunction(final int numberOfVariables, final SplittableRandom random) {
         final BigFraction[] target = new BigFraction[numberOfVariables];
         for (int i = 0; i < numberOfVariables; i++) {
-            target[i] = SimplexAlgorithm.generateNonZeroCoefficient(4);
+            target[i] = SimplexAlgorithm.generateNonZeroCoefficient(4, random);
         }
         return target;
     }
@@ -703,13 +707,14 @@ public class SimplexAlgorithm implements AlgorithmImplementation<SimplexProblem,
     }
 
     @Override
-    public SimplexProblem generateProblem(final Parameters<Flag> options) {
-        final int numberOfVariables = AlgebraAlgorithms.parseOrGenerateNumberOfVariables(options);
-        final int numberOfInequalities = AlgebraAlgorithms.generateNumberOfInequalitiesOrEquations();
-        final BigFraction[] target = SimplexAlgorithm.generateTargetFunction(numberOfVariables);
+    public SimplexProblem generateProblem(final Parameters<Flag> options, final GenerationContext context) {
+        final int numberOfVariables = AlgebraAlgorithms.parseOrGenerateNumberOfVariables(options, context.random);
+        final int numberOfInequalities = AlgebraAlgorithms.generateNumberOfInequalitiesOrEquations(context.random);
+        final BigFraction[] target = SimplexAlgorithm.generateTargetFunction(numberOfVariables, context.random);
         final BigFraction[][] conditions =
-            AlgebraAlgorithms.generateInequalitiesOrEquations(numberOfInequalities, numberOfVariables);
-        final List<Integer> integral = SimplexAlgorithm.generateIntegralConditions(target.length, options);
+            AlgebraAlgorithms.generateInequalitiesOrEquations(numberOfInequalities, numberOfVariables, context.random);
+        final List<Integer> integral =
+            SimplexAlgorithm.generateIntegralConditions(target.length, options, context.random);
         return new SimplexProblem(target, new Matrix(conditions, target.length), integral);
     }
 
@@ -778,8 +783,7 @@ public class SimplexAlgorithm implements AlgorithmImplementation<SimplexProblem,
 
     @Override
     public void printBeforeMultipleProblemInstances(
-        final List<SimplexProblem> problems,
-        final List<SimplexSolution> solutions,
+        final InstancesSummary summary,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException {
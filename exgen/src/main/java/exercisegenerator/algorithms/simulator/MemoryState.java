@@ -6,6 +6,7 @@ import java.util.*;
 import clit.*;
 import exercisegenerator.algorithms.*;
 import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
 import exercisegenerator.structures.simulator.*;
 
 public class MemoryState implements AlgorithmImplementation<MemoryStateInput, List<Memory>> {
@@ -23,7 +24,7 @@ public class MemoryState implements AlgorithmImplementation<MemoryStateInput, Li
     }
 
     @Override
-    public MemoryStateInput generateProblem(final Parameters<Flag> options) {
+    public MemoryStateInput generateProblem(final Parameters<Flag> options, final GenerationContext context) {
         // TODO Auto-generated method stub
         return null;
     }
@@ -47,8 +48,7 @@ public class MemoryState implements AlgorithmImplementation<MemoryStateInput, Li
 
     @Override
     public void printBeforeMultipleProblemInstances(
-        final List<MemoryStateInput> problems,
-        final List<List<Memory>> solutions,
+        final InstancesSummary summary,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException {
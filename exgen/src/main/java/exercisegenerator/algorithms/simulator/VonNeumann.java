@@ -7,6 +7,7 @@ import java.util.*;
 import clit.*;
 import exercisegenerator.algorithms.*;
 import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
 import exercisegenerator.structures.binary.*;
 import exercisegenerator.structures.simulator.vonneumann.*;
 import exercisegenerator.structures.simulator.vonneumann.instructions.*;
@@ -78,7 +79,7 @@ public class VonNeumann implements AlgorithmImplementation<VonNeumannInput, List
     }
 
     @Override
-    public VonNeumannInput generateProblem(final Parameters<Flag> options) {
+    public VonNeumannInput generateProblem(final Parameters<Flag> options, final GenerationContext context) {
         // TODO Auto-generated method stub
         return null;
     }
@@ -102,8 +103,7 @@ public class VonNeumann implements AlgorithmImplementation<VonNeumannInput, List
 
     @Override
     public void printBeforeMultipleProblemInstances(
-        final List<VonNeumannInput> problems,
-        final List<List<VonNeumannState>> solutions,
+        final InstancesSummary summary,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException {
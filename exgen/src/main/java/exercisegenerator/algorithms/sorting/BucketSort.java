@@ -35,7 +35,7 @@ public class BucketSort implements AlgorithmImplementation<BucketSortProblem, Bu
         if (options.containsKey(Flag.CAPACITY)) {
             return BucketSort.parseLimitsAndBuckets(options.get(Flag.CAPACITY));
         } else if (options.containsKey(Flag.SOURCE)) {
-            try (BufferedReader reader = new BufferedReader(new FileReader(options.get(Flag.SOURCE)))) {
+            try (BufferedReader reader = ParserAndGenerator.openSource(options.get(Flag.SOURCE))) {
                 return BucketSort.parseLimitsAndBuckets(reader.readLine());
             }
         } else if (options.containsKey(Flag.INPUT)) {
@@ -79,13 +79,13 @@ public class BucketSort implements AlgorithmImplementation<BucketSortProblem, Bu
     }
 
     @Override
-    public BucketSortProblem generateProblem(final Parameters<Flag> options) {
+    public BucketSortProblem generateProblem(final Parameters<Flag> options, final GenerationContext context) {
         final int[] limitsAndBuckets = BucketSort.generateLimitsAndBuckets();
         final int lowestValue = limitsAndBuckets[0];
         final int highestValue = limitsAndBuckets[1];
         final int numberOfBuckets = limitsAndBuckets[2];
         return new BucketSortProblem(
-            Sorting.generateArray(options, lowestValue, highestValue),
+            Sorting.generateArray(options, lowestValue, highestValue, context.random),
             lowestValue,
             highestValue,
             numberOfBuckets
@@ -119,8 +119,7 @@ public class BucketSort implements AlgorithmImplementation<BucketSortProblem, Bu
 
     @Override
     public void printBeforeMultipleProblemInstances(
-        final List<BucketSortProblem> problems,
-        final List<BucketSortSolution> solutions,
+        final InstancesSummary summary,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException {
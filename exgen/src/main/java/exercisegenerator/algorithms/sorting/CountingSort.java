@@ -7,6 +7,7 @@ import clit.*;
 import exercisegenerator.*;
 import exercisegenerator.algorithms.*;
 import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
 import exercisegenerator.structures.sorting.*;
 
 public class CountingSort implements AlgorithmImplementation<CountingSortProblem, CountingSortSolution> {
@@ -31,7 +32,7 @@ public class CountingSort implements AlgorithmImplementation<CountingSortProblem
         if (options.containsKey(Flag.CAPACITY)) {
             return CountingSort.parseLimits(options.get(Flag.CAPACITY));
         } else if (options.containsKey(Flag.SOURCE)) {
-            try (BufferedReader reader = new BufferedReader(new FileReader(options.get(Flag.SOURCE)))) {
+            try (BufferedReader reader = ParserAndGenerator.openSource(options.get(Flag.SOURCE))) {
                 return CountingSort.parseLimits(reader.readLine());
             }
         } else if (options.containsKey(Flag.INPUT)) {
@@ -72,9 +73,13 @@ public class CountingSort implements AlgorithmImplementation<CountingSortProblem
     }
 
     @Override
-    public CountingSortProblem generateProblem(final Parameters<Flag> options) {
+    public CountingSortProblem generateProblem(final Parameters<Flag> options, final GenerationContext context) {
         final int[] limits = CountingSort.generateLimits();
-        return new CountingSortProblem(Sorting.generateArray(options, limits[0], limits[1]), limits[0], limits[1]);
+        return new CountingSortProblem(
+            Sorting.generateArray(options, limits[0], limits[1], context.random),
+            limits[0],
+            limits[1]
+        );
     }
 
     @Override
@@ -101,8 +106,7 @@ public class CountingSort implements AlgorithmImplementation<CountingSortProblem
 
     @Override
     public void printBeforeMultipleProblemInstances(
-        final List<CountingSortProblem> problems,
-        final List<CountingSortSolution> solutions,
+        final InstancesSummary summary,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException {
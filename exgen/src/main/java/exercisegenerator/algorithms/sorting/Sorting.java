@@ -7,15 +7,21 @@ import clit.*;
 import exercisegenerator.*;
 import exercisegenerator.algorithms.*;
 import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
 
 interface Sorting extends AlgorithmImplementation<int[], SortingSolution> {
 
-    static int[] generateArray(final Parameters<Flag> options, final int lowestInt, final int highestInt) {
-        final int length = AlgorithmImplementation.parseOrGenerateLength(5, 20, options);
+    static int[] generateArray(
+        final Parameters<Flag> options,
+        final int lowestInt,
+        final int highestInt,
+        final SplittableRandom random
+    ) {
+        final int length = AlgorithmImplementation.parseOrGenerateLength(5, 20, options, random);
         final int[] array = new int[length];
         final int range = highestInt - lowestInt + 1;
         for (int i = 0; i < array.length; i++) {
-            array[i] = Main.RANDOM.nextInt(range) + lowestInt;
+            array[i] = random.nextInt(range) + lowestInt;
         }
         return array;
     }
@@ -76,8 +82,8 @@ interface Sorting extends AlgorithmImplementation<int[], SortingSolution> {
     String algorithmName();
 
     @Override
-    default int[] generateProblem(final Parameters<Flag> options) {
-        return Sorting.generateArray(options, 0, Main.NUMBER_LIMIT - 1);
+    default int[] generateProblem(final Parameters<Flag> options, final GenerationContext context) {
+        return Sorting.generateArray(options, 0, Main.NUMBER_LIMIT - 1, context.random);
     }
 
     String operation();
@@ -89,8 +95,7 @@ interface Sorting extends AlgorithmImplementation<int[], SortingSolution> {
 
     @Override
     default void printBeforeMultipleProblemInstances(
-        final List<int[]> problems,
-        final List<SortingSolution> solutions,
+        final InstancesSummary summary,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException {
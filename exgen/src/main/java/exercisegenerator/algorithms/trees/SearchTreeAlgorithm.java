@@ -9,16 +9,18 @@ import clit.*;
 import exercisegenerator.*;
 import exercisegenerator.algorithms.*;
 import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
 import exercisegenerator.structures.trees.*;
 
 interface SearchTreeAlgorithm extends AlgorithmImplementation<SearchTreeProblem, SearchTreeSteps<Integer>> {
 
     static ConstructionAndTasks<Integer> generateConstructionAndTasks(
-        final Parameters<Flag> options
+        final Parameters<Flag> options,
+        final SplittableRandom random
     ) {
         return new ConstructionAndTasks<Integer>(
-            SearchTreeAlgorithm.generateTasks(options),
-            SearchTreeAlgorithm.generateConstruction(options)
+            SearchTreeAlgorithm.generateTasks(options, random),
+            SearchTreeAlgorithm.generateConstruction(options, random)
         );
     }
 
@@ -48,14 +50,15 @@ interface SearchTreeAlgorithm extends AlgorithmImplementation<SearchTreeProblem,
 
     static Deque<TreeOperation<Integer>> parseOrGenerateConstruction(
         final String line,
-        final Parameters<Flag> options
+        final Parameters<Flag> options,
+        final SplittableRandom random
     ) {
         final String[] parts = line.split(";");
         if (parts.length == 2) {
             return SearchTreeAlgorithm.parseOperations(parts[0].split(","));
         }
         if (!options.containsKey(Flag.OPERATIONS)) {
-            return SearchTreeAlgorithm.generateConstruction(options);
+            return SearchTreeAlgorithm.generateConstruction(options, random);
         }
         final String[] nums;
         try (BufferedReader reader = new BufferedReader(new FileReader(options.get(Flag.OPERATIONS)))) {
@@ -67,45 +70,53 @@ interface SearchTreeAlgorithm extends AlgorithmImplementation<SearchTreeProblem,
         return SearchTreeAlgorithm.parseOperations(nums);
     }
 
-    static Deque<TreeOperation<Integer>> parseOrGenerateTasks(final Parameters<Flag> options)
-    throws IOException {
+    static Deque<TreeOperation<Integer>> parseOrGenerateTasks(
+        final Parameters<Flag> options,
+        final SplittableRandom random
+    ) throws IOException {
         return new ParserAndGenerator<Deque<TreeOperation<Integer>>>(
             SearchTreeAlgorithm::parseTasks,
-            SearchTreeAlgorithm::generateTasks
+            flags -> SearchTreeAlgorithm.generateTasks(flags, random)
         ).getResult(options);
     }
 
-    private static Deque<TreeOperation<Integer>> generateConstruction(final Parameters<Flag> options) {
-        final int length = Main.RANDOM.nextInt(20) + 1;
+    private static Deque<TreeOperation<Integer>> generateConstruction(
+        final Parameters<Flag> options,
+        final SplittableRandom random
+    ) {
+        final int length = random.nextInt(20) + 1;
         final Deque<TreeOperation<Integer>> deque = new ArrayDeque<TreeOperation<Integer>>();
         final List<Integer> in = new ArrayList<Integer>();
         for (int i = 0; i < length; i++) {
-            if (in.isEmpty() || Main.RANDOM.nextInt(3) > 0) {
-                final int next = Main.RANDOM.nextInt(Main.NUMBER_LIMIT);
+            if (in.isEmpty() || random.nextInt(3) > 0) {
+                final int next = random.nextInt(Main.NUMBER_LIMIT);
                 deque.offer(new TreeOperation<Integer>(next, true));
                 in.add(next);
             } else {
-                deque.offer(new TreeOperation<Integer>(in.remove(Main.RANDOM.nextInt(in.size())), false));
+                deque.offer(new TreeOperation<Integer>(in.remove(random.nextInt(in.size())), false));
             }
         }
         return deque;
     }
 
-    private static Deque<TreeOperation<Integer>> generateTasks(final Parameters<Flag> options) {
-        final int length = AlgorithmImplementation.parseOrGenerateLength(5, 20, options);
+    private static Deque<TreeOperation<Integer>> generateTasks(
+        final Parameters<Flag> options,
+        final SplittableRandom random
+    ) {
+        final int length = AlgorithmImplementation.parseOrGenerateLength(5, 20, options, random);
         final Deque<TreeOperation<Integer>> deque = new ArrayDeque<TreeOperation<Integer>>();
         final List<Integer> in = new ArrayList<Integer>();
         for (int i = 0; i < length; i++) {
             if (
                 (options.containsKey(Flag.VARIANT) && options.get(Flag.VARIANT).equals("1"))
                 || in.isEmpty()
-                || Main.RANDOM.nextInt(3) > 0
+                || random.nextInt(3) > 0
             ) {
-                final int next = Main.RANDOM.nextInt(Main.NUMBER_LIMIT);
+                final int next = random.nextInt(Main.NUMBER_LIMIT);
                 deque.offer(new TreeOperation<Integer>(next, true));
                 in.add(next);
             } else {
-                deque.offer(new TreeOperation<Integer>(in.remove(Main.RANDOM.nextInt(in.size())), false));
+                deque.offer(new TreeOperation<Integer>(in.remove(random.nextInt(in.size())), false));
             }
         }
         return deque;
@@ -256,9 +267,9 @@ interface SearchTreeAlgorithm extends AlgorithmImplementation<SearchTreeProblem,
     }
 
     @Override
-    default SearchTreeProblem generateProblem(final Parameters<Flag> options) {
+    default SearchTreeProblem generateProblem(final Parameters<Flag> options, final GenerationContext context) {
         final ConstructionAndTasks<Integer> constructionAndTasks =
-            SearchTreeAlgorithm.generateConstructionAndTasks(options);
+            SearchTreeAlgorithm.generateConstructionAndTasks(options, context.random);
         final SearchTreeFactory<Integer> factory = this.parseOrGenerateTreeFactory(options);
         return new SearchTreeProblem(
             factory.create(constructionAndTasks.construction()),
@@ -282,22 +293,6 @@ interface SearchTreeAlgorithm extends AlgorithmImplementation<SearchTreeProblem,
             .toList();
     }
 
-    @Override
-    default void printAfterEachOfMultipleProblemInstances(
-        final SearchTreeProblem problem,
-        final SearchTreeSteps<Integer> solution,
-        final Parameters<Flag> options,
-        final BufferedWriter writer
-    ) throws IOException {}
-
-    @Override
-    default void printAfterMultipleProblemInstances(
-        final List<SearchTreeProblem> problems,
-        final List<SearchTreeSteps<Integer>> solutions,
-        final Parameters<Flag> options,
-        final BufferedWriter writer
-    ) throws IOException {}
-
     @Override
     default void printBeforeEachOfMultipleProblemInstances(
         final int number,
@@ -305,16 +300,24 @@ interface SearchTreeAlgorithm extends AlgorithmImplementation<SearchTreeProblem,
         final SearchTreeSteps<Integer> solution,
         final Parameters<Flag> options,
         final BufferedWriter writer
-    ) throws IOException {}
+    ) throws IOException {
+        AlgorithmImplementation.super.printBeforeEachOfMultipleProblemInstances(
+            number,
+            problem,
+            solution,
+            options,
+            writer
+        );
+        SearchTreeAlgorithm.printOneOfManyProblemInstances(problem, writer);
+    }
 
     @Override
     default void printBeforeMultipleProblemInstances(
-        final List<SearchTreeProblem> problems,
-        final List<SearchTreeSteps<Integer>> solutions,
+        final InstancesSummary summary,
         final Parameters<Flag> options,
         final BufferedWriter writer
     ) throws IOException {
-        final SearchTree<Integer> tree = problems.getFirst().tree();
+        final SearchTree<Integer> tree = this.parseOrGenerateTreeFactory(options).create();
         writer.write("F\\\"uhren Sie jeweils beginnend mit den folgenden Instanzen eines \\emphasize{");
         writer.write(tree.getName(true));
         writer.write("} die jeweils darunter aufgef\\\"uhrten Operationen aus und ");
@@ -324,28 +327,6 @@ interface SearchTreeAlgorithm extends AlgorithmImplementation<SearchTreeProblem,
         Main.newLine(writer);
         writer.write("an.\\\\");
         Main.newLine(writer);
-        if (Main.embeddedExam(options)) {
-            int number = 1;
-            for (final SearchTreeProblem problem : problems) {
-                writer.write("\\newcommand{\\exercise");
-                writer.write(this.commandPrefix());
-                writer.write(LaTeXUtils.toRomanNumeral(number));
-                writer.write("}{%");
-                Main.newLine(writer);
-                SearchTreeAlgorithm.printOneOfManyProblemInstances(problem, writer);
-                writer.write("}");
-                Main.newLine(writer);
-                number++;
-            }
-        } else {
-            LaTeXUtils.printBeginning(LaTeXUtils.ENUMERATE, writer);
-            for (final SearchTreeProblem problem : problems) {
-                writer.write("\\item ");
-                SearchTreeAlgorithm.printOneOfManyProblemInstances(problem, writer);
-            }
-            LaTeXUtils.printEnd(LaTeXUtils.ENUMERATE, writer);
-        }
-
     }
 
     @Override
@@ -493,12 +474,4 @@ interface SearchTreeAlgorithm extends AlgorithmImplementation<SearchTreeProblem,
         final BufferedWriter writer
     ) throws IOException {}
 
-    @Override
-    default void printStartOfMultipleProblemInstances(
-        final List<SearchTreeProblem> problems,
-        final List<SearchTreeSteps<Integer>> solutions,
-        final Parameters<Flag> options,
-        final BufferedWriter writer
-    ) throws IOException {}
-
 }
@@ -16,7 +16,19 @@ public enum Flag implements clit.Parameter {
     BATCH(
         "b",
         "Batch",
-        "Batch processing of the specified parameter lists (new batch must always start with -a parameter)."
+        "Batch processing of the parameter lists (one list per line) in the specified file, or in the standard input "
+        + "for -. Arguments containing spaces can be enclosed in double quotes (with \\\" and \\\\ as escapes). Lines "
+        + "are processed concurrently (see flag j) and a summary of failures and timings is printed at the end. Only "
+        + "compatible with flags j and q."
+    ),
+
+    CACHE(
+        "m",
+        "Cache directory",
+        "Directory for caching the exercises and solutions of parsed problems (see flags i and s). Caching requires a "
+        + "fixed seed (see flag r). When the same input is processed again with the same algorithm, seed, and flags, "
+        + "the cached results are used instead of solving the problems again. The least recently used entries are "
+        + "evicted when the cache exceeds 64 MiB."
     ),
 
     CAPACITY(
@@ -52,10 +64,20 @@ public enum Flag implements clit.Parameter {
         "Used to specify a length, e.g., of an array. Its use depends on the chosen algorithm."
     ),
 
+    METRICS(
+        "q",
+        "Metrics report",
+        "Path to a file where to store a JSON report of the wall time, CPU time, and allocated bytes of each phase "
+        + "(parsing or generating, solving, printing exercise and solution) per algorithm. For multiple exercises "
+        + "(see flag n) and in batch mode (see flag b), the report contains percentiles over all exercises. Some "
+        + "algorithms additionally report counters like the sizes of intermediate results."
+    ),
+
     NUMBER(
         "n",
         "Number of randomly generated exercises",
-        "Specify the number of randomly generated exercises in one document. Only compatible with flags a, e, t, and w."
+        "Specify the number of randomly generated exercises in one document. Only compatible with flags a, e, j, q, "
+        + "r, t, and w."
     ),
 
     OPERATIONS(
@@ -64,13 +86,43 @@ public enum Flag implements clit.Parameter {
         "Specify special operations for the algorithm (e.g., construction operations for a binary tree)."
     ),
 
+    PARALLELISM(
+        "j",
+        "Parallelism",
+        "Number of worker threads used to generate multiple exercises (see flag n) in parallel. A value of 0 uses all "
+        + "available processors. If not specified, exercises are generated sequentially. For the same seed (see flag "
+        + "r), both yield the same files. In batch mode (see flag b), this is the number of lines processed "
+        + "concurrently and defaults to the number of available processors."
+    ),
+
     PREPRINT_MODE(
         "p",
         "Preprint mode",
         "Sets the preprint mode for some algorithms (print the exercise with or without a skeleton for the solution)."
     ),
 
-    SOURCE("s", "Source file", "Specify the input for an algorithm in the given file."),
+    SEED(
+        "r",
+        "Random seed",
+        "Seed for the random generation of exercises. Runs with the same seed and the same other flags yield the same "
+        + "exercises. If not specified, a random seed is used."
+    ),
+
+    SERVER(
+        "u",
+        "Server port",
+        "Starts a generator server listening on the given port of the loopback interface (0 for any free port) instead "
+        + "of generating a single exercise. The server answers POST requests containing one parameter list (as in "
+        + "batch mode, see flag b, but without flags e and t) with a JSON object containing the exercise and the "
+        + "solution. Requests are handled concurrently by the number of worker threads specified by flag j (defaults "
+        + "to the number of available processors). Only compatible with flag j."
+    ),
+
+    SOURCE(
+        "s",
+        "Source file",
+        "Specify the input for an algorithm in the given file. Gzip-compressed files are decompressed automatically."
+    ),
 
     TARGET("t", "Target file", "Path to the file where to store the solution text in LaTeX code."),
 
@@ -0,0 +1,40 @@
+package exercisegenerator.io;
+
+import java.net.*;
+import java.util.concurrent.*;
+
+import com.sun.net.httpserver.*;
+
+/**
+ * A running generator server (see Main.startServer). Closing it stops the server and shuts down its worker threads,
+ * since HttpServer.stop leaves its executor running.
+ */
+public class GeneratorServer implements AutoCloseable {
+
+    private final HttpServer server;
+
+    private final ExecutorService workers;
+
+    public GeneratorServer(final HttpServer server, final ExecutorService workers) {
+        this.server = server;
+        this.workers = workers;
+    }
+
+    @Override
+    public void close() {
+        try {
+            this.server.stop(0);
+        } finally {
+            this.workers.shutdown();
+        }
+    }
+
+    public InetSocketAddress getAddress() {
+        return this.server.getAddress();
+    }
+
+    public boolean isTerminated() {
+        return this.workers.isTerminated();
+    }
+
+}
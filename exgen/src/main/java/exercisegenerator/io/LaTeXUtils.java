@@ -32,7 +32,7 @@ public abstract class LaTeXUtils {
 
     private static final int MAX_NUMBER_OF_ARRAY_CELLS_IN_A_ROW;
 
-    private static int number = 0;
+    private static final ThreadLocal<Integer> NUMBER;
 
     private static final TreeMap<Integer, String> ROMAN_NUMERALS;
 
@@ -46,6 +46,7 @@ public abstract class LaTeXUtils {
         TWO_COL_WIDTH = "8cm";
         TABLE_GREY = "black!20";
         MAX_NUMBER_OF_ARRAY_CELLS_IN_A_ROW = 17;
+        NUMBER = ThreadLocal.withInitial(() -> 0);
         ROMAN_NUMERALS = new TreeMap<Integer, String>();
         LaTeXUtils.ROMAN_NUMERALS.put(1000, "M");
         LaTeXUtils.ROMAN_NUMERALS.put(900, "CM");
@@ -87,6 +88,10 @@ public abstract class LaTeXUtils {
         return Optional.ofNullable(text).map(String::isBlank).orElse(true) ? "" : String.format("\\codeseq{%s}", text);
     }
 
+    public static int currentNumber() {
+        return LaTeXUtils.NUMBER.get();
+    }
+
     public static Function<Integer, String> defaultColumnDefinition(final String width) {
         return cols -> String.format("|*{%d}{C{%s}|}", cols, width);
     }
@@ -224,6 +229,20 @@ public abstract class LaTeXUtils {
     }
 
     public static void printLaTeXBeginning(final BufferedWriter writer) throws IOException {
+        LaTeXUtils.printLaTeXPreamble(writer);
+        writer.write("\\begin{document}");
+        Main.newLine(writer);
+        Main.newLine(writer);
+    }
+
+    public static void printLaTeXEnd(final BufferedWriter writer) throws IOException {
+        Main.newLine(writer);
+        writer.write("\\end{document}");
+        Main.newLine(writer);
+        Main.newLine(writer);
+    }
+
+    public static void printLaTeXPreamble(final BufferedWriter writer) throws IOException {
         writer.write("\\documentclass{article}");
         Main.newLine(writer);
         Main.newLine(writer);
@@ -279,16 +298,6 @@ public abstract class LaTeXUtils {
         writer.write("\\newcommand{\\var}[1]{\\textit{#1}}");
         Main.newLine(writer);
         Main.newLine(writer);
-        writer.write("\\begin{document}");
-        Main.newLine(writer);
-        Main.newLine(writer);
-    }
-
-    public static void printLaTeXEnd(final BufferedWriter writer) throws IOException {
-        Main.newLine(writer);
-        writer.write("\\end{document}");
-        Main.newLine(writer);
-        Main.newLine(writer);
     }
 
     public static String printListAndReturnLowestLeftmostNodesName(
@@ -537,7 +546,7 @@ public abstract class LaTeXUtils {
         final String left,
         final BufferedWriter writer
     ) throws IOException {
-        final String firstName = "n" + LaTeXUtils.number++;
+        final String firstName = "n" + LaTeXUtils.nextNumber();
         if( left == null )
         {
             writer.write("\\node[node");
@@ -570,13 +579,13 @@ public abstract class LaTeXUtils {
                 writer.write(",fill=black!20");
             }
             writer.write("] (");
-            writer.write("n" + LaTeXUtils.number++);
+            writer.write("n" + LaTeXUtils.nextNumber());
             writer.write(") [below=");
             if (separate != null && separate[i - 1]) {
                 writer.write("0.1 ");
             }
             writer.write("of ");
-            writer.write("n" + (LaTeXUtils.number - 2));
+            writer.write("n" + (LaTeXUtils.NUMBER.get() - 2));
             final int val = array[i];
             writer.write("] {" + (val < 10 ? "\\phantom{0}" : "") + val);
             writer.write("};");
@@ -622,7 +631,7 @@ public abstract class LaTeXUtils {
         final String left,
         final BufferedWriter writer
         ) throws IOException {
-        final String firstName = "n" + LaTeXUtils.number++;
+        final String firstName = "n" + LaTeXUtils.nextNumber();
         if( left == null )
         {
             writer.write("\\node[node");
@@ -655,13 +664,13 @@ public abstract class LaTeXUtils {
                 writer.write(",fill=black!20");
             }
             writer.write("] (");
-            writer.write("n" + LaTeXUtils.number++);
+            writer.write("n" + LaTeXUtils.nextNumber());
             writer.write(") [below=");
             if (separate != null && separate[i - 1]) {
                 writer.write("0.1 ");
             }
             writer.write("of ");
-            writer.write("n" + (LaTeXUtils.number - 2));
+            writer.write("n" + (LaTeXUtils.NUMBER.get() - 2));
             final String val = array[i];
             writer.write("] {" + val);
             writer.write("};");
@@ -671,7 +680,7 @@ public abstract class LaTeXUtils {
     }
 
     public static void reset() {
-        LaTeXUtils.number = 0;
+        LaTeXUtils.NUMBER.set(0);
     }
 
     public static void resizeboxBeginning(
@@ -688,6 +697,10 @@ public abstract class LaTeXUtils {
         Main.newLine(writer);
     }
 
+    public static void setNumber(final int number) {
+        LaTeXUtils.NUMBER.set(number);
+    }
+
     public static String toCoefficient(final BigFraction coefficient) {
         if (coefficient.getDenominator().compareTo(BigInteger.ONE) == 0) {
             return String.valueOf(coefficient.intValue());
@@ -865,6 +878,12 @@ public abstract class LaTeXUtils {
         return remainingCols;
     }
 
+    private static int nextNumber() {
+        final int result = LaTeXUtils.NUMBER.get();
+        LaTeXUtils.NUMBER.set(result + 1);
+        return result;
+    }
+
     private static int[] parsePagebreakCounters(final String keyValues, final String key) {
         final Optional<String> pagebreaks =
             Arrays.stream(keyValues.split(",")).filter(entry -> entry.startsWith(key)).findAny();
@@ -893,7 +912,7 @@ public abstract class LaTeXUtils {
         final int contentLength,
         final BufferedWriter writer
     ) throws IOException {
-        final int currentNumber = LaTeXUtils.number++;
+        final int currentNumber = LaTeXUtils.nextNumber();
         final String name = "n" + currentNumber;
         writer.write("\\node[node");
         if (marker) {
@@ -0,0 +1,210 @@
+package exercisegenerator.io;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import exercisegenerator.*;
+import exercisegenerator.structures.*;
+
+/**
+ * Builds PDFs from LaTeX documents with pdflatex on a bounded pool of processes. The preamble shared by all
+ * standalone documents is dumped once into a format file, which is reused by all documents starting with this
+ * preamble (by compiling a temporary copy of the document without its preamble, so the document itself stays
+ * intact). Another pass is only run if the auxiliary file has changed or LaTeX asks for a rerun.
+ */
+public class PDFLaTeXPipeline implements AutoCloseable {
+
+    public static final File DEFAULT_FORMAT_DIRECTORY;
+
+    private static final String FORMAT_NAME;
+
+    private static final int MAX_PASSES;
+
+    private static final long TIMEOUT_IN_SECONDS;
+
+    static {
+        DEFAULT_FORMAT_DIRECTORY = new File(System.getProperty("java.io.tmpdir"), "exgen-" + Main.VERSION);
+        FORMAT_NAME = "exgenpreamble";
+        MAX_PASSES = 3;
+        TIMEOUT_IN_SECONDS = 60;
+    }
+
+    private static Optional<String> readIfExists(final Path file) throws IOException {
+        return Files.isRegularFile(file) ? Optional.of(Files.readString(file)) : Optional.empty();
+    }
+
+    private final String command;
+
+    private final ExecutorService executor;
+
+    private final File formatDirectory;
+
+    private Optional<String> preamble;
+
+    public PDFLaTeXPipeline(final int parallelism) {
+        this("pdflatex", PDFLaTeXPipeline.DEFAULT_FORMAT_DIRECTORY, parallelism);
+    }
+
+    public PDFLaTeXPipeline(final String command, final File formatDirectory, final int parallelism) {
+        this.command = command;
+        this.formatDirectory = formatDirectory;
+        this.executor = Executors.newFixedThreadPool(parallelism);
+        this.preamble = null;
+    }
+
+    /**
+     * Builds the specified documents concurrently.
+     * @param directory The directory containing the documents.
+     * @param documents The names of the documents without the .tex suffix.
+     * @return The names of the documents for which no PDF could be built.
+     * @throws IOException If the format file cannot be prepared.
+     * @throws InterruptedException If interrupted while waiting for the builds.
+     */
+    public List<String> build(
+        final File directory,
+        final List<String> documents
+    ) throws IOException, InterruptedException {
+        this.prepareFormat();
+        final List<Pair<String, Future<Boolean>>> builds = new ArrayList<Pair<String, Future<Boolean>>>();
+        for (final String document : documents) {
+            builds.add(
+                new Pair<String, Future<Boolean>>(
+                    document,
+                    this.executor.submit(() -> this.buildDocument(directory, document))
+                )
+            );
+        }
+        final List<String> failed = new ArrayList<String>();
+        for (final Pair<String, Future<Boolean>> build : builds) {
+            try {
+                if (!build.y.get()) {
+                    failed.add(build.x);
+                }
+            } catch (final ExecutionException e) {
+                failed.add(build.x);
+            }
+        }
+        return failed;
+    }
+
+    @Override
+    public void close() {
+        this.executor.shutdownNow();
+    }
+
+    private boolean buildDocument(final File directory, final String document) throws IOException, InterruptedException {
+        final String content = Files.readString(directory.toPath().resolve(document + ".tex"));
+        if (this.preamble.isPresent() && content.startsWith(this.preamble.get())) {
+            final Path body = Files.createTempFile(directory.toPath(), document, ".tex");
+            try {
+                Files.writeString(body, content.substring(this.preamble.get().length()));
+                if (this.runPasses(directory, document, Optional.of(body.getFileName().toString()))) {
+                    return true;
+                }
+            } finally {
+                Files.deleteIfExists(body);
+            }
+        }
+        return this.runPasses(directory, document, Optional.empty());
+    }
+
+    private synchronized void prepareFormat() throws IOException, InterruptedException {
+        if (this.preamble != null) {
+            return;
+        }
+        final StringWriter buffer = new StringWriter();
+        try (BufferedWriter writer = new BufferedWriter(buffer)) {
+            LaTeXUtils.printLaTeXPreamble(writer);
+        }
+        final String preamble = buffer.toString();
+        final String source = preamble + "\\dump" + Main.lineSeparator();
+        final Path stamp = this.formatDirectory.toPath().resolve(PDFLaTeXPipeline.FORMAT_NAME + ".tex");
+        final Path format = this.formatDirectory.toPath().resolve(PDFLaTeXPipeline.FORMAT_NAME + ".fmt");
+        if (Files.isRegularFile(format) && PDFLaTeXPipeline.readIfExists(stamp).equals(Optional.of(source))) {
+            this.preamble = Optional.of(preamble);
+            return;
+        }
+        Files.createDirectories(this.formatDirectory.toPath());
+        final String jobName = PDFLaTeXPipeline.FORMAT_NAME + ProcessHandle.current().pid();
+        Files.writeString(this.formatDirectory.toPath().resolve(jobName + ".tex"), source);
+        final boolean dumped =
+            this.run(
+                this.formatDirectory,
+                List.of(
+                    this.command,
+                    "-ini",
+                    "-jobname=" + jobName,
+                    "-interaction=nonstopmode",
+                    "-halt-on-error",
+                    "&pdflatex",
+                    jobName + ".tex"
+                )
+            );
+        final Path dumpedFormat = this.formatDirectory.toPath().resolve(jobName + ".fmt");
+        if (dumped && Files.isRegularFile(dumpedFormat)) {
+            Files.move(dumpedFormat, format, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            Files.move(
+                this.formatDirectory.toPath().resolve(jobName + ".tex"),
+                stamp,
+                StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE
+            );
+            this.preamble = Optional.of(preamble);
+        } else {
+            this.preamble = Optional.empty();
+        }
+        Files.deleteIfExists(this.formatDirectory.toPath().resolve(jobName + ".tex"));
+        Files.deleteIfExists(this.formatDirectory.toPath().resolve(jobName + ".log"));
+    }
+
+    private boolean run(final File directory, final List<String> arguments) throws IOException, InterruptedException {
+        final Process process =
+            new ProcessBuilder(arguments)
+            .directory(directory)
+            .redirectErrorStream(true)
+            .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+            .start();
+        if (!process.waitFor(PDFLaTeXPipeline.TIMEOUT_IN_SECONDS, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+            return false;
+        }
+        return process.exitValue() == 0;
+    }
+
+    /**
+     * @param directory The directory containing the document.
+     * @param document The name of the document without the .tex suffix (also the job name).
+     * @param body The file name of a copy of the document without the preamble if the format file should be used.
+     * @return True if all passes were successful.
+     */
+    private boolean runPasses(
+        final File directory,
+        final String document,
+        final Optional<String> body
+    ) throws IOException, InterruptedException {
+        final Path aux = directory.toPath().resolve(document + ".aux");
+        final Path log = directory.toPath().resolve(document + ".log");
+        final List<String> arguments = new ArrayList<String>();
+        arguments.add(this.command);
+        if (body.isPresent()) {
+            arguments.add("-fmt=" + new File(this.formatDirectory, PDFLaTeXPipeline.FORMAT_NAME).getAbsolutePath());
+            arguments.add("-jobname=" + document);
+        }
+        arguments.addAll(List.of("-interaction=nonstopmode", "-halt-on-error", body.orElse(document)));
+        for (int pass = 0; pass < PDFLaTeXPipeline.MAX_PASSES; pass++) {
+            final Optional<String> auxBefore = PDFLaTeXPipeline.readIfExists(aux);
+            if (!this.run(directory, arguments)) {
+                return false;
+            }
+            final boolean auxChanged =
+                auxBefore.isPresent() && !auxBefore.equals(PDFLaTeXPipeline.readIfExists(aux));
+            if (!auxChanged && !PDFLaTeXPipeline.readIfExists(log).orElse("").contains("Rerun")) {
+                break;
+            }
+        }
+        return true;
+    }
+
+}
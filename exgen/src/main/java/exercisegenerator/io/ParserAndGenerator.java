@@ -1,12 +1,33 @@
 package exercisegenerator.io;
 
 import java.io.*;
+import java.util.zip.*;
 
 import clit.*;
 import exercisegenerator.util.*;
 
 public class ParserAndGenerator<T> {
 
+    /**
+     * Opens the specified source file (see flag s) for reading. Gzip-compressed files are detected by their magic
+     * number and decompressed on the fly.
+     * @param file The source file.
+     * @return A reader for the (decompressed) content of the file.
+     * @throws IOException If the file cannot be opened.
+     */
+    public static BufferedReader openSource(final String file) throws IOException {
+        final BufferedInputStream input = new BufferedInputStream(new FileInputStream(file));
+        try {
+            input.mark(2);
+            final boolean compressed = (input.read() | input.read() << 8) == GZIPInputStream.GZIP_MAGIC;
+            input.reset();
+            return new BufferedReader(new InputStreamReader(compressed ? new GZIPInputStream(input) : input));
+        } catch (final IOException e) {
+            input.close();
+            throw e;
+        }
+    }
+
     private final CheckedFunction<Parameters<Flag>, T, IOException> generator;
 
     private final CheckedBiFunction<BufferedReader, Parameters<Flag>, T, IOException> parser;
@@ -21,7 +42,7 @@ public class ParserAndGenerator<T> {
 
     public T getResult(final Parameters<Flag> options) throws IOException {
         if (options.containsKey(Flag.SOURCE)) {
-            try (BufferedReader reader = new BufferedReader(new FileReader(options.get(Flag.SOURCE)))) {
+            try (BufferedReader reader = ParserAndGenerator.openSource(options.get(Flag.SOURCE))) {
                 return this.parser.apply(reader, options);
             }
         } else if (options.containsKey(Flag.INPUT)) {
@@ -0,0 +1,239 @@
+package exercisegenerator.io;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.nio.file.attribute.*;
+import java.security.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import com.google.gson.*;
+
+import clit.*;
+import exercisegenerator.*;
+import exercisegenerator.algorithms.*;
+import exercisegenerator.structures.*;
+
+/**
+ * On-disk cache for the exercises and solutions rendered for parsed problems (see flags i and s). Entries are keyed by
+ * a hash of the algorithm, the program version, the input, and all flags influencing the output. Only runs with a fixed
+ * seed (see flag r) are cached since parsing may still draw random choices. When the entries exceed the maximum size,
+ * the least recently used ones are evicted.
+ */
+public class SolutionCache {
+
+    public static final long DEFAULT_MAX_SIZE;
+
+    private static final Map<Path, SolutionCache> CACHES;
+
+    private static final String SUFFIX;
+
+    private static final Set<Flag> UNRELATED_FLAGS;
+
+    static {
+        DEFAULT_MAX_SIZE = 64 * 1024 * 1024;
+        CACHES = new ConcurrentHashMap<Path, SolutionCache>();
+        SUFFIX = ".json";
+        UNRELATED_FLAGS =
+            EnumSet.of(
+                Flag.BATCH,
+                Flag.CACHE,
+                Flag.EXERCISE,
+                Flag.INPUT,
+                Flag.METRICS,
+                Flag.PARALLELISM,
+                Flag.SERVER,
+                Flag.SOURCE,
+                Flag.TARGET
+            );
+    }
+
+    public static Collection<SolutionCache> caches() {
+        return Collections.unmodifiableCollection(SolutionCache.CACHES.values());
+    }
+
+    public static SolutionCache forDirectory(final String directory) {
+        return SolutionCache.CACHES.computeIfAbsent(
+            Path.of(directory).toAbsolutePath().normalize(),
+            path -> new SolutionCache(path, SolutionCache.DEFAULT_MAX_SIZE)
+        );
+    }
+
+    public static boolean isCacheable(final Parameters<Flag> options) {
+        return options.containsKey(Flag.CACHE)
+            && options.containsKey(Flag.SEED)
+            && (options.containsKey(Flag.INPUT) || options.containsKey(Flag.SOURCE));
+    }
+
+    private static String canonicalInput(final Parameters<Flag> options) throws IOException {
+        if (options.containsKey(Flag.SOURCE)) {
+            // keyed by the decompressed content such that compressed and plain sources share their entries
+            try (BufferedReader reader = ParserAndGenerator.openSource(options.get(Flag.SOURCE))) {
+                final StringWriter input = new StringWriter();
+                reader.transferTo(input);
+                return input.toString().replace("\r\n", "\n");
+            }
+        }
+        return options.get(Flag.INPUT).replace("\\n", "\n").replace("\r\n", "\n");
+    }
+
+    private static String key(final Algorithm algorithm, final Parameters<Flag> options) throws IOException {
+        final List<String> parts = new ArrayList<String>();
+        parts.add(algorithm.name);
+        parts.add(Main.VERSION);
+        parts.add(Main.lineSeparator());
+        parts.add(String.valueOf(LaTeXUtils.currentNumber()));
+        for (final Flag flag : Flag.values()) {
+            if (options.containsKey(flag) && !SolutionCache.UNRELATED_FLAGS.contains(flag)) {
+                parts.add(flag.shortName);
+                parts.add(options.get(flag));
+                if (flag == Flag.OPERATIONS) {
+                    parts.add(SolutionCache.referencedContent(options.get(flag)));
+                }
+            }
+        }
+        parts.add(SolutionCache.canonicalInput(options));
+        try {
+            return HexFormat.of().formatHex(
+                MessageDigest.getInstance("SHA-256").digest(Main.GSON.toJson(parts).getBytes(StandardCharsets.UTF_8))
+            );
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String referencedContent(final String value) throws IOException {
+        // some algorithms read the value of flag o as a file, so the content of an existing file is keyed as well
+        final Path path;
+        try {
+            path = Path.of(value);
+        } catch (final InvalidPathException e) {
+            return "";
+        }
+        return Files.isRegularFile(path) ? new String(Files.readAllBytes(path), StandardCharsets.ISO_8859_1) : "";
+    }
+
+    private final Path directory;
+
+    private final AtomicLong hits;
+
+    private final long maxSize;
+
+    private final AtomicLong misses;
+
+    public SolutionCache(final Path directory, final long maxSize) {
+        this.directory = directory;
+        this.maxSize = maxSize;
+        this.hits = new AtomicLong();
+        this.misses = new AtomicLong();
+    }
+
+    public Path directory() {
+        return this.directory;
+    }
+
+    /**
+     * Writes the exercise and solution for the parsed problems specified by the input. They are taken from the cache
+     * if present. Otherwise, the algorithm is executed and its results are stored in the cache.
+     * @param algorithm The algorithm to execute.
+     * @param input The input containing the options and the writers for exercise and solution.
+     * @throws IOException If some error occurs during input or output.
+     */
+    public void executeAlgorithm(final Algorithm algorithm, final AlgorithmInput input) throws IOException {
+        final Path file = this.directory.resolve(SolutionCache.key(algorithm, input.options) + SolutionCache.SUFFIX);
+        final int firstNumber = LaTeXUtils.currentNumber();
+        final Optional<Entry> cached = this.lookup(file);
+        final Entry entry;
+        if (cached.isPresent()) {
+            this.hits.incrementAndGet();
+            entry = cached.get();
+        } else {
+            this.misses.incrementAndGet();
+            final StringWriter exerciseBuffer = new StringWriter();
+            final StringWriter solutionBuffer = new StringWriter();
+            try (
+                BufferedWriter exerciseWriter = new BufferedWriter(exerciseBuffer);
+                BufferedWriter solutionWriter = new BufferedWriter(solutionBuffer);
+            ) {
+                algorithm.implementation().executeAlgorithm(
+                    new AlgorithmInput(exerciseWriter, solutionWriter, input.options)
+                );
+            }
+            entry =
+                new Entry(
+                    exerciseBuffer.toString(),
+                    solutionBuffer.toString(),
+                    LaTeXUtils.currentNumber() - firstNumber
+                );
+            this.store(file, entry);
+        }
+        input.exerciseWriter.write(entry.exercise());
+        input.solutionWriter.write(entry.solution());
+        LaTeXUtils.setNumber(firstNumber + entry.usedNumbers());
+    }
+
+    public long hits() {
+        return this.hits.get();
+    }
+
+    public long misses() {
+        return this.misses.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Solution cache %s: %d hits, %d misses", this.directory, this.hits(), this.misses());
+    }
+
+    private synchronized void evict() {
+        final File[] files = this.directory.toFile().listFiles((dir, name) -> name.endsWith(SolutionCache.SUFFIX));
+        if (files == null) {
+            return;
+        }
+        long size = 0;
+        for (final File file : files) {
+            size += file.length();
+        }
+        if (size <= this.maxSize) {
+            return;
+        }
+        final Map<File, Long> lastUsed = new LinkedHashMap<File, Long>();
+        for (final File file : files) {
+            lastUsed.put(file, file.lastModified());
+        }
+        Arrays.sort(files, Comparator.comparing(lastUsed::get));
+        for (int i = 0; i < files.length && size > this.maxSize; i++) {
+            final long length = files[i].length();
+            if (files[i].delete()) {
+                size -= length;
+            }
+        }
+    }
+
+    private Optional<Entry> lookup(final Path file) {
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try {
+            final Entry entry = Main.GSON.fromJson(Files.readString(file), Entry.class);
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            return Optional.ofNullable(entry);
+        } catch (final IOException | JsonParseException e) {
+            // entries evicted or written concurrently are just treated as missing
+            return Optional.empty();
+        }
+    }
+
+    private void store(final Path file, final Entry entry) throws IOException {
+        Files.createDirectories(this.directory);
+        final Path tmp = Files.createTempFile(this.directory, "entry", ".tmp");
+        Files.writeString(tmp, Main.GSON.toJson(entry));
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        this.evict();
+    }
+
+    private record Entry(String exercise, String solution, int usedNumbers) {}
+
+}
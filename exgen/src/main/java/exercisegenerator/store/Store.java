@@ -3,7 +3,6 @@ package exercisegenerator.store;
 import java.io.*;
 import java.nio.file.*;
 import java.util.*;
-import java.util.concurrent.*;
 import java.util.stream.*;
 
 import clit.*;
@@ -54,14 +53,10 @@ public class Store {
         options.put(Flag.TARGET, tmp.resolve(solution + texSuffix).toString());
         options.put(Flag.EXECUTION_MODE, Main.STANDALONE);
         Main.main(options);
-        Process exerciseProcess = Main.buildAndStartPDFLaTeXProcess(exercise, dir);
-        Process solutionProcess = Main.buildAndStartPDFLaTeXProcess(solution, dir);
-        exerciseProcess.waitFor(60, TimeUnit.SECONDS);
-        exerciseProcess = Main.buildAndStartPDFLaTeXProcess(exercise, dir);
-        solutionProcess.waitFor(60, TimeUnit.SECONDS);
-        solutionProcess = Main.buildAndStartPDFLaTeXProcess(solution, dir);
-        exerciseProcess.waitFor(60, TimeUnit.SECONDS);
-        solutionProcess.waitFor(60, TimeUnit.SECONDS);
+        final List<String> failed;
+        try (PDFLaTeXPipeline pipeline = new PDFLaTeXPipeline(2)) {
+            failed = pipeline.build(dir, List.of(exercise, solution));
+        }
         final String pdfSuffix = ".pdf";
         File exerciseFile = absolutePath.resolve(exercise + pdfSuffix).toFile();
         File solutionFile = absolutePath.resolve(solution + pdfSuffix).toFile();
@@ -74,14 +69,11 @@ public class Store {
         tmp.resolve(exercise + pdfSuffix).toFile().renameTo(exerciseFile);
         tmp.resolve(solution + pdfSuffix).toFile().renameTo(solutionFile);
         for (final File file : dir.listFiles()) {
-            i = 0;
-            while (!file.delete() && i < 100) {
-                i++;
-            }
+            file.delete();
         }
-        i = 0;
-        while (!dir.delete() && i < 100) {
-            i++;
+        dir.delete();
+        if (!failed.isEmpty()) {
+            throw new IOException(String.format("Could not build PDFs for %s!", String.join(" and ", failed)));
         }
     }
 
@@ -0,0 +1,38 @@
+package exercisegenerator.structures;
+
+import java.util.*;
+
+import clit.*;
+import exercisegenerator.io.*;
+
+public class GenerationContext {
+
+    public static GenerationContext fromOptions(final Parameters<Flag> options) {
+        if (options.containsKey(Flag.SEED)) {
+            return new GenerationContext(Long.parseLong(options.get(Flag.SEED)));
+        }
+        return new GenerationContext(new SplittableRandom().nextLong());
+    }
+
+    public final SplittableRandom random;
+
+    public final long seed;
+
+    public GenerationContext(final long seed) {
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Derives a new context for an independent generation task (e.g., one exercise of a sheet). The seed of the new
+     * context is drawn from a generator split off from the one of this context, such that its stream is statistically
+     * independent of the stream of this context. The derived seeds only depend on the seed of this context and the
+     * number of contexts derived so far, such that a sequence of tasks can be reproduced from the seed of this context
+     * and each single task can be reproduced from its own seed.
+     * @return A new context with a seed derived from this context.
+     */
+    public GenerationContext split() {
+        return new GenerationContext(this.random.split().nextLong());
+    }
+
+}
@@ -0,0 +1,8 @@
+package exercisegenerator.structures;
+
+/**
+ * Metadata about all problem instances of one execution of an algorithm. Problem instances are solved and printed one
+ * at a time, so the hooks framing multiple instances only get this summary instead of all problems and solutions.
+ * @param numberOfInstances The number of problem instances.
+ */
+public record InstancesSummary(int numberOfInstances) {}
@@ -376,7 +376,7 @@ public class Matrix implements MatrixTerm {
             result.append("}c");
         }
         result.append("}");
-        result.append(Main.lineSeparator);
+        result.append(Main.lineSeparator());
         for (int row = 0; row < this.getNumberOfRows(); row++) {
             boolean first = true;
             for (int column = 0; column < this.getNumberOfColumns(); column++) {
@@ -388,7 +388,7 @@ public class Matrix implements MatrixTerm {
                 result.append(LaTeXUtils.toCoefficient(this.getCoefficient(column, row)));
             }
             result.append("\\\\");
-            result.append(Main.lineSeparator);
+            result.append(Main.lineSeparator());
         }
         result.append("\\end{array}\\right)");
         return result.toString();
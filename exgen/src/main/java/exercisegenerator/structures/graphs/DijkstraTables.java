@@ -1,15 +1,17 @@
 package exercisegenerator.structures.graphs;
 
 import java.util.*;
+import java.util.function.*;
 
 import exercisegenerator.util.*;
 
 public class DijkstraTables {
 
-    public final String[][] exColor;
-    public final String[][] exTable;
-    public final String[][] solColor;
-    public final String[][] solTable;
+    private String[][] exColor;
+    private String[][] exTable;
+    private Supplier<DijkstraTables> renderer;
+    private String[][] solColor;
+    private String[][] solTable;
 
     public DijkstraTables(
         final String[][] exTable,
@@ -21,6 +23,7 @@ public class DijkstraTables {
         this.exColor = exColor;
         this.solTable = solTable;
         this.solColor = solColor;
+        this.renderer = null;
     }
 
     public DijkstraTables(
@@ -38,12 +41,22 @@ public class DijkstraTables {
         );
     }
 
+    /**
+     * Creates tables which are only rendered by the specified renderer when they are accessed for the first time.
+     * @param renderer The renderer.
+     */
+    public DijkstraTables(final Supplier<DijkstraTables> renderer) {
+        this.renderer = renderer;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (!(o instanceof DijkstraTables)) {
             return false;
         }
         final DijkstraTables other = (DijkstraTables)o;
+        this.render();
+        other.render();
         if (
             this.exTable.length != other.exTable.length
             || this.solTable.length != other.solTable.length
@@ -75,13 +88,34 @@ public class DijkstraTables {
         return true;
     }
 
+    public String[][] exColor() {
+        this.render();
+        return this.exColor;
+    }
+
+    public String[][] exTable() {
+        this.render();
+        return this.exTable;
+    }
+
     @Override
     public int hashCode() {
         return 0;
     }
 
+    public String[][] solColor() {
+        this.render();
+        return this.solColor;
+    }
+
+    public String[][] solTable() {
+        this.render();
+        return this.solTable;
+    }
+
     @Override
     public String toString() {
+        this.render();
         final StringBuilder result = new StringBuilder();
         result.append("exTable: [\n");
         for (int i = 0; i < this.exTable.length; i++) {
@@ -110,4 +144,15 @@ public class DijkstraTables {
         return result.toString();
     }
 
+    private void render() {
+        if (this.renderer != null) {
+            final DijkstraTables rendered = this.renderer.get();
+            this.exTable = rendered.exTable();
+            this.exColor = rendered.exColor();
+            this.solTable = rendered.solTable();
+            this.solColor = rendered.solColor();
+            this.renderer = null;
+        }
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,136 @@
+package exercisegenerator.structures.graphs;
+
+import java.util.*;
+
+/**
+ * Steps of the Floyd-Warshall algorithm on a matrix of primitive values. Instead of a full matrix per iteration of
+ * the outer loop, only the initial matrix and the cells changed in each iteration (with their new values) are
+ * stored. Cells are addressed row-major, i.e., the cell (from, to) has the index from * size + to.
+ */
+public class FloydWarshallSteps {
+
+    public static class Builder {
+
+        private int[] cells;
+
+        private int count;
+
+        private final List<Integer> offsets;
+
+        private long[] values;
+
+        public Builder() {
+            this.cells = new int[16];
+            this.values = new long[16];
+            this.count = 0;
+            this.offsets = new ArrayList<Integer>();
+            this.offsets.add(0);
+        }
+
+        public Builder add(final int cell, final long value) {
+            this.ensureCapacity(this.count + 1);
+            this.cells[this.count] = cell;
+            this.values[this.count] = value;
+            this.count++;
+            return this;
+        }
+
+        /**
+         * Appends the changes recorded by the specified builder in its current iteration and clears them there.
+         * @param other The builder to move the changes from.
+         * @return This builder.
+         */
+        public Builder addAll(final Builder other) {
+            this.ensureCapacity(this.count + other.count);
+            System.arraycopy(other.cells, 0, this.cells, this.count, other.count);
+            System.arraycopy(other.values, 0, this.values, this.count, other.count);
+            this.count += other.count;
+            other.count = 0;
+            return this;
+        }
+
+        public FloydWarshallSteps build(final int size, final long[] initial) {
+            if (this.offsets.size() != size + 1) {
+                throw new IllegalStateException("Number of iterations does not match the size of the matrix!");
+            }
+            return new FloydWarshallSteps(
+                size,
+                initial,
+                this.offsets.stream().mapToInt(Integer::intValue).toArray(),
+                Arrays.copyOf(this.cells, this.count),
+                Arrays.copyOf(this.values, this.count)
+            );
+        }
+
+        public Builder nextIteration() {
+            this.offsets.add(this.count);
+            return this;
+        }
+
+        private void ensureCapacity(final int capacity) {
+            if (capacity > this.cells.length) {
+                final int length = Math.max(capacity, 2 * this.cells.length);
+                this.cells = Arrays.copyOf(this.cells, length);
+                this.values = Arrays.copyOf(this.values, length);
+            }
+        }
+
+    }
+
+    private final int[] cells;
+
+    private final long[] initial;
+
+    private final int[] offsets;
+
+    private final int size;
+
+    private final long[] values;
+
+    private FloydWarshallSteps(
+        final int size,
+        final long[] initial,
+        final int[] offsets,
+        final int[] cells,
+        final long[] values
+    ) {
+        this.size = size;
+        this.initial = initial;
+        this.offsets = offsets;
+        this.cells = cells;
+        this.values = values;
+    }
+
+    public int cell(final int change) {
+        return this.cells[change];
+    }
+
+    /**
+     * @param iteration The iteration of the outer loop (starting with 1).
+     * @return The index of the first change in the specified iteration.
+     */
+    public int changesBegin(final int iteration) {
+        return this.offsets[iteration - 1];
+    }
+
+    /**
+     * @param iteration The iteration of the outer loop (starting with 1).
+     * @return The index after the last change in the specified iteration.
+     */
+    public int changesEnd(final int iteration) {
+        return this.offsets[iteration];
+    }
+
+    public long initial(final int from, final int to) {
+        return this.initial[from * this.size + to];
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public long value(final int change) {
+        return this.values[change];
+    }
+
+}
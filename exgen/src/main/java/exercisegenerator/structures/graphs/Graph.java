@@ -1,12 +1,13 @@
 package exercisegenerator.structures.graphs;
 
 import java.io.*;
-import java.math.*;
 import java.util.*;
 import java.util.Map.*;
 import java.util.function.*;
 import java.util.stream.*;
 
+import com.google.gson.stream.*;
+
 import exercisegenerator.*;
 import exercisegenerator.io.*;
 import exercisegenerator.structures.*;
@@ -50,7 +51,7 @@ public class Graph<V extends Comparable<V>, E extends Comparable<E>> {
     ) throws IOException {
         String line = reader.readLine();
         if ("!json".equals(line.trim().toLowerCase())) {
-            return Graph.create(Main.GSON.fromJson(reader, GraphJSON.class), vertexParser, edgeParser);
+            return Graph.create(Main.GSON.newJsonReader(reader), vertexParser, edgeParser);
         }
         while (line.startsWith("!")) {
             line = reader.readLine();
@@ -165,6 +166,39 @@ public class Graph<V extends Comparable<V>, E extends Comparable<E>> {
         return result;
     }
 
+    /**
+     * @param graph The graph.
+     * @param comparator The order in which the vertices are numbered (their natural order if null).
+     * @return An immutable snapshot of the specified graph with vertices and edges addressed by int indices.
+     */
+    public static <V extends Comparable<V>> IndexedGraph<V> index(
+        final Graph<V, Integer> graph,
+        final Comparator<Vertex<V>> comparator
+    ) {
+        return new IndexedGraph<V>(graph.adjacencySets, comparator);
+    }
+
+    private static <V extends Comparable<V>, E extends Comparable<E>> void addEdge(
+        final EdgeJSON edge,
+        final Map<V, Vertex<V>> verticesByLabel,
+        final Graph<V, E> graph,
+        final GridGraphLayoutBuilder<V, E> builder,
+        final LabelParser<V> vertexParser,
+        final LabelParser<E> edgeParser
+    ) throws IOException {
+        final Vertex<V> from = verticesByLabel.get(vertexParser.parse(edge.from()));
+        final Vertex<V> to = verticesByLabel.get(vertexParser.parse(edge.to()));
+        if (from == null || to == null) {
+            throw new IOException(
+                String.format("Edge from %s to %s is adjacent to a non-existing vertex!", edge.from(), edge.to())
+            );
+        }
+        graph.addEdge(from, Optional.ofNullable(edgeParser.parse(edge.label())), to);
+        if (!edge.labelStyle().isBlank() || !edge.edgeStyle().isBlank()) {
+            builder.setEdgeStyle(from, to, new EdgeStyle(edge.labelStyle(), edge.edgeStyle()));
+        }
+    }
+
     private static <E extends Comparable<E>> void addEdges(
         final Map<Coordinates2D<Integer>, List<Pair<Optional<E>, Coordinates2D<Integer>>>> edges,
         final String[] edgeLabels,
@@ -192,29 +226,128 @@ public class Graph<V extends Comparable<V>, E extends Comparable<E>> {
         }
     }
 
+    /**
+     * Streams the graph from the JSON format (an object with the vertex positions by label in nodes and the edges in
+     * edges) directly into the graph and its layout. Edges are only buffered if they precede the vertices.
+     */
     private static <V extends Comparable<V>, E extends Comparable<E>> GraphWithLayout<V, E, Integer> create(
-        final GraphJSON json,
+        final JsonReader reader,
         final LabelParser<V> vertexParser,
         final LabelParser<E> edgeParser
     ) throws IOException {
         final Graph<V, E> graph = new Graph<V, E>();
         final GridGraphLayoutBuilder<V, E> builder = GridGraphLayout.<V, E>builder().setDirected(true);
-        for (final Entry<String, Coordinates2D<Integer>> entry : json.nodes().entrySet()) {
-            final Vertex<V> vertex = new Vertex<V>(vertexParser.parse(entry.getKey()));
-            graph.addVertex(vertex);
-            builder.addVertex(vertex, entry.getValue());
-        }
-        for (final EdgeJSON edge : json.edges()) {
-            final Vertex<V> from = graph.getVertexWithUniqueLabel(vertexParser.parse(edge.from()));
-            final Vertex<V> to = graph.getVertexWithUniqueLabel(vertexParser.parse(edge.to()));
-            graph.addEdge(from, Optional.ofNullable(edgeParser.parse(edge.label())), to);
-            if (!edge.labelStyle().isBlank() || !edge.edgeStyle().isBlank()) {
-                builder.setEdgeStyle(from, to, new EdgeStyle(edge.labelStyle(), edge.edgeStyle()));
+        final Map<V, Vertex<V>> verticesByLabel = new HashMap<V, Vertex<V>>();
+        final List<EdgeJSON> pendingEdges = new ArrayList<EdgeJSON>();
+        boolean nodesRead = false;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "nodes":
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    final Vertex<V> vertex = new Vertex<V>(vertexParser.parse(reader.nextName()));
+                    if (
+                        vertex.label().isPresent()
+                        && verticesByLabel.putIfAbsent(vertex.label().get(), vertex) != null
+                    ) {
+                        throw new IllegalArgumentException(
+                            String.format("Duplicate vertex label %s!", vertex.label().get())
+                        );
+                    }
+                    graph.addVertex(vertex);
+                    builder.addVertex(vertex, Graph.readCoordinates(reader));
+                }
+                reader.endObject();
+                nodesRead = true;
+                break;
+            case "edges":
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    final EdgeJSON edge = Graph.readEdge(reader);
+                    if (nodesRead) {
+                        Graph.addEdge(edge, verticesByLabel, graph, builder, vertexParser, edgeParser);
+                    } else {
+                        pendingEdges.add(edge);
+                    }
+                }
+                reader.endArray();
+                break;
+            default:
+                reader.skipValue();
             }
         }
+        reader.endObject();
+        for (final EdgeJSON edge : pendingEdges) {
+            Graph.addEdge(edge, verticesByLabel, graph, builder, vertexParser, edgeParser);
+        }
         return new GraphWithLayout<V, E, Integer>(graph, builder.build());
     }
 
+    private static Coordinates2D<Integer> readCoordinates(final JsonReader reader) throws IOException {
+        Integer x = null;
+        Integer y = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "x":
+                x = reader.nextInt();
+                break;
+            case "y":
+                y = reader.nextInt();
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return new Coordinates2D<Integer>(x, y);
+    }
+
+    private static EdgeJSON readEdge(final JsonReader reader) throws IOException {
+        String from = null;
+        String label = null;
+        String to = null;
+        String labelStyle = null;
+        String edgeStyle = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "from":
+                from = Graph.readString(reader);
+                break;
+            case "label":
+                label = Graph.readString(reader);
+                break;
+            case "to":
+                to = Graph.readString(reader);
+                break;
+            case "labelStyle":
+                labelStyle = Graph.readString(reader);
+                break;
+            case "edgeStyle":
+                edgeStyle = Graph.readString(reader);
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return new EdgeJSON(from, label, to, labelStyle, edgeStyle);
+    }
+
+    private static String readString(final JsonReader reader) throws IOException {
+        switch (reader.peek()) {
+        case NULL:
+            reader.nextNull();
+            return null;
+        case BOOLEAN:
+            return String.valueOf(reader.nextBoolean());
+        default:
+            return reader.nextString();
+        }
+    }
+
     private static <E extends Comparable<E>> boolean someVertexIsMissingForAnEdge(
         final Set<Coordinates2D<Integer>> vertexPositions,
         final Map<Coordinates2D<Integer>, List<Pair<Optional<E>, Coordinates2D<Integer>>>> edges
@@ -305,15 +438,13 @@ public class Graph<V extends Comparable<V>, E extends Comparable<E>> {
 
     public Set<UndirectedEdge<V, E>> getAllUndirectedEdges() {
         final Set<UndirectedEdge<V, E>> result = new TreeSet<UndirectedEdge<V, E>>();
-        final List<Pair<BigInteger,BigInteger>> finishedVertexPairs =
-            new ArrayList<Pair<BigInteger,BigInteger>>();
+        final Set<Pair<Long, Long>> finishedVertexPairs = new HashSet<Pair<Long, Long>>();
         for (final Entry<Vertex<V>, Set<Edge<E, V>>> entry : this.adjacencySets.entrySet()) {
             for (final Edge<E, V> edge : entry.getValue()) {
-                final Pair<BigInteger,BigInteger> reverseVertexPair =
-                    new Pair<BigInteger,BigInteger>(edge.to().id(), entry.getKey().id());
+                final Pair<Long, Long> reverseVertexPair = new Pair<Long, Long>(edge.to().id(), entry.getKey().id());
                 if (!finishedVertexPairs.contains(reverseVertexPair)) {
                     result.add(new UndirectedEdge<V, E>(entry.getKey(), edge.label(), edge.to()));
-                    finishedVertexPairs.add(new Pair<BigInteger,BigInteger>(entry.getKey().id(), edge.to().id()));
+                    finishedVertexPairs.add(new Pair<Long, Long>(entry.getKey().id(), edge.to().id()));
                 }
             }
         }
@@ -328,6 +459,32 @@ public class Graph<V extends Comparable<V>, E extends Comparable<E>> {
         return result;
     }
 
+    /**
+     * @param from The source vertex.
+     * @return The labels of the edges from the source vertex grouped by their target vertices in ascending order. The
+     *         adjacency set is walked once, so this is linear in the number of edges instead of calling getEdges for
+     *         each target vertex.
+     */
+    public SortedMap<Vertex<V>, List<E>> getEdgeLabelsByTarget(final Vertex<V> from) {
+        final SortedMap<Vertex<V>, List<E>> result = new TreeMap<Vertex<V>, List<E>>();
+        final Set<Edge<E, V>> set = this.adjacencySets.get(from);
+        if (set == null) {
+            return result;
+        }
+        for (final Edge<E, V> edge : set) {
+            final List<E> labels = result.computeIfAbsent(edge.to(), to -> new ArrayList<E>(1));
+            if (edge.label().isPresent()) {
+                labels.add(edge.label().get());
+            }
+        }
+        if (!(set instanceof SortedSet)) {
+            for (final List<E> labels : result.values()) {
+                Collections.sort(labels);
+            }
+        }
+        return result;
+    }
+
     public Set<Edge<E, V>> getEdges(final Vertex<V> from, final Vertex<V> to) {
         final Set<Edge<E, V>> res = new TreeSet<Edge<E, V>>();
         final Set<Edge<E, V>> set = this.adjacencySets.get(from);
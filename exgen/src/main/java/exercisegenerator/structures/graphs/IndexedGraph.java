@@ -0,0 +1,93 @@
+package exercisegenerator.structures.graphs;
+
+import java.util.*;
+
+/**
+ * Immutable snapshot of a graph with integer edge labels in compressed sparse row format. Vertices are numbered from
+ * 0 in the order given by a comparator (ties broken by their ids) and the outgoing edges of vertex i are the edges
+ * from edgesBegin(i) to edgesEnd(i) (exclusive), sorted by their target vertices and weights. Edges without label have
+ * weight 0.
+ */
+public class IndexedGraph<V extends Comparable<V>> {
+
+    private final Map<Vertex<V>, Integer> indices;
+
+    private final int[] offsets;
+
+    private final int[] targets;
+
+    private final List<Vertex<V>> vertices;
+
+    private final int[] weights;
+
+    IndexedGraph(final AdjacencySets<V, Integer> adjacencySets, final Comparator<Vertex<V>> comparator) {
+        final List<Vertex<V>> sorted = new ArrayList<Vertex<V>>(adjacencySets.keySet());
+        sorted.sort(comparator.thenComparingLong(Vertex::id));
+        this.vertices = Collections.unmodifiableList(sorted);
+        this.indices = new HashMap<Vertex<V>, Integer>(2 * sorted.size());
+        for (int i = 0; i < sorted.size(); i++) {
+            this.indices.put(sorted.get(i), i);
+        }
+        this.offsets = new int[sorted.size() + 1];
+        for (int i = 0; i < sorted.size(); i++) {
+            this.offsets[i + 1] = this.offsets[i] + adjacencySets.get(sorted.get(i)).size();
+        }
+        this.targets = new int[this.offsets[sorted.size()]];
+        this.weights = new int[this.targets.length];
+        for (int i = 0; i < sorted.size(); i++) {
+            // sort by target and then weight, where flipping the sign bit orders the weights as unsigned integers
+            final long[] keys = new long[this.offsets[i + 1] - this.offsets[i]];
+            int k = 0;
+            for (final Edge<Integer, V> edge : adjacencySets.get(sorted.get(i))) {
+                final int weight = edge.label().orElse(0);
+                keys[k++] = ((long)this.indices.get(edge.to()) << 32) | ((weight ^ Integer.MIN_VALUE) & 0xFFFFFFFFL);
+            }
+            Arrays.sort(keys);
+            for (k = 0; k < keys.length; k++) {
+                this.targets[this.offsets[i] + k] = (int)(keys[k] >>> 32);
+                this.weights[this.offsets[i] + k] = ((int)keys[k]) ^ Integer.MIN_VALUE;
+            }
+        }
+    }
+
+    public int edgesBegin(final int vertex) {
+        return this.offsets[vertex];
+    }
+
+    public int edgesEnd(final int vertex) {
+        return this.offsets[vertex + 1];
+    }
+
+    public int index(final Vertex<V> vertex) {
+        final Integer index = this.indices.get(vertex);
+        if (index == null) {
+            throw new IllegalArgumentException(String.format("%s is not contained in this graph!", vertex));
+        }
+        return index;
+    }
+
+    public int numberOfEdges() {
+        return this.targets.length;
+    }
+
+    public int size() {
+        return this.vertices.size();
+    }
+
+    public int target(final int edge) {
+        return this.targets[edge];
+    }
+
+    public Vertex<V> vertex(final int index) {
+        return this.vertices.get(index);
+    }
+
+    public List<Vertex<V>> vertices() {
+        return this.vertices;
+    }
+
+    public int weight(final int edge) {
+        return this.weights[edge];
+    }
+
+}
@@ -0,0 +1,137 @@
+package exercisegenerator.structures.graphs;
+
+import java.util.*;
+
+/**
+ * D-ary min-heap over the elements 0 to capacity - 1 with integer keys. Elements with equal keys are ordered by
+ * their indices, so the heap always yields the smallest element with minimal key. The position of each element is
+ * tracked to support decreasing keys in logarithmic time.
+ */
+public class IndexedHeap {
+
+    private final int arity;
+
+    private final int[] heap;
+
+    private final int[] keys;
+
+    private final int[] positions;
+
+    private int size;
+
+    public IndexedHeap(final int capacity) {
+        this(capacity, 2);
+    }
+
+    /**
+     * @param capacity The number of elements.
+     * @param arity The number of children per node. Higher arities make decreasing keys cheaper and polling more
+     *              expensive.
+     */
+    public IndexedHeap(final int capacity, final int arity) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("The arity of a heap must be at least 2!");
+        }
+        this.arity = arity;
+        this.heap = new int[capacity];
+        this.keys = new int[capacity];
+        this.positions = new int[capacity];
+        Arrays.fill(this.positions, -1);
+        this.size = 0;
+    }
+
+    public boolean contains(final int element) {
+        return this.positions[element] >= 0;
+    }
+
+    /**
+     * Inserts the specified element with the specified key or decreases its key if it is already contained. Keys
+     * are never increased.
+     * @param element The element.
+     * @param key The new key.
+     */
+    public void insertOrDecrease(final int element, final int key) {
+        if (this.contains(element)) {
+            if (key >= this.keys[element]) {
+                return;
+            }
+        } else {
+            this.positions[element] = this.size;
+            this.heap[this.size] = element;
+            this.size++;
+        }
+        this.keys[element] = key;
+        this.siftUp(this.positions[element]);
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public int key(final int element) {
+        return this.keys[element];
+    }
+
+    public int poll() {
+        if (this.isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        final int result = this.heap[0];
+        this.size--;
+        this.positions[result] = -1;
+        if (this.size > 0) {
+            this.heap[0] = this.heap[this.size];
+            this.positions[this.heap[0]] = 0;
+            this.siftDown(0);
+        }
+        return result;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    private boolean less(final int first, final int second) {
+        return this.keys[first] < this.keys[second] || this.keys[first] == this.keys[second] && first < second;
+    }
+
+    private void siftDown(final int position) {
+        final int element = this.heap[position];
+        int current = position;
+        while (this.arity * current + 1 < this.size) {
+            final int firstChild = this.arity * current + 1;
+            final int lastChild = Math.min(this.size, firstChild + this.arity);
+            int child = firstChild;
+            for (int next = firstChild + 1; next < lastChild; next++) {
+                if (this.less(this.heap[next], this.heap[child])) {
+                    child = next;
+                }
+            }
+            if (!this.less(this.heap[child], element)) {
+                break;
+            }
+            this.heap[current] = this.heap[child];
+            this.positions[this.heap[current]] = current;
+            current = child;
+        }
+        this.heap[current] = element;
+        this.positions[element] = current;
+    }
+
+    private void siftUp(final int position) {
+        final int element = this.heap[position];
+        int current = position;
+        while (current > 0) {
+            final int parent = (current - 1) / this.arity;
+            if (!this.less(element, this.heap[parent])) {
+                break;
+            }
+            this.heap[current] = this.heap[parent];
+            this.positions[this.heap[current]] = current;
+            current = parent;
+        }
+        this.heap[current] = element;
+        this.positions[element] = current;
+    }
+
+}
@@ -1,18 +1,42 @@
 package exercisegenerator.structures.graphs;
 
 import java.util.*;
+import java.util.function.*;
 
-public record PrimResult<V extends Comparable<V>>(
-    PrimEntry[][] table,
-    GraphWithLayout<V, Integer, Integer> treeWithLayout
-) {
+public class PrimResult<V extends Comparable<V>> {
+
+    private PrimEntry[][] table;
+
+    private Supplier<PrimEntry[][]> tableRenderer;
+
+    private final GraphWithLayout<V, Integer, Integer> treeWithLayout;
+
+    public PrimResult(final PrimEntry[][] table, final GraphWithLayout<V, Integer, Integer> treeWithLayout) {
+        this.table = table;
+        this.tableRenderer = null;
+        this.treeWithLayout = treeWithLayout;
+    }
+
+    /**
+     * Creates a result whose table is only rendered by the specified renderer when it is accessed for the first time.
+     * @param tableRenderer The renderer.
+     * @param treeWithLayout The minimum spanning tree.
+     */
+    public PrimResult(
+        final Supplier<PrimEntry[][]> tableRenderer,
+        final GraphWithLayout<V, Integer, Integer> treeWithLayout
+    ) {
+        this.table = null;
+        this.tableRenderer = tableRenderer;
+        this.treeWithLayout = treeWithLayout;
+    }
 
     @Override
     @SuppressWarnings("unchecked")
     public boolean equals(final Object o) {
         if (o instanceof PrimResult) {
             final PrimResult<V> other = (PrimResult<V>)o;
-            return Arrays.deepEquals(this.table, other.table)
+            return Arrays.deepEquals(this.table(), other.table())
                 && this.treeWithLayout().graph().logicallyEquals(other.treeWithLayout().graph());
         }
         return false;
@@ -20,12 +44,24 @@ public record PrimResult<V extends Comparable<V>>(
 
     @Override
     public int hashCode() {
-        return this.table.hashCode() * 2 + this.treeWithLayout().graph().hashCode() * 3;
+        return this.table().hashCode() * 2 + this.treeWithLayout().graph().hashCode() * 3;
+    }
+
+    public PrimEntry[][] table() {
+        if (this.tableRenderer != null) {
+            this.table = this.tableRenderer.get();
+            this.tableRenderer = null;
+        }
+        return this.table;
     }
 
     @Override
     public String toString() {
-        return String.format("(%s, %s)", Arrays.deepToString(this.table), this.treeWithLayout().graph().toString());
+        return String.format("(%s, %s)", Arrays.deepToString(this.table()), this.treeWithLayout().graph().toString());
+    }
+
+    public GraphWithLayout<V, Integer, Integer> treeWithLayout() {
+        return this.treeWithLayout;
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,78 @@
+package exercisegenerator.structures.graphs;
+
+/**
+ * Set of the elements 0 to capacity - 1 supporting insertion, removal, and selecting the element with a given rank
+ * (i.e., the k-th smallest contained element) in logarithmic time. The contained elements are counted by a Fenwick
+ * tree, so selecting by rank keeps the order of the elements unlike removing by swapping with the last element.
+ */
+public class RankedIndexSet {
+
+    private final boolean[] contained;
+
+    private int size;
+
+    // 1-based Fenwick tree counting the contained elements
+    private final int[] tree;
+
+    public RankedIndexSet(final int capacity) {
+        this.contained = new boolean[capacity];
+        this.size = 0;
+        this.tree = new int[capacity + 1];
+    }
+
+    public boolean add(final int element) {
+        if (this.contained[element]) {
+            return false;
+        }
+        this.contained[element] = true;
+        this.size++;
+        this.update(element, 1);
+        return true;
+    }
+
+    public boolean contains(final int element) {
+        return this.contained[element];
+    }
+
+    public boolean remove(final int element) {
+        if (!this.contained[element]) {
+            return false;
+        }
+        this.contained[element] = false;
+        this.size--;
+        this.update(element, -1);
+        return true;
+    }
+
+    /**
+     * @param rank The number of smaller elements contained in this set.
+     * @return The element with the specified rank.
+     */
+    public int select(final int rank) {
+        if (rank < 0 || rank >= this.size) {
+            throw new IndexOutOfBoundsException(
+                String.format("Rank %d is out of bounds for size %d!", rank, this.size)
+            );
+        }
+        int position = 0;
+        int remaining = rank;
+        for (int step = Integer.highestOneBit(this.tree.length - 1); step > 0; step >>= 1) {
+            if (position + step < this.tree.length && this.tree[position + step] <= remaining) {
+                position += step;
+                remaining -= this.tree[position];
+            }
+        }
+        return position;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    private void update(final int element, final int delta) {
+        for (int position = element + 1; position < this.tree.length; position += position & -position) {
+            this.tree[position] += delta;
+        }
+    }
+
+}
@@ -1,67 +1,206 @@
 package exercisegenerator.structures.graphs;
 import java.util.*;
+import java.util.stream.*;
 
-public class UnionFind<E extends Comparable<E>> extends TreeMap<E, E> {
+/**
+ * Disjoint-set forest over int indices with a dictionary from elements to indices. As a map, it maps each element
+ * to its parent in the forest and iterates the elements in their natural order.
+ */
+public class UnionFind<E extends Comparable<E>> extends AbstractMap<E, E> {
 
-    private static final long serialVersionUID = 1L;
+    private final List<E> elements;
+
+    private final Map<E, Integer> indices;
+
+    private int[] parents;
+
+    private int[] sizes;
+
+    private int[] sorted;
 
     public UnionFind() {
-        super();
+        this.elements = new ArrayList<E>();
+        this.indices = new HashMap<E, Integer>();
+        this.parents = new int[16];
+        this.sizes = new int[16];
+        this.sorted = null;
     }
 
     public UnionFind(final Collection<E> elements) {
-        super();
+        this();
         for (final E element : elements) {
-            this.put(element, element);
+            this.index(element);
         }
     }
 
     public UnionFind(final Map<E, E> representations) {
-        super(representations);
+        this();
+        for (final E element : representations.keySet()) {
+            this.index(element);
+        }
+        for (final Map.Entry<E, E> entry : representations.entrySet()) {
+            this.parents[this.index(entry.getKey())] = this.index(entry.getValue());
+        }
+        // the roots are memoized instead of compressing the paths to keep the specified representations
+        final int[] roots = new int[this.elements.size()];
+        Arrays.fill(roots, -1);
+        for (int i = 0; i < roots.length; i++) {
+            int root = i;
+            while (roots[root] < 0 && this.parents[root] != root) {
+                root = this.parents[root];
+            }
+            if (roots[root] >= 0) {
+                root = roots[root];
+            }
+            for (int current = i; roots[current] < 0; current = this.parents[current]) {
+                roots[current] = root;
+            }
+            if (root != i) {
+                this.sizes[root]++;
+            }
+        }
+    }
+
+    public UnionFind(final UnionFind<E> unionFind) {
+        this.elements = new ArrayList<E>(unionFind.elements);
+        this.indices = new HashMap<E, Integer>(unionFind.indices);
+        this.parents = Arrays.copyOf(unionFind.parents, unionFind.parents.length);
+        this.sizes = Arrays.copyOf(unionFind.sizes, unionFind.sizes.length);
+        this.sorted = unionFind.sorted;
     }
 
     public boolean connected(final E first, final E second) {
-        return this.find(first).equals(this.find(second));
+        return this.root(this.index(first)) == this.root(this.index(second));
     }
 
-    public E find(final E element) {
-        if (this.containsKey(element)) {
-            final E representedBy = this.get(element);
-            if (representedBy.equals(element)) {
-                return representedBy;
-            }
-            final E res = this.find(representedBy);
-            this.put(element, res);
-            return res;
-        } else {
-            this.put(element, element);
-            return element;
+    @Override
+    public boolean containsKey(final Object element) {
+        return this.indices.containsKey(element);
+    }
+
+    @Override
+    public Set<Map.Entry<E, E>> entrySet() {
+        final Set<Map.Entry<E, E>> result = new LinkedHashSet<Map.Entry<E, E>>();
+        for (final int index : this.sortedIndices()) {
+            result.add(
+                new AbstractMap.SimpleImmutableEntry<E, E>(
+                    this.elements.get(index),
+                    this.elements.get(this.parents[index])
+                )
+            );
         }
+        return Collections.unmodifiableSet(result);
+    }
+
+    public E find(final E element) {
+        return this.elements.get(this.root(this.index(element)));
+    }
+
+    @Override
+    public E get(final Object element) {
+        final Integer index = this.indices.get(element);
+        return index == null ? null : this.elements.get(this.parents[index]);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.elements.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return this.elements.size();
     }
 
     public Graph<E, Integer> toGraph() {
-        final Set<E> added = new LinkedHashSet<E>();
+        final List<Vertex<E>> vertices = new ArrayList<Vertex<E>>(Collections.nCopies(this.elements.size(), null));
         final Graph<E, Integer> result = new Graph<E, Integer>();
-        for (final Map.Entry<E, E> entry : this.entrySet()) {
-            if (!added.contains(entry.getKey())) {
-                result.addVertex(new Vertex<E>(entry.getKey()));
-                added.add(entry.getKey());
+        for (final int index : this.sortedIndices()) {
+            for (final int element : new int[] {index, this.parents[index]}) {
+                if (vertices.get(element) == null) {
+                    vertices.set(element, new Vertex<E>(this.elements.get(element)));
+                    result.addVertex(vertices.get(element));
+                }
             }
-            if (!added.contains(entry.getValue())) {
-                result.addVertex(new Vertex<E>(entry.getValue()));
-                added.add(entry.getValue());
-            }
-            result.addEdge(
-                result.getVerticesWithLabel(entry.getKey()).iterator().next(),
-                Optional.empty(),
-                result.getVerticesWithLabel(entry.getValue()).iterator().next()
-            );
+            result.addEdge(vertices.get(index), Optional.empty(), vertices.get(this.parents[index]));
         }
         return result;
     }
 
+    /**
+     * Links the root of the first element below the root of the second element.
+     * @param first The first element.
+     * @param second The second element.
+     */
     public void union(final E first, final E second) {
-        this.put(this.find(first), this.find(second));
+        this.link(this.root(this.index(first)), this.root(this.index(second)));
+    }
+
+    /**
+     * Links the root of the smaller tree below the root of the larger tree (or the root of the first element below
+     * the root of the second element if both trees have the same size).
+     * @param first The first element.
+     * @param second The second element.
+     */
+    public void unionBySize(final E first, final E second) {
+        final int firstRoot = this.root(this.index(first));
+        final int secondRoot = this.root(this.index(second));
+        if (this.sizes[firstRoot] > this.sizes[secondRoot]) {
+            this.link(secondRoot, firstRoot);
+        } else {
+            this.link(firstRoot, secondRoot);
+        }
+    }
+
+    private int index(final E element) {
+        final Integer index = this.indices.get(element);
+        if (index != null) {
+            return index;
+        }
+        final int result = this.elements.size();
+        if (result == this.parents.length) {
+            this.parents = Arrays.copyOf(this.parents, 2 * result);
+            this.sizes = Arrays.copyOf(this.sizes, 2 * result);
+        }
+        this.elements.add(element);
+        this.indices.put(element, result);
+        this.parents[result] = result;
+        this.sizes[result] = 1;
+        this.sorted = null;
+        return result;
+    }
+
+    private void link(final int child, final int root) {
+        if (child != root) {
+            this.parents[child] = root;
+            this.sizes[root] += this.sizes[child];
+        }
+    }
+
+    private int root(final int index) {
+        int root = index;
+        while (this.parents[root] != root) {
+            root = this.parents[root];
+        }
+        int current = index;
+        while (current != root) {
+            final int next = this.parents[current];
+            this.parents[current] = root;
+            current = next;
+        }
+        return root;
+    }
+
+    private int[] sortedIndices() {
+        if (this.sorted == null) {
+            this.sorted =
+                IntStream.range(0, this.elements.size())
+                .boxed()
+                .sorted(Comparator.comparing(this.elements::get))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        }
+        return this.sorted;
     }
 
 }
@@ -1,20 +1,36 @@
 package exercisegenerator.structures.graphs;
 
-import java.math.*;
 import java.util.*;
 
-public record Vertex<L extends Comparable<L>>(BigInteger id, Optional<L> label) implements Comparable<Vertex<L>> {
+/**
+ * Vertices are identified by their ids and the scope in which the ids were allocated. Each thread allocates its ids in
+ * its own scope and starts a new scope for each exercise, such that concurrently generated exercises neither contend
+ * for each other's ids nor mistake vertices of another thread or exercise for their own.
+ */
+public record Vertex<L extends Comparable<L>>(
+    long id,
+    Optional<L> label,
+    Vertex.IDScope scope
+) implements Comparable<Vertex<L>> {
 
-    private static BigInteger nextID = BigInteger.ONE;
+    public static final class IDScope {
 
-    public static BigInteger getNewID() {
-        final BigInteger res = Vertex.nextID;
-        Vertex.nextID = Vertex.nextID.add(BigInteger.ONE);
-        return res;
+        private long nextID = 1;
+
+    }
+
+    private static final ThreadLocal<IDScope> SCOPE;
+
+    static {
+        SCOPE = ThreadLocal.withInitial(IDScope::new);
+    }
+
+    public static long getNewID() {
+        return Vertex.SCOPE.get().nextID++;
     }
 
     public static void resetIDs() {
-        Vertex.nextID = BigInteger.ONE;
+        Vertex.SCOPE.set(new IDScope());
     }
 
     public Vertex() {
@@ -25,6 +41,10 @@ public record Vertex<L extends Comparable<L>>(BigInteger id, Optional<L> label)
         this(Optional.of(label));
     }
 
+    public Vertex(final long id, final Optional<L> label) {
+        this(id, label, Vertex.SCOPE.get());
+    }
+
     public Vertex(final Optional<L> label) {
         this(Vertex.getNewID(), label);
     }
@@ -32,14 +52,15 @@ public record Vertex<L extends Comparable<L>>(BigInteger id, Optional<L> label)
     @Override
     public boolean equals(final Object o) {
         if (o instanceof Vertex) {
-            return this.id.equals(((Vertex<?>)o).id);
+            final Vertex<?> other = (Vertex<?>)o;
+            return this.id == other.id && this.scope == other.scope;
         }
         return false;
     }
 
     @Override
     public int hashCode() {
-        return this.id.hashCode();
+        return Long.hashCode(this.id);
     }
 
     public boolean logicallyEquals(final Vertex<L> otherVertex) {
@@ -50,7 +71,7 @@ public record Vertex<L extends Comparable<L>>(BigInteger id, Optional<L> label)
     public String toString() {
         return String.format(
             "Vertex %s%s",
-            this.id.toString(),
+            this.id,
             this.label.isEmpty() ? "" : ": " + this.label.get().toString()
         );
     }
@@ -59,7 +80,7 @@ public record Vertex<L extends Comparable<L>>(BigInteger id, Optional<L> label)
     public int compareTo(final Vertex<L> o) {
         if (this.label().isEmpty()) {
             if (o.label().isEmpty()) {
-                return this.id().compareTo(o.id());
+                return Long.compare(this.id(), o.id());
             }
             return -1;
         }
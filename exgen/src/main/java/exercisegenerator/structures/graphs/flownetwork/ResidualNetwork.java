@@ -0,0 +1,310 @@
+package exercisegenerator.structures.graphs.flownetwork;
+
+import java.util.*;
+
+import exercisegenerator.structures.graphs.*;
+
+/**
+ * Flow network with its residual capacities addressed by int indices. The residual capacities are updated
+ * incrementally along each augmenting path, and the flow network and residual graph are only materialized as Graph
+ * objects on request. Vertices are numbered in their natural order, which is also the order in which augmenting
+ * paths are searched, so the paths match a breadth-first search on the materialized residual graph.
+ */
+public class ResidualNetwork<V extends Comparable<V>> {
+
+    private static int[] copy(final int[][] values, final int pair) {
+        return Arrays.copyOf(values[pair], values[pair].length);
+    }
+
+    // slot of (a,b) -> pair of the edges from b to a or -1
+    private final int[] backwardPairs;
+
+    private final int[][] capacities;
+
+    private final int[][] flows;
+
+    // slot of (a,b) -> pair of the edges from a to b or -1
+    private final int[] forwardPairs;
+
+    private final Map<Vertex<V>, Integer> indices;
+
+    private final Graph<V, FlowAndCapacity> network;
+
+    private final int[] offsets;
+
+    private final int[] pairFrom;
+
+    private final int[] pairTo;
+
+    private final int[] residuals;
+
+    private final int[] targets;
+
+    private final List<Vertex<V>> vertices;
+
+    public ResidualNetwork(final Graph<V, FlowAndCapacity> network) {
+        this.network = network;
+        this.vertices = new ArrayList<Vertex<V>>(network.getVertices());
+        final int size = this.vertices.size();
+        this.indices = new HashMap<Vertex<V>, Integer>(2 * size);
+        for (int i = 0; i < size; i++) {
+            this.indices.put(this.vertices.get(i), i);
+        }
+        final List<Integer> from = new ArrayList<Integer>();
+        final List<Integer> to = new ArrayList<Integer>();
+        final List<List<FlowAndCapacity>> labels = new ArrayList<List<FlowAndCapacity>>();
+        final List<SortedSet<Integer>> neighbours = new ArrayList<SortedSet<Integer>>(size);
+        for (int i = 0; i < size; i++) {
+            neighbours.add(new TreeSet<Integer>());
+        }
+        for (int i = 0; i < size; i++) {
+            for (
+                final Map.Entry<Vertex<V>, List<FlowAndCapacity>> entry :
+                    network.getEdgeLabelsByTarget(this.vertices.get(i)).entrySet()
+            ) {
+                final int target = this.index(entry.getKey());
+                from.add(i);
+                to.add(target);
+                labels.add(entry.getValue());
+                neighbours.get(i).add(target);
+                neighbours.get(target).add(i);
+            }
+        }
+        this.offsets = new int[size + 1];
+        for (int i = 0; i < size; i++) {
+            this.offsets[i + 1] = this.offsets[i] + neighbours.get(i).size();
+        }
+        this.targets = new int[this.offsets[size]];
+        for (int i = 0; i < size; i++) {
+            int slot = this.offsets[i];
+            for (final int neighbour : neighbours.get(i)) {
+                this.targets[slot++] = neighbour;
+            }
+        }
+        this.pairFrom = from.stream().mapToInt(Integer::intValue).toArray();
+        this.pairTo = to.stream().mapToInt(Integer::intValue).toArray();
+        this.flows = new int[labels.size()][];
+        this.capacities = new int[labels.size()][];
+        this.forwardPairs = new int[this.targets.length];
+        this.backwardPairs = new int[this.targets.length];
+        this.residuals = new int[this.targets.length];
+        Arrays.fill(this.forwardPairs, -1);
+        Arrays.fill(this.backwardPairs, -1);
+        for (int pair = 0; pair < labels.size(); pair++) {
+            this.flows[pair] = labels.get(pair).stream().mapToInt(FlowAndCapacity::flow).toArray();
+            this.capacities[pair] = labels.get(pair).stream().mapToInt(FlowAndCapacity::capacity).toArray();
+            this.forwardPairs[this.slot(this.pairFrom[pair], this.pairTo[pair])] = pair;
+            this.backwardPairs[this.slot(this.pairTo[pair], this.pairFrom[pair])] = pair;
+        }
+        for (int slot = 0; slot < this.targets.length; slot++) {
+            this.residuals[slot] = this.computeResidual(slot);
+        }
+    }
+
+    /**
+     * Adds the maximal possible flow along the specified augmenting path. The flow is added to the edges in the
+     * direction of the path first and then subtracted from the edges in the opposite direction.
+     * @param path The augmenting path as vertex indices.
+     * @return The edges of the flow network changed by the augmentation with their new labels.
+     */
+    public Set<FordFulkersonPathStep<V, FlowAndCapacity>> augment(final int[] path) {
+        int min = Integer.MAX_VALUE;
+        for (int i = 1; i < path.length; i++) {
+            min = Math.min(min, this.computePathCapacity(this.slot(path[i - 1], path[i])));
+        }
+        final Set<FordFulkersonPathStep<V, FlowAndCapacity>> result =
+            new LinkedHashSet<FordFulkersonPathStep<V, FlowAndCapacity>>();
+        for (int i = 1; i < path.length; i++) {
+            final int slot = this.slot(path[i - 1], path[i]);
+            int flow = min;
+            final int forward = this.forwardPairs[slot];
+            if (forward >= 0) {
+                final int[] currentFlows = ResidualNetwork.copy(this.flows, forward);
+                final int[] currentCapacities = ResidualNetwork.copy(this.capacities, forward);
+                for (int k = 0; k < currentFlows.length; k++) {
+                    final int added = Math.min(flow, currentCapacities[k] - currentFlows[k]);
+                    if (added > 0) {
+                        flow -= added;
+                        result.add(this.replaceLabels(forward, currentFlows[k] + added, currentCapacities[k]));
+                    }
+                }
+            }
+            final int backward = this.backwardPairs[slot];
+            if (backward >= 0) {
+                final int[] currentFlows = ResidualNetwork.copy(this.flows, backward);
+                final int[] currentCapacities = ResidualNetwork.copy(this.capacities, backward);
+                for (int k = 0; k < currentFlows.length; k++) {
+                    final int added = Math.min(flow, currentFlows[k]);
+                    if (added > 0) {
+                        flow -= added;
+                        result.add(this.replaceLabels(backward, currentFlows[k] - added, currentCapacities[k]));
+                    }
+                }
+            }
+            if (flow > 0) {
+                throw new IllegalStateException("Could not add flow!");
+            }
+            this.residuals[slot] = this.computeResidual(slot);
+            final int reverse = this.slot(path[i], path[i - 1]);
+            this.residuals[reverse] = this.computeResidual(reverse);
+        }
+        return result;
+    }
+
+    /**
+     * Searches a shortest augmenting path by a breadth-first search with parent pointers.
+     * @param source The source.
+     * @param sink The sink.
+     * @return The vertex indices of the first shortest augmenting path in the natural order of the vertices if any.
+     */
+    public Optional<int[]> augmentingPath(final Vertex<V> source, final Vertex<V> sink) {
+        final int start = this.index(source);
+        final int end = this.index(sink);
+        final int[] parents = new int[this.vertices.size()];
+        final boolean[] visited = new boolean[this.vertices.size()];
+        final int[] queue = new int[this.vertices.size()];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = start;
+        visited[start] = true;
+        while (head < tail) {
+            final int vertex = queue[head++];
+            for (int slot = this.offsets[vertex]; slot < this.offsets[vertex + 1]; slot++) {
+                final int target = this.targets[slot];
+                if (this.residuals[slot] <= 0 || visited[target]) {
+                    continue;
+                }
+                parents[target] = vertex;
+                if (target == end) {
+                    int length = 1;
+                    for (int current = end; current != start; current = parents[current]) {
+                        length++;
+                    }
+                    final int[] path = new int[length];
+                    for (int current = end; length > 0; current = parents[current]) {
+                        path[--length] = current;
+                    }
+                    return Optional.of(path);
+                }
+                visited[target] = true;
+                queue[tail++] = target;
+            }
+        }
+        return Optional.empty();
+    }
+
+    public Graph<V, FlowAndCapacity> flowNetwork() {
+        final Graph<V, FlowAndCapacity> result = this.network.nodeCopy();
+        for (int pair = 0; pair < this.pairFrom.length; pair++) {
+            for (int k = 0; k < this.flows[pair].length; k++) {
+                result.addEdge(
+                    this.vertices.get(this.pairFrom[pair]),
+                    Optional.of(new FlowAndCapacity(this.flows[pair][k], this.capacities[pair][k])),
+                    this.vertices.get(this.pairTo[pair])
+                );
+            }
+        }
+        return result;
+    }
+
+    public int index(final Vertex<V> vertex) {
+        final Integer index = this.indices.get(vertex);
+        if (index == null) {
+            throw new IllegalArgumentException(String.format("%s is not contained in this network!", vertex));
+        }
+        return index;
+    }
+
+    public Graph<V, Integer> residualGraph() {
+        final Graph<V, Integer> result = new Graph<V, Integer>();
+        for (int vertex = 0; vertex < this.vertices.size(); vertex++) {
+            result.addVertex(this.vertices.get(vertex));
+            for (int slot = this.offsets[vertex]; slot < this.offsets[vertex + 1]; slot++) {
+                if (this.residuals[slot] > 0) {
+                    result.addEdge(
+                        this.vertices.get(vertex),
+                        Optional.of(this.residuals[slot]),
+                        this.vertices.get(this.targets[slot])
+                    );
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @param path The augmenting path as vertex indices.
+     * @return The edges of the current residual graph along the specified path.
+     */
+    public Set<FordFulkersonPathStep<V, Integer>> residualPath(final int[] path) {
+        final Set<FordFulkersonPathStep<V, Integer>> result = new LinkedHashSet<FordFulkersonPathStep<V, Integer>>();
+        for (int i = 1; i < path.length; i++) {
+            result.add(
+                new FordFulkersonPathStep<V, Integer>(
+                    this.vertices.get(path[i - 1]),
+                    new Edge<Integer, V>(
+                        Optional.of(this.residuals[this.slot(path[i - 1], path[i])]),
+                        this.vertices.get(path[i])
+                    )
+                )
+            );
+        }
+        return result;
+    }
+
+    private int computePathCapacity(final int slot) {
+        int result = 0;
+        final int forward = this.forwardPairs[slot];
+        if (forward >= 0) {
+            for (int k = 0; k < this.flows[forward].length; k++) {
+                result += this.capacities[forward][k] - this.flows[forward][k];
+            }
+        }
+        final int backward = this.backwardPairs[slot];
+        if (backward >= 0) {
+            for (int k = 0; k < this.flows[backward].length; k++) {
+                result += this.flows[backward][k];
+            }
+        }
+        return result;
+    }
+
+    private int computeResidual(final int slot) {
+        int result = 0;
+        final int forward = this.forwardPairs[slot];
+        if (forward >= 0) {
+            for (int k = 0; k < this.flows[forward].length; k++) {
+                result += Math.max(0, this.capacities[forward][k] - this.flows[forward][k]);
+            }
+        }
+        final int backward = this.backwardPairs[slot];
+        if (backward >= 0) {
+            for (int k = 0; k < this.flows[backward].length; k++) {
+                result += Math.max(0, this.flows[backward][k]);
+            }
+        }
+        return result;
+    }
+
+    private FordFulkersonPathStep<V, FlowAndCapacity> replaceLabels(
+        final int pair,
+        final int flow,
+        final int capacity
+    ) {
+        // like Graph.replaceEdgeLabel, all parallel edges get the new label and thus collapse to one edge
+        this.flows[pair] = new int[] {flow};
+        this.capacities[pair] = new int[] {capacity};
+        return new FordFulkersonPathStep<V, FlowAndCapacity>(
+            this.vertices.get(this.pairFrom[pair]),
+            new Edge<FlowAndCapacity, V>(
+                Optional.of(new FlowAndCapacity(flow, capacity)),
+                this.vertices.get(this.pairTo[pair])
+            )
+        );
+    }
+
+    private int slot(final int from, final int to) {
+        return Arrays.binarySearch(this.targets, this.offsets[from], this.offsets[from + 1], to);
+    }
+
+}
@@ -0,0 +1,350 @@
+package exercisegenerator.structures.graphs.layout;
+
+import java.util.*;
+import java.util.stream.*;
+
+import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
+import exercisegenerator.structures.graphs.*;
+
+/**
+ * Force-directed layout for large graphs. The repulsive forces are approximated by a quadtree (Barnes-Hut), where
+ * the vertices of a cell far enough from a vertex act on it like a single vertex at their center of mass. The
+ * attractive forces are computed along a precomputed list of adjacent vertices and all forces are accumulated in
+ * parallel. Vertices closer than the minimal distances are always separated exactly like in ForceGraphLayout.
+ */
+public class BarnesHutGraphLayout<V extends Comparable<V>, E extends Comparable<E>> extends ForceGraphLayout<V, E> {
+
+    private static class Cell {
+
+        private final Cell[] children;
+
+        private int count;
+
+        private final double minX;
+
+        private final double minY;
+
+        private final double size;
+
+        private double sumX;
+
+        private double sumY;
+
+        private final List<Integer> vertices;
+
+        private Cell(final double minX, final double minY, final double size) {
+            this.minX = minX;
+            this.minY = minY;
+            this.size = size;
+            this.children = new Cell[4];
+            this.vertices = new ArrayList<Integer>(1);
+        }
+
+        private Cell child(final int vertex, final double[] x, final double[] y) {
+            final double half = this.size / 2;
+            final int column = x[vertex] < this.minX + half ? 0 : 1;
+            final int row = y[vertex] < this.minY + half ? 0 : 1;
+            final int index = 2 * row + column;
+            if (this.children[index] == null) {
+                this.children[index] = new Cell(this.minX + column * half, this.minY + row * half, half);
+            }
+            return this.children[index];
+        }
+
+        private void insert(final int vertex, final double[] x, final double[] y, final int depth) {
+            this.count++;
+            this.sumX += x[vertex];
+            this.sumY += y[vertex];
+            if (this.isLeaf() && (this.vertices.isEmpty() || depth >= BarnesHutGraphLayout.MAX_DEPTH)) {
+                this.vertices.add(vertex);
+                return;
+            }
+            if (this.isLeaf()) {
+                for (final int previous : this.vertices) {
+                    this.child(previous, x, y).insert(previous, x, y, depth + 1);
+                }
+                this.vertices.clear();
+            }
+            this.child(vertex, x, y).insert(vertex, x, y, depth + 1);
+        }
+
+        private boolean isLeaf() {
+            for (final Cell child : this.children) {
+                if (child != null) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+    }
+
+    private static final int MAX_DEPTH;
+
+    private static final double THETA;
+
+    static {
+        MAX_DEPTH = 24;
+        THETA = 0.5;
+    }
+
+    private static Cell buildTree(final double[] x, final double[] y) {
+        double minX = Double.POSITIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < x.length; i++) {
+            minX = Math.min(minX, x[i]);
+            minY = Math.min(minY, y[i]);
+            maxX = Math.max(maxX, x[i]);
+            maxY = Math.max(maxY, y[i]);
+        }
+        final Cell root = new Cell(minX, minY, Math.max(Math.max(maxX - minX, maxY - minY), Double.MIN_NORMAL) * 1.001);
+        for (int i = 0; i < x.length; i++) {
+            root.insert(i, x, y, 0);
+        }
+        return root;
+    }
+
+    private static <V extends Comparable<V>, E extends Comparable<E>> int[][] neighbours(
+        final Graph<V, E> graph,
+        final Set<Vertex<V>> vertices,
+        final Map<Vertex<V>, Integer> indices
+    ) {
+        final List<List<Integer>> result = new ArrayList<List<Integer>>(vertices.size());
+        for (int i = 0; i < vertices.size(); i++) {
+            result.add(new ArrayList<Integer>());
+        }
+        for (final Pair<Vertex<V>, Vertex<V>> pair : ForceGraphLayout.adjacentPairs(graph, vertices)) {
+            final int from = indices.get(pair.x);
+            final int to = indices.get(pair.y);
+            result.get(from).add(to);
+            result.get(to).add(from);
+        }
+        return result.stream().map(list -> list.stream().mapToInt(Integer::intValue).toArray()).toArray(int[][]::new);
+    }
+
+    private final double minHorizontalDistance;
+
+    private final double minVerticalDistance;
+
+    public BarnesHutGraphLayout(
+        final Graph<V, E> graph,
+        final TikZStyle graphStyle,
+        final double minHorizontalDistance,
+        final double minVerticalDistance,
+        final double preferredWidth,
+        final double preferredHeight
+    ) {
+        super(
+            graphStyle,
+            graph.getVertices().size(),
+            minHorizontalDistance,
+            minVerticalDistance,
+            preferredWidth,
+            preferredHeight
+        );
+        this.minHorizontalDistance = minHorizontalDistance;
+        this.minVerticalDistance = minVerticalDistance;
+        final Set<Vertex<V>> vertexSet = graph.getVertices();
+        if (vertexSet.size() < 2) {
+            for (final Vertex<V> vertex : vertexSet) {
+                this.vertexPositions.put(vertex, new Coordinates2D<Double>(0.0, 0.0));
+            }
+            return;
+        }
+        this.placeVerticesCloseToGrid(vertexSet, this.width);
+        final List<Vertex<V>> vertices = new ArrayList<Vertex<V>>(vertexSet);
+        final int numberOfVertices = vertices.size();
+        final long[] ids = new long[numberOfVertices];
+        final double[] x = new double[numberOfVertices];
+        final double[] y = new double[numberOfVertices];
+        final Map<Vertex<V>, Integer> indices = new HashMap<Vertex<V>, Integer>();
+        for (int i = 0; i < numberOfVertices; i++) {
+            final Vertex<V> vertex = vertices.get(i);
+            final Coordinates2D<Double> position = this.vertexPositions.get(vertex);
+            indices.put(vertex, i);
+            ids[i] = vertex.id();
+            x[i] = position.x();
+            y[i] = position.y();
+        }
+        final int[][] neighbours = BarnesHutGraphLayout.neighbours(graph, vertexSet, indices);
+        final double[] displacementX = new double[numberOfVertices];
+        final double[] displacementY = new double[numberOfVertices];
+        double temperature = Math.max(this.width, this.height) / ForceGraphLayout.TEMPERATURE_FACTOR;
+        final double cooling = temperature / (ForceGraphLayout.ITERATIONS - 5);
+        for (int i = 0; i < ForceGraphLayout.ITERATIONS; i++) {
+            final Cell root = BarnesHutGraphLayout.buildTree(x, y);
+            final int iteration = i;
+            final double currentTemperature = temperature;
+            // each vertex only writes its own displacement and position, and positions are only read while
+            // accumulating the forces, which completes before any position is updated
+            IntStream.range(0, numberOfVertices).parallel().forEach(
+                vertex -> {
+                    displacementX[vertex] = 0;
+                    displacementY[vertex] = 0;
+                    this.applyRepulsiveForces(vertex, root, ids, x, y, displacementX, displacementY);
+                    this.applyAttractiveForces(vertex, neighbours[vertex], x, y, displacementX, displacementY);
+                    this.applyCentricAttraction(vertex, x, y, displacementX, displacementY);
+                }
+            );
+            IntStream.range(0, numberOfVertices).parallel().forEach(
+                vertex -> this.applyLimitedDisplacement(
+                    vertex,
+                    currentTemperature,
+                    x,
+                    y,
+                    displacementX,
+                    displacementY,
+                    iteration
+                )
+            );
+            if (i >= 5) {
+                temperature -= cooling;
+            }
+        }
+        for (int i = 0; i < numberOfVertices; i++) {
+            this.vertexPositions.put(vertices.get(i), new Coordinates2D<Double>(x[i], y[i]));
+        }
+    }
+
+    private void applyAttractiveForces(
+        final int vertex,
+        final int[] neighbours,
+        final double[] x,
+        final double[] y,
+        final double[] displacementX,
+        final double[] displacementY
+    ) {
+        for (final int neighbour : neighbours) {
+            final double distanceX = x[vertex] - x[neighbour];
+            final double distanceY = y[vertex] - y[neighbour];
+            final double size = Math.sqrt(distanceX * distanceX + distanceY * distanceY);
+            if (size != 0.0) {
+                final double factor = this.attractiveForce(size) / size;
+                displacementX[vertex] -= distanceX * factor;
+                displacementY[vertex] -= distanceY * factor;
+            }
+        }
+    }
+
+    private void applyCentricAttraction(
+        final int vertex,
+        final double[] x,
+        final double[] y,
+        final double[] displacementX,
+        final double[] displacementY
+    ) {
+        final double distanceX = this.width / 2 - x[vertex];
+        final double distanceY = this.height / 2 - y[vertex];
+        final double size = Math.sqrt(distanceX * distanceX + distanceY * distanceY);
+        if (size != 0.0) {
+            final double factor = this.attractiveForce(size) / (2 * size);
+            displacementX[vertex] += distanceX * factor;
+            displacementY[vertex] += distanceY * factor;
+        }
+    }
+
+    private void applyLimitedDisplacement(
+        final int vertex,
+        final double temperature,
+        final double[] x,
+        final double[] y,
+        final double[] displacementX,
+        final double[] displacementY,
+        final int iteration
+    ) {
+        if (iteration < 5) {
+            x[vertex] += displacementX[vertex];
+            y[vertex] += displacementY[vertex];
+            return;
+        }
+        final double size =
+            Math.sqrt(displacementX[vertex] * displacementX[vertex] + displacementY[vertex] * displacementY[vertex]);
+        if (size != 0.0) {
+            final double factor = Math.min(size, temperature) / size;
+            x[vertex] += displacementX[vertex] * factor;
+            y[vertex] += displacementY[vertex] * factor;
+        }
+        x[vertex] = Math.min(this.width, Math.max(0, x[vertex]));
+        y[vertex] = Math.min(this.height, Math.max(0, y[vertex]));
+    }
+
+    private void applyRepulsiveForces(
+        final int vertex,
+        final Cell cell,
+        final long[] ids,
+        final double[] x,
+        final double[] y,
+        final double[] displacementX,
+        final double[] displacementY
+    ) {
+        if (cell.isLeaf()) {
+            for (final int other : cell.vertices) {
+                this.applyRepulsiveForces(vertex, other, ids, x, y, displacementX, displacementY);
+            }
+            return;
+        }
+        final double distanceX = x[vertex] - cell.sumX / cell.count;
+        final double distanceY = y[vertex] - cell.sumY / cell.count;
+        final double size = Math.sqrt(distanceX * distanceX + distanceY * distanceY);
+        // a cell is only approximated if it is far away and none of its vertices can be closer than the minimal
+        // distances
+        if (
+            cell.size < BarnesHutGraphLayout.THETA * size
+            && size - cell.size * Math.sqrt(2) > Math.max(this.minHorizontalDistance, this.minVerticalDistance)
+        ) {
+            final double factor = cell.count * this.repulsiveForce(size) / size;
+            displacementX[vertex] += distanceX * factor;
+            displacementY[vertex] += distanceY * factor;
+            return;
+        }
+        for (final Cell child : cell.children) {
+            if (child != null) {
+                this.applyRepulsiveForces(vertex, child, ids, x, y, displacementX, displacementY);
+            }
+        }
+    }
+
+    private void applyRepulsiveForces(
+        final int vertex,
+        final int other,
+        final long[] ids,
+        final double[] x,
+        final double[] y,
+        final double[] displacementX,
+        final double[] displacementY
+    ) {
+        if (vertex == other) {
+            return;
+        }
+        final double distanceX = x[vertex] - x[other];
+        final double distanceY = y[vertex] - y[other];
+        final double size = Math.sqrt(distanceX * distanceX + distanceY * distanceY);
+        if (size != 0.0) {
+            final double factor = this.repulsiveForce(size) / size;
+            displacementX[vertex] += distanceX * factor;
+            displacementY[vertex] += distanceY * factor;
+        }
+        if (Math.abs(distanceX) < this.minHorizontalDistance && Math.abs(distanceY) < this.minVerticalDistance) {
+            if (size == 0.0) {
+                displacementY[vertex] += ids[vertex] < ids[other] ? 1.0 : -1.0;
+            } else {
+                double angle =
+                    new Coordinates2D<Double>(x[vertex], y[vertex]).getAngle(
+                        new Coordinates2D<Double>(x[other], y[other])
+                    );
+                if (angle > 180) {
+                    angle -= 180;
+                }
+                if (angle <= 45 || angle >= 135) {
+                    displacementX[vertex] += Math.signum(distanceX) * this.minHorizontalDistance * 2;
+                } else {
+                    displacementY[vertex] += Math.signum(distanceY) * this.minVerticalDistance * 2;
+                }
+            }
+        }
+    }
+
+}
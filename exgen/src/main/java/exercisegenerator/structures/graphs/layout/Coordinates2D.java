@@ -58,4 +58,10 @@ public record Coordinates2D<T extends Number>(T x, T y) {
         return Math.sqrt(x * x + y * y);
     }
 
+    @Override
+    public int hashCode() {
+        // unlike 31 * x + y, neighboring grid positions of large grids hardly collide
+        return this.x().hashCode() * 0x9E3779B9 + this.y().hashCode();
+    }
+
 }
@@ -5,19 +5,58 @@ import java.util.*;
 
 import exercisegenerator.*;
 import exercisegenerator.io.*;
+import exercisegenerator.structures.*;
 import exercisegenerator.structures.graphs.*;
 
 public class ForceGraphLayout<V extends Comparable<V>, E extends Comparable<E>> implements GraphLayout<V, E, Double> {
 
-    private static final int ITERATIONS = 75;
+    protected static final int ITERATIONS = 75;
 
-    private static final double TEMPERATURE_FACTOR = 4.0;
+    protected static final double TEMPERATURE_FACTOR = 4.0;
 
-    private final TikZStyle graphStyle;
+    /**
+     * @return The pairs of distinct vertices connected by an edge in any direction, where the vertex with the smaller
+     *         id comes first, in the order of the specified vertices.
+     */
+    protected static <V extends Comparable<V>, E extends Comparable<E>> List<Pair<Vertex<V>, Vertex<V>>> adjacentPairs(
+        final Graph<V, E> graph,
+        final Collection<Vertex<V>> vertices
+    ) {
+        final List<Vertex<V>> ordered = new ArrayList<Vertex<V>>(vertices);
+        final Map<Vertex<V>, Integer> indices = new HashMap<Vertex<V>, Integer>();
+        final List<Set<Integer>> neighbours = new ArrayList<Set<Integer>>(ordered.size());
+        for (final Vertex<V> vertex : ordered) {
+            indices.put(vertex, indices.size());
+            neighbours.add(new TreeSet<Integer>());
+        }
+        for (final Map.Entry<Vertex<V>, Set<Edge<E, V>>> entry : graph.getEdges().entrySet()) {
+            final int from = indices.get(entry.getKey());
+            for (final Edge<E, V> edge : entry.getValue()) {
+                final int to = indices.get(edge.to());
+                neighbours.get(from).add(to);
+                neighbours.get(to).add(from);
+            }
+        }
+        final List<Pair<Vertex<V>, Vertex<V>>> result = new ArrayList<Pair<Vertex<V>, Vertex<V>>>();
+        for (int from = 0; from < ordered.size(); from++) {
+            for (final int to : neighbours.get(from)) {
+                if (ordered.get(from).id() < ordered.get(to).id()) {
+                    result.add(new Pair<Vertex<V>, Vertex<V>>(ordered.get(from), ordered.get(to)));
+                }
+            }
+        }
+        return result;
+    }
+
+    protected final TikZStyle graphStyle;
 
-    private final double optimalDistance;
+    protected final double height;
 
-    private final Map<Vertex<V>, Coordinates2D<Double>> vertexPositions;
+    protected final double optimalDistance;
+
+    protected final Map<Vertex<V>, Coordinates2D<Double>> vertexPositions;
+
+    protected final double width;
 
     public ForceGraphLayout(
         final Graph<V, E> graph,
@@ -27,33 +66,23 @@ public class ForceGraphLayout<V extends Comparable<V>, E extends Comparable<E>>
         final double preferredWidth,
         final double preferredHeight
     ) {
-        this.vertexPositions = new LinkedHashMap<Vertex<V>, Coordinates2D<Double>>();
-        this.graphStyle = graphStyle;
+        this(
+            graphStyle,
+            graph.getVertices().size(),
+            minHorizontalDistance,
+            minVerticalDistance,
+            preferredWidth,
+            preferredHeight
+        );
         final Set<Vertex<V>> vertices = graph.getVertices();
-        final int numberOfVertices = vertices.size();
-        if (numberOfVertices < 2) {
-            this.optimalDistance = 0;
+        if (vertices.size() < 2) {
             for (final Vertex<V> vertex : vertices) {
                 this.vertexPositions.put(vertex, new Coordinates2D<Double>(0.0, 0.0));
             }
         } else {
-            final int maxNumberOfVerticesInPreferredSize =
-                (int)(
-                    ((preferredHeight - 1) / minVerticalDistance) * ((preferredWidth - 1) / minHorizontalDistance) / 4
-                );
-            final double width;
-            final double height;
-            if (numberOfVertices > maxNumberOfVerticesInPreferredSize) {
-                width = Math.sqrt(numberOfVertices) * Math.max(minHorizontalDistance, minVerticalDistance) * 2;
-                height = width;
-            } else {
-                width = preferredWidth;
-                height = preferredHeight;
-            }
-            final double area = width * height;
-            this.optimalDistance = Math.sqrt(area/numberOfVertices);
-            this.placeVerticesCloseToGrid(vertices, width);
-            double temperature = Math.max(width, height) / ForceGraphLayout.TEMPERATURE_FACTOR;
+            this.placeVerticesCloseToGrid(vertices, this.width);
+            final List<Pair<Vertex<V>, Vertex<V>>> adjacentPairs = ForceGraphLayout.adjacentPairs(graph, vertices);
+            double temperature = Math.max(this.width, this.height) / ForceGraphLayout.TEMPERATURE_FACTOR;
             final double cooling = temperature / (ForceGraphLayout.ITERATIONS - 5);
             for (int i = 0; i < ForceGraphLayout.ITERATIONS; i++) {
                 final Map<Vertex<V>, Coordinates2D<Double>> displacement =
@@ -69,19 +98,12 @@ public class ForceGraphLayout<V extends Comparable<V>, E extends Comparable<E>>
                         );
                     }
                 }
-                for (final Vertex<V> from : vertices) {
-                    for (final Vertex<V> to : vertices) {
-                        if (
-                            from.id().compareTo(to.id()) < 0
-                            && (!graph.getEdges(from, to).isEmpty() || !graph.getEdges(to, from).isEmpty())
-                        ) {
-                            this.applyAttractiveForces(from, to, displacement);
-                        }
-                    }
+                for (final Pair<Vertex<V>, Vertex<V>> pair : adjacentPairs) {
+                    this.applyAttractiveForces(pair.x, pair.y, displacement);
                 }
                 for (final Vertex<V> vertex : vertices) {
-                    this.applyCentricAttraction(vertex, width, height, displacement);
-                    this.applyLimitedDisplacement(vertex, temperature, width, height, displacement, i);
+                    this.applyCentricAttraction(vertex, this.width, this.height, displacement);
+                    this.applyLimitedDisplacement(vertex, temperature, this.width, this.height, displacement, i);
                 }
                 if (
                     displacement.isEmpty()
@@ -99,6 +121,40 @@ public class ForceGraphLayout<V extends Comparable<V>, E extends Comparable<E>>
         }
     }
 
+    /**
+     * Computes the size of the layout, but leaves placing the vertices to subclasses.
+     */
+    protected ForceGraphLayout(
+        final TikZStyle graphStyle,
+        final int numberOfVertices,
+        final double minHorizontalDistance,
+        final double minVerticalDistance,
+        final double preferredWidth,
+        final double preferredHeight
+    ) {
+        this.vertexPositions = new LinkedHashMap<Vertex<V>, Coordinates2D<Double>>();
+        this.graphStyle = graphStyle;
+        if (numberOfVertices < 2) {
+            this.optimalDistance = 0;
+            this.width = 0;
+            this.height = 0;
+        } else {
+            final int maxNumberOfVerticesInPreferredSize =
+                (int)(
+                    ((preferredHeight - 1) / minVerticalDistance) * ((preferredWidth - 1) / minHorizontalDistance) / 4
+                );
+            if (numberOfVertices > maxNumberOfVerticesInPreferredSize) {
+                this.width = Math.sqrt(numberOfVertices) * Math.max(minHorizontalDistance, minVerticalDistance) * 2;
+                this.height = this.width;
+            } else {
+                this.width = preferredWidth;
+                this.height = preferredHeight;
+            }
+            final double area = this.width * this.height;
+            this.optimalDistance = Math.sqrt(area/numberOfVertices);
+        }
+    }
+
     @Override
     public Coordinates2D<Double> getPosition(final Vertex<V> vertex) {
         return this.vertexPositions.get(vertex);
@@ -111,23 +167,14 @@ public class ForceGraphLayout<V extends Comparable<V>, E extends Comparable<E>>
             writer.write(this.toTikZ(vertex, graph.isStartVertex(vertex), graph.isEndVertex(vertex)));
         }
         for (final Vertex<V> from : graph.getVertices()) {
-            for (final Vertex<V> to : graph.getVertices()) {
-                final Set<Edge<E, V>> edges = graph.getEdges(from, to);
-                if (edges.isEmpty()) {
-                    continue;
-                }
-                final List<E> labels = new LinkedList<E>();
-                for (final Edge<E, V> edge : edges) {
-                    if (edge.label().isPresent()) {
-                        labels.add(edge.label().get());
-                    }
-                }
+            final String fromID = String.valueOf(from.id());
+            for (final Map.Entry<Vertex<V>, List<E>> entry : graph.getEdgeLabelsByTarget(from).entrySet()) {
                 writer.write(
                     GraphLayout.edgeFormat(
                         TikZStyle.EDGE_STYLE.style,
-                        from.id().toString(),
-                        labels,
-                        to.id().toString()
+                        fromID,
+                        entry.getValue(),
+                        String.valueOf(entry.getKey().id())
                     )
                 );
             }
@@ -212,7 +259,7 @@ public class ForceGraphLayout<V extends Comparable<V>, E extends Comparable<E>>
             if (size == 0.0) {
                 displacement.merge(
                     vertex,
-                    new Coordinates2D<Double>(0.0, (vertex.id().compareTo(other.id()) < 0 ? 1 : -1) * 1.0),
+                    new Coordinates2D<Double>(0.0, (vertex.id() < other.id() ? 1 : -1) * 1.0),
                     Coordinates2D::plus
                 );
             } else {
@@ -237,11 +284,11 @@ public class ForceGraphLayout<V extends Comparable<V>, E extends Comparable<E>>
         }
     }
 
-    private double attractiveForce(final double distance) {
+    protected double attractiveForce(final double distance) {
         return distance * distance / this.optimalDistance;
     }
 
-    private void placeVerticesCloseToGrid(final Set<Vertex<V>> vertices, final double width) {
+    protected void placeVerticesCloseToGrid(final Set<Vertex<V>> vertices, final double width) {
         //TODO better use spiral?
         double currentWidth = 0;
         double currentHeight = 0;
@@ -294,13 +341,13 @@ public class ForceGraphLayout<V extends Comparable<V>, E extends Comparable<E>>
         }
     }
 
-    private double repulsiveForce(final double distance) {
+    protected double repulsiveForce(final double distance) {
         return this.optimalDistance * this.optimalDistance / distance;
     }
 
     private String toTikZ(final Vertex<V> vertex, final boolean startVertex, final boolean endVertex) {
         final Coordinates2D<Double> coordinates = this.vertexPositions.get(vertex);
-        final String id = vertex.id().toString();
+        final String id = String.valueOf(vertex.id());
         return String.format(
             Locale.US,
             "\\node[%s] (n%s) at (%.2f,%.2f) {%s};%s",
@@ -309,7 +356,7 @@ public class ForceGraphLayout<V extends Comparable<V>, E extends Comparable<E>>
             coordinates.x(),
             coordinates.y(),
             vertex.label().map(label -> label.toString()).orElse(""),
-            startVertex ? GraphLayout.startNodeDecoration(id) : Main.lineSeparator
+            startVertex ? GraphLayout.startNodeDecoration(id) : Main.lineSeparator()
         );
     }
 
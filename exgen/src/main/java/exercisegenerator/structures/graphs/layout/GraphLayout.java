@@ -40,7 +40,7 @@ public interface GraphLayout<V extends Comparable<V>, E extends Comparable<E>, T
                 fromID,
                 edgeNode,
                 toID,
-                Main.lineSeparator
+                Main.lineSeparator()
             );
         }
         return String.format(
@@ -49,17 +49,17 @@ public interface GraphLayout<V extends Comparable<V>, E extends Comparable<E>, T
             fromID,
             edgeNode,
             toID,
-            Main.lineSeparator
+            Main.lineSeparator()
         );
     }
 
     public static String startNodeDecoration(final String id) {
         return String.format(
             "%s\\draw[->,thick] ($(n%s.north west)+(-0.5,0.5)$) to (n%s);%s",
-            Main.lineSeparator,
+            Main.lineSeparator(),
             id,
             id,
-            Main.lineSeparator
+            Main.lineSeparator()
         );
     }
 
@@ -114,29 +114,27 @@ public class GridGraphLayout<V extends Comparable<V>, E extends Comparable<E>> i
 
     }
 
+    // offsets of the surrounding coordinates where positions with an odd sum of coordinates only use the first four
+    static final int[][] SURROUNDING_OFFSETS;
+
+    static {
+        SURROUNDING_OFFSETS =
+            new int[][] {{1, 0}, {0, 1}, {0, -1}, {-1, 0}, {-1, -1}, {-1, 1}, {1, -1}, {1, 1}};
+    }
+
     public static <V extends Comparable<V>, E extends Comparable<E>>
     GridGraphLayout.GridGraphLayoutBuilder<V, E> builder() {
         return new GridGraphLayoutBuilder<V, E>();
     }
 
+    public static int numberOfSurroundingCoordinates(final int x, final int y) {
+        return (x + y) % 2 == 0 ? 8 : 4;
+    }
+
     public static Stream<Coordinates2D<Integer>> surroundingCoordinates(final Coordinates2D<Integer> coordinates) {
-        return (coordinates.x() + coordinates.y()) % 2 == 0 ?
-            Stream.of(
-                coordinates.plus(1, 0),
-                coordinates.plus(0, 1),
-                coordinates.plus(0, -1),
-                coordinates.plus(-1, 0),
-                coordinates.plus(-1, -1),
-                coordinates.plus(-1, 1),
-                coordinates.plus(1, -1),
-                coordinates.plus(1, 1)
-            ) :
-                Stream.of(
-                    coordinates.plus(1, 0),
-                    coordinates.plus(0, 1),
-                    coordinates.plus(0, -1),
-                    coordinates.plus(-1, 0)
-                );
+        return Arrays.stream(GridGraphLayout.SURROUNDING_OFFSETS)
+            .limit(GridGraphLayout.numberOfSurroundingCoordinates(coordinates.x(), coordinates.y()))
+            .map(offset -> coordinates.plus(offset[0], offset[1]));
     }
 
     protected final boolean directed;
@@ -263,7 +261,7 @@ public class GridGraphLayout<V extends Comparable<V>, E extends Comparable<E>> i
 
     protected String toTikZ(final Vertex<V> vertex, final boolean startVertex, final boolean endVertex) {
         final Coordinates2D<Integer> coordinates = this.nodeCoordinates.get(vertex);
-        final String id = vertex.id().toString();
+        final String id = String.valueOf(vertex.id());
         return String.format(
             "\\node[%s] (n%s) at (%d,%d) {%s};%s",
             endVertex ? "endnode" : "node",
@@ -271,7 +269,7 @@ public class GridGraphLayout<V extends Comparable<V>, E extends Comparable<E>> i
             coordinates.x(),
             coordinates.y(),
             vertex.label().map(label -> label.toString()).orElse(""),
-            startVertex ? GraphLayout.startNodeDecoration(id) : Main.lineSeparator
+            startVertex ? GraphLayout.startNodeDecoration(id) : Main.lineSeparator()
         );
     }
 
@@ -291,7 +289,7 @@ public class GridGraphLayout<V extends Comparable<V>, E extends Comparable<E>> i
     }
 
     private String toTikZ(final Vertex<V> from, final Edge<E, V> edge) {
-        if (!this.drawEdges || !this.directed && edge.to().id().compareTo(from.id()) < 0) {
+        if (!this.drawEdges || !this.directed && edge.to().id() < from.id()) {
             return "";
         }
         if (this.edgeStyles.containsKey(from)) {
@@ -307,18 +305,18 @@ public class GridGraphLayout<V extends Comparable<V>, E extends Comparable<E>> i
                                     style.edgeStyle() + ", very thick, red":
                                         style.edgeStyle()
                             ),
-                    from.id().toString(),
+                    String.valueOf(from.id()),
                     this.drawEdgeLabels && edge.label().isPresent() ? List.of(edge.label().get()) : List.of(),
                     style.labelStyle(),
-                    edge.to().id().toString()
+                    String.valueOf(edge.to().id())
                 );
             }
         }
         return GraphLayout.edgeFormat(
             this.defaultEdgeStyle(from, edge),
-            from.id().toString(),
+            String.valueOf(from.id()),
             this.drawEdgeLabels && edge.label().isPresent() ? List.of(edge.label().get()) : List.of(),
-            edge.to().id().toString()
+            String.valueOf(edge.to().id())
         );
     }
 
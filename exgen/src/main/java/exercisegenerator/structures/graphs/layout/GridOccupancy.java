@@ -0,0 +1,191 @@
+package exercisegenerator.structures.graphs.layout;
+
+import java.util.*;
+
+/**
+ * Occupancy of grid positions by non-negative ids in an open-addressing hash table with linear probing. The
+ * coordinates of each position are packed into one long key. Surrounding positions are enumerated in the same order
+ * as by GridGraphLayout.surroundingCoordinates.
+ */
+public class GridOccupancy {
+
+    private static final int FREE;
+
+    private static final long HASH_MULTIPLIER;
+
+    private static final int MIN_CAPACITY;
+
+    static {
+        FREE = -1;
+        HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+        MIN_CAPACITY = 16;
+    }
+
+    public static long pack(final int x, final int y) {
+        return ((long)x << Integer.SIZE) | (y & 0xFFFFFFFFL);
+    }
+
+    public static int unpackX(final long position) {
+        return (int)(position >> Integer.SIZE);
+    }
+
+    public static int unpackY(final long position) {
+        return (int)position;
+    }
+
+    private static int capacityFor(final int expectedSize) {
+        return Math.max(GridOccupancy.MIN_CAPACITY, Integer.highestOneBit(Math.max(1, expectedSize)) << 2);
+    }
+
+    private int[] ids;
+
+    private long[] keys;
+
+    private int size;
+
+    public GridOccupancy() {
+        this(0);
+    }
+
+    /**
+     * @param expectedSize The expected number of occupied positions to avoid growing the table.
+     */
+    public GridOccupancy(final int expectedSize) {
+        final int capacity = GridOccupancy.capacityFor(expectedSize);
+        this.ids = new int[capacity];
+        this.keys = new long[capacity];
+        Arrays.fill(this.ids, GridOccupancy.FREE);
+        this.size = 0;
+    }
+
+    /**
+     * @param x The x coordinate of the position.
+     * @param y The y coordinate of the position.
+     * @return The number of free positions surrounding the specified position.
+     */
+    public int countFreeSurroundingPositions(final int x, final int y) {
+        final int number = GridGraphLayout.numberOfSurroundingCoordinates(x, y);
+        int result = 0;
+        for (int i = 0; i < number; i++) {
+            final int[] offset = GridGraphLayout.SURROUNDING_OFFSETS[i];
+            if (!this.isOccupied(x + offset[0], y + offset[1])) {
+                result++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @param x The x coordinate of the position.
+     * @param y The y coordinate of the position.
+     * @param rank The number of free surrounding positions before the requested one.
+     * @return The packed coordinates of the free position with the specified rank surrounding the specified
+     *         position.
+     */
+    public long freeSurroundingPosition(final int x, final int y, final int rank) {
+        final int number = GridGraphLayout.numberOfSurroundingCoordinates(x, y);
+        int remaining = rank;
+        for (int i = 0; i < number; i++) {
+            final int[] offset = GridGraphLayout.SURROUNDING_OFFSETS[i];
+            if (!this.isOccupied(x + offset[0], y + offset[1]) && remaining-- == 0) {
+                return GridOccupancy.pack(x + offset[0], y + offset[1]);
+            }
+        }
+        throw new IndexOutOfBoundsException(String.format("There is no free position with rank %d!", rank));
+    }
+
+    /**
+     * @param x The x coordinate.
+     * @param y The y coordinate.
+     * @return The id occupying the specified position or -1 if it is free.
+     */
+    public int get(final int x, final int y) {
+        final long key = GridOccupancy.pack(x, y);
+        final int mask = this.ids.length - 1;
+        for (int slot = this.slot(key); this.ids[slot] != GridOccupancy.FREE; slot = (slot + 1) & mask) {
+            if (this.keys[slot] == key) {
+                return this.ids[slot];
+            }
+        }
+        return GridOccupancy.FREE;
+    }
+
+    public boolean isOccupied(final int x, final int y) {
+        return this.get(x, y) != GridOccupancy.FREE;
+    }
+
+    /**
+     * Occupies the specified position by the specified id (replacing the id occupying it so far, if any).
+     * @param x The x coordinate.
+     * @param y The y coordinate.
+     * @param id The non-negative id.
+     */
+    public void put(final int x, final int y, final int id) {
+        if (id < 0) {
+            throw new IllegalArgumentException("Ids must not be negative!");
+        }
+        if (2 * (this.size + 1) > this.ids.length) {
+            this.grow();
+        }
+        if (this.insert(GridOccupancy.pack(x, y), id)) {
+            this.size++;
+        }
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * @param x The x coordinate of the position.
+     * @param y The y coordinate of the position.
+     * @return The ids occupying the positions surrounding the specified position.
+     */
+    public int[] surroundingIds(final int x, final int y) {
+        final int number = GridGraphLayout.numberOfSurroundingCoordinates(x, y);
+        final int[] result = new int[number];
+        int found = 0;
+        for (int i = 0; i < number; i++) {
+            final int[] offset = GridGraphLayout.SURROUNDING_OFFSETS[i];
+            final int id = this.get(x + offset[0], y + offset[1]);
+            if (id != GridOccupancy.FREE) {
+                result[found++] = id;
+            }
+        }
+        return Arrays.copyOf(result, found);
+    }
+
+    private void grow() {
+        final int[] oldIds = this.ids;
+        final long[] oldKeys = this.keys;
+        this.ids = new int[2 * oldIds.length];
+        this.keys = new long[2 * oldKeys.length];
+        Arrays.fill(this.ids, GridOccupancy.FREE);
+        for (int slot = 0; slot < oldIds.length; slot++) {
+            if (oldIds[slot] != GridOccupancy.FREE) {
+                this.insert(oldKeys[slot], oldIds[slot]);
+            }
+        }
+    }
+
+    private boolean insert(final long key, final int id) {
+        final int mask = this.ids.length - 1;
+        int slot = this.slot(key);
+        while (this.ids[slot] != GridOccupancy.FREE) {
+            if (this.keys[slot] == key) {
+                this.ids[slot] = id;
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        this.keys[slot] = key;
+        this.ids[slot] = id;
+        return true;
+    }
+
+    private int slot(final long key) {
+        // the upper half of the product depends on all bits of the key
+        return (int)((key * GridOccupancy.HASH_MULTIPLIER) >>> Integer.SIZE) & (this.ids.length - 1);
+    }
+
+}
@@ -94,7 +94,7 @@ public class StretchedGridGraphLayout<V extends Comparable<V>, E extends Compara
     @Override
     public String toTikZ(final Vertex<V> vertex, final boolean startVertex, final boolean endVertex) {
         final Coordinates2D<Integer> coordinates = this.nodeCoordinates.get(vertex);
-        final String id = vertex.id().toString();
+        final String id = String.valueOf(vertex.id());
         return String.format(
             Locale.US,
             "\\node[%s] (n%s) at (%.2f,%.2f) {%s};%s",
@@ -103,7 +103,7 @@ public class StretchedGridGraphLayout<V extends Comparable<V>, E extends Compara
             coordinates.x() * this.factor,
             coordinates.y() * this.factor,
             vertex.label().map(label -> label.toString()).orElse(""),
-            startVertex ? GraphLayout.startNodeDecoration(id) : Main.lineSeparator
+            startVertex ? GraphLayout.startNodeDecoration(id) : Main.lineSeparator()
         );
     }
 
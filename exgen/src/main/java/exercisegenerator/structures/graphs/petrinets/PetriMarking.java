@@ -5,8 +5,17 @@ import java.util.stream.*;
 
 public class PetriMarking extends ArrayList<Optional<Integer>> implements Comparable<PetriMarking> {
 
+    /**
+     * Encodes omega in markings represented as int arrays. As the largest int value, it compares like omega.
+     */
+    public static final int OMEGA;
+
     private static final long serialVersionUID = 1L;
 
+    static {
+        OMEGA = Integer.MAX_VALUE;
+    }
+
     public static PetriMarking create(final Collection<Optional<Integer>> marking) {
         final PetriMarking result = new PetriMarking();
         for (final Optional<Integer> marks : marking) {
@@ -15,6 +24,14 @@ public class PetriMarking extends ArrayList<Optional<Integer>> implements Compar
         return result;
     }
 
+    public static PetriMarking create(final int[] tokens) {
+        final PetriMarking result = new PetriMarking();
+        for (final int marks : tokens) {
+            result.add(marks == PetriMarking.OMEGA ? Optional.empty() : Optional.of(marks));
+        }
+        return result;
+    }
+
     public static PetriMarking create(final Integer... marking) {
         return PetriMarking.create(Arrays.asList(marking));
     }
@@ -118,4 +135,11 @@ public class PetriMarking extends ArrayList<Optional<Integer>> implements Compar
         );
     }
 
+    /**
+     * @return This marking as int array with omega encoded as OMEGA.
+     */
+    public int[] toTokens() {
+        return this.stream().mapToInt(marks -> marks.orElse(PetriMarking.OMEGA)).toArray();
+    }
+
 }
@@ -9,54 +9,142 @@ import exercisegenerator.*;
 import exercisegenerator.io.*;
 import exercisegenerator.structures.algebra.*;
 
+/**
+ * Petri net whose transitions are compiled into sparse pre and post incidences. The input places of transition t and
+ * their weights are stored from preOffsets[t] to preOffsets[t + 1] (exclusive) and likewise for the output places.
+ * Transitions can be fired in place on markings given as int arrays with omega encoded as PetriMarking.OMEGA.
+ */
 public class PetriNet {
 
+    private static int[] toOffsets(final List<PetriTransition> transitions, final boolean pre) {
+        final int[] result = new int[transitions.size() + 1];
+        for (int transition = 0; transition < transitions.size(); transition++) {
+            final Map<Integer, Integer> incidence =
+                pre ? transitions.get(transition).from() : transitions.get(transition).to();
+            result[transition + 1] = result[transition] + incidence.size();
+        }
+        return result;
+    }
+
     private final PetriPlace[] places;
 
+    private final int[] postOffsets;
+
+    private final int[] postPlaces;
+
+    private final int[] postWeights;
+
+    private final int[] preOffsets;
+
+    private final int[] prePlaces;
+
+    private final int[] preWeights;
+
+    private final Map<PetriTransition, Integer> transitionIndices;
+
     private final List<PetriTransition> transitions;
 
     public PetriNet(final PetriNetInput input) {
         this.places = input.places().toArray(new PetriPlace[input.places().size()]);
         this.transitions = Collections.unmodifiableList(input.transitions());
+        this.preOffsets = PetriNet.toOffsets(this.transitions, true);
+        this.postOffsets = PetriNet.toOffsets(this.transitions, false);
+        this.prePlaces = new int[this.preOffsets[this.transitions.size()]];
+        this.preWeights = new int[this.prePlaces.length];
+        this.postPlaces = new int[this.postOffsets[this.transitions.size()]];
+        this.postWeights = new int[this.postPlaces.length];
+        this.transitionIndices = new HashMap<PetriTransition, Integer>(2 * this.transitions.size());
+        for (int transition = 0; transition < this.transitions.size(); transition++) {
+            this.transitionIndices.putIfAbsent(this.transitions.get(transition), transition);
+            int pre = this.preOffsets[transition];
+            for (final Map.Entry<Integer, Integer> fromEntry : this.transitions.get(transition).from().entrySet()) {
+                this.prePlaces[pre] = fromEntry.getKey();
+                this.preWeights[pre] = fromEntry.getValue();
+                pre++;
+            }
+            int post = this.postOffsets[transition];
+            for (final Map.Entry<Integer, Integer> toEntry : this.transitions.get(transition).to().entrySet()) {
+                this.postPlaces[post] = toEntry.getKey();
+                this.postWeights[post] = toEntry.getValue();
+                post++;
+            }
+        }
     }
 
     public List<PetriTransition> activeTransitions(final PetriMarking tokens) {
-        return this.transitions
-            .stream()
-            .filter(
-                t -> t.from()
-                .entrySet()
-                .stream()
-                .map(entry -> tokens.get(entry.getKey()).orElse(entry.getValue()) >= entry.getValue())
-                .reduce(true, Boolean::logicalAnd)
-            ).toList();
+        final int[] marking = tokens.toTokens();
+        final List<PetriTransition> result = new ArrayList<PetriTransition>();
+        for (int transition = 0; transition < this.transitions.size(); transition++) {
+            if (this.isEnabled(marking, transition)) {
+                result.add(this.transitions.get(transition));
+            }
+        }
+        return Collections.unmodifiableList(result);
     }
 
-    public Optional<PetriMarking> fireTransition(final PetriMarking tokens) {
+    /**
+     * Fires the specified transition in place. Places marked with omega stay marked with omega.
+     * @param tokens The marking with omega encoded as PetriMarking.OMEGA.
+     * @param transition The index of the transition (which must be enabled).
+     */
+    public void fire(final int[] tokens, final int transition) {
+        for (int pre = this.preOffsets[transition]; pre < this.preOffsets[transition + 1]; pre++) {
+            if (tokens[this.prePlaces[pre]] != PetriMarking.OMEGA) {
+                tokens[this.prePlaces[pre]] -= this.preWeights[pre];
+            }
+        }
+        for (int post = this.postOffsets[transition]; post < this.postOffsets[transition + 1]; post++) {
+            if (tokens[this.postPlaces[post]] != PetriMarking.OMEGA) {
+                tokens[this.postPlaces[post]] += this.postWeights[post];
+            }
+        }
+    }
+
+    public Optional<PetriMarking> fireTransition(final PetriMarking tokens, final SplittableRandom random) {
         final List<PetriTransition> activeTransitions = this.activeTransitions(tokens);
         if (activeTransitions.isEmpty()) {
             return Optional.empty();
         }
         return Optional.of(
-            this.fireTransition(tokens, activeTransitions.get(Main.RANDOM.nextInt(activeTransitions.size())))
+            this.fireTransition(tokens, activeTransitions.get(random.nextInt(activeTransitions.size())))
         );
     }
 
     public PetriMarking fireTransition(final PetriMarking tokens, final PetriTransition transition) {
-        final PetriMarking result = PetriMarking.create(tokens);
-        for (final Map.Entry<Integer, Integer> fromEntry : transition.from().entrySet()) {
-            result.omegaMerge(fromEntry.getKey(), Optional.of(-fromEntry.getValue()));
-        }
-        for (final Map.Entry<Integer, Integer> toEntry : transition.to().entrySet()) {
-            result.omegaMerge(toEntry.getKey(), Optional.of(toEntry.getValue()));
+        final Integer index = this.transitionIndices.get(transition);
+        if (index == null) {
+            throw new IllegalArgumentException(
+                String.format("Transition %s is not part of this Petri net: %s", transition.label(), transition)
+            );
         }
-        return result;
+        final int[] result = tokens.toTokens();
+        this.fire(result, index);
+        return PetriMarking.create(result);
     }
 
     public PetriMarking getZeroMarking() {
         return PetriMarking.createZeroMarking(this.places.length);
     }
 
+    /**
+     * @param tokens The marking with omega encoded as PetriMarking.OMEGA.
+     * @param transition The index of the transition.
+     * @return True if all input places of the specified transition carry enough tokens.
+     */
+    public boolean isEnabled(final int[] tokens, final int transition) {
+        for (int pre = this.preOffsets[transition]; pre < this.preOffsets[transition + 1]; pre++) {
+            // omega is the largest int value and thus always sufficient
+            if (tokens[this.prePlaces[pre]] < this.preWeights[pre]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int numberOfTransitions() {
+        return this.transitions.size();
+    }
+
     public Matrix toIncidenceMatrix() {
         final int numberOfTransitions = this.transitions.size();
         final Matrix result = new Matrix(numberOfTransitions, this.places.length, numberOfTransitions);
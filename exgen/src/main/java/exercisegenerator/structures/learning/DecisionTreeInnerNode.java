@@ -25,7 +25,7 @@ public record DecisionTreeInnerNode (
     @Override
     public String toStringRecursive(final int level) {
         final StringBuilder result = new StringBuilder();
-        result.append(Main.lineSeparator);
+        result.append(Main.lineSeparator());
         result.append("  ".repeat(level));
         result.append("[.{\\begin{minipage}{4cm}");
         result.append(
@@ -45,14 +45,14 @@ public record DecisionTreeInnerNode (
             result.append(
                 String.format(
                     "%s%s\\edge node[midway,fill=white] {%s};%s",
-                    Main.lineSeparator,
+                    Main.lineSeparator(),
                     "  ".repeat(level + 1),
                     child.getKey(),
                     child.getValue().toStringRecursive(level + 1)
                 )
             );
         }
-        result.append(Main.lineSeparator);
+        result.append(Main.lineSeparator());
         result.append("  ".repeat(level));
         result.append("]");
         return result.toString();
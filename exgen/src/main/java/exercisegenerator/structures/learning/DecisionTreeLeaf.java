@@ -19,7 +19,7 @@ public record DecisionTreeLeaf(String classifier) implements DecisionTree {
     @Override
     public String toStringRecursive(final int level) {
         final StringBuilder result = new StringBuilder();
-        result.append(Main.lineSeparator);
+        result.append(Main.lineSeparator());
         result.append("  ".repeat(level));
         result.append(this.classifier());
         return result.toString();
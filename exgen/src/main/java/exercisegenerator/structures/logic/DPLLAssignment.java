@@ -17,7 +17,7 @@ public record DPLLAssignment(PropositionalVariable variable, boolean value, DPLL
     String toStringRecursive(final boolean left, final int level) {
         return String.format(
             "%s%s\\edge node[midway,%s] {$%s = \\code{%d}$};%s",
-            Main.lineSeparator,
+            Main.lineSeparator(),
             "  ".repeat(level + 1),
             left ? "left" : "right",
             this.variable().name,
@@ -54,7 +54,7 @@ public record DPLLNode(ClauseSet clauses, Optional<DPLLAssignment> left, Optiona
 
     String toStringRecursive(final int level) {
         final StringBuilder result = new StringBuilder();
-        result.append(Main.lineSeparator);
+        result.append(Main.lineSeparator());
         result.append("  ".repeat(level));
         if (this.left.isEmpty() && this.right.isEmpty()) {
             result.append(this.clausesToString());
@@ -67,7 +67,7 @@ public record DPLLNode(ClauseSet clauses, Optional<DPLLAssignment> left, Optiona
             if (this.right.isPresent()) {
                 result.append(this.right.get().toStringRecursive(false, level));
             }
-            result.append(Main.lineSeparator);
+            result.append(Main.lineSeparator());
             result.append("  ".repeat(level));
             result.append("]");
         }
@@ -0,0 +1,18 @@
+package exercisegenerator.util;
+
+@FunctionalInterface
+public interface CheckedRunnable<E extends Throwable> {
+
+    static <E extends Throwable> Runnable unchecked(final CheckedRunnable<E> c) {
+        return () -> {
+            try {
+                c.run();
+            } catch (final Throwable e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+
+    void run() throws E;
+
+}
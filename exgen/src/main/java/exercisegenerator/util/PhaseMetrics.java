@@ -0,0 +1,269 @@
+package exercisegenerator.util;
+
+import java.io.*;
+import java.lang.management.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import com.google.gson.*;
+
+import exercisegenerator.*;
+
+/**
+ * Wall time, CPU time, and allocated bytes of the phases of executing algorithms. Each execution of an algorithm is
+ * measured by its own meter, which contributes one sample per phase to the metrics recorded by the current thread (if
+ * any). CPU time and allocated bytes are not available on virtual threads and omitted from the report then. While a
+ * meter measures a phase, algorithms can add samples of counters (like sizes of intermediate results) to it.
+ */
+public class PhaseMetrics {
+
+    public static class Meter {
+
+        private final Map<String, List<Long>> counts;
+
+        private final Optional<PhaseMetrics> metrics;
+
+        private final long[][] totals;
+
+        private final boolean[] used;
+
+        private Meter(final Optional<PhaseMetrics> metrics) {
+            this.counts = new LinkedHashMap<String, List<Long>>();
+            this.metrics = metrics;
+            this.totals = new long[Phase.values().length][PhaseMetrics.NUMBER_OF_MEASURES];
+            this.used = new boolean[Phase.values().length];
+        }
+
+        public void finish(final String algorithm) {
+            if (this.metrics.isEmpty()) {
+                return;
+            }
+            for (final Phase phase : Phase.values()) {
+                if (this.used[phase.ordinal()]) {
+                    this.metrics.get().add(algorithm, phase, this.totals[phase.ordinal()]);
+                }
+            }
+            for (final Map.Entry<String, List<Long>> entry : this.counts.entrySet()) {
+                for (final long value : entry.getValue()) {
+                    this.metrics.get().addCount(algorithm, entry.getKey(), value);
+                }
+            }
+        }
+
+        public <T, E extends Throwable> T measure(final Phase phase, final CheckedSupplier<T, E> supplier) throws E {
+            if (this.metrics.isEmpty()) {
+                return supplier.get();
+            }
+            final Meter previous = PhaseMetrics.MEASURING.get();
+            PhaseMetrics.MEASURING.set(this);
+            final long[] start = PhaseMetrics.snapshot();
+            try {
+                return supplier.get();
+            } finally {
+                final long[] end = PhaseMetrics.snapshot();
+                if (previous == null) {
+                    PhaseMetrics.MEASURING.remove();
+                } else {
+                    PhaseMetrics.MEASURING.set(previous);
+                }
+                final long[] total = this.totals[phase.ordinal()];
+                for (int i = 0; i < PhaseMetrics.NUMBER_OF_MEASURES; i++) {
+                    total[i] = start[i] < 0 || total[i] < 0 ? -1 : total[i] + end[i] - start[i];
+                }
+                this.used[phase.ordinal()] = true;
+            }
+        }
+
+        public <E extends Throwable> void run(final Phase phase, final CheckedRunnable<E> runnable) throws E {
+            this.measure(
+                phase,
+                () -> {
+                    runnable.run();
+                    return null;
+                }
+            );
+        }
+
+    }
+
+    public static enum Phase {
+
+        GENERATE("generate"),
+
+        PARSE("parse"),
+
+        PRINT_EXERCISE("printExercise"),
+
+        PRINT_SOLUTION("printSolution"),
+
+        SOLVE("solve"),
+
+        TOTAL("total");
+
+        public final String key;
+
+        private Phase(final String key) {
+            this.key = key;
+        }
+
+    }
+
+    private static final ThreadLocal<PhaseMetrics> CURRENT;
+
+    private static final String[] MEASURES;
+
+    private static final ThreadLocal<Meter> MEASURING;
+
+    private static final int NUMBER_OF_MEASURES;
+
+    private static final ThreadMXBean THREADS;
+
+    static {
+        CURRENT = new ThreadLocal<PhaseMetrics>();
+        MEASURES = new String[] {"wallTimeNanos", "cpuTimeNanos", "allocatedBytes"};
+        MEASURING = new ThreadLocal<Meter>();
+        NUMBER_OF_MEASURES = PhaseMetrics.MEASURES.length;
+        THREADS = ManagementFactory.getThreadMXBean();
+    }
+
+    /**
+     * Adds a sample of the specified counter to the meter measuring a phase on the current thread (if any).
+     * @param counter The name of the counter.
+     * @param value The sampled value.
+     */
+    public static void count(final String counter, final long value) {
+        final Meter meter = PhaseMetrics.MEASURING.get();
+        if (meter != null) {
+            meter.counts.computeIfAbsent(counter, key -> new ArrayList<Long>()).add(value);
+        }
+    }
+
+    public static Optional<PhaseMetrics> current() {
+        return Optional.ofNullable(PhaseMetrics.CURRENT.get());
+    }
+
+    public static Meter meter() {
+        return new Meter(PhaseMetrics.current());
+    }
+
+    public static void setCurrent(final Optional<PhaseMetrics> metrics) {
+        if (metrics.isPresent()) {
+            PhaseMetrics.CURRENT.set(metrics.get());
+        } else {
+            PhaseMetrics.CURRENT.remove();
+        }
+    }
+
+    private static long percentile(final long[] sorted, final double quantile) {
+        return sorted[Math.max((int)Math.ceil(sorted.length * quantile) - 1, 0)];
+    }
+
+    private static long[] snapshot() {
+        final long wallTime = System.nanoTime();
+        final long cpuTime =
+            PhaseMetrics.THREADS.isCurrentThreadCpuTimeSupported() ? PhaseMetrics.THREADS.getCurrentThreadCpuTime() : -1;
+        final long allocatedBytes =
+            PhaseMetrics.THREADS instanceof com.sun.management.ThreadMXBean ?
+                ((com.sun.management.ThreadMXBean)PhaseMetrics.THREADS).getCurrentThreadAllocatedBytes() :
+                    -1;
+        return new long[] {wallTime, cpuTime, allocatedBytes};
+    }
+
+    private static JsonObject statistics(final long[] sorted) {
+        final JsonObject result = new JsonObject();
+        result.addProperty("total", Arrays.stream(sorted).sum());
+        result.addProperty("min", sorted[0]);
+        result.addProperty("p50", PhaseMetrics.percentile(sorted, 0.5));
+        result.addProperty("p95", PhaseMetrics.percentile(sorted, 0.95));
+        result.addProperty("p99", PhaseMetrics.percentile(sorted, 0.99));
+        result.addProperty("max", sorted[sorted.length - 1]);
+        return result;
+    }
+
+    private final Map<String, Map<String, Queue<Long>>> counts;
+
+    private final Map<String, Map<Phase, Queue<long[]>>> samples;
+
+    public PhaseMetrics() {
+        this.counts = new ConcurrentSkipListMap<String, Map<String, Queue<Long>>>();
+        this.samples = new ConcurrentSkipListMap<String, Map<Phase, Queue<long[]>>>();
+    }
+
+    public void add(final String algorithm, final Phase phase, final long[] sample) {
+        this.samples
+        .computeIfAbsent(algorithm, key -> new ConcurrentHashMap<Phase, Queue<long[]>>())
+        .computeIfAbsent(phase, key -> new ConcurrentLinkedQueue<long[]>())
+        .add(sample.clone());
+    }
+
+    public void addCount(final String algorithm, final String counter, final long value) {
+        this.counts
+        .computeIfAbsent(algorithm, key -> new ConcurrentSkipListMap<String, Queue<Long>>())
+        .computeIfAbsent(counter, key -> new ConcurrentLinkedQueue<Long>())
+        .add(value);
+    }
+
+    /**
+     * Executes the specified action with these metrics as the metrics of the current thread.
+     * @param runnable The action.
+     * @throws E If the action throws an exception.
+     */
+    public <E extends Throwable> void record(final CheckedRunnable<E> runnable) throws E {
+        final Optional<PhaseMetrics> previous = PhaseMetrics.current();
+        PhaseMetrics.CURRENT.set(this);
+        try {
+            runnable.run();
+        } finally {
+            PhaseMetrics.setCurrent(previous);
+        }
+    }
+
+    public JsonObject toJson() {
+        final JsonObject result = new JsonObject();
+        for (final Map.Entry<String, Map<Phase, Queue<long[]>>> algorithm : this.samples.entrySet()) {
+            final JsonObject phases = new JsonObject();
+            for (final Phase phase : Phase.values()) {
+                final Queue<long[]> phaseSamples = algorithm.getValue().get(phase);
+                if (phaseSamples == null) {
+                    continue;
+                }
+                final JsonObject measures = new JsonObject();
+                measures.addProperty("count", phaseSamples.size());
+                for (int i = 0; i < PhaseMetrics.NUMBER_OF_MEASURES; i++) {
+                    final int measure = i;
+                    final long[] sorted =
+                        phaseSamples.stream()
+                        .mapToLong(sample -> sample[measure])
+                        .filter(value -> value >= 0)
+                        .sorted()
+                        .toArray();
+                    if (sorted.length > 0) {
+                        measures.add(PhaseMetrics.MEASURES[i], PhaseMetrics.statistics(sorted));
+                    }
+                }
+                phases.add(phase.key, measures);
+            }
+            final Map<String, Queue<Long>> counters = this.counts.get(algorithm.getKey());
+            if (counters != null) {
+                final JsonObject counts = new JsonObject();
+                for (final Map.Entry<String, Queue<Long>> counter : counters.entrySet()) {
+                    final long[] sorted = counter.getValue().stream().mapToLong(Long::longValue).sorted().toArray();
+                    final JsonObject measures = new JsonObject();
+                    measures.addProperty("count", sorted.length);
+                    measures.add("values", PhaseMetrics.statistics(sorted));
+                    counts.add(counter.getKey(), measures);
+                }
+                phases.add("counters", counts);
+            }
+            result.add(algorithm.getKey(), phases);
+        }
+        return result;
+    }
+
+    public void writeReport(final String file) throws IOException {
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(file))) {
+            Main.GSON.toJson(this.toJson(), writer);
+        }
+    }
+
+}
@@ -2,13 +2,12 @@ package exercisegenerator;
 
 import java.io.*;
 import java.util.*;
-import java.util.concurrent.*;
 
 import org.testng.*;
 import org.testng.annotations.*;
 
 import exercisegenerator.algorithms.*;
-import exercisegenerator.structures.*;
+import exercisegenerator.io.*;
 
 public class GenerateCompileTest {
 
@@ -49,53 +48,44 @@ public class GenerateCompileTest {
         if (GenerateCompileTest.OFF) {
             return;
         }
-        final File locateTmp = File.createTempFile("locate", "tmp");
-        final File testDir = new File(locateTmp.getParentFile().getAbsolutePath(), "gencomp");
-        testDir.mkdir();
-        final String exName = "exercise";
-        final String solName = "solution";
-        final String suffix = ".tex";
-        for (final Algorithm alg : Algorithm.values()) {
-            if (!alg.enabled || (GenerateCompileTest.ONLY != null && alg != GenerateCompileTest.ONLY)) {
-                continue;
-            }
-            final List<Pair<Process, String>> processes = new LinkedList<Pair<Process, String>>();
-            for (int i = 0; i < GenerateCompileTest.NUMBER_OF_RUNS_FOR_EACH_ALGORITHM; i++) {
-                final String exFileName = String.join("", exName, alg.name, String.valueOf(i), suffix);
-                final String solFileName = String.join("", solName, alg.name, String.valueOf(i), suffix);
-                final File exFile = new File(testDir, exFileName);
-                final File solFile = new File(testDir, solFileName);
-                Main.main(
-                    GenerateCompileTest.toCLIArguments(
-                        alg,
-                        alg.implementation.generateTestParameters(),
-                        exFile,
-                        solFile
-                    )
-                );
-                final Process processExercise = Main.buildAndStartPDFLaTeXProcess(exFileName, testDir);
-                final Process processSolution = Main.buildAndStartPDFLaTeXProcess(solFileName, testDir);
-                processes.add(
-                    new Pair<Process, String>(
-                        processExercise,
-                        String.format("%s yields non-compiling exercise! See: %s", alg.name, testDir.getAbsolutePath())
-                    )
+        try (PDFLaTeXPipeline pipeline = new PDFLaTeXPipeline(Runtime.getRuntime().availableProcessors())) {
+            final File locateTmp = File.createTempFile("locate", "tmp");
+            final File testDir = new File(locateTmp.getParentFile().getAbsolutePath(), "gencomp");
+            testDir.mkdir();
+            final String exName = "exercise";
+            final String solName = "solution";
+            final String suffix = ".tex";
+            for (final Algorithm alg : Algorithm.values()) {
+                if (!alg.enabled || (GenerateCompileTest.ONLY != null && alg != GenerateCompileTest.ONLY)) {
+                    continue;
+                }
+                final List<String> documents = new LinkedList<String>();
+                for (int i = 0; i < GenerateCompileTest.NUMBER_OF_RUNS_FOR_EACH_ALGORITHM; i++) {
+                    final String exDocument = String.join("", exName, alg.name, String.valueOf(i));
+                    final String solDocument = String.join("", solName, alg.name, String.valueOf(i));
+                    final File exFile = new File(testDir, exDocument + suffix);
+                    final File solFile = new File(testDir, solDocument + suffix);
+                    Main.main(
+                        GenerateCompileTest.toCLIArguments(
+                            alg,
+                            alg.implementation().generateTestParameters(),
+                            exFile,
+                            solFile
+                        )
+                    );
+                    documents.add(exDocument);
+                    documents.add(solDocument);
+                }
+                final List<String> failed = pipeline.build(testDir, documents);
+                Assert.assertTrue(
+                    failed.isEmpty(),
+                    String.format("%s yields non-compiling %s! See: %s", alg.name, failed, testDir.getAbsolutePath())
                 );
-                processes.add(
-                    new Pair<Process, String>(
-                        processSolution,
-                        String.format("%s yields non-compiling solution! See: %s", alg.name, testDir.getAbsolutePath())
-                    )
-                );
-            }
-            for (final Pair<Process, String> pair : processes) {
-                pair.x.waitFor(30, TimeUnit.SECONDS);
-                Assert.assertEquals(pair.x.exitValue(), 0, pair.y);
+                GenerateCompileTest.cleanUp(testDir);
             }
-            GenerateCompileTest.cleanUp(testDir);
+            testDir.delete();
+            locateTmp.delete();
         }
-        testDir.delete();
-        locateTmp.delete();
     }
 
 }
@@ -1,13 +1,20 @@
 package exercisegenerator;
 
 import java.io.*;
+import java.net.*;
+import java.net.http.*;
+import java.nio.file.*;
 import java.util.*;
 import java.util.Optional;
 import java.util.stream.*;
+import java.util.zip.*;
 
 import org.testng.*;
 import org.testng.annotations.*;
 
+import com.google.gson.*;
+
+import clit.Parameters;
 import exercisegenerator.algorithms.*;
 import exercisegenerator.io.*;
 import exercisegenerator.structures.*;
@@ -578,6 +585,99 @@ public class MainTest {
         );
     }
 
+    @Test
+    public void batch() throws IOException {
+        final List<Algorithm> algorithms = List.of(Algorithm.BUBBLESORT, Algorithm.TO_CNF, Algorithm.KNAPSACK);
+        final List<String> lines = new ArrayList<String>();
+        final List<File> directFiles = new ArrayList<File>();
+        final List<File> batchFiles = new ArrayList<File>();
+        for (final Algorithm algorithm : algorithms) {
+            final File directExFile = this.createTmpFile(MainTest.EX_FILE_NAME, MainTest.TEX_SUFFIX);
+            final File directSolFile = this.createTmpFile(MainTest.SOL_FILE_NAME, MainTest.TEX_SUFFIX);
+            final File batchExFile = this.createTmpFile(MainTest.EX_FILE_NAME, MainTest.TEX_SUFFIX);
+            final File batchSolFile = this.createTmpFile(MainTest.SOL_FILE_NAME, MainTest.TEX_SUFFIX);
+            Main.main(
+                new String[] {
+                    "-a", algorithm.name,
+                    "-r", "42",
+                    "-e", directExFile.getAbsolutePath(),
+                    "-t", directSolFile.getAbsolutePath()
+                }
+            );
+            this.prepare();
+            lines.add(
+                String.join(
+                    " ",
+                    "-a", algorithm.name,
+                    "-r", "42",
+                    "-e", batchExFile.getAbsolutePath(),
+                    "-t", batchSolFile.getAbsolutePath()
+                )
+            );
+            directFiles.addAll(List.of(directExFile, directSolFile));
+            batchFiles.addAll(List.of(batchExFile, batchSolFile));
+        }
+        lines.add(1, "-a " + Algorithm.BUBBLESORT.name + " -e");
+        final File manifest = this.createTmpFile("batch", ".txt");
+        Files.write(manifest.toPath(), lines);
+        Main.main(new String[] {"-b", manifest.getAbsolutePath(), "-j", "2"});
+        for (int i = 0; i < directFiles.size(); i++) {
+            Assert.assertEquals(
+                Files.readString(batchFiles.get(i).toPath()),
+                Files.readString(directFiles.get(i).toPath())
+            );
+        }
+    }
+
+    @Test
+    public void batchFailure() throws IOException {
+        final File manifest = this.createTmpFile("batch", ".txt");
+        Files.writeString(manifest.toPath(), "-a unknown\n");
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        final PrintStream err = System.err;
+        System.setErr(new PrintStream(buffer, true));
+        try {
+            Main.main(new String[] {"-b", manifest.getAbsolutePath()});
+        } finally {
+            System.setErr(err);
+        }
+        final String output = buffer.toString();
+        Assert.assertTrue(output.contains("Batch line 1 failed: "), output);
+        Assert.assertTrue(output.contains("\tat exercisegenerator.Main."), output);
+    }
+
+    @Test
+    public void batchQuoted() throws IOException {
+        final Path directory = Files.createTempDirectory("batch with spaces");
+        final File directExFile = this.createTmpFile(MainTest.EX_FILE_NAME, MainTest.TEX_SUFFIX);
+        final File directSolFile = this.createTmpFile(MainTest.SOL_FILE_NAME, MainTest.TEX_SUFFIX);
+        Main.main(
+            new String[] {
+                "-a", Algorithm.BUBBLESORT.name,
+                "-i", "3,1, 2",
+                "-e", directExFile.getAbsolutePath(),
+                "-t", directSolFile.getAbsolutePath()
+            }
+        );
+        this.prepare();
+        final File batchExFile = directory.resolve("exercise file.tex").toFile();
+        final File batchSolFile = directory.resolve("solution \"file\".tex").toFile();
+        this.tmpFiles.addAll(List.of(batchExFile, batchSolFile, directory.toFile()));
+        final File manifest = this.createTmpFile("batch", ".txt");
+        Files.writeString(
+            manifest.toPath(),
+            String.format(
+                "-a %s  -i \"3,1, 2\" -e \"%s\"\t-t \"%s\"\n",
+                Algorithm.BUBBLESORT.name,
+                batchExFile.getAbsolutePath().replace("\\", "\\\\"),
+                batchSolFile.getAbsolutePath().replace("\\", "\\\\").replace("\"", "\\\"")
+            )
+        );
+        Main.main(new String[] {"-b", manifest.getAbsolutePath()});
+        Assert.assertEquals(Files.readString(batchExFile.toPath()), Files.readString(directExFile.toPath()));
+        Assert.assertEquals(Files.readString(batchSolFile.toPath()), Files.readString(directSolFile.toPath()));
+    }
+
     @Test
     public void bellmanFord() throws IOException {
         this.harness(
@@ -998,6 +1098,136 @@ public class MainTest {
         );
     }
 
+    @Test
+    public void cache() throws IOException {
+        final Path directory = Files.createTempDirectory("cache");
+        final SolutionCache cache = SolutionCache.forDirectory(directory.toString());
+        final String input = "!A\n A , |2, B \n5| , | , |3\n C ,4| , D ";
+        final List<File> files = new ArrayList<File>();
+        for (final String cacheDirectory : List.of(directory.toString(), directory.toString(), "")) {
+            final File exFile = this.createTmpFile(MainTest.EX_FILE_NAME, MainTest.TEX_SUFFIX);
+            final File solFile = this.createTmpFile(MainTest.SOL_FILE_NAME, MainTest.TEX_SUFFIX);
+            final List<String> args =
+                new ArrayList<String>(
+                    List.of(
+                        "-a", Algorithm.BELLMAN_FORD.name,
+                        "-i", input,
+                        "-r", "42",
+                        "-e", exFile.getAbsolutePath(),
+                        "-t", solFile.getAbsolutePath()
+                    )
+                );
+            if (!cacheDirectory.isEmpty()) {
+                args.addAll(List.of("-m", cacheDirectory));
+            }
+            this.prepare();
+            Main.main(args.toArray(String[]::new));
+            files.addAll(List.of(exFile, solFile));
+        }
+        Assert.assertEquals(cache.misses(), 1);
+        Assert.assertEquals(cache.hits(), 1);
+        for (int i = 2; i < files.size(); i++) {
+            Assert.assertEquals(Files.readString(files.get(i).toPath()), Files.readString(files.get(i % 2).toPath()));
+        }
+        for (final File entry : directory.toFile().listFiles()) {
+            entry.delete();
+        }
+        this.tmpFiles.add(directory.toFile());
+        final Path tinyDirectory = Files.createTempDirectory("cache");
+        this.tmpFiles.add(tinyDirectory.toFile());
+        final SolutionCache tinyCache = new SolutionCache(tinyDirectory, 0);
+        final Parameters<Flag> options = new Parameters<Flag>();
+        options.put(Flag.ALGORITHM, Algorithm.BELLMAN_FORD.name);
+        options.put(Flag.INPUT, input);
+        options.put(Flag.SEED, "42");
+        options.put(Flag.CACHE, tinyDirectory.toString());
+        for (int i = 0; i < 2; i++) {
+            final StringWriter exercise = new StringWriter();
+            final StringWriter solution = new StringWriter();
+            try (
+                BufferedWriter exerciseWriter = new BufferedWriter(exercise);
+                BufferedWriter solutionWriter = new BufferedWriter(solution);
+            ) {
+                this.prepare();
+                tinyCache.executeAlgorithm(
+                    Algorithm.BELLMAN_FORD,
+                    new AlgorithmInput(exerciseWriter, solutionWriter, options)
+                );
+            }
+        }
+        Assert.assertEquals(tinyCache.misses(), 2);
+        Assert.assertEquals(tinyDirectory.toFile().list().length, 0);
+    }
+
+    @Test
+    public void cacheOperationsFile() throws IOException {
+        final Path directory = Files.createTempDirectory("cache");
+        final SolutionCache cache = SolutionCache.forDirectory(directory.toString());
+        final File source = this.createTmpFile("source", ".txt");
+        Files.writeString(source.toPath(), "!A\n A , |2, B \n5| , | , |3\n C ,4| , D \n");
+        final File operations = this.createTmpFile("operations", ".txt");
+        final List<String> outputs = new ArrayList<String>();
+        for (final String start : List.of("A", "D", "D")) {
+            Files.writeString(operations.toPath(), start);
+            final File exFile = this.createTmpFile(MainTest.EX_FILE_NAME, MainTest.TEX_SUFFIX);
+            final File solFile = this.createTmpFile(MainTest.SOL_FILE_NAME, MainTest.TEX_SUFFIX);
+            final List<String> args =
+                new ArrayList<String>(
+                    List.of(
+                        "-a", Algorithm.DIJKSTRA.name,
+                        "-s", source.getAbsolutePath(),
+                        "-o", operations.getAbsolutePath(),
+                        "-r", "42",
+                        "-e", exFile.getAbsolutePath(),
+                        "-t", solFile.getAbsolutePath()
+                    )
+                );
+            if (outputs.size() < 2) {
+                args.addAll(List.of("-m", directory.toString()));
+            }
+            this.prepare();
+            Main.main(args.toArray(String[]::new));
+            outputs.add(Files.readString(exFile.toPath()) + Files.readString(solFile.toPath()));
+        }
+        Assert.assertEquals(cache.misses(), 2);
+        Assert.assertEquals(cache.hits(), 0);
+        Assert.assertNotEquals(outputs.get(1), outputs.get(0));
+        Assert.assertEquals(outputs.get(1), outputs.get(2));
+        for (final File entry : directory.toFile().listFiles()) {
+            entry.delete();
+        }
+        this.tmpFiles.add(directory.toFile());
+    }
+
+    @Test
+    public void cacheWithoutSeed() throws IOException {
+        final Path directory = Files.createTempDirectory("cache");
+        this.tmpFiles.add(directory.toFile());
+        final SolutionCache cache = SolutionCache.forDirectory(directory.toString());
+        final List<String> outputs = new ArrayList<String>();
+        for (int i = 0; i < 2; i++) {
+            final File exFile = this.createTmpFile(MainTest.EX_FILE_NAME, MainTest.TEX_SUFFIX);
+            final File solFile = this.createTmpFile(MainTest.SOL_FILE_NAME, MainTest.TEX_SUFFIX);
+            this.prepare();
+            Main.main(
+                new String[] {
+                    "-a", Algorithm.HASH_DIV.name,
+                    "-i", "11\n3,5,1,4,2,1",
+                    "-m", directory.toString(),
+                    "-e", exFile.getAbsolutePath(),
+                    "-t", solFile.getAbsolutePath()
+                }
+            );
+            outputs.add(Files.readString(exFile.toPath()) + Files.readString(solFile.toPath()));
+        }
+        // without a seed, every run is solved afresh such that random choices while parsing may differ between runs
+        Assert.assertFalse(outputs.get(0).isBlank());
+        Assert.assertFalse(outputs.get(1).isBlank());
+        Assert.assertEquals(cache.misses(), 0);
+        Assert.assertEquals(cache.hits(), 0);
+        Assert.assertEquals(directory.toFile().list().length, 0);
+    }
+
     @AfterMethod
     public void cleanUp() {
         for (final File file : this.tmpFiles) {
@@ -3369,6 +3599,34 @@ public class MainTest {
         );
     }
 
+    @Test
+    public void gzipSource() throws IOException {
+        final String input = "!A\n A , |2, B \n5| , | , |3\n C ,4| , D \n";
+        final File plain = this.createTmpFile("source", ".txt");
+        Files.writeString(plain.toPath(), input);
+        final File compressed = this.createTmpFile("source", ".txt.gz");
+        try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(new FileOutputStream(compressed)))) {
+            writer.write(input);
+        }
+        final List<String> outputs = new ArrayList<String>();
+        for (final File source : List.of(plain, compressed)) {
+            this.prepare();
+            final File exFile = this.createTmpFile(MainTest.EX_FILE_NAME, MainTest.TEX_SUFFIX);
+            final File solFile = this.createTmpFile(MainTest.SOL_FILE_NAME, MainTest.TEX_SUFFIX);
+            Main.main(
+                new String[] {
+                    "-a", Algorithm.BELLMAN_FORD.name,
+                    "-s", source.getAbsolutePath(),
+                    "-e", exFile.getAbsolutePath(),
+                    "-t", solFile.getAbsolutePath()
+                }
+            );
+            outputs.add(Files.readString(exFile.toPath()) + Files.readString(solFile.toPath()));
+        }
+        Assert.assertTrue(outputs.get(0).contains("{A}"));
+        Assert.assertEquals(outputs.get(1), outputs.get(0));
+    }
+
     @Test
     public void hashing() throws IOException {
         final int contentLength = 1;
@@ -4545,6 +4803,76 @@ public class MainTest {
         );
     }
 
+    @Test
+    public void metrics() throws IOException {
+        final File tmpExFile = this.createTmpFile(MainTest.EX_FILE_NAME, MainTest.TEX_SUFFIX);
+        final File tmpSolFile = this.createTmpFile(MainTest.SOL_FILE_NAME, MainTest.TEX_SUFFIX);
+        final File report = this.createTmpFile("report", ".json");
+        Main.main(
+            new String[] {
+                "-a", String.join(",", Algorithm.BUBBLESORT.name, Algorithm.DIJKSTRA.name),
+                "-n", "6",
+                "-r", "42",
+                "-j", "2",
+                "-q", report.getAbsolutePath(),
+                "-e", tmpExFile.getAbsolutePath(),
+                "-t", tmpSolFile.getAbsolutePath()
+            }
+        );
+        final JsonObject metrics = JsonParser.parseString(Files.readString(report.toPath())).getAsJsonObject();
+        int exercises = 0;
+        for (final String algorithm : metrics.keySet()) {
+            Assert.assertTrue(
+                List.of(Algorithm.BUBBLESORT.name, Algorithm.DIJKSTRA.name).contains(algorithm),
+                algorithm
+            );
+            final JsonObject phases = metrics.getAsJsonObject(algorithm);
+            final int count = phases.getAsJsonObject("total").get("count").getAsInt();
+            for (final String phase : List.of("generate", "solve", "printExercise", "printSolution")) {
+                Assert.assertEquals(phases.getAsJsonObject(phase).get("count").getAsInt(), count, phase);
+            }
+            final JsonObject wallTime = phases.getAsJsonObject("solve").getAsJsonObject("wallTimeNanos");
+            Assert.assertTrue(wallTime.get("min").getAsLong() <= wallTime.get("p50").getAsLong());
+            Assert.assertTrue(wallTime.get("p50").getAsLong() <= wallTime.get("max").getAsLong());
+            exercises += count;
+        }
+        Assert.assertEquals(exercises, 6);
+    }
+
+    @Test
+    public void metricsCounters() throws IOException {
+        final File tmpExFile = this.createTmpFile(MainTest.EX_FILE_NAME, MainTest.TEX_SUFFIX);
+        final File tmpSolFile = this.createTmpFile(MainTest.SOL_FILE_NAME, MainTest.TEX_SUFFIX);
+        final File report = this.createTmpFile("report", ".json");
+        Main.main(
+            new String[] {
+                "-a", Algorithm.FARKAS_PLACE.name,
+                "-i", "{\"places\": [{\"label\": \"p1\", \"x\": 0, \"y\": 0, \"labelDegree\": 135}, "
+                    + "{\"label\": \"p2\", \"x\": 2, \"y\": 0, \"labelDegree\": 135}, "
+                    + "{\"label\": \"p3\", \"x\": 2, \"y\": 2, \"labelDegree\": 135}, "
+                    + "{\"label\": \"p4\", \"x\": 0, \"y\": 2, \"labelDegree\": 135}], "
+                    + "\"transitions\": [{\"label\": \"t1\", \"x\": 1, \"y\": 0, \"from\": {0: 1}, \"to\": {1: 1}}, "
+                    + "{\"label\": \"t2\", \"x\": 2, \"y\": 1, \"from\": {1: 1}, \"to\": {2: 1}}, "
+                    + "{\"label\": \"t3\", \"x\": 1, \"y\": 2, \"from\": {2: 1}, \"to\": {3: 1}}, "
+                    + "{\"label\": \"t4\", \"x\": 0, \"y\": 1, \"from\": {3: 1}, \"to\": {0: 1}}], "
+                    + "\"tokens\": []}",
+                "-q", report.getAbsolutePath(),
+                "-e", tmpExFile.getAbsolutePath(),
+                "-t", tmpSolFile.getAbsolutePath()
+            }
+        );
+        final JsonObject counters =
+            JsonParser.parseString(Files.readString(report.toPath())).getAsJsonObject()
+            .getAsJsonObject(Algorithm.FARKAS_PLACE.name)
+            .getAsJsonObject("counters");
+        final JsonObject rows = counters.getAsJsonObject("rows");
+        Assert.assertEquals(rows.get("count").getAsInt(), 4);
+        Assert.assertEquals(rows.getAsJsonObject("values").get("max").getAsLong(), 3);
+        Assert.assertEquals(rows.getAsJsonObject("values").get("total").getAsLong(), 7);
+        final JsonObject combinations = counters.getAsJsonObject("combinations").getAsJsonObject("values");
+        Assert.assertEquals(combinations.get("total").getAsLong(), 3);
+    }
+
     @Test
     public void minCut() throws IOException {
         this.harness(
@@ -4699,6 +5027,74 @@ public class MainTest {
         );
     }
 
+    @Test
+    public void multipleExercisesInParallel() throws IOException {
+        final File tmpExFile = this.createTmpFile(MainTest.EX_FILE_NAME, MainTest.TEX_SUFFIX);
+        final File tmpSolFile = this.createTmpFile(MainTest.SOL_FILE_NAME, MainTest.TEX_SUFFIX);
+        final int numberOfExercises = 12;
+        Main.main(
+            new String[] {
+                "-a", String.join(",", Algorithm.BUBBLESORT.name, Algorithm.DIJKSTRA.name, Algorithm.TO_CNF.name),
+                "-n", String.valueOf(numberOfExercises),
+                "-j", "4",
+                "-e", tmpExFile.getAbsolutePath(),
+                "-t", tmpSolFile.getAbsolutePath()
+            }
+        );
+        try (
+            BufferedReader exReader = new BufferedReader(new FileReader(tmpExFile));
+            BufferedReader solReader = new BufferedReader(new FileReader(tmpSolFile));
+        ) {
+            final List<String> exHeadings =
+                exReader.lines().filter(line -> line.startsWith("{\\large Aufgabe")).toList();
+            final List<String> solHeadings =
+                solReader.lines().filter(line -> line.startsWith("{\\large L\\\"osung")).toList();
+            Assert.assertEquals(exHeadings.size(), numberOfExercises);
+            Assert.assertEquals(solHeadings.size(), numberOfExercises);
+            for (int i = 0; i < numberOfExercises; i++) {
+                Assert.assertEquals(exHeadings.get(i), String.format("{\\large Aufgabe %d}\\\\[3ex]", i + 1));
+                Assert.assertEquals(solHeadings.get(i), String.format("{\\large L\\\"osung %d}\\\\[3ex]", i + 1));
+            }
+        }
+    }
+
+    @Test
+    public void multipleExercisesWithSeed() throws IOException {
+        final String algorithms =
+            String.join(",", Algorithm.BUBBLESORT.name, Algorithm.DIJKSTRA.name, Algorithm.TO_CNF.name);
+        final File tmpExFileSequential = this.createTmpFile(MainTest.EX_FILE_NAME, MainTest.TEX_SUFFIX);
+        final File tmpSolFileSequential = this.createTmpFile(MainTest.SOL_FILE_NAME, MainTest.TEX_SUFFIX);
+        final File tmpExFileParallel = this.createTmpFile(MainTest.EX_FILE_NAME, MainTest.TEX_SUFFIX);
+        final File tmpSolFileParallel = this.createTmpFile(MainTest.SOL_FILE_NAME, MainTest.TEX_SUFFIX);
+        Main.main(
+            new String[] {
+                "-a", algorithms,
+                "-n", "9",
+                "-r", "42",
+                "-e", tmpExFileSequential.getAbsolutePath(),
+                "-t", tmpSolFileSequential.getAbsolutePath()
+            }
+        );
+        Main.main(
+            new String[] {
+                "-a", algorithms,
+                "-n", "9",
+                "-r", "42",
+                "-j", "3",
+                "-e", tmpExFileParallel.getAbsolutePath(),
+                "-t", tmpSolFileParallel.getAbsolutePath()
+            }
+        );
+        Assert.assertEquals(
+            Files.readString(tmpExFileParallel.toPath()),
+            Files.readString(tmpExFileSequential.toPath())
+        );
+        Assert.assertEquals(
+            Files.readString(tmpSolFileParallel.toPath()),
+            Files.readString(tmpSolFileSequential.toPath())
+        );
+    }
+
     @BeforeMethod
     public void prepare() {
         LaTeXUtils.reset();
@@ -4962,6 +5358,57 @@ public class MainTest {
         );
     }
 
+    @Test
+    public void server() throws IOException, InterruptedException {
+        final GeneratorServer server = Main.startServer(0, 2);
+        try (server) {
+            final URI uri =
+                URI.create(
+                    String.format(
+                        "http://%s:%d/",
+                        server.getAddress().getHostString(),
+                        server.getAddress().getPort()
+                    )
+                );
+            final HttpClient client = HttpClient.newHttpClient();
+            for (final Algorithm algorithm : List.of(Algorithm.BUBBLESORT, Algorithm.TO_CNF)) {
+                final File directExFile = this.createTmpFile(MainTest.EX_FILE_NAME, MainTest.TEX_SUFFIX);
+                final File directSolFile = this.createTmpFile(MainTest.SOL_FILE_NAME, MainTest.TEX_SUFFIX);
+                this.prepare();
+                Main.main(
+                    new String[] {
+                        "-a", algorithm.name,
+                        "-r", "42",
+                        "-e", directExFile.getAbsolutePath(),
+                        "-t", directSolFile.getAbsolutePath()
+                    }
+                );
+                final HttpResponse<String> response =
+                    client.send(
+                        HttpRequest.newBuilder(uri)
+                        .POST(HttpRequest.BodyPublishers.ofString("-a " + algorithm.name + " -r 42"))
+                        .build(),
+                        HttpResponse.BodyHandlers.ofString()
+                    );
+                Assert.assertEquals(response.statusCode(), 200);
+                final JsonObject result = Main.GSON.fromJson(response.body(), JsonObject.class);
+                Assert.assertEquals(result.get("exercise").getAsString(), Files.readString(directExFile.toPath()));
+                Assert.assertEquals(result.get("solution").getAsString(), Files.readString(directSolFile.toPath()));
+            }
+            final HttpResponse<String> failure =
+                client.send(
+                    HttpRequest.newBuilder(uri).POST(HttpRequest.BodyPublishers.ofString("-a unknown")).build(),
+                    HttpResponse.BodyHandlers.ofString()
+                );
+            Assert.assertEquals(failure.statusCode(), 400);
+            Assert.assertTrue(Main.GSON.fromJson(failure.body(), JsonObject.class).has("error"));
+        }
+        for (int i = 0; i < 100 && !server.isTerminated(); i++) {
+            Thread.sleep(10);
+        }
+        Assert.assertTrue(server.isTerminated());
+    }
+
     @Test
     public void simplex() throws IOException {
         this.harness(
@@ -554,24 +554,21 @@ public class GraphAlgorithmsTest {
                         new int[][] {
                             { 0, 0, 1, 0, 0, 0, 1, 0, 0},
                             { 0, 0, 0, 0, 1, 1, 0, 0, 0},
-                            { 0, 0, 0, 0, 0, 0, 0, 1, 1},
-                            { 0, 0, 0, 0, 1, 1, 0, 1, 1}
+                            { 0, 0, 0, 0, 0, 0, 0, 1, 1}
                         },
                         4
                     ),
                     new Matrix(
                         new int[][] {
                             { 0, 0, 0, 0, 1, 1, 0, 0, 0},
-                            { 0, 0, 0, 0, 0, 0, 0, 1, 1},
-                            { 0, 0, 0, 0, 1, 1, 0, 1, 1}
+                            { 0, 0, 0, 0, 0, 0, 0, 1, 1}
                         },
                         4
                     ),
                     new Matrix(
                         new int[][] {
                             { 0, 0, 0, 0, 1, 1, 0, 0, 0},
-                            { 0, 0, 0, 0, 0, 0, 0, 1, 1},
-                            { 0, 0, 0, 0, 1, 1, 0, 1, 1}
+                            { 0, 0, 0, 0, 0, 0, 0, 1, 1}
                         },
                         4
                     ),
@@ -754,7 +751,7 @@ public class GraphAlgorithmsTest {
 
     @Test(dataProvider="floydData")
     public void floyd(final GraphProblem problem, final Integer[][][] expected) {
-        Assert.assertEquals(FloydAlgorithm.INSTANCE.apply(problem), expected);
+        Assert.assertEquals(FloydAlgorithm.INSTANCE.toTables(FloydAlgorithm.INSTANCE.apply(problem)), expected);
     }
 
     @DataProvider
@@ -1274,4 +1271,66 @@ public class GraphAlgorithmsTest {
         };
     }
 
+    @Test(dataProvider="warshallData")
+    public void warshall(final GraphProblem problem, final Boolean[][][] expected) {
+        Assert.assertEquals(WarshallAlgorithm.INSTANCE.toTables(WarshallAlgorithm.INSTANCE.apply(problem)), expected);
+    }
+
+    @DataProvider
+    public Object[][] warshallData() {
+        final Vertex<String> a = new Vertex<String>("A");
+        final Vertex<String> b = new Vertex<String>("B");
+        final Vertex<String> c = new Vertex<String>("C");
+        final Vertex<String> d = new Vertex<String>("D");
+        final AdjacencySets<String, Integer> adjacencySets1 = new AdjacencySets<String, Integer>();
+        adjacencySets1.addEdge(a, 1, b);
+        adjacencySets1.addEdge(b, 1, c);
+        adjacencySets1.addEdge(c, 1, a);
+        adjacencySets1.addEdge(d, 1, c);
+        return new Object[][] {
+            {
+                new GraphProblem(
+                    new GraphWithLayout<String, Integer, Integer>(
+                        Graph.create(adjacencySets1),
+                        new DummyGraphLayout<String, Integer, Integer>()
+                    ),
+                    null,
+                    StringVertexComparator.INSTANCE
+                ),
+                new Boolean[][][] {
+                    {
+                        { true, true,false,false},
+                        {false, true, true,false},
+                        { true,false, true,false},
+                        {false,false, true, true}
+                    },
+                    {
+                        { true, true,false,false},
+                        {false, true, true,false},
+                        { true, true, true,false},
+                        {false,false, true, true}
+                    },
+                    {
+                        { true, true, true,false},
+                        {false, true, true,false},
+                        { true, true, true,false},
+                        {false,false, true, true}
+                    },
+                    {
+                        { true, true, true,false},
+                        { true, true, true,false},
+                        { true, true, true,false},
+                        { true, true, true, true}
+                    },
+                    {
+                        { true, true, true,false},
+                        { true, true, true,false},
+                        { true, true, true,false},
+                        { true, true, true, true}
+                    }
+                }
+            }
+        };
+    }
+
 }
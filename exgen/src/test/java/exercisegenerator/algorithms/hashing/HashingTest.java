@@ -18,13 +18,14 @@ public class HashingTest {
     @DataProvider
     public static Object[][] testData() throws IOException {
         final Parameters<Flag> options = new Parameters<Flag>();
-        final HashFunctionWithParameters div7 = HashingDivisionOpen.INSTANCE.hashFunction(7, options);
+        final HashFunctionWithParameters div7 =
+            HashingDivisionOpen.INSTANCE.hashFunction(7, options, new SplittableRandom());
         return new Object[][] {
             {
                 new HashProblem(
                     Hashing.createEmptyArray(11),
                     Arrays.asList(7,4,3,8,1),
-                    HashingDivisionOpen.INSTANCE.hashFunction(11, options),
+                    HashingDivisionOpen.INSTANCE.hashFunction(11, options, new SplittableRandom()),
                     Optional.empty()
                 ),
                 new IntegerList[] {
@@ -230,7 +231,7 @@ public class HashingTest {
                 new HashProblem(
                     Hashing.createEmptyArray(5),
                     List.of(1, 2, 3, 4, 5, 6),
-                    HashingDivisionOpen.INSTANCE.hashFunction(5, options),
+                    HashingDivisionOpen.INSTANCE.hashFunction(5, options, new SplittableRandom()),
                     Optional.of(new ProbingFunctionWithParameters(LinearProbing.INSTANCE, "", Map.of(), ""))
                 )
             )
@@ -257,7 +258,7 @@ public class HashingTest {
                 new HashProblem(
                     Hashing.createEmptyArray(5),
                     List.of(1, 2, 3, 4, 5, 6),
-                    HashingDivisionOpen.INSTANCE.hashFunction(5, options),
+                    HashingDivisionOpen.INSTANCE.hashFunction(5, options, new SplittableRandom()),
                     Optional.of(
                         new ProbingFunctionWithParameters(
                             new QuadraticProbing(BigFraction.ONE, BigFraction.ONE),
@@ -0,0 +1,96 @@
+package exercisegenerator.io;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.*;
+
+import org.testng.*;
+import org.testng.annotations.*;
+
+public class PDFLaTeXPipelineTest {
+
+    private static final String STUB =
+        String.join(
+            "\n",
+            "#!/bin/sh",
+            "ini=false; fmt=none; job=; file=",
+            "for arg in \"$@\"; do",
+            "  case \"$arg\" in",
+            "    -ini) ini=true ;;",
+            "    -jobname=*) job=\"${arg#-jobname=}\" ;;",
+            "    -fmt=*) fmt=format ;;",
+            "    -*|\\&*) ;;",
+            "    *) file=\"$arg\" ;;",
+            "  esac",
+            "done",
+            "if $ini; then",
+            "  echo ini >> '%1$s'",
+            "  touch \"$job.fmt\"",
+            "  exit 0",
+            "fi",
+            "src=\"${file%%.tex}.tex\"; name=\"${job:-${file%%.tex}}\"",
+            "echo \"$name $fmt\" >> '%1$s'",
+            "if grep -q 'undefinedcommand' \"$src\"; then exit 1; fi",
+            "if grep -q '\\\\ref' \"$src\" && [ ! -f \"$name.aux\" ]; then",
+            "  echo 'Rerun to get cross-references right.' > \"$name.log\"",
+            "else",
+            "  echo > \"$name.log\"",
+            "fi",
+            "echo '\\relax' > \"$name.aux\"",
+            "touch \"$name.pdf\"",
+            ""
+        );
+
+    @Test
+    public void build() throws IOException, InterruptedException {
+        if (File.separatorChar != '/') {
+            throw new SkipException("The pdflatex stub is a POSIX shell script.");
+        }
+        final Path directory = Files.createTempDirectory("pdflatex");
+        try {
+            final Path calls = directory.resolve("calls.txt");
+            final Path stub = directory.resolve("pdflatex");
+            Files.writeString(stub, String.format(PDFLaTeXPipelineTest.STUB, calls.toAbsolutePath()));
+            stub.toFile().setExecutable(true);
+            final File formatDirectory = directory.resolve("format").toFile();
+            final StringWriter preamble = new StringWriter();
+            try (BufferedWriter writer = new BufferedWriter(preamble)) {
+                LaTeXUtils.printLaTeXPreamble(writer);
+            }
+            final String plain = preamble + "\\begin{document}Text\\end{document}";
+            Files.writeString(directory.resolve("plain.tex"), plain);
+            Files.writeString(directory.resolve("refs.tex"), preamble + "\\begin{document}\\ref{x}\\end{document}");
+            Files.writeString(directory.resolve("broken.tex"), "\\undefinedcommand");
+            try (PDFLaTeXPipeline pipeline = new PDFLaTeXPipeline(stub.toString(), formatDirectory, 2)) {
+                Assert.assertEquals(
+                    pipeline.build(directory.toFile(), List.of("plain", "refs", "broken")),
+                    List.of("broken")
+                );
+            }
+            try (PDFLaTeXPipeline pipeline = new PDFLaTeXPipeline(stub.toString(), formatDirectory, 2)) {
+                Files.writeString(directory.resolve("again.tex"), preamble + "\\begin{document}Text\\end{document}");
+                Assert.assertTrue(pipeline.build(directory.toFile(), List.of("again")).isEmpty());
+            }
+            final List<String> lines = Files.readAllLines(calls);
+            Assert.assertEquals(Collections.frequency(lines, "ini"), 1);
+            Assert.assertEquals(Collections.frequency(lines, "plain format"), 1);
+            Assert.assertEquals(Collections.frequency(lines, "refs format"), 2);
+            Assert.assertEquals(Collections.frequency(lines, "broken none"), 1);
+            Assert.assertEquals(Collections.frequency(lines, "again format"), 1);
+            Assert.assertEquals(lines.size(), 6);
+            Assert.assertTrue(Files.isRegularFile(directory.resolve("plain.pdf")));
+            Assert.assertTrue(Files.isRegularFile(directory.resolve("refs.pdf")));
+            Assert.assertFalse(Files.isRegularFile(directory.resolve("broken.pdf")));
+            Assert.assertEquals(Files.readString(directory.resolve("plain.tex")), plain);
+            try (Stream<Path> files = Files.list(directory)) {
+                Assert.assertEquals(files.filter(path -> path.toString().endsWith(".tex")).count(), 4);
+            }
+        } finally {
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+}
@@ -1,11 +1,15 @@
 package exercisegenerator.structures.graphs;
 
+import java.io.*;
 import java.util.*;
 import java.util.Optional;
 
 import org.testng.*;
 import org.testng.annotations.*;
 
+import exercisegenerator.io.*;
+import exercisegenerator.structures.graphs.layout.*;
+
 public class GraphTest {
 
     private static final Vertex<String> A;
@@ -35,6 +39,42 @@ public class GraphTest {
             );
     }
 
+    @DataProvider
+    public Object[][] createFromJsonData() {
+        final String nodes =
+            "\"nodes\": {\"A\": {\"x\": 0, \"y\": 0}, \"B\": {\"x\": 2, \"y\": 0}, \"C\": {\"y\": 1, \"x\": 1}}";
+        final String edges =
+            "\"edges\": [{\"from\": \"A\", \"label\": \"1\", \"to\": \"B\", \"edgeStyle\": \"bend left\"}, "
+            + "{\"from\": \"B\", \"label\": 2, \"to\": \"C\", \"labelStyle\": null}, "
+            + "{\"unknown\": [true], \"to\": \"A\", \"label\": \"-1\", \"from\": \"C\"}]";
+        return new Object[][] {
+            {String.format("!json\n{%s, %s}", nodes, edges)},
+            {String.format("!JSON\n{%s, \"comment\": {\"nodes\": 1}, %s}", edges, nodes)}
+        };
+    }
+
+    @Test(dataProvider="createFromJsonData")
+    public void createFromJsonTest(final String input) throws IOException {
+        final GraphWithLayout<String, Integer, Integer> result =
+            Graph.create(new BufferedReader(new StringReader(input)), new StringLabelParser(), new IntLabelParser());
+        Assert.assertTrue(result.graph().logicallyEquals(GraphTest.GRAPHS.get(3)));
+        final Vertex<String> c = result.graph().getVerticesWithLabel("C").iterator().next();
+        Assert.assertEquals(result.layout().getPosition(c), new Coordinates2D<Integer>(1, 1));
+    }
+
+    @Test
+    public void createFromJsonWithDuplicateLabelTest() {
+        final String input = "!json\n{\"nodes\": {\"A\": {\"x\": 0, \"y\": 0}, \"A\": {\"x\": 1, \"y\": 0}}}";
+        Assert.assertThrows(
+            IllegalArgumentException.class,
+            () -> Graph.create(
+                new BufferedReader(new StringReader(input)),
+                new StringLabelParser(),
+                new IntLabelParser()
+            )
+        );
+    }
+
     @DataProvider
     public Object[][] getAllUndirectedEdgesData() {
         return new Object[][] {
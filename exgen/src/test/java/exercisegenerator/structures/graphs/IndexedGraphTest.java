@@ -0,0 +1,62 @@
+package exercisegenerator.structures.graphs;
+
+import java.util.*;
+import java.util.Optional;
+
+import org.testng.*;
+import org.testng.annotations.*;
+
+public class IndexedGraphTest {
+
+    @Test
+    public void index() {
+        final Vertex<String> a = new Vertex<String>("A");
+        final Vertex<String> b = new Vertex<String>("B");
+        final Vertex<String> c = new Vertex<String>("C");
+        final Vertex<String> d = new Vertex<String>("D");
+        final Graph<String, Integer> graph = new Graph<String, Integer>();
+        graph.addVertex(d);
+        graph.addEdge(c, Optional.of(3), a);
+        graph.addEdge(c, Optional.of(-2), b);
+        graph.addEdge(c, Optional.of(-5), a);
+        graph.addEdge(a, Optional.empty(), c);
+        graph.addEdge(b, Optional.of(Integer.MIN_VALUE), b);
+        final IndexedGraph<String> indexed = Graph.index(graph, StringVertexComparator.INSTANCE);
+        Assert.assertEquals(indexed.size(), 4);
+        Assert.assertEquals(indexed.numberOfEdges(), 5);
+        Assert.assertEquals(indexed.vertices(), List.of(a, b, c, d));
+        Assert.assertEquals(indexed.index(c), 2);
+        Assert.assertEquals(indexed.vertex(3), d);
+        Assert.assertEquals(IndexedGraphTest.edges(indexed, 0), List.of(List.of(2, 0)));
+        Assert.assertEquals(IndexedGraphTest.edges(indexed, 1), List.of(List.of(1, Integer.MIN_VALUE)));
+        Assert.assertEquals(IndexedGraphTest.edges(indexed, 2), List.of(List.of(0, -5), List.of(0, 3), List.of(1, -2)));
+        Assert.assertEquals(IndexedGraphTest.edges(indexed, 3), List.of());
+        final IndexedGraph<String> reversed = Graph.index(graph, StringVertexComparator.INSTANCE.reversed());
+        Assert.assertEquals(reversed.vertices(), List.of(d, c, b, a));
+        Assert.assertEquals(IndexedGraphTest.edges(reversed, 1), List.of(List.of(2, -2), List.of(3, -5), List.of(3, 3)));
+        Assert.assertThrows(IllegalArgumentException.class, () -> indexed.index(new Vertex<String>("E")));
+    }
+
+    @Test
+    public void sameLabel() {
+        final Vertex<String> first = new Vertex<String>("A");
+        final Vertex<String> second = new Vertex<String>("A");
+        final Graph<String, Integer> graph = new Graph<String, Integer>();
+        graph.addEdge(second, Optional.of(1), first);
+        graph.addEdge(first, Optional.of(2), second);
+        final IndexedGraph<String> indexed = Graph.index(graph, StringVertexComparator.INSTANCE);
+        Assert.assertEquals(indexed.size(), 2);
+        Assert.assertEquals(indexed.vertices(), List.of(first, second));
+        Assert.assertEquals(IndexedGraphTest.edges(indexed, 0), List.of(List.of(1, 2)));
+        Assert.assertEquals(IndexedGraphTest.edges(indexed, 1), List.of(List.of(0, 1)));
+    }
+
+    private static List<List<Integer>> edges(final IndexedGraph<String> graph, final int vertex) {
+        final List<List<Integer>> result = new ArrayList<List<Integer>>();
+        for (int edge = graph.edgesBegin(vertex); edge < graph.edgesEnd(vertex); edge++) {
+            result.add(List.of(graph.target(edge), graph.weight(edge)));
+        }
+        return result;
+    }
+
+}
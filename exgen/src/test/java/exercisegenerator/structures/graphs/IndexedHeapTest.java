@@ -0,0 +1,59 @@
+package exercisegenerator.structures.graphs;
+
+import java.util.*;
+import java.util.stream.*;
+
+import org.testng.*;
+import org.testng.annotations.*;
+
+public class IndexedHeapTest {
+
+    @Test
+    public void heap() {
+        final IndexedHeap heap = new IndexedHeap(6);
+        heap.insertOrDecrease(4, 7);
+        heap.insertOrDecrease(2, 5);
+        heap.insertOrDecrease(5, 3);
+        heap.insertOrDecrease(1, 5);
+        heap.insertOrDecrease(4, 3);
+        heap.insertOrDecrease(2, 9);
+        Assert.assertEquals(heap.size(), 4);
+        Assert.assertTrue(heap.contains(4));
+        Assert.assertFalse(heap.contains(0));
+        Assert.assertEquals(heap.key(4), 3);
+        Assert.assertEquals(heap.key(2), 5);
+        final List<Integer> result = new ArrayList<Integer>();
+        while (!heap.isEmpty()) {
+            result.add(heap.poll());
+        }
+        Assert.assertEquals(result, List.of(4, 5, 1, 2));
+        Assert.assertFalse(heap.contains(4));
+        Assert.assertThrows(NoSuchElementException.class, () -> heap.poll());
+    }
+
+    @Test
+    public void quaternaryHeap() {
+        final Random random = new Random(42);
+        final IndexedHeap heap = new IndexedHeap(100, 4);
+        final int[] keys = new int[100];
+        Arrays.fill(keys, Integer.MAX_VALUE);
+        for (int i = 0; i < 500; i++) {
+            final int element = random.nextInt(100);
+            final int key = random.nextInt(50);
+            heap.insertOrDecrease(element, key);
+            keys[element] = Math.min(keys[element], key);
+        }
+        final List<Integer> expected =
+            IntStream.range(0, 100)
+            .boxed()
+            .filter(element -> keys[element] < Integer.MAX_VALUE)
+            .sorted(Comparator.comparingInt((Integer element) -> keys[element]).thenComparing(element -> element))
+            .toList();
+        final List<Integer> result = new ArrayList<Integer>();
+        while (!heap.isEmpty()) {
+            result.add(heap.poll());
+        }
+        Assert.assertEquals(result, expected);
+    }
+
+}
@@ -0,0 +1,35 @@
+package exercisegenerator.structures.graphs;
+
+import java.util.*;
+
+import org.testng.*;
+import org.testng.annotations.*;
+
+public class RankedIndexSetTest {
+
+    @Test
+    public void select() {
+        final Random random = new Random(42);
+        final RankedIndexSet set = new RankedIndexSet(200);
+        final List<Integer> expected = new ArrayList<Integer>();
+        for (int i = 0; i < 2000; i++) {
+            final int element = random.nextInt(200);
+            if (random.nextBoolean()) {
+                Assert.assertEquals(set.add(element), !expected.contains(element));
+                if (!expected.contains(element)) {
+                    expected.add(element);
+                    Collections.sort(expected);
+                }
+            } else {
+                Assert.assertEquals(set.remove(element), expected.remove(Integer.valueOf(element)));
+            }
+            Assert.assertEquals(set.size(), expected.size());
+            Assert.assertEquals(set.contains(element), expected.contains(element));
+            for (int rank = 0; rank < expected.size(); rank++) {
+                Assert.assertEquals(set.select(rank), expected.get(rank).intValue());
+            }
+        }
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> set.select(set.size()));
+    }
+
+}
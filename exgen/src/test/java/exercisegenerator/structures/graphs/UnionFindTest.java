@@ -0,0 +1,37 @@
+package exercisegenerator.structures.graphs;
+
+import java.util.*;
+
+import org.testng.*;
+import org.testng.annotations.*;
+
+public class UnionFindTest {
+
+    @Test
+    public void longChain() {
+        final int length = 100000;
+        final Map<Integer, Integer> chain = new LinkedHashMap<Integer, Integer>();
+        for (int i = 0; i < length; i++) {
+            chain.put(i, Math.min(i + 1, length - 1));
+        }
+        final UnionFind<Integer> unionFind = new UnionFind<Integer>(chain);
+        Assert.assertEquals(unionFind.get(0), 1);
+        Assert.assertEquals(unionFind.find(0), length - 1);
+        Assert.assertEquals(unionFind.get(0), length - 1);
+        Assert.assertEquals(unionFind.get(length / 2), length - 1);
+    }
+
+    @Test
+    public void unionBySize() {
+        final UnionFind<Integer> unionFind = new UnionFind<Integer>(List.of(1, 2, 3, 4));
+        unionFind.unionBySize(1, 2);
+        unionFind.unionBySize(2, 3);
+        unionFind.unionBySize(4, 1);
+        Assert.assertEquals(unionFind, Map.of(1, 2, 2, 2, 3, 2, 4, 2));
+        Assert.assertTrue(unionFind.connected(3, 4));
+        unionFind.union(2, 5);
+        Assert.assertEquals(unionFind.get(2), 5);
+        Assert.assertEquals(unionFind.find(1), 5);
+    }
+
+}
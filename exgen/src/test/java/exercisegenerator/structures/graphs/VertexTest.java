@@ -0,0 +1,42 @@
+package exercisegenerator.structures.graphs;
+
+import java.util.*;
+import java.util.Optional;
+import java.util.concurrent.*;
+
+import org.testng.*;
+import org.testng.annotations.*;
+
+public class VertexTest {
+
+    @Test
+    public void ids() throws Exception {
+        Vertex.resetIDs();
+        final List<Long> expected = List.of(1L, 2L, 3L);
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            final Callable<List<Vertex<String>>> allocation =
+                () -> {
+                    Vertex.resetIDs();
+                    final List<Vertex<String>> vertices = new ArrayList<Vertex<String>>();
+                    for (int i = 0; i < 3; i++) {
+                        vertices.add(new Vertex<String>(String.valueOf(i)));
+                    }
+                    return vertices;
+                };
+            final Future<List<Vertex<String>>> first = executor.submit(allocation);
+            final Future<List<Vertex<String>>> second = executor.submit(allocation);
+            Assert.assertEquals(first.get().stream().map(Vertex::id).toList(), expected);
+            Assert.assertEquals(second.get().stream().map(Vertex::id).toList(), expected);
+            Assert.assertNotEquals(first.get().get(0), second.get().get(0));
+        }
+        final Vertex<String> a = new Vertex<String>("A");
+        Assert.assertEquals(a.id(), 1L);
+        Assert.assertEquals(new Vertex<String>("B"), new Vertex<String>(2, Optional.of("C")));
+        Vertex.resetIDs();
+        final Vertex<String> next = new Vertex<String>("A");
+        Assert.assertEquals(next.id(), 1L);
+        Assert.assertNotEquals(next, a);
+        Assert.assertEquals(Vertex.getNewID(), 2L);
+    }
+
+}
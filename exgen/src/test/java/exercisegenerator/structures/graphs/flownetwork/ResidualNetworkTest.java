@@ -0,0 +1,69 @@
+package exercisegenerator.structures.graphs.flownetwork;
+
+import java.util.*;
+import java.util.Optional;
+
+import org.testng.*;
+import org.testng.annotations.*;
+
+import exercisegenerator.structures.graphs.*;
+
+public class ResidualNetworkTest {
+
+    @Test
+    public void augment() {
+        final Vertex<String> a = new Vertex<String>("a");
+        final Vertex<String> b = new Vertex<String>("b");
+        final Vertex<String> s = new Vertex<String>("s");
+        final Vertex<String> t = new Vertex<String>("t");
+        final Graph<String, FlowAndCapacity> graph = new Graph<String, FlowAndCapacity>();
+        graph.addEdge(s, Optional.of(new FlowAndCapacity(0, 3)), a);
+        graph.addEdge(s, Optional.of(new FlowAndCapacity(0, 2)), b);
+        graph.addEdge(a, Optional.of(new FlowAndCapacity(0, 1)), b);
+        graph.addEdge(a, Optional.of(new FlowAndCapacity(0, 2)), t);
+        graph.addEdge(b, Optional.of(new FlowAndCapacity(0, 3)), t);
+        final ResidualNetwork<String> network = new ResidualNetwork<String>(graph);
+        final int[] first = network.augmentingPath(s, t).get();
+        Assert.assertEquals(first, new int[] {network.index(s), network.index(a), network.index(t)});
+        Assert.assertEquals(
+            network.residualPath(first),
+            Set.of(
+                new FordFulkersonPathStep<String, Integer>(s, new Edge<Integer, String>(Optional.of(3), a)),
+                new FordFulkersonPathStep<String, Integer>(a, new Edge<Integer, String>(Optional.of(2), t))
+            )
+        );
+        Assert.assertEquals(
+            network.augment(first),
+            Set.of(
+                new FordFulkersonPathStep<String, FlowAndCapacity>(
+                    s,
+                    new Edge<FlowAndCapacity, String>(Optional.of(new FlowAndCapacity(2, 3)), a)
+                ),
+                new FordFulkersonPathStep<String, FlowAndCapacity>(
+                    a,
+                    new Edge<FlowAndCapacity, String>(Optional.of(new FlowAndCapacity(2, 2)), t)
+                )
+            )
+        );
+        Assert.assertEquals(network.residualGraph().getEdges(a, s).iterator().next().label().get(), 2);
+        Assert.assertTrue(network.residualGraph().getEdges(a, t).isEmpty());
+        Assert.assertEquals(
+            network.augmentingPath(s, t).get(),
+            new int[] {network.index(s), network.index(b), network.index(t)}
+        );
+        network.augment(network.augmentingPath(s, t).get());
+        Assert.assertEquals(
+            network.augmentingPath(s, t).get(),
+            new int[] {network.index(s), network.index(a), network.index(b), network.index(t)}
+        );
+        network.augment(network.augmentingPath(s, t).get());
+        Assert.assertTrue(network.augmentingPath(s, t).isEmpty());
+        int flow = 0;
+        for (final Edge<FlowAndCapacity, String> edge : network.flowNetwork().getAdjacencySet(s)) {
+            flow += edge.label().get().flow();
+        }
+        Assert.assertEquals(flow, 5);
+        Assert.assertThrows(IllegalArgumentException.class, () -> network.index(new Vertex<String>("c")));
+    }
+
+}
@@ -1,5 +1,7 @@
 package exercisegenerator.structures.graphs.layout;
 
+import java.io.*;
+import java.util.*;
 import java.util.Optional;
 
 import org.testng.*;
@@ -11,6 +13,37 @@ import exercisegenerator.structures.graphs.petrinets.*;
 
 public class GraphLayoutTest {
 
+    @Test
+    public void barnesHutLayoutTest() {
+        final int size = 15;
+        final List<Vertex<Integer>> vertices = new ArrayList<Vertex<Integer>>();
+        final Graph<Integer, Integer> graph = new Graph<Integer, Integer>();
+        for (int i = 0; i < size * size; i++) {
+            final Vertex<Integer> vertex = new Vertex<Integer>(i);
+            vertices.add(vertex);
+            graph.addVertex(vertex);
+            if (i % size > 0) {
+                graph.addEdge(vertices.get(i - 1), Optional.empty(), vertex);
+            }
+            if (i >= size) {
+                graph.addEdge(vertices.get(i - size), Optional.empty(), vertex);
+            }
+        }
+        final BarnesHutGraphLayout<Integer, Integer> layout =
+            new BarnesHutGraphLayout<Integer, Integer>(graph, TikZStyle.FORCE_GRAPH, 1, 1, 12, 12);
+        final BarnesHutGraphLayout<Integer, Integer> again =
+            new BarnesHutGraphLayout<Integer, Integer>(graph, TikZStyle.FORCE_GRAPH, 1, 1, 12, 12);
+        final Set<Coordinates2D<Double>> positions = new HashSet<Coordinates2D<Double>>();
+        for (final Vertex<Integer> vertex : vertices) {
+            final Coordinates2D<Double> position = layout.getPosition(vertex);
+            Assert.assertTrue(position.x() >= 0 && position.x() <= layout.width);
+            Assert.assertTrue(position.y() >= 0 && position.y() <= layout.height);
+            Assert.assertEquals(again.getPosition(vertex), position);
+            positions.add(position);
+        }
+        Assert.assertEquals(positions.size(), vertices.size());
+    }
+
     @Test
     public void layoutTest() {
         final PetriMarking one1 = PetriMarking.create(1, 0, 0, 0);
@@ -74,4 +107,35 @@ public class GraphLayoutTest {
         Assert.assertEquals(coordinates2.y(), 0.0, 0.001);
     }
 
+    @Test
+    public void printTikZTest() throws IOException {
+        Vertex.resetIDs();
+        final Vertex<String> a = new Vertex<String>("A");
+        final Vertex<String> b = new Vertex<String>("B");
+        final Vertex<String> c = new Vertex<String>("C");
+        final Graph<String, String> graph = new Graph<String, String>();
+        graph.addVertex(c);
+        graph.addEdge(a, Optional.of("y"), b);
+        graph.addEdge(a, Optional.empty(), b);
+        graph.addEdge(a, Optional.of("x"), b);
+        graph.addEdge(b, Optional.of("z"), a);
+        graph.addEdge(c, Optional.empty(), c);
+        graph.addEdge(c, Optional.of("w"), a);
+        final StringWriter result = new StringWriter();
+        try (BufferedWriter writer = new BufferedWriter(result)) {
+            new ForceGraphLayout<String, String>(graph, TikZStyle.FORCE_GRAPH, 1, 1, 12, 12).printTikZ(graph, writer);
+        }
+        final List<String> edges = result.toString().lines().filter(line -> line.startsWith("\\draw")).toList();
+        Assert.assertEquals(
+            edges,
+            List.of(
+                "\\draw[p, bend left = 10] (n1) to node[auto] {x,y} (n2);",
+                "\\draw[p, bend left = 10] (n2) to node[auto] {z} (n1);",
+                "\\draw[p, bend left = 10] (n3) to node[auto] {w} (n1);",
+                "\\draw[p, bend left = 10] ($(n3.north)+(-0.1,0)$) .. controls +(-0.2,1) and +(0.2,1) .. "
+                + "($(n3.north)+(0.1,0)$);"
+            )
+        );
+    }
+
 }
@@ -0,0 +1,52 @@
+package exercisegenerator.structures.graphs.layout;
+
+import java.util.*;
+
+import org.testng.*;
+import org.testng.annotations.*;
+
+public class GridOccupancyTest {
+
+    @Test
+    public void occupancy() {
+        final GridOccupancy occupancy = new GridOccupancy();
+        for (int x = -100; x <= 100; x++) {
+            for (int y = -100; y <= 100; y += 2) {
+                occupancy.put(x, y, (x + 100) * 1000 + y + 100);
+            }
+        }
+        occupancy.put(-100, -100, 7);
+        Assert.assertEquals(occupancy.size(), 201 * 101);
+        Assert.assertEquals(occupancy.get(-100, -100), 7);
+        Assert.assertEquals(occupancy.get(3, 4), 103104);
+        Assert.assertEquals(occupancy.get(3, 5), -1);
+        Assert.assertFalse(occupancy.isOccupied(Integer.MIN_VALUE, 0));
+        Assert.assertEquals(GridOccupancy.unpackX(GridOccupancy.pack(-3, Integer.MIN_VALUE)), -3);
+        Assert.assertEquals(GridOccupancy.unpackY(GridOccupancy.pack(-3, Integer.MIN_VALUE)), Integer.MIN_VALUE);
+    }
+
+    @Test
+    public void surroundingPositions() {
+        final GridOccupancy occupancy = new GridOccupancy();
+        occupancy.put(0, 0, 0);
+        occupancy.put(0, 1, 1);
+        occupancy.put(-1, -1, 2);
+        occupancy.put(2, 0, 3);
+        Assert.assertEquals(occupancy.surroundingIds(0, 0), new int[] {1, 2});
+        Assert.assertEquals(occupancy.countFreeSurroundingPositions(0, 0), 6);
+        final List<Coordinates2D<Integer>> free = new ArrayList<Coordinates2D<Integer>>();
+        for (int rank = 0; rank < 6; rank++) {
+            final long position = occupancy.freeSurroundingPosition(0, 0, rank);
+            free.add(new Coordinates2D<Integer>(GridOccupancy.unpackX(position), GridOccupancy.unpackY(position)));
+        }
+        Assert.assertEquals(
+            free,
+            GridGraphLayout.surroundingCoordinates(new Coordinates2D<Integer>(0, 0))
+            .filter(coordinates -> !occupancy.isOccupied(coordinates.x(), coordinates.y()))
+            .toList()
+        );
+        Assert.assertEquals(occupancy.surroundingIds(1, 0), new int[] {3, 0});
+        Assert.assertEquals(occupancy.countFreeSurroundingPositions(1, 0), 2);
+    }
+
+}
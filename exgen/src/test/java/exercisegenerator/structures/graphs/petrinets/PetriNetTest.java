@@ -0,0 +1,78 @@
+package exercisegenerator.structures.graphs.petrinets;
+
+import java.util.*;
+import java.util.Optional;
+
+import org.testng.*;
+import org.testng.annotations.*;
+
+public class PetriNetTest {
+
+    private static final PetriNet NET;
+
+    static {
+        NET =
+            new PetriNet(
+                new PetriNetInput(
+                    List.of(
+                        new PetriPlace("p1", 0, 0, 0),
+                        new PetriPlace("p2", 4, 0, 0),
+                        new PetriPlace("p3", 8, 0, 0)
+                    ),
+                    List.of(
+                        new PetriTransition("t1", 2, 0, Map.of(0, 2), Map.of(1, 1, 2, 1)),
+                        new PetriTransition("t2", 6, 0, Map.of(1, 1, 2, 1), Map.of(2, 3))
+                    ),
+                    List.of(2, 0, 0)
+                )
+            );
+    }
+
+    @Test
+    public void activeTransitions() {
+        Assert.assertEquals(
+            PetriNetTest.NET
+            .activeTransitions(PetriMarking.create(2, 1, 0))
+            .stream()
+            .map(PetriTransition::label)
+            .toList(),
+            List.of("t1")
+        );
+        Assert.assertEquals(
+            PetriNetTest.NET
+            .activeTransitions(PetriMarking.create(Optional.of(1), Optional.empty(), Optional.of(1)))
+            .stream()
+            .map(PetriTransition::label)
+            .toList(),
+            List.of("t2")
+        );
+    }
+
+    @Test
+    public void fire() {
+        final int[] tokens = new int[] {3, 0, PetriMarking.OMEGA};
+        Assert.assertTrue(PetriNetTest.NET.isEnabled(tokens, 0));
+        Assert.assertFalse(PetriNetTest.NET.isEnabled(tokens, 1));
+        PetriNetTest.NET.fire(tokens, 0);
+        Assert.assertEquals(tokens, new int[] {1, 1, PetriMarking.OMEGA});
+        Assert.assertFalse(PetriNetTest.NET.isEnabled(tokens, 0));
+        Assert.assertTrue(PetriNetTest.NET.isEnabled(tokens, 1));
+        PetriNetTest.NET.fire(tokens, 1);
+        Assert.assertEquals(tokens, new int[] {1, 0, PetriMarking.OMEGA});
+    }
+
+    @Test
+    public void fireTransition() {
+        final PetriTransition transition = new PetriTransition("t1", 2, 0, Map.of(0, 2), Map.of(1, 1, 2, 1));
+        final PetriMarking tokens = PetriMarking.create(Optional.empty(), Optional.of(0), Optional.of(4));
+        Assert.assertEquals(
+            PetriNetTest.NET.fireTransition(tokens, transition),
+            PetriMarking.create(Optional.empty(), Optional.of(1), Optional.of(5))
+        );
+        final PetriTransition unknown = new PetriTransition("t3", 2, 0, Map.of(0, 1), Map.of(1, 1));
+        final IllegalArgumentException exception =
+            Assert.expectThrows(IllegalArgumentException.class, () -> PetriNetTest.NET.fireTransition(tokens, unknown));
+        Assert.assertTrue(exception.getMessage().startsWith("Transition t3 is not part of this Petri net"));
+    }
+
+}